@@ -0,0 +1,177 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.benchmark.executor;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+import io.shardingjdbc.core.constant.SQLType;
+import io.shardingjdbc.core.executor.BaseStatementUnit;
+import io.shardingjdbc.core.executor.ExecuteCallback;
+import io.shardingjdbc.core.executor.ExecutorEngine;
+import io.shardingjdbc.core.executor.backend.ExecutorServiceBackend;
+import io.shardingjdbc.core.executor.event.AbstractExecutionEvent;
+import io.shardingjdbc.core.executor.event.DQLExecutionEvent;
+import io.shardingjdbc.core.executor.event.ExecutionEventDispatcher;
+import io.shardingjdbc.core.executor.event.ExecutionEventListener;
+import io.shardingjdbc.core.executor.type.statement.StatementUnit;
+import io.shardingjdbc.core.routing.SQLExecutionUnit;
+import io.shardingjdbc.core.util.EventBusInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark for execution event overhead of single shard query.
+ * 
+ * <p>
+ * {@code NONE} registers nothing, no execution event is created.
+ * {@code EVENT_BUS} subscribes {@code EventBusInstance}, which costs the same as every query before execution event dispatcher.
+ * {@code SYNC} and {@code ASYNC} register execution event listener synchronously and asynchronously.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExecutionEventBenchmark {
+    
+    private static final int ASYNC_BUFFER_SIZE = 1 << 16;
+    
+    @Param({"NONE", "EVENT_BUS", "SYNC", "ASYNC"})
+    private String listener;
+    
+    private final AtomicLong listenedCount = new AtomicLong();
+    
+    private final Object eventBusSubscriber = new Object() {
+        
+        @Subscribe
+        @AllowConcurrentEvents
+        public void listen(final DQLExecutionEvent event) {
+            listenedCount.incrementAndGet();
+        }
+    };
+    
+    private final ExecutionEventListener executionEventListener = new ExecutionEventListener() {
+        
+        @Override
+        public void listen(final List<? extends AbstractExecutionEvent> events) {
+            listenedCount.addAndGet(events.size());
+        }
+    };
+    
+    private ExecutorService executorService;
+    
+    private ExecutorEngine executorEngine;
+    
+    private List<StatementUnit> statementUnits;
+    
+    private final ExecuteCallback<Integer> executeCallback = new ExecuteCallback<Integer>() {
+        
+        @Override
+        public Integer execute(final BaseStatementUnit baseStatementUnit) throws Exception {
+            return 1;
+        }
+    };
+    
+    @Setup
+    public void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+        executorEngine = new ExecutorEngine(new ExecutorServiceBackend(executorService));
+        statementUnits = Collections.singletonList(new StatementUnit(new SQLExecutionUnit("ds_0", "SELECT * FROM t_order_0 WHERE order_id = 1"), createStatement()));
+        switch (listener) {
+            case "EVENT_BUS":
+                EventBusInstance.getInstance().register(eventBusSubscriber);
+                break;
+            case "SYNC":
+                ExecutionEventDispatcher.getInstance().register(executionEventListener);
+                break;
+            case "ASYNC":
+                ExecutionEventDispatcher.getInstance().registerAsync(executionEventListener, ASYNC_BUFFER_SIZE);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        if ("EVENT_BUS".equals(listener)) {
+            EventBusInstance.getInstance().unregister(eventBusSubscriber);
+        }
+        ExecutionEventDispatcher.getInstance().unregister(executionEventListener);
+        executorEngine.close();
+        executorService.shutdownNow();
+    }
+    
+    @Benchmark
+    public List<Integer> singleShardQuery() {
+        return executorEngine.executeStatement(SQLType.DQL, statementUnits, executeCallback);
+    }
+    
+    private Statement createStatement() {
+        final Connection connection = createProxy(Connection.class, null);
+        return createProxy(Statement.class, connection);
+    }
+    
+    private <T> T createProxy(final Class<T> interfaceClass, final Connection connection) {
+        return interfaceClass.cast(Proxy.newProxyInstance(interfaceClass.getClassLoader(), new Class<?>[] {interfaceClass}, new InvocationHandler() {
+            
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                switch (method.getName()) {
+                    case "getConnection":
+                        return connection;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return interfaceClass.getSimpleName();
+                    default:
+                        return null;
+                }
+            }
+        }));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.benchmark.executor;
+
+import io.shardingjdbc.core.constant.SQLType;
+import io.shardingjdbc.core.executor.BaseStatementUnit;
+import io.shardingjdbc.core.executor.ExecuteCallback;
+import io.shardingjdbc.core.executor.ExecutorEngine;
+import io.shardingjdbc.core.executor.backend.ExecutorServiceBackend;
+import io.shardingjdbc.core.executor.backend.VirtualThreadExecutorBackend;
+import io.shardingjdbc.core.executor.type.statement.StatementUnit;
+import io.shardingjdbc.core.routing.SQLExecutionUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for fan-out latency of executor backends.
+ * 
+ * <p>
+ * One query is routed to 64 tables with independent connections, each statement blocks 1 millisecond to simulate network round trip.
+ * {@code EXECUTOR_SERVICE} uses a caller supplied fixed thread pool with {@code poolSize} threads,
+ * {@code VIRTUAL_THREAD} ignores {@code poolSize} and requires Java 21 or later, 
+ * run with {@code -p backend=EXECUTOR_SERVICE} on earlier runtime.
+ * Statements of one connection are guarded by {@code ReentrantLock}, so blocked virtual threads do not pin carrier threads on Java 21 to 23.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExecutorBackendBenchmark {
+    
+    private static final int FAN_OUT_SIZE = 64;
+    
+    private static final long STATEMENT_LATENCY_MILLIS = 1L;
+    
+    @Param({"EXECUTOR_SERVICE", "VIRTUAL_THREAD"})
+    private String backend;
+    
+    @Param({"1", "8", "16", "64"})
+    private int poolSize;
+    
+    private ExecutorService executorService;
+    
+    private ExecutorEngine executorEngine;
+    
+    private List<StatementUnit> statementUnits;
+    
+    private final ExecuteCallback<Integer> executeCallback = new ExecuteCallback<Integer>() {
+        
+        @Override
+        public Integer execute(final BaseStatementUnit baseStatementUnit) throws Exception {
+            Thread.sleep(STATEMENT_LATENCY_MILLIS);
+            return 1;
+        }
+    };
+    
+    @Setup
+    public void setUp() {
+        if ("VIRTUAL_THREAD".equals(backend)) {
+            executorEngine = new ExecutorEngine(new VirtualThreadExecutorBackend());
+        } else {
+            executorService = Executors.newFixedThreadPool(poolSize);
+            executorEngine = new ExecutorEngine(new ExecutorServiceBackend(executorService));
+        }
+        statementUnits = new ArrayList<>(FAN_OUT_SIZE);
+        for (int i = 0; i < FAN_OUT_SIZE; i++) {
+            String dataSourceName = "ds_" + i % 2;
+            statementUnits.add(new StatementUnit(new SQLExecutionUnit(dataSourceName, "SELECT * FROM t_order_" + i), createStatement(createProxy(Connection.class, null))));
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        executorEngine.close();
+        if (null != executorService) {
+            executorService.shutdownNow();
+        }
+    }
+    
+    @Benchmark
+    public List<Integer> fanOut() {
+        return executorEngine.executeStatement(SQLType.DQL, statementUnits, executeCallback);
+    }
+    
+    private Statement createStatement(final Connection connection) {
+        return createProxy(Statement.class, connection);
+    }
+    
+    private <T> T createProxy(final Class<T> interfaceClass, final Connection connection) {
+        return interfaceClass.cast(Proxy.newProxyInstance(interfaceClass.getClassLoader(), new Class<?>[] {interfaceClass}, new InvocationHandler() {
+            
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                switch (method.getName()) {
+                    case "getConnection":
+                        return connection;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return interfaceClass.getSimpleName();
+                    default:
+                        return null;
+                }
+            }
+        }));
+    }
+}
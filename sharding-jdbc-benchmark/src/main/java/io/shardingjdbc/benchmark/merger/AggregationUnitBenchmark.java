@@ -0,0 +1,109 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.benchmark.merger;
+
+import io.shardingjdbc.core.merger.groupby.aggregation.AccumulationAggregationUnit;
+import io.shardingjdbc.core.merger.groupby.aggregation.AggregationUnit;
+import io.shardingjdbc.core.merger.groupby.aggregation.DoubleAccumulationAggregationUnit;
+import io.shardingjdbc.core.merger.groupby.aggregation.LongAccumulationAggregationUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for aggregating 10M rows of one group by generic and typed aggregation units.
+ * 
+ * <p>
+ * Generic aggregation unit merges boxed value of each row, which is what {@code ResultSet.getObject()} returns, 
+ * typed aggregation unit merges primitive value of each row, which is what {@code ResultSet.getLong()} and {@code ResultSet.getDouble()} return.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AggregationUnitBenchmark {
+    
+    private static final int ROW_SIZE = 10000000;
+    
+    private long[] longValues;
+    
+    private double[] doubleValues;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(0L);
+        longValues = new long[ROW_SIZE];
+        doubleValues = new double[ROW_SIZE];
+        for (int i = 0; i < ROW_SIZE; i++) {
+            longValues[i] = random.nextInt(1000000);
+            doubleValues[i] = random.nextDouble() * 1000000;
+        }
+    }
+    
+    @Benchmark
+    public Comparable<?> sumLongByGenericUnit() {
+        AggregationUnit result = new AccumulationAggregationUnit();
+        for (long each : longValues) {
+            result.merge(Collections.<Comparable<?>>singletonList(each));
+        }
+        return result.getResult();
+    }
+    
+    @Benchmark
+    public Comparable<?> sumLongByTypedUnit() {
+        LongAccumulationAggregationUnit result = new LongAccumulationAggregationUnit(1);
+        for (long each : longValues) {
+            result.merge(each);
+        }
+        return result.getResult();
+    }
+    
+    @Benchmark
+    public Comparable<?> sumDoubleByGenericUnit() {
+        AggregationUnit result = new AccumulationAggregationUnit();
+        for (double each : doubleValues) {
+            result.merge(Collections.<Comparable<?>>singletonList(each));
+        }
+        return result.getResult();
+    }
+    
+    @Benchmark
+    public Comparable<?> sumDoubleByTypedUnit() {
+        DoubleAccumulationAggregationUnit result = new DoubleAccumulationAggregationUnit(1);
+        for (double each : doubleValues) {
+            result.merge(each);
+        }
+        return result.getResult();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.benchmark.merger;
+
+import io.shardingjdbc.core.constant.OrderType;
+import io.shardingjdbc.core.merger.orderby.OrderByStreamResultSetMerger;
+import io.shardingjdbc.core.parsing.parser.context.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for merging {@code ORDER BY ... LIMIT 10000, 20} of 16 data nodes, which are rewritten to {@code LIMIT 0, 10020}.
+ * 
+ * <p>
+ * Order by values are random, so that rows of data nodes are interleaved.
+ * Offset is skipped by invoking {@code next()} of order by stream merger, or by skipping in array heap.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class OrderByLimitBenchmark {
+    
+    private static final int DATA_NODE_SIZE = 16;
+    
+    private static final int OFFSET = 10000;
+    
+    private static final int ROW_COUNT = 20;
+    
+    private final List<OrderItem> orderByItems = Collections.singletonList(new OrderItem(1, OrderType.ASC, OrderType.ASC));
+    
+    private Long[][] values;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(0L);
+        values = new Long[DATA_NODE_SIZE][OFFSET + ROW_COUNT];
+        for (Long[] each : values) {
+            for (int i = 0; i < each.length; i++) {
+                each[i] = (long) random.nextInt(Integer.MAX_VALUE);
+            }
+            Arrays.sort(each);
+        }
+    }
+    
+    @Benchmark
+    public long skipOffsetByNext() throws SQLException {
+        OrderByStreamResultSetMerger merger = new OrderByStreamResultSetMerger(createResultSets(), orderByItems);
+        for (int i = 0; i < OFFSET; i++) {
+            merger.next();
+        }
+        return fetchRows(merger);
+    }
+    
+    @Benchmark
+    public long skipOffsetByHeap() throws SQLException {
+        OrderByStreamResultSetMerger merger = new OrderByStreamResultSetMerger(createResultSets(), orderByItems);
+        merger.skip(OFFSET);
+        return fetchRows(merger);
+    }
+    
+    private long fetchRows(final OrderByStreamResultSetMerger merger) throws SQLException {
+        long result = 0L;
+        for (int i = 0; i < ROW_COUNT && merger.next(); i++) {
+            result += (Long) merger.getValue(1, Object.class);
+        }
+        return result;
+    }
+    
+    private List<ResultSet> createResultSets() {
+        List<ResultSet> result = new ArrayList<>(DATA_NODE_SIZE);
+        for (final Long[] each : values) {
+            result.add((ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class}, new InvocationHandler() {
+                
+                private int rowIndex = -1;
+                
+                @Override
+                public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                    switch (method.getName()) {
+                        case "next":
+                            return ++rowIndex < each.length;
+                        case "getObject":
+                            return each[rowIndex];
+                        case "wasNull":
+                            return false;
+                        default:
+                            return null;
+                    }
+                }
+            }));
+        }
+        return result;
+    }
+}
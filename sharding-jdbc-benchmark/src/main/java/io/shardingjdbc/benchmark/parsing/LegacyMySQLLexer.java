@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.benchmark.parsing;
+
+import io.shardingjdbc.core.parsing.lexer.analyzer.CharType;
+import io.shardingjdbc.core.parsing.lexer.analyzer.Dictionary;
+import io.shardingjdbc.core.parsing.lexer.analyzer.Tokenizer;
+import io.shardingjdbc.core.parsing.lexer.dialect.mysql.MySQLKeyword;
+import io.shardingjdbc.core.parsing.lexer.token.Assist;
+import io.shardingjdbc.core.parsing.lexer.token.Token;
+
+/**
+ * MySQL lexer which works as lexer before cursor reused, only for benchmark comparison.
+ * 
+ * <p>A new tokenizer is created for every token, whitespace and comment, and literals of token are created eagerly.</p>
+ *
+ * @author zhangliang
+ */
+public final class LegacyMySQLLexer {
+    
+    private static Dictionary dictionary = new Dictionary(MySQLKeyword.values());
+    
+    private final String input;
+    
+    private int offset;
+    
+    private Token currentToken;
+    
+    public LegacyMySQLLexer(final String input) {
+        this.input = input;
+    }
+    
+    /**
+     * Analyse next token.
+     * 
+     * @return next token
+     */
+    public Token nextToken() {
+        skipIgnoredToken();
+        if ('@' == getCurrentChar(0)) {
+            currentToken = new Tokenizer(input, dictionary, offset).scanVariable();
+        } else if (isIdentifierBegin(getCurrentChar(0))) {
+            currentToken = new Tokenizer(input, dictionary, offset).scanIdentifier();
+        } else if ('0' == getCurrentChar(0) && 'x' == getCurrentChar(1)) {
+            currentToken = new Tokenizer(input, dictionary, offset).scanHexDecimal();
+        } else if (isNumberBegin()) {
+            currentToken = new Tokenizer(input, dictionary, offset).scanNumber();
+        } else if (CharType.isSymbol(getCurrentChar(0))) {
+            currentToken = new Tokenizer(input, dictionary, offset).scanSymbol();
+        } else if ('\'' == getCurrentChar(0) || '\"' == getCurrentChar(0)) {
+            currentToken = new Tokenizer(input, dictionary, offset).scanChars();
+        } else if (offset >= input.length()) {
+            currentToken = new Token(Assist.END, "", offset);
+        } else {
+            throw new IllegalStateException(String.format("SQL syntax error, position is %s", offset));
+        }
+        currentToken.getLiterals();
+        offset = currentToken.getEndPosition();
+        return currentToken;
+    }
+    
+    private void skipIgnoredToken() {
+        offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+        while ('/' == getCurrentChar(0) && '*' == getCurrentChar(1) && '!' == getCurrentChar(2)) {
+            offset = new Tokenizer(input, dictionary, offset).skipHint();
+            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+        }
+        while (isCommentBegin()) {
+            offset = new Tokenizer(input, dictionary, offset).skipComment();
+            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+        }
+    }
+    
+    private boolean isCommentBegin() {
+        char current = getCurrentChar(0);
+        char next = getCurrentChar(1);
+        return '#' == current || '/' == current && '/' == next || '-' == current && '-' == next || '/' == current && '*' == next;
+    }
+    
+    private boolean isIdentifierBegin(final char ch) {
+        return CharType.isAlphabet(ch) || '`' == ch || '_' == ch || '$' == ch;
+    }
+    
+    private boolean isNumberBegin() {
+        return CharType.isDigital(getCurrentChar(0)) || ('.' == getCurrentChar(0) && CharType.isDigital(getCurrentChar(1)) && !isIdentifierBegin(getCurrentChar(-1))
+                || ('-' == getCurrentChar(0) && CharType.isDigital(getCurrentChar(1))));
+    }
+    
+    private char getCurrentChar(final int offset) {
+        return this.offset + offset >= input.length() ? (char) CharType.EOI : input.charAt(this.offset + offset);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.benchmark.parsing;
+
+import io.shardingjdbc.core.parsing.lexer.dialect.mysql.MySQLLexer;
+import io.shardingjdbc.core.parsing.lexer.token.Assist;
+import io.shardingjdbc.core.parsing.lexer.token.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for lexer.
+ * 
+ * <p>Run with {@code java -jar target/benchmarks.jar LexerBenchmark -prof gc} to compare allocation rate.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LexerBenchmark {
+    
+    private final String[] sqls = {
+        "SELECT o.order_id, o.user_id, o.status FROM t_order o WHERE o.user_id = ? AND o.order_id = ?",
+        "SELECT i.* FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id WHERE o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ?",
+        "SELECT user_id, COUNT(*) AS orders_count, SUM(price) AS total_price FROM t_order WHERE status = 'PAID' GROUP BY user_id ORDER BY total_price DESC LIMIT ?, ?",
+        "INSERT INTO t_order (order_id, user_id, status, price, create_time) VALUES (?, ?, 'INIT', 10.5, now())",
+        "UPDATE t_order SET status = ?, price = price * 0.9 WHERE user_id = ? AND order_id = ?",
+        "DELETE FROM t_order_item WHERE user_id = ? AND order_id = ? AND item_id <> 0x1F",
+        "/*! STRAIGHT_JOIN */ SELECT `order_id` FROM `t_order` -- order list\n WHERE `user_id` >= ? AND `status` != 'CLOSED' # paging\n LIMIT 10",
+    };
+    
+    @Benchmark
+    public void legacyLexer(final Blackhole blackhole) {
+        for (String each : sqls) {
+            LegacyMySQLLexer lexer = new LegacyMySQLLexer(each);
+            Token token;
+            do {
+                token = lexer.nextToken();
+                blackhole.consume(token);
+            } while (Assist.END != token.getType());
+        }
+    }
+    
+    @Benchmark
+    public void lexer(final Blackhole blackhole) {
+        for (String each : sqls) {
+            MySQLLexer lexer = new MySQLLexer(each);
+            do {
+                lexer.nextToken();
+                blackhole.consume(lexer.getCurrentToken());
+            } while (Assist.END != lexer.getCurrentToken().getType());
+        }
+    }
+    
+    @Benchmark
+    public void lexerWithLiterals(final Blackhole blackhole) {
+        for (String each : sqls) {
+            MySQLLexer lexer = new MySQLLexer(each);
+            do {
+                lexer.nextToken();
+                blackhole.consume(lexer.getCurrentToken().getLiterals());
+            } while (Assist.END != lexer.getCurrentToken().getType());
+        }
+    }
+}
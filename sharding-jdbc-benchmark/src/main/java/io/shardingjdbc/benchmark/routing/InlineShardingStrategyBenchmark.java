@@ -0,0 +1,98 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.benchmark.routing;
+
+import io.shardingjdbc.core.api.algorithm.sharding.PreciseShardingValue;
+import io.shardingjdbc.core.routing.strategy.inline.InlineShardingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for inline sharding strategy.
+ * 
+ * <p>
+ * {@code t_order_${order_id % 16}} is compiled to java evaluator, 
+ * {@code t_order_${(order_id % 16).toString()}} is same result but evaluated by groovy closure.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class InlineShardingStrategyBenchmark {
+    
+    private static final String COMPILED_EXPRESSION = "t_order_${order_id % 16}";
+    
+    private static final String GROOVY_EXPRESSION = "t_order_${(order_id % 16).toString()}";
+    
+    private final Collection<String> availableTargetNames = Collections.emptyList();
+    
+    private final InlineShardingStrategy compiledStrategy = new InlineShardingStrategy("order_id", COMPILED_EXPRESSION);
+    
+    private final InlineShardingStrategy groovyStrategy = new InlineShardingStrategy("order_id", GROOVY_EXPRESSION);
+    
+    private long orderId;
+    
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public String shardWithCompiledExpression() {
+        return compiledStrategy.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", orderId++));
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public String shardWithGroovyClosure() {
+        return groovyStrategy.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", orderId++));
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 20)
+    public InlineShardingStrategy createWithCompiledExpression() {
+        return new InlineShardingStrategy("order_id", COMPILED_EXPRESSION);
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 20)
+    public InlineShardingStrategy createWithGroovyClosure() {
+        return new InlineShardingStrategy("order_id", GROOVY_EXPRESSION);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.benchmark.routing;
+
+import io.shardingjdbc.benchmark.fixture.BenchmarkShardingRule;
+import io.shardingjdbc.core.constant.DatabaseType;
+import io.shardingjdbc.core.parsing.SQLParsingEngine;
+import io.shardingjdbc.core.parsing.parser.sql.SQLStatement;
+import io.shardingjdbc.core.routing.type.RoutingResult;
+import io.shardingjdbc.core.routing.type.simple.SimpleRoutingEngine;
+import io.shardingjdbc.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for simple routing.
+ * 
+ * <p>
+ * Equal conditions are routed directly, 
+ * in conditions with single value are routed by sharding values and intermediate collections, which is the original path.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SimpleRoutingBenchmark {
+    
+    private final List<Object> parameters = Arrays.<Object>asList(7L, 1001L);
+    
+    private ShardingRule shardingRule;
+    
+    private SQLStatement equalSQLStatement;
+    
+    private SQLStatement inSQLStatement;
+    
+    @Setup
+    public void setUp() throws SQLException {
+        shardingRule = BenchmarkShardingRule.create();
+        equalSQLStatement = new SQLParsingEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE user_id = ? AND order_id = ?", shardingRule).parse();
+        inSQLStatement = new SQLParsingEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE user_id IN (?) AND order_id IN (?)", shardingRule).parse();
+    }
+    
+    @Benchmark
+    public RoutingResult routeDirectly() {
+        return new SimpleRoutingEngine(shardingRule, parameters, "t_order", equalSQLStatement).route();
+    }
+    
+    @Benchmark
+    public RoutingResult routeWithShardingValues() {
+        return new SimpleRoutingEngine(shardingRule, parameters, "t_order", inSQLStatement).route();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.api;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * PreparedStatement which can be executed asynchronously.
+ * 
+ * <p>
+ * Get it by {@code preparedStatement.unwrap(AsyncPreparedStatement.class)}.
+ * SQL is parsed and routed in caller thread, all routed statements are executed by worker threads of executor engine, 
+ * the future is completed when result sets are merged or update counts are accumulated.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public interface AsyncPreparedStatement {
+    
+    /**
+     * Execute query asynchronously.
+     * 
+     * @return future of merged result set
+     * @throws SQLException SQL exception when parsing, routing or preparing statements
+     */
+    ListenableFuture<ResultSet> executeQueryAsync() throws SQLException;
+    
+    /**
+     * Execute update asynchronously.
+     * 
+     * @return future of effected records count
+     * @throws SQLException SQL exception when parsing, routing or preparing statements
+     */
+    ListenableFuture<Integer> executeUpdateAsync() throws SQLException;
+}
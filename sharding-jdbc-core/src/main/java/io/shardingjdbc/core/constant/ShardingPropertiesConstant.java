@@ -17,6 +17,8 @@
 
 package io.shardingjdbc.core.constant;
 
+import io.shardingjdbc.core.executor.backend.ThreadPoolExecutorBackendProvider;
+import io.shardingjdbc.core.executor.pool.RejectedPolicy;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -42,6 +44,18 @@ public enum ShardingPropertiesConstant {
      */
     SQL_SHOW("sql.show", Boolean.FALSE.toString(), boolean.class),
     
+    /**
+     * Executor backend type.
+     * 
+     * <p>
+     * {@code THREAD_POOL}: fixed size thread pools configured by {@code executor.size} and {@code executor.data.source.*}.
+     * {@code VIRTUAL_THREAD}: one virtual thread for each task, fall back to {@code THREAD_POOL} if runtime is earlier than Java 21.
+     * Other types can be provided by {@code ExecutorBackendProvider} SPI.
+     * Default: THREAD_POOL
+     * </p>
+     */
+    EXECUTOR_BACKEND("executor.backend", ThreadPoolExecutorBackendProvider.TYPE, String.class),
+    
     /**
      * Worker thread max size.
      * 
@@ -51,7 +65,180 @@ public enum ShardingPropertiesConstant {
      * Default: same with CPU cores.
      * </p>
      */
-    EXECUTOR_SIZE("executor.size", String.valueOf(Runtime.getRuntime().availableProcessors()), int.class);
+    EXECUTOR_SIZE("executor.size", String.valueOf(Runtime.getRuntime().availableProcessors()), int.class),
+    
+    /**
+     * Worker thread size of isolated executor pool for each data source.
+     * 
+     * <p>
+     * Statements of one data source are executed in its own bounded thread pool, 
+     * so one slow data source can not stall the statements of other data sources.
+     * Set to 0 to disable isolated executor pool, all data sources share the thread pool of {@code executor.size}.
+     * Default: 0
+     * </p>
+     */
+    EXECUTOR_DATA_SOURCE_SIZE("executor.data.source.size", String.valueOf(0), int.class),
+    
+    /**
+     * Queue size of isolated executor pool for each data source.
+     * 
+     * <p>
+     * Only available if {@code executor.data.source.size} is greater than 0.
+     * Default: 1024
+     * </p>
+     */
+    EXECUTOR_DATA_SOURCE_QUEUE_SIZE("executor.data.source.queue.size", String.valueOf(1024), int.class),
+    
+    /**
+     * Policy for tasks rejected by full isolated executor pool.
+     * 
+     * <p>
+     * {@code ABORT}: throw exception; {@code CALLER_RUNS}: execute in caller thread.
+     * Default: ABORT
+     * </p>
+     */
+    EXECUTOR_DATA_SOURCE_REJECTED_POLICY("executor.data.source.rejected.policy", RejectedPolicy.ABORT.name(), String.class),
+    
+    /**
+     * Max parallelism of one logic SQL.
+     * 
+     * <p>
+     * Statement units which share one connection are counted as one, 
+     * caller thread will be blocked if the statement units of one logic SQL in execution reach this size.
+     * Set to 0 to disable limit.
+     * Default: 0
+     * </p>
+     */
+    EXECUTOR_MAX_PARALLELISM_PER_QUERY("executor.max.parallelism.per.query", String.valueOf(0), int.class),
+    
+    /**
+     * Max in flight statement units of all logic SQL.
+     * 
+     * <p>
+     * Statement units which share one connection are counted as one.
+     * In flight statement units of each data source are limited by an adaptive limit which is not greater than this size,
+     * the adaptive limit is increased additively if latency of data source is stable, and decreased multiplicatively if latency is rising or execution is failed.
+     * Caller thread will be blocked if limit is reached.
+     * Set to 0 to disable limit.
+     * Default: 0
+     * </p>
+     */
+    EXECUTOR_MAX_IN_FLIGHT("executor.max.in.flight", String.valueOf(0), int.class),
+    
+    /**
+     * Max time to wait for execution permit in milliseconds.
+     * 
+     * <p>
+     * Only available if {@code executor.max.parallelism.per.query} or {@code executor.max.in.flight} is greater than 0.
+     * Execution fails if caller thread is blocked by limit longer than this time.
+     * Default: 30000
+     * </p>
+     */
+    EXECUTOR_ACQUIRE_TIMEOUT_MILLISECONDS("executor.acquire.timeout.milliseconds", String.valueOf(30000), long.class),
+    
+    /**
+     * Max size of parsing result cache.
+     * 
+     * <p>
+     * Parsed SQL statements of PreparedStatement are cached and shared by all connections of one sharding data source.
+     * Least recently used SQL will be evicted if cache is full, set to 0 to disable cache.
+     * Cache hit and miss count can be got from {@code ShardingContext.getParsingResultCache()}.
+     * Default: 1024
+     * </p>
+     */
+    PARSING_RESULT_CACHE_SIZE("parsing.result.cache.size", String.valueOf(1024), int.class),
+    
+    /**
+     * Max opened connection size for each data source in one query.
+     * 
+     * <p>
+     * Statements routed to same data source share one connection and are executed serially in one worker thread.
+     * If auto commit is enabled, more connections can be opened for one data source to execute these statements in parallel.
+     * Master-slave data source always uses one connection.
+     * Default: 1
+     * </p>
+     */
+    MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
+    
+    /**
+     * Flag for merging result sets in order of completion.
+     * 
+     * <p>
+     * Only for query without group by, aggregation and order by, which is merged by iterator.
+     * Rows of the first finished data node can be fetched before slower data nodes are finished, but order of rows across data nodes is not stable.
+     * Default: false
+     * </p>
+     */
+    STREAM_MERGE_FIRST_READY("stream.merge.first.ready", Boolean.FALSE.toString(), boolean.class),
+    
+    /**
+     * Flag for committing, rolling back and closing cached connections in parallel.
+     * 
+     * <p>
+     * Connections of different data sources are operated by worker threads of executor backend,
+     * so that the latency of ending a transaction which touched many data sources is about one round trip.
+     * Exceptions of all connections are still collected and thrown together.
+     * Default: false
+     * </p>
+     */
+    CONNECTION_PARALLEL_FINISH("connection.parallel.finish", Boolean.FALSE.toString(), boolean.class),
+    
+    /**
+     * Max rows held in heap by memory merger.
+     * 
+     * <p>
+     * For query whose group by and order by items are different, rows are aggregated and sorted in heap.
+     * If size of groups exceeds this size, sorted rows are spilled to temp files of {@code java.io.tmpdir} in binary format and merged externally.
+     * Set to 0 to hold all rows in heap.
+     * Default: 0
+     * </p>
+     */
+    MEMORY_MERGE_MAX_ROWS("memory.merge.max.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Flag for merging group by in stream if order by items are different from group by items.
+     * 
+     * <p>
+     * Only for query with limit which is routed to more than one data node.
+     * Order by clause of actual SQL is rewritten to group by items, so that partial aggregated groups are merged in stream, 
+     * then aggregated groups are sorted by order by items in a bounded heap which holds offset + row count groups only.
+     * Default: false
+     * </p>
+     */
+    GROUP_BY_STREAM_MERGE("group.by.stream.merge", Boolean.FALSE.toString(), boolean.class),
+    
+    /**
+     * Flag for recording latency histograms.
+     * 
+     * <p>
+     * Latencies of parse, route, rewrite, merge and total stages are recorded by SQL fingerprint, 
+     * latencies of execute stage are recorded by data source and actual table.
+     * Snapshots can be got from {@code ShardingContext.getShardingMetrics()} or JMX.
+     * Default: false
+     * </p>
+     */
+    METRICS_ENABLE("metrics.enable", Boolean.FALSE.toString(), boolean.class),
+    
+    /**
+     * Threshold of slow SQL in milliseconds.
+     * 
+     * <p>
+     * SQL slower than threshold is sampled with its routing result type, actual SQL and latency of each execution unit and merger type.
+     * Samples can be got from {@code ShardingMetrics.getSlowSQLSampler()} or JMX, set to 0 to disable sampling.
+     * Default: 0
+     * </p>
+     */
+    SLOW_SQL_THRESHOLD_MILLISECONDS("slow.sql.threshold.milliseconds", String.valueOf(0), long.class),
+    
+    /**
+     * Max size of slow SQL samples.
+     * 
+     * <p>
+     * The oldest sample will be overwritten if samples are full.
+     * Default: 128
+     * </p>
+     */
+    SLOW_SQL_SAMPLE_SIZE("slow.sql.sample.size", String.valueOf(128), int.class);
     
     private final String key;
     
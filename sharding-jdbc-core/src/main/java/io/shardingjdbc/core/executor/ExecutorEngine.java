@@ -17,55 +17,109 @@
 
 package io.shardingjdbc.core.executor;
 
+import com.google.common.base.Function;
+import com.google.common.base.Optional;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.ListeningExecutorService;
-import com.google.common.util.concurrent.MoreExecutors;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.SettableFuture;
 import io.shardingjdbc.core.constant.SQLType;
 import io.shardingjdbc.core.exception.ShardingJdbcException;
+import io.shardingjdbc.core.executor.backend.ExecutorBackend;
+import io.shardingjdbc.core.executor.backend.ThreadPoolExecutorBackend;
 import io.shardingjdbc.core.executor.event.AbstractExecutionEvent;
 import io.shardingjdbc.core.executor.event.DMLExecutionEvent;
 import io.shardingjdbc.core.executor.event.DQLExecutionEvent;
 import io.shardingjdbc.core.executor.event.EventExecutionType;
+import io.shardingjdbc.core.executor.event.ExecutionEventDispatcher;
 import io.shardingjdbc.core.executor.event.OverallExecutionEvent;
+import io.shardingjdbc.core.executor.limit.ExecutionLimiter;
+import io.shardingjdbc.core.executor.limit.QueryLimiter;
+import io.shardingjdbc.core.executor.pool.ExecutorPoolConfiguration;
+import io.shardingjdbc.core.executor.pool.ExecutorPoolMetrics;
 import io.shardingjdbc.core.executor.threadlocal.ExecutorDataMap;
 import io.shardingjdbc.core.executor.threadlocal.ExecutorExceptionHandler;
 import io.shardingjdbc.core.executor.type.batch.BatchPreparedStatementUnit;
 import io.shardingjdbc.core.executor.type.prepared.PreparedStatementUnit;
 import io.shardingjdbc.core.executor.type.statement.StatementUnit;
-import io.shardingjdbc.core.util.EventBusInstance;
+import io.shardingjdbc.core.metrics.ShardingMetrics;
+import io.shardingjdbc.core.routing.SQLExecutionUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.Callable;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * SQL execute engine.
  * 
+ * <p>
+ * Statement units which share one connection are executed serially in one thread,
+ * different connections are executed in parallel by worker threads of executor backend.
+ * Parallelism can be limited by {@code ExecutionLimiter}, caller thread is blocked before submitting if limit is reached.
+ * Connection is guarded by {@code ReentrantLock} instead of monitor, so that virtual thread blocked in JDBC call does not pin its carrier thread.
+ * </p>
+ * 
  * @author gaohongtao
  * @author zhangliang
  */
 @Slf4j
 public final class ExecutorEngine implements AutoCloseable {
     
-    private final ListeningExecutorService executorService;
+    private static final LoadingCache<Connection, Lock> CONNECTION_LOCKS = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<Connection, Lock>() {
+        
+        @Override
+        public Lock load(final Connection key) {
+            return new ReentrantLock();
+        }
+    });
+    
+    private final ExecutorBackend executorBackend;
+    
+    private final ShardingMetrics shardingMetrics;
+    
+    private final ExecutionLimiter executionLimiter;
     
     public ExecutorEngine(final int executorSize) {
-        executorService = MoreExecutors.listeningDecorator(new ThreadPoolExecutor(
-                executorSize, executorSize, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingJDBC-%d").build()));
-        MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
+        this(executorSize, null);
+    }
+    
+    public ExecutorEngine(final int executorSize, final ExecutorPoolConfiguration dataSourceExecutorPoolConfig) {
+        this(new ThreadPoolExecutorBackend(executorSize, dataSourceExecutorPoolConfig));
+    }
+    
+    public ExecutorEngine(final ExecutorBackend executorBackend) {
+        this(executorBackend, new ShardingMetrics(false));
+    }
+    
+    public ExecutorEngine(final ExecutorBackend executorBackend, final ShardingMetrics shardingMetrics) {
+        this(executorBackend, shardingMetrics, new ExecutionLimiter(0, 0, 0L));
+    }
+    
+    public ExecutorEngine(final ExecutorBackend executorBackend, final ShardingMetrics shardingMetrics, final ExecutionLimiter executionLimiter) {
+        this.executorBackend = executorBackend;
+        this.shardingMetrics = shardingMetrics;
+        this.executionLimiter = executionLimiter;
     }
     
     /**
@@ -96,6 +150,64 @@ public final class ExecutorEngine implements AutoCloseable {
         return execute(sqlType, preparedStatementUnits, Collections.singletonList(parameters), executeCallback);
     }
     
+    /**
+     * Execute statement and get result of each statement unit as soon as it is ready.
+     * 
+     * <p>
+     * Results of statement units which share one connection are published together after all of them are executed,
+     * so that connection is never used by caller thread and worker thread at the same time.
+     * </p>
+     *
+     * @param sqlType SQL type
+     * @param statementUnits statement execute unit
+     * @param executeCallback statement execute callback
+     * @param <T> class type of return value
+     * @return futures of execute result, in the same order of statement units
+     */
+    public <T> List<ListenableFuture<T>> executeStatementStreaming(final SQLType sqlType, final Collection<StatementUnit> statementUnits, final ExecuteCallback<T> executeCallback) {
+        return executeStreaming(sqlType, statementUnits, Collections.<List<Object>>emptyList(), executeCallback);
+    }
+    
+    /**
+     * Execute prepared statement and get result of each statement unit as soon as it is ready.
+     * 
+     * <p>
+     * Results of statement units which share one connection are published together after all of them are executed,
+     * so that connection is never used by caller thread and worker thread at the same time.
+     * </p>
+     *
+     * @param sqlType SQL type
+     * @param preparedStatementUnits prepared statement execute unit
+     * @param parameters parameters for SQL placeholder
+     * @param executeCallback prepared statement execute callback
+     * @param <T> class type of return value
+     * @return futures of execute result, in the same order of statement units
+     */
+    public <T> List<ListenableFuture<T>> executePreparedStatementStreaming(
+            final SQLType sqlType, final Collection<PreparedStatementUnit> preparedStatementUnits, final List<Object> parameters, final ExecuteCallback<T> executeCallback) {
+        return executeStreaming(sqlType, preparedStatementUnits, Collections.singletonList(parameters), executeCallback);
+    }
+    
+    /**
+     * Execute prepared statement asynchronously.
+     * 
+     * <p>
+     * All statement units are executed by worker threads, caller thread will not be blocked unless execution limit is reached.
+     * Returned future fails if any exception is thrown out of statement execution.
+     * </p>
+     *
+     * @param sqlType SQL type
+     * @param preparedStatementUnits prepared statement execute unit
+     * @param parameters parameters for SQL placeholder
+     * @param executeCallback prepared statement execute callback
+     * @param <T> class type of return value
+     * @return future of execute result
+     */
+    public <T> ListenableFuture<List<T>> executePreparedStatementAsync(
+            final SQLType sqlType, final Collection<PreparedStatementUnit> preparedStatementUnits, final List<Object> parameters, final ExecuteCallback<T> executeCallback) {
+        return executeAsync(sqlType, preparedStatementUnits, Collections.singletonList(parameters), executeCallback);
+    }
+    
     /**
      * Execute add batch.
      *
@@ -115,107 +227,419 @@ public final class ExecutorEngine implements AutoCloseable {
         if (baseStatementUnits.isEmpty()) {
             return Collections.emptyList();
         }
-        OverallExecutionEvent event = new OverallExecutionEvent(sqlType, baseStatementUnits.size());
-        EventBusInstance.getInstance().post(event);
-        Iterator<? extends BaseStatementUnit> iterator = baseStatementUnits.iterator();
-        BaseStatementUnit firstInput = iterator.next();
-        ListenableFuture<List<T>> restFutures = asyncExecute(sqlType, Lists.newArrayList(iterator), parameterSets, executeCallback);
-        T firstOutput;
-        List<T> restOutputs;
+        Optional<OverallExecutionEvent> event = postOverallExecutionEvent(sqlType, baseStatementUnits.size());
+        List<T> result = new ArrayList<>(Collections.<T>nCopies(baseStatementUnits.size(), null));
+        Optional<QueryLimiter> queryLimiter = executionLimiter.newQueryLimiter();
         try {
-            firstOutput = syncExecute(sqlType, firstInput, parameterSets, executeCallback);
-            restOutputs = restFutures.get();
+            Iterator<StatementUnitGroup> iterator = groupByConnection(baseStatementUnits).iterator();
+            StatementUnitGroup firstInput = iterator.next();
+            List<StatementUnitGroup> restInputs = Lists.newArrayList(iterator);
+            ListenableFuture<List<List<T>>> restFutures = asyncExecute(sqlType, restInputs, parameterSets, executeCallback, queryLimiter);
+            fillOutputs(result, firstInput, syncExecute(sqlType, firstInput, parameterSets, executeCallback, queryLimiter));
+            Iterator<List<T>> restOutputs = restFutures.get().iterator();
+            for (StatementUnitGroup each : restInputs) {
+                fillOutputs(result, each, restOutputs.next());
+            }
             //CHECKSTYLE:OFF
         } catch (final Exception ex) {
             //CHECKSTYLE:ON
-            event.setException(ex);
-            event.setEventExecutionType(EventExecutionType.EXECUTE_FAILURE);
-            EventBusInstance.getInstance().post(event);
+            postOverallExecutionFailureEvent(event, ex);
             ExecutorExceptionHandler.handleException(ex);
             return null;
         }
-        event.setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
-        EventBusInstance.getInstance().post(event);
-        List<T> result = Lists.newLinkedList(restOutputs);
-        result.add(0, firstOutput);
+        postOverallExecutionSuccessEvent(event);
+        return result;
+    }
+    
+    private <T> ListenableFuture<List<T>> executeAsync(
+            final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback) {
+        if (baseStatementUnits.isEmpty()) {
+            return Futures.immediateFuture(Collections.<T>emptyList());
+        }
+        Optional<OverallExecutionEvent> event = postOverallExecutionEvent(sqlType, baseStatementUnits.size());
+        final int size = baseStatementUnits.size();
+        final Collection<StatementUnitGroup> inputs;
+        try {
+            inputs = groupByConnection(baseStatementUnits);
+        } catch (final SQLException ex) {
+            postOverallExecutionFailureEvent(event, ex);
+            return Futures.immediateFailedFuture(ex);
+        }
+        ListenableFuture<List<T>> result = Futures.transform(
+                asyncExecute(sqlType, inputs, parameterSets, executeCallback, executionLimiter.newQueryLimiter()), new Function<List<List<T>>, List<T>>() {
+            
+            @Override
+            public List<T> apply(final List<List<T>> outputs) {
+                List<T> result = new ArrayList<>(Collections.<T>nCopies(size, null));
+                Iterator<List<T>> iterator = outputs.iterator();
+                for (StatementUnitGroup each : inputs) {
+                    fillOutputs(result, each, iterator.next());
+                }
+                return result;
+            }
+        });
+        postOverallExecutionEvent(event, result);
         return result;
     }
     
-    private <T> ListenableFuture<List<T>> asyncExecute(
-            final SQLType sqlType, final Collection<BaseStatementUnit> baseStatementUnits, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback) {
-        List<ListenableFuture<T>> result = new ArrayList<>(baseStatementUnits.size());
+    private <T> List<ListenableFuture<T>> executeStreaming(
+            final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback) {
+        if (baseStatementUnits.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Optional<OverallExecutionEvent> event = postOverallExecutionEvent(sqlType, baseStatementUnits.size());
+        final List<SettableFuture<T>> outputs = new ArrayList<>(baseStatementUnits.size());
+        for (int i = 0; i < baseStatementUnits.size(); i++) {
+            outputs.add(SettableFuture.<T>create());
+        }
+        List<ListenableFuture<T>> result = new ArrayList<ListenableFuture<T>>(outputs);
+        Collection<StatementUnitGroup> inputs;
+        try {
+            inputs = groupByConnection(baseStatementUnits);
+        } catch (final SQLException ex) {
+            for (SettableFuture<T> each : outputs) {
+                each.setException(ex);
+            }
+            postOverallExecutionEvent(event, Futures.allAsList(result));
+            return result;
+        }
         final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
-        for (final BaseStatementUnit each : baseStatementUnits) {
-            result.add(executorService.submit(new Callable<T>() {
+        Optional<QueryLimiter> queryLimiter = executionLimiter.newQueryLimiter();
+        for (final StatementUnitGroup each : inputs) {
+            try {
+                submit(each, queryLimiter, new Callable<Void>() {
+                    
+                    @Override
+                    public Void call() throws Exception {
+                        executeGroup(sqlType, each, parameterSets, executeCallback, isExceptionThrown, dataMap, outputs);
+                        return null;
+                    }
+                });
+            } catch (final RejectedExecutionException | ShardingJdbcException ex) {
+                for (int index : each.getIndexes()) {
+                    outputs.get(index).setException(ex);
+                }
+            }
+        }
+        postOverallExecutionEvent(event, Futures.allAsList(result));
+        return result;
+    }
+    
+    private Optional<OverallExecutionEvent> postOverallExecutionEvent(final SQLType sqlType, final int statementUnitSize) {
+        if (!ExecutionEventDispatcher.getInstance().hasListener()) {
+            return Optional.absent();
+        }
+        OverallExecutionEvent result = new OverallExecutionEvent(sqlType, statementUnitSize);
+        ExecutionEventDispatcher.getInstance().post(result);
+        return Optional.of(result);
+    }
+    
+    private void postOverallExecutionEvent(final Optional<OverallExecutionEvent> event, final ListenableFuture<?> future) {
+        if (!event.isPresent()) {
+            return;
+        }
+        Futures.addCallback(future, new FutureCallback<Object>() {
+            
+            @Override
+            public void onSuccess(final Object outputs) {
+                postOverallExecutionSuccessEvent(event);
+            }
+            
+            @Override
+            public void onFailure(final Throwable cause) {
+                postOverallExecutionFailureEvent(event, cause instanceof Exception ? (Exception) cause : new ExecutionException(cause));
+            }
+        });
+    }
+    
+    private void postOverallExecutionSuccessEvent(final Optional<OverallExecutionEvent> event) {
+        if (event.isPresent()) {
+            event.get().setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
+            ExecutionEventDispatcher.getInstance().post(event.get());
+        }
+    }
+    
+    private void postOverallExecutionFailureEvent(final Optional<OverallExecutionEvent> event, final Exception exception) {
+        if (event.isPresent()) {
+            event.get().setException(exception);
+            event.get().setEventExecutionType(EventExecutionType.EXECUTE_FAILURE);
+            ExecutionEventDispatcher.getInstance().post(event.get());
+        }
+    }
+    
+    private Collection<StatementUnitGroup> groupByConnection(final Collection<? extends BaseStatementUnit> baseStatementUnits) throws SQLException {
+        Map<Connection, StatementUnitGroup> result = new LinkedHashMap<>();
+        int index = 0;
+        for (BaseStatementUnit each : baseStatementUnits) {
+            Connection connection = each.getStatement().getConnection();
+            StatementUnitGroup group = result.get(connection);
+            if (null == group) {
+                group = new StatementUnitGroup(connection, each.getSqlExecutionUnit().getDataSource());
+                result.put(connection, group);
+            }
+            group.getStatementUnits().add(each);
+            group.getIndexes().add(index++);
+        }
+        return result.values();
+    }
+    
+    private <T> void fillOutputs(final List<T> result, final StatementUnitGroup statementUnitGroup, final List<T> outputs) {
+        Iterator<T> iterator = outputs.iterator();
+        for (int each : statementUnitGroup.getIndexes()) {
+            result.set(each, iterator.next());
+        }
+    }
+    
+    private <T> ListenableFuture<List<List<T>>> asyncExecute(final SQLType sqlType, final Collection<StatementUnitGroup> statementUnitGroups, 
+                                                             final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback, final Optional<QueryLimiter> queryLimiter) {
+        List<ListenableFuture<List<T>>> result = new ArrayList<>(statementUnitGroups.size());
+        final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
+        for (final StatementUnitGroup each : statementUnitGroups) {
+            result.add(submit(each, queryLimiter, new Callable<List<T>>() {
                 
                 @Override
-                public T call() throws Exception {
-                    return executeInternal(sqlType, each, parameterSets, executeCallback, isExceptionThrown, dataMap);
+                public List<T> call() throws Exception {
+                    return executeGroup(sqlType, each, parameterSets, executeCallback, isExceptionThrown, dataMap);
                 }
             }));
         }
         return Futures.allAsList(result);
     }
     
-    private <T> T syncExecute(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback) throws Exception {
-        return executeInternal(sqlType, baseStatementUnit, parameterSets, executeCallback, ExecutorExceptionHandler.isExceptionThrown(), ExecutorDataMap.getDataMap());
+    private <T> List<T> syncExecute(final SQLType sqlType, final StatementUnitGroup statementUnitGroup, 
+                                    final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback, final Optional<QueryLimiter> queryLimiter) throws Exception {
+        if (!queryLimiter.isPresent()) {
+            return executeGroup(sqlType, statementUnitGroup, parameterSets, executeCallback, ExecutorExceptionHandler.isExceptionThrown(), ExecutorDataMap.getDataMap());
+        }
+        final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
+        queryLimiter.get().acquire(statementUnitGroup.getDataSource());
+        return executeWithLimit(statementUnitGroup, queryLimiter.get(), new Callable<List<T>>() {
+            
+            @Override
+            public List<T> call() throws Exception {
+                return executeGroup(sqlType, statementUnitGroup, parameterSets, executeCallback, isExceptionThrown, dataMap);
+            }
+        });
+    }
+    
+    private <V> ListenableFuture<V> submit(final StatementUnitGroup statementUnitGroup, final Optional<QueryLimiter> queryLimiter, final Callable<V> callable) {
+        if (!queryLimiter.isPresent()) {
+            return executorBackend.getExecutorService(statementUnitGroup.getDataSource()).submit(callable);
+        }
+        final QueryLimiter limiter = queryLimiter.get();
+        limiter.acquire(statementUnitGroup.getDataSource());
+        try {
+            return executorBackend.getExecutorService(statementUnitGroup.getDataSource()).submit(new Callable<V>() {
+                
+                @Override
+                public V call() throws Exception {
+                    return executeWithLimit(statementUnitGroup, limiter, callable);
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            limiter.release(statementUnitGroup.getDataSource(), 0L, false);
+            throw ex;
+        }
+    }
+    
+    private <V> V executeWithLimit(final StatementUnitGroup statementUnitGroup, final QueryLimiter queryLimiter, final Callable<V> callable) throws Exception {
+        long startTime = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            V result = callable.call();
+            succeeded = true;
+            return result;
+        } finally {
+            queryLimiter.release(statementUnitGroup.getDataSource(), (System.nanoTime() - startTime) / statementUnitGroup.getStatementUnits().size(), succeeded);
+        }
+    }
+    
+    private <T> List<T> executeGroup(final SQLType sqlType, final StatementUnitGroup statementUnitGroup, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback,
+                                     final boolean isExceptionThrown, final Map<String, Object> dataMap) throws Exception {
+        List<T> result = new ArrayList<>(statementUnitGroup.getStatementUnits().size());
+        Lock connectionLock = CONNECTION_LOCKS.getUnchecked(statementUnitGroup.getConnection());
+        connectionLock.lock();
+        try {
+            for (BaseStatementUnit each : statementUnitGroup.getStatementUnits()) {
+                result.add(executeInternal(sqlType, each, parameterSets, executeCallback, isExceptionThrown, dataMap));
+            }
+        } finally {
+            connectionLock.unlock();
+        }
+        return result;
+    }
+    
+    private <T> void executeGroup(final SQLType sqlType, final StatementUnitGroup statementUnitGroup, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback,
+                                  final boolean isExceptionThrown, final Map<String, Object> dataMap, final List<SettableFuture<T>> outputs) throws Exception {
+        List<T> results;
+        try {
+            results = executeGroup(sqlType, statementUnitGroup, parameterSets, executeCallback, isExceptionThrown, dataMap);
+            //CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            //CHECKSTYLE:ON
+            for (int each : statementUnitGroup.getIndexes()) {
+                outputs.get(each).setException(ex);
+            }
+            throw ex;
+        }
+        Iterator<T> iterator = results.iterator();
+        for (int each : statementUnitGroup.getIndexes()) {
+            outputs.get(each).set(iterator.next());
+        }
     }
     
     private <T> T executeInternal(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback, 
                           final boolean isExceptionThrown, final Map<String, Object> dataMap) throws Exception {
-        synchronized (baseStatementUnit.getStatement().getConnection()) {
-            T result;
-            ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
-            ExecutorDataMap.setDataMap(dataMap);
-            List<AbstractExecutionEvent> events = new LinkedList<>();
-            if (parameterSets.isEmpty()) {
-                events.add(getExecutionEvent(sqlType, baseStatementUnit, Collections.emptyList()));
+        T result;
+        ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
+        ExecutorDataMap.setDataMap(dataMap);
+        ExecutionEventDispatcher eventDispatcher = ExecutionEventDispatcher.getInstance();
+        List<AbstractExecutionEvent> events = eventDispatcher.hasListener() ? getExecutionEvents(sqlType, baseStatementUnit, parameterSets) : Collections.<AbstractExecutionEvent>emptyList();
+        eventDispatcher.post(events);
+        SQLExecutionUnit sqlExecutionUnit = baseStatementUnit.getSqlExecutionUnit();
+        long startTime = System.nanoTime();
+        try {
+            result = executeCallback.execute(baseStatementUnit);
+        } catch (final SQLException ex) {
+            recordExecution(sqlExecutionUnit, startTime);
+            for (AbstractExecutionEvent each : events) {
+                each.setEventExecutionType(EventExecutionType.EXECUTE_FAILURE);
+                each.setException(ex);
             }
-            for (List<Object> each : parameterSets) {
-                events.add(getExecutionEvent(sqlType, baseStatementUnit, each));
+            eventDispatcher.post(events);
+            ExecutorExceptionHandler.handleException(ex);
+            return null;
+        }
+        recordExecution(sqlExecutionUnit, startTime);
+        for (AbstractExecutionEvent each : events) {
+            each.setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
+        }
+        eventDispatcher.post(events);
+        return result;
+    }
+    
+    private void recordExecution(final SQLExecutionUnit sqlExecutionUnit, final long startTime) {
+        sqlExecutionUnit.addExecutionNanoTime(System.nanoTime() - startTime);
+        shardingMetrics.recordExecution(sqlExecutionUnit.getDataSource(), sqlExecutionUnit.getActualTable(), startTime);
+    }
+    
+    private List<AbstractExecutionEvent> getExecutionEvents(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final List<List<Object>> parameterSets) {
+        SQLExecutionUnit sqlExecutionUnit = baseStatementUnit.getSqlExecutionUnit();
+        if (parameterSets.isEmpty()) {
+            return Collections.singletonList(getExecutionEvent(sqlType, sqlExecutionUnit, Collections.emptyList()));
+        }
+        if (baseStatementUnit instanceof BatchPreparedStatementUnit) {
+            return getBatchExecutionEvents(sqlType, (BatchPreparedStatementUnit) baseStatementUnit, parameterSets);
+        }
+        List<AbstractExecutionEvent> result = new ArrayList<>(parameterSets.size());
+        for (List<Object> each : parameterSets) {
+            result.add(getExecutionEvent(sqlType, sqlExecutionUnit, sqlExecutionUnit.getParameters(each)));
+        }
+        return result;
+    }
+    
+    private List<AbstractExecutionEvent> getBatchExecutionEvents(final SQLType sqlType, final BatchPreparedStatementUnit batchPreparedStatementUnit, final List<List<Object>> parameterSets) {
+        Map<Integer, Integer> addBatchTimesMap = batchPreparedStatementUnit.getJdbcAndActualAddBatchCallTimesMap();
+        List<AbstractExecutionEvent> result = new ArrayList<>(addBatchTimesMap.size());
+        for (int i = 0; i < parameterSets.size(); i++) {
+            if (addBatchTimesMap.containsKey(i)) {
+                result.add(getExecutionEvent(sqlType, batchPreparedStatementUnit.getSqlExecutionUnit(), batchPreparedStatementUnit.getParameters(i, parameterSets.get(i))));
             }
-            for (AbstractExecutionEvent event : events) {
-                EventBusInstance.getInstance().post(event);
+        }
+        return result;
+    }
+    
+    private AbstractExecutionEvent getExecutionEvent(final SQLType sqlType, final SQLExecutionUnit sqlExecutionUnit, final List<Object> parameters) {
+        if (SQLType.DQL == sqlType) {
+            return new DQLExecutionEvent(sqlExecutionUnit.getDataSource(), sqlExecutionUnit.getSql(), parameters);
+        }
+        return new DMLExecutionEvent(sqlExecutionUnit.getDataSource(), sqlExecutionUnit.getSql(), parameters);
+    }
+    
+    /**
+     * Execute operation on connections in parallel.
+     *
+     * <p>
+     * The first connection is operated by caller thread, others are operated by worker threads of their data sources.
+     * Connection rejected by executor backend is operated by caller thread too.
+     * </p>
+     *
+     * @param connections connections mapped by data source name
+     * @param connectionCallback connection operation callback
+     * @return exceptions thrown by operation, empty if all connections are operated successfully
+     */
+    public Collection<SQLException> executeConnections(final Multimap<String, Connection> connections, final ConnectionCallback connectionCallback) {
+        Collection<SQLException> result = new LinkedList<>();
+        if (connections.isEmpty()) {
+            return result;
+        }
+        Iterator<Entry<String, Connection>> iterator = connections.entries().iterator();
+        Collection<Connection> callerConnections = new LinkedList<>();
+        callerConnections.add(iterator.next().getValue());
+        Collection<ListenableFuture<Void>> futures = new LinkedList<>();
+        while (iterator.hasNext()) {
+            Entry<String, Connection> entry = iterator.next();
+            final Connection connection = entry.getValue();
+            try {
+                futures.add(executorBackend.getExecutorService(entry.getKey()).submit(new Callable<Void>() {
+                    
+                    @Override
+                    public Void call() throws SQLException {
+                        connectionCallback.execute(connection);
+                        return null;
+                    }
+                }));
+            } catch (final RejectedExecutionException ex) {
+                callerConnections.add(connection);
             }
+        }
+        for (Connection each : callerConnections) {
             try {
-                result = executeCallback.execute(baseStatementUnit);
+                connectionCallback.execute(each);
             } catch (final SQLException ex) {
-                for (AbstractExecutionEvent each : events) {
-                    each.setEventExecutionType(EventExecutionType.EXECUTE_FAILURE);
-                    each.setException(ex);
-                    EventBusInstance.getInstance().post(each);
-                    ExecutorExceptionHandler.handleException(ex);
-                }
-                return null;
+                result.add(ex);
             }
-            for (AbstractExecutionEvent each : events) {
-                each.setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
-                EventBusInstance.getInstance().post(each);
+        }
+        for (ListenableFuture<Void> each : futures) {
+            try {
+                each.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                result.add(new SQLException(ex));
+            } catch (final ExecutionException ex) {
+                result.add(ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause()));
             }
-            return result;
         }
+        return result;
     }
     
-    private AbstractExecutionEvent getExecutionEvent(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final List<Object> parameters) {
-        AbstractExecutionEvent result;
-        if (SQLType.DQL == sqlType) {
-            result = new DQLExecutionEvent(baseStatementUnit.getSqlExecutionUnit().getDataSource(), baseStatementUnit.getSqlExecutionUnit().getSql(), parameters);
-        } else {
-            result = new DMLExecutionEvent(baseStatementUnit.getSqlExecutionUnit().getDataSource(), baseStatementUnit.getSqlExecutionUnit().getSql(), parameters);
-        }
-        return result;
+    /**
+     * Get metrics of executor pools.
+     * 
+     * @return metrics of executor pools
+     */
+    public List<ExecutorPoolMetrics> getExecutorPoolMetrics() {
+        return executorBackend.getMetrics();
     }
     
     @Override
     public void close() {
-        executorService.shutdownNow();
-        try {
-            executorService.awaitTermination(5, TimeUnit.SECONDS);
-        } catch (final InterruptedException ignored) {
-        }
-        if (!executorService.isTerminated()) {
-            throw new ShardingJdbcException("ExecutorEngine can not been terminated");
-        }
+        executorBackend.close();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class StatementUnitGroup {
+        
+        private final Connection connection;
+        
+        private final String dataSource;
+        
+        private final List<BaseStatementUnit> statementUnits = new LinkedList<>();
+        
+        private final List<Integer> indexes = new LinkedList<>();
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.executor.backend;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import io.shardingjdbc.core.executor.pool.ExecutorPoolMetrics;
+
+import java.util.List;
+
+/**
+ * Executor backend which provides worker threads for statement execution.
+ * 
+ * @author zhangliang
+ */
+public interface ExecutorBackend extends AutoCloseable {
+    
+    /**
+     * Get executor service for data source.
+     * 
+     * @param dataSourceName data source name
+     * @return executor service
+     */
+    ListeningExecutorService getExecutorService(String dataSourceName);
+    
+    /**
+     * Get metrics of executor pools.
+     * 
+     * @return metrics of executor pools, empty if backend has no pool
+     */
+    List<ExecutorPoolMetrics> getMetrics();
+    
+    @Override
+    void close();
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.executor.backend;
+
+import io.shardingjdbc.core.constant.ShardingProperties;
+import io.shardingjdbc.core.constant.ShardingPropertiesConstant;
+import io.shardingjdbc.core.exception.ShardingJdbcException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ServiceLoader;
+
+/**
+ * Executor backend factory.
+ * 
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutorBackendFactory {
+    
+    /**
+     * Create executor backend via type configured by property {@code executor.backend}.
+     * 
+     * @param shardingProperties sharding properties
+     * @return executor backend
+     */
+    public static ExecutorBackend newExecutorBackend(final ShardingProperties shardingProperties) {
+        String type = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_BACKEND);
+        for (ExecutorBackendProvider each : ServiceLoader.load(ExecutorBackendProvider.class)) {
+            if (each.getType().equalsIgnoreCase(type)) {
+                return each.newExecutorBackend(shardingProperties);
+            }
+        }
+        throw new ShardingJdbcException("Cannot find executor backend provider for type '%s'.", type);
+    }
+}
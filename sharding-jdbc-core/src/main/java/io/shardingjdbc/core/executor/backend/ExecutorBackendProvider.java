@@ -0,0 +1,48 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.executor.backend;
+
+import io.shardingjdbc.core.constant.ShardingProperties;
+
+/**
+ * Executor backend provider.
+ * 
+ * <p>
+ * Providers are loaded by {@code java.util.ServiceLoader} from {@code META-INF/services/io.shardingjdbc.core.executor.backend.ExecutorBackendProvider},
+ * and selected by property {@code executor.backend}.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public interface ExecutorBackendProvider {
+    
+    /**
+     * Get type of executor backend.
+     * 
+     * @return type of executor backend
+     */
+    String getType();
+    
+    /**
+     * Create executor backend.
+     * 
+     * @param shardingProperties sharding properties
+     * @return executor backend
+     */
+    ExecutorBackend newExecutorBackend(ShardingProperties shardingProperties);
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.executor.backend;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.shardingjdbc.core.executor.pool.ExecutorPoolMetrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executor backend with executor service supplied by caller.
+ * 
+ * <p>
+ * Lifecycle of executor service is managed by caller, it will not be shutdown when backend closed.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class ExecutorServiceBackend implements ExecutorBackend {
+    
+    private final ExecutorService executorService;
+    
+    private final ListeningExecutorService listeningExecutorService;
+    
+    public ExecutorServiceBackend(final ExecutorService executorService) {
+        this.executorService = executorService;
+        listeningExecutorService = MoreExecutors.listeningDecorator(executorService);
+    }
+    
+    @Override
+    public ListeningExecutorService getExecutorService(final String dataSourceName) {
+        return listeningExecutorService;
+    }
+    
+    @Override
+    public List<ExecutorPoolMetrics> getMetrics() {
+        if (!(executorService instanceof ThreadPoolExecutor)) {
+            return Collections.emptyList();
+        }
+        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
+        return Collections.singletonList(new ExecutorPoolMetrics(executorService.getClass().getSimpleName(), threadPoolExecutor.getActiveCount(), threadPoolExecutor.getPoolSize(), 
+                threadPoolExecutor.getQueue().size(), threadPoolExecutor.getQueue().remainingCapacity(), threadPoolExecutor.getCompletedTaskCount(), 0L));
+    }
+    
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.executor.backend;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import io.shardingjdbc.core.exception.ShardingJdbcException;
+import io.shardingjdbc.core.executor.pool.ExecutorPool;
+import io.shardingjdbc.core.executor.pool.ExecutorPoolConfiguration;
+import io.shardingjdbc.core.executor.pool.ExecutorPoolMetrics;
+import io.shardingjdbc.core.executor.pool.RejectedPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor backend with fixed size thread pools.
+ * 
+ * <p>
+ * All data sources share one thread pool by default.
+ * If executor pool configuration for data source is present, each data source uses an isolated and bounded executor pool,
+ * so that slow data source can not exhaust worker threads of other data sources.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class ThreadPoolExecutorBackend implements ExecutorBackend {
+    
+    private final ExecutorPool executorPool;
+    
+    private final ExecutorPoolConfiguration dataSourceExecutorPoolConfig;
+    
+    private final ConcurrentMap<String, ExecutorPool> dataSourceExecutorPools = new ConcurrentHashMap<>();
+    
+    public ThreadPoolExecutorBackend(final int executorSize, final ExecutorPoolConfiguration dataSourceExecutorPoolConfig) {
+        executorPool = new ExecutorPool("ShardingJDBC", executorSize, Integer.MAX_VALUE, RejectedPolicy.ABORT);
+        this.dataSourceExecutorPoolConfig = dataSourceExecutorPoolConfig;
+    }
+    
+    @Override
+    public ListeningExecutorService getExecutorService(final String dataSourceName) {
+        if (null == dataSourceExecutorPoolConfig) {
+            return executorPool.getExecutorService();
+        }
+        ExecutorPool result = dataSourceExecutorPools.get(dataSourceName);
+        if (null != result) {
+            return result.getExecutorService();
+        }
+        ExecutorPool newExecutorPool = new ExecutorPool("ShardingJDBC-" + dataSourceName, 
+                dataSourceExecutorPoolConfig.getThreadSize(), dataSourceExecutorPoolConfig.getQueueSize(), dataSourceExecutorPoolConfig.getRejectedPolicy());
+        result = dataSourceExecutorPools.putIfAbsent(dataSourceName, newExecutorPool);
+        if (null == result) {
+            return newExecutorPool.getExecutorService();
+        }
+        newExecutorPool.shutdown(0, TimeUnit.MILLISECONDS);
+        return result.getExecutorService();
+    }
+    
+    @Override
+    public List<ExecutorPoolMetrics> getMetrics() {
+        List<ExecutorPoolMetrics> result = new ArrayList<>(dataSourceExecutorPools.size() + 1);
+        result.add(executorPool.getMetrics());
+        for (ExecutorPool each : dataSourceExecutorPools.values()) {
+            result.add(each.getMetrics());
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        boolean isTerminated = executorPool.shutdown(5, TimeUnit.SECONDS);
+        for (ExecutorPool each : dataSourceExecutorPools.values()) {
+            isTerminated = each.shutdown(5, TimeUnit.SECONDS) && isTerminated;
+        }
+        if (!isTerminated) {
+            throw new ShardingJdbcException("ExecutorEngine can not been terminated");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.executor.backend;
+
+import io.shardingjdbc.core.constant.ShardingProperties;
+import io.shardingjdbc.core.constant.ShardingPropertiesConstant;
+import io.shardingjdbc.core.executor.pool.ExecutorPoolConfiguration;
+import io.shardingjdbc.core.executor.pool.RejectedPolicy;
+
+/**
+ * Provider of thread pool executor backend.
+ * 
+ * @author zhangliang
+ */
+public final class ThreadPoolExecutorBackendProvider implements ExecutorBackendProvider {
+    
+    public static final String TYPE = "THREAD_POOL";
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+    
+    @Override
+    public ExecutorBackend newExecutorBackend(final ShardingProperties shardingProperties) {
+        int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
+        int dataSourceExecutorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_DATA_SOURCE_SIZE);
+        if (dataSourceExecutorSize <= 0) {
+            return new ThreadPoolExecutorBackend(executorSize, null);
+        }
+        int dataSourceQueueSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_DATA_SOURCE_QUEUE_SIZE);
+        String rejectedPolicy = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_DATA_SOURCE_REJECTED_POLICY);
+        return new ThreadPoolExecutorBackend(executorSize, new ExecutorPoolConfiguration(dataSourceExecutorSize, dataSourceQueueSize, RejectedPolicy.valueOf(rejectedPolicy.toUpperCase())));
+    }
+}
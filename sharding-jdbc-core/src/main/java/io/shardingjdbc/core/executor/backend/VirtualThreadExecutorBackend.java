@@ -0,0 +1,97 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.executor.backend;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.shardingjdbc.core.exception.ShardingJdbcException;
+import io.shardingjdbc.core.executor.pool.ExecutorPoolMetrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor backend which starts a virtual thread for each task.
+ * 
+ * <p>
+ * Virtual threads are created by reflection because they are only available on Java 21 and later.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class VirtualThreadExecutorBackend implements ExecutorBackend {
+    
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD = findNewVirtualThreadPerTaskExecutorMethod();
+    
+    private final ListeningExecutorService executorService;
+    
+    public VirtualThreadExecutorBackend() {
+        if (!isAvailable()) {
+            throw new ShardingJdbcException("Virtual thread is not available in Java %s.", System.getProperty("java.version"));
+        }
+        try {
+            executorService = MoreExecutors.listeningDecorator((ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null));
+        } catch (final IllegalAccessException | InvocationTargetException ex) {
+            throw new ShardingJdbcException(ex);
+        }
+    }
+    
+    private static Method findNewVirtualThreadPerTaskExecutorMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (final NoSuchMethodException ex) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge virtual thread is available in current runtime or not.
+     * 
+     * @return virtual thread is available or not
+     */
+    public static boolean isAvailable() {
+        return null != NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD;
+    }
+    
+    @Override
+    public ListeningExecutorService getExecutorService(final String dataSourceName) {
+        return executorService;
+    }
+    
+    @Override
+    public List<ExecutorPoolMetrics> getMetrics() {
+        return Collections.emptyList();
+    }
+    
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+        try {
+            executorService.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ignored) {
+        }
+        if (!executorService.isTerminated()) {
+            throw new ShardingJdbcException("ExecutorEngine can not been terminated");
+        }
+    }
+}
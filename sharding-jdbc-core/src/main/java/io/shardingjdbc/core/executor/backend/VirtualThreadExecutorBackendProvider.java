@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.executor.backend;
+
+import io.shardingjdbc.core.constant.ShardingProperties;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Provider of virtual thread executor backend.
+ * 
+ * <p>
+ * Fall back to thread pool executor backend if virtual thread is not available in current runtime.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@Slf4j
+public final class VirtualThreadExecutorBackendProvider implements ExecutorBackendProvider {
+    
+    public static final String TYPE = "VIRTUAL_THREAD";
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+    
+    @Override
+    public ExecutorBackend newExecutorBackend(final ShardingProperties shardingProperties) {
+        if (VirtualThreadExecutorBackend.isAvailable()) {
+            return new VirtualThreadExecutorBackend();
+        }
+        log.warn("Virtual thread is not available in Java {}, use executor backend '{}' instead.", System.getProperty("java.version"), ThreadPoolExecutorBackendProvider.TYPE);
+        return new ThreadPoolExecutorBackendProvider().newExecutorBackend(shardingProperties);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.executor.event;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Execution event listener which hands off events by ring buffer and dispatches them in batch by one daemon thread.
+ * 
+ * <p>
+ * Events are mutable and reused for different execution phases,
+ * so only finished events are handed off, events of {@code BEFORE_EXECUTE} are ignored.
+ * Events are dropped if ring buffer is full, posting thread never blocks.
+ * Dispatch thread parks while ring buffer is empty, and is unparked by posting thread only if it is parked.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@Slf4j
+final class AsyncExecutionEventListener implements ExecutionEventListener {
+    
+    private static final int MAX_BATCH_SIZE = 256;
+    
+    private final ExecutionEventListener executionEventListener;
+    
+    private final ExecutionEventRingBuffer ringBuffer;
+    
+    private final AtomicLong droppedCount = new AtomicLong();
+    
+    private final Thread dispatchThread;
+    
+    private volatile boolean running = true;
+    
+    private volatile boolean parked;
+    
+    private volatile boolean closed;
+    
+    AsyncExecutionEventListener(final ExecutionEventListener executionEventListener, final int bufferSize) {
+        this.executionEventListener = executionEventListener;
+        ringBuffer = new ExecutionEventRingBuffer(bufferSize);
+        dispatchThread = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingJDBC-ExecutionEvent-%d").build().newThread(new Runnable() {
+            
+            @Override
+            public void run() {
+                dispatch();
+            }
+        });
+        dispatchThread.start();
+    }
+    
+    @Override
+    public void listen(final List<? extends AbstractExecutionEvent> events) {
+        for (AbstractExecutionEvent each : events) {
+            if (EventExecutionType.BEFORE_EXECUTE != each.getEventExecutionType() && (closed || !ringBuffer.offer(each))) {
+                droppedCount.incrementAndGet();
+            }
+        }
+        if (parked) {
+            LockSupport.unpark(dispatchThread);
+        }
+    }
+    
+    private void dispatch() {
+        while (running) {
+            if (!dispatchBatch()) {
+                waitForEvents();
+            }
+        }
+        dispatchRemainingEvents();
+    }
+    
+    private void waitForEvents() {
+        parked = true;
+        if (running && ringBuffer.isEmpty()) {
+            LockSupport.park(this);
+        }
+        parked = false;
+    }
+    
+    private void dispatchRemainingEvents() {
+        boolean hasRemainingEvents = true;
+        while (hasRemainingEvents) {
+            hasRemainingEvents = dispatchBatch();
+        }
+    }
+    
+    private boolean dispatchBatch() {
+        List<AbstractExecutionEvent> events = new ArrayList<>(MAX_BATCH_SIZE);
+        if (0 == ringBuffer.drainTo(events, MAX_BATCH_SIZE)) {
+            return false;
+        }
+        try {
+            executionEventListener.listen(events);
+            //CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            //CHECKSTYLE:ON
+            log.error("Execution event listener '{}' failed: ", executionEventListener, ex);
+        }
+        return true;
+    }
+    
+    /**
+     * Get count of events dropped because of ring buffer is full.
+     * 
+     * @return count of dropped events
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+    
+    /**
+     * Stop dispatch thread after remaining events dispatched.
+     * 
+     * <p>
+     * Events posted before dispatch thread stopped are dispatched by caller thread,
+     * events posted after closed are counted as dropped.
+     * </p>
+     */
+    void close() {
+        running = false;
+        LockSupport.unpark(dispatchThread);
+        try {
+            dispatchThread.join();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        closed = true;
+        dispatchRemainingEvents();
+    }
+}
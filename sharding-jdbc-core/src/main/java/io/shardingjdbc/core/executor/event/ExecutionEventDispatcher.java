@@ -0,0 +1,173 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.executor.event;
+
+import com.google.common.base.Preconditions;
+import io.shardingjdbc.core.util.EventBusInstance;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Execution event dispatcher.
+ * 
+ * <p>
+ * Dispatch execution events to registered {@code ExecutionEventListener} and subscribers of {@code EventBusInstance}.
+ * Call {@code hasListener()} before creating events, no event need to be created if nobody listens.
+ * Listeners are read from an immutable snapshot without lock, 
+ * asynchronous listeners receive finished events in batch from a ring buffer and never block execution threads.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class ExecutionEventDispatcher {
+    
+    private static final ExecutionEventDispatcher INSTANCE = new ExecutionEventDispatcher();
+    
+    private final Map<ExecutionEventListener, ExecutionEventListener> registeredListeners = new LinkedHashMap<>();
+    
+    private volatile ExecutionEventListener[] listeners = new ExecutionEventListener[0];
+    
+    /**
+     * Get execution event dispatcher instance.
+     * 
+     * @return execution event dispatcher instance
+     */
+    public static ExecutionEventDispatcher getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register listener which is called synchronously by execution thread.
+     * 
+     * @param listener execution event listener
+     */
+    public synchronized void register(final ExecutionEventListener listener) {
+        Preconditions.checkState(!registeredListeners.containsKey(listener), "Execution event listener '%s' is already registered.", listener);
+        registeredListeners.put(listener, listener);
+        refreshListeners();
+    }
+    
+    /**
+     * Register listener which is called asynchronously by dispatch thread.
+     * 
+     * <p>
+     * Only finished events are dispatched, events are dropped if ring buffer is full.
+     * </p>
+     * 
+     * @param listener execution event listener
+     * @param bufferSize size of ring buffer, must be power of 2
+     */
+    public synchronized void registerAsync(final ExecutionEventListener listener, final int bufferSize) {
+        Preconditions.checkState(!registeredListeners.containsKey(listener), "Execution event listener '%s' is already registered.", listener);
+        registeredListeners.put(listener, new AsyncExecutionEventListener(listener, bufferSize));
+        refreshListeners();
+    }
+    
+    /**
+     * Unregister listener.
+     * 
+     * <p>
+     * Remaining events of asynchronous listener will be dispatched before return.
+     * </p>
+     * 
+     * @param listener execution event listener
+     */
+    public synchronized void unregister(final ExecutionEventListener listener) {
+        ExecutionEventListener registeredListener = registeredListeners.remove(listener);
+        if (null == registeredListener) {
+            return;
+        }
+        refreshListeners();
+        if (registeredListener instanceof AsyncExecutionEventListener) {
+            ((AsyncExecutionEventListener) registeredListener).close();
+        }
+    }
+    
+    private void refreshListeners() {
+        Collection<ExecutionEventListener> values = registeredListeners.values();
+        listeners = values.toArray(new ExecutionEventListener[values.size()]);
+    }
+    
+    /**
+     * Adjust any listener is registered or not.
+     * 
+     * @return any listener is registered or not
+     */
+    public boolean hasListener() {
+        return 0 != listeners.length || EventBusInstance.hasSubscriber();
+    }
+    
+    /**
+     * Get count of events dropped by asynchronous listeners.
+     * 
+     * @return count of dropped events
+     */
+    public long getDroppedEventCount() {
+        long result = 0L;
+        for (ExecutionEventListener each : listeners) {
+            if (each instanceof AsyncExecutionEventListener) {
+                result += ((AsyncExecutionEventListener) each).getDroppedCount();
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Post execution event.
+     * 
+     * @param event execution event
+     */
+    public void post(final AbstractExecutionEvent event) {
+        post(Collections.singletonList(event));
+    }
+    
+    /**
+     * Post execution events in one batch.
+     * 
+     * @param events execution events
+     */
+    public void post(final List<? extends AbstractExecutionEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (EventBusInstance.hasSubscriber()) {
+            for (AbstractExecutionEvent each : events) {
+                EventBusInstance.getInstance().post(each);
+            }
+        }
+        for (ExecutionEventListener each : listeners) {
+            try {
+                each.listen(events);
+                //CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                //CHECKSTYLE:ON
+                log.error("Execution event listener '{}' failed: ", each, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.executor.event;
+
+import java.util.List;
+
+/**
+ * Execution event listener.
+ * 
+ * @author zhangliang
+ */
+public interface ExecutionEventListener {
+    
+    /**
+     * Listen execution events.
+     * 
+     * <p>
+     * Events posted together are delivered in one batch, such as events of all parameter sets for one statement unit.
+     * </p>
+     * 
+     * @param events execution events
+     */
+    void listen(List<? extends AbstractExecutionEvent> events);
+}
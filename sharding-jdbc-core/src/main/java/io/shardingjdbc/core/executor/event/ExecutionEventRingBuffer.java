@@ -0,0 +1,105 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.executor.event;
+
+import com.google.common.base.Preconditions;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for execution events.
+ * 
+ * <p>
+ * Multiple producers claim slots by CAS, only one consumer can drain events.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+final class ExecutionEventRingBuffer {
+    
+    private final AtomicReferenceArray<AbstractExecutionEvent> slots;
+    
+    private final int mask;
+    
+    private final AtomicLong producerSequence = new AtomicLong();
+    
+    private volatile long consumerSequence;
+    
+    ExecutionEventRingBuffer(final int bufferSize) {
+        Preconditions.checkArgument(bufferSize > 0 && 0 == (bufferSize & (bufferSize - 1)), "Buffer size must be power of 2.");
+        slots = new AtomicReferenceArray<>(bufferSize);
+        mask = bufferSize - 1;
+    }
+    
+    /**
+     * Offer event without blocking.
+     * 
+     * @param event execution event
+     * @return event is offered or buffer is full
+     */
+    boolean offer(final AbstractExecutionEvent event) {
+        long sequence;
+        do {
+            sequence = producerSequence.get();
+            if (sequence - consumerSequence >= slots.length()) {
+                return false;
+            }
+        } while (!producerSequence.compareAndSet(sequence, sequence + 1));
+        slots.lazySet((int) (sequence & mask), event);
+        return true;
+    }
+    
+    /**
+     * Adjust all claimed events are drained or not.
+     * 
+     * <p>Claimed event may be not published yet if buffer is not empty.</p>
+     * 
+     * @return all claimed events are drained or not
+     */
+    boolean isEmpty() {
+        return producerSequence.get() == consumerSequence;
+    }
+    
+    /**
+     * Drain published events, only one thread can drain at the same time.
+     * 
+     * @param events events to be filled
+     * @param maxSize max size of events to be drained
+     * @return size of drained events
+     */
+    int drainTo(final List<AbstractExecutionEvent> events, final int maxSize) {
+        long sequence = consumerSequence;
+        int result = 0;
+        while (result < maxSize) {
+            int index = (int) (sequence & mask);
+            AbstractExecutionEvent event = slots.get(index);
+            if (null == event) {
+                break;
+            }
+            slots.lazySet(index, null);
+            events.add(event);
+            sequence++;
+            result++;
+        }
+        consumerSequence = sequence;
+        return result;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.executor.limit;
+
+import io.shardingjdbc.core.exception.ShardingJdbcException;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive concurrency limiter for one data source.
+ * 
+ * <p>
+ * Limit is adjusted by AIMD with gradient of latency as congestion signal:
+ * short latency is the moving average of recent 10 samples, long latency is the moving average of recent 1000 samples.
+ * Limit is increased by 1 if short latency is not more than twice of long latency and more than half of limit is in use,
+ * and is multiplied by 0.9 if short latency is more than twice of long latency or execution is failed.
+ * Both latencies are averages of the same mixture of SQL, so that a data source which serves both point lookups and fan-out scans
+ * is throttled only if all of its executions become slower.
+ * </p>
+ * 
+ * <p>
+ * Waiting is bounded and interruptible, and uses {@code ReentrantLock} instead of monitor to avoid pinning carrier of virtual thread.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+final class AdaptiveConcurrencyLimiter {
+    
+    private static final double BACKOFF_RATIO = 0.9D;
+    
+    private static final long TOLERANCE = 2L;
+    
+    private static final int SHORT_WINDOW_SIZE = 10;
+    
+    private static final int LONG_WINDOW_SIZE = 1000;
+    
+    private final int maxLimit;
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition permitReleased = lock.newCondition();
+    
+    private int limit;
+    
+    private int inFlight;
+    
+    private double shortLatency = -1D;
+    
+    private double longLatency = -1D;
+    
+    AdaptiveConcurrencyLimiter(final int maxLimit) {
+        this.maxLimit = maxLimit;
+        limit = maxLimit;
+    }
+    
+    /**
+     * Acquire permit, wait until in flight size is less than limit.
+     * 
+     * @param dataSource data source name
+     * @param timeoutNanos max time to wait in nanoseconds
+     * @throws ShardingJdbcException if timeout or interrupted
+     */
+    void acquire(final String dataSource, final long timeoutNanos) {
+        long remainingNanos = timeoutNanos;
+        lock.lock();
+        try {
+            while (inFlight >= limit) {
+                if (remainingNanos <= 0L) {
+                    throw new ShardingJdbcException("Timeout to acquire execution permit of data source '%s'.", dataSource);
+                }
+                remainingNanos = permitReleased.awaitNanos(remainingNanos);
+            }
+            inFlight++;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingJdbcException(String.format("Interrupted while acquiring execution permit of data source '%s'.", dataSource), ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Release permit and adjust limit.
+     * 
+     * @param latencyNanos latency of execution in nanoseconds
+     * @param succeeded execution is succeeded or not
+     */
+    void release(final long latencyNanos, final boolean succeeded) {
+        lock.lock();
+        try {
+            inFlight--;
+            adjustLimit(latencyNanos, succeeded);
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Release permit without adjusting limit, for the execution which is not started.
+     */
+    void cancel() {
+        lock.lock();
+        try {
+            inFlight--;
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void adjustLimit(final long latencyNanos, final boolean succeeded) {
+        if (succeeded) {
+            shortLatency = average(shortLatency, latencyNanos, SHORT_WINDOW_SIZE);
+            longLatency = average(longLatency, latencyNanos, LONG_WINDOW_SIZE);
+        }
+        if (!succeeded || shortLatency > longLatency * TOLERANCE) {
+            limit = Math.max(1, (int) (limit * BACKOFF_RATIO));
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+    
+    private double average(final double average, final long latencyNanos, final int windowSize) {
+        return average < 0D ? latencyNanos : average + (latencyNanos - average) / windowSize;
+    }
+    
+    /**
+     * Get current limit.
+     * 
+     * @return current limit
+     */
+    int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
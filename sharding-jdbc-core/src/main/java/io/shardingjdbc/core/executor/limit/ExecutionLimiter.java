@@ -0,0 +1,135 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.executor.limit;
+
+import com.google.common.base.Optional;
+import io.shardingjdbc.core.exception.ShardingJdbcException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution limiter.
+ * 
+ * <p>
+ * Limit in flight statement unit groups, one group is the statement units which share one connection.
+ * Parallelism of one logic SQL is limited by {@code maxParallelismPerQuery},
+ * in flight groups of all logic SQL are limited by {@code maxInFlight},
+ * and in flight groups of each data source are limited by adaptive limit which is not greater than {@code maxInFlight}.
+ * Caller thread is blocked if limit is reached, instead of queueing without bound,
+ * and fails with {@code ShardingJdbcException} if permit is not acquired in {@code acquireTimeoutMillis}.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class ExecutionLimiter {
+    
+    private final int maxParallelismPerQuery;
+    
+    private final int maxInFlight;
+    
+    private final long acquireTimeoutNanos;
+    
+    private final Semaphore inFlightPermits;
+    
+    private final ConcurrentMap<String, AdaptiveConcurrencyLimiter> dataSourceLimiters = new ConcurrentHashMap<>();
+    
+    public ExecutionLimiter(final int maxParallelismPerQuery, final int maxInFlight, final long acquireTimeoutMillis) {
+        this.maxParallelismPerQuery = maxParallelismPerQuery;
+        this.maxInFlight = maxInFlight;
+        acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+        inFlightPermits = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
+    }
+    
+    /**
+     * Create limiter for one logic SQL.
+     * 
+     * @return limiter for one logic SQL, absent if limit is disabled
+     */
+    public Optional<QueryLimiter> newQueryLimiter() {
+        if (maxParallelismPerQuery <= 0 && maxInFlight <= 0) {
+            return Optional.absent();
+        }
+        return Optional.of(new QueryLimiter(this, maxParallelismPerQuery > 0 ? new Semaphore(maxParallelismPerQuery) : null));
+    }
+    
+    /**
+     * Get current adaptive limit of data source.
+     * 
+     * @param dataSource data source name
+     * @return current adaptive limit, absent if in flight limit is disabled
+     */
+    public Optional<Integer> getDataSourceLimit(final String dataSource) {
+        if (maxInFlight <= 0) {
+            return Optional.absent();
+        }
+        return Optional.of(getDataSourceLimiter(dataSource).getLimit());
+    }
+    
+    long getAcquireTimeoutNanos() {
+        return acquireTimeoutNanos;
+    }
+    
+    void acquire(final String dataSource, final long timeoutNanos) {
+        if (maxInFlight <= 0) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        AdaptiveConcurrencyLimiter dataSourceLimiter = getDataSourceLimiter(dataSource);
+        dataSourceLimiter.acquire(dataSource, timeoutNanos);
+        try {
+            acquire(inFlightPermits, dataSource, timeoutNanos - (System.nanoTime() - startTime));
+        } catch (final ShardingJdbcException ex) {
+            dataSourceLimiter.cancel();
+            throw ex;
+        }
+    }
+    
+    void release(final String dataSource, final long latencyNanos, final boolean succeeded) {
+        if (maxInFlight > 0) {
+            inFlightPermits.release();
+            getDataSourceLimiter(dataSource).release(latencyNanos, succeeded);
+        }
+    }
+    
+    static void acquire(final Semaphore permits, final String dataSource, final long timeoutNanos) {
+        try {
+            if (!permits.tryAcquire(Math.max(0L, timeoutNanos), TimeUnit.NANOSECONDS)) {
+                throw new ShardingJdbcException("Timeout to acquire execution permit of data source '%s'.", dataSource);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingJdbcException(String.format("Interrupted while acquiring execution permit of data source '%s'.", dataSource), ex);
+        }
+    }
+    
+    private AdaptiveConcurrencyLimiter getDataSourceLimiter(final String dataSource) {
+        AdaptiveConcurrencyLimiter result = dataSourceLimiters.get(dataSource);
+        if (null == result) {
+            AdaptiveConcurrencyLimiter newLimiter = new AdaptiveConcurrencyLimiter(maxInFlight);
+            result = dataSourceLimiters.putIfAbsent(dataSource, newLimiter);
+            if (null == result) {
+                result = newLimiter;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.executor.limit;
+
+import io.shardingjdbc.core.exception.ShardingJdbcException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Execution limiter for one logic SQL.
+ * 
+ * <p>
+ * Permit should be acquired in caller thread before statement unit group is submitted,
+ * and be released after statement unit group is finished.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class QueryLimiter {
+    
+    private final ExecutionLimiter executionLimiter;
+    
+    private final Semaphore parallelismPermits;
+    
+    QueryLimiter(final ExecutionLimiter executionLimiter, final Semaphore parallelismPermits) {
+        this.executionLimiter = executionLimiter;
+        this.parallelismPermits = parallelismPermits;
+    }
+    
+    /**
+     * Acquire permit for data source, wait until limits are not reached.
+     * 
+     * @param dataSource data source name
+     * @throws ShardingJdbcException if permit is not acquired in timeout or thread is interrupted
+     */
+    public void acquire(final String dataSource) {
+        long timeoutNanos = executionLimiter.getAcquireTimeoutNanos();
+        if (null == parallelismPermits) {
+            executionLimiter.acquire(dataSource, timeoutNanos);
+            return;
+        }
+        long startTime = System.nanoTime();
+        ExecutionLimiter.acquire(parallelismPermits, dataSource, timeoutNanos);
+        try {
+            executionLimiter.acquire(dataSource, timeoutNanos - (System.nanoTime() - startTime));
+        } catch (final ShardingJdbcException ex) {
+            parallelismPermits.release();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Release permit for data source.
+     * 
+     * @param dataSource data source name
+     * @param latencyNanos latency of each statement unit in nanoseconds
+     * @param succeeded execution is succeeded or not
+     */
+    public void release(final String dataSource, final long latencyNanos, final boolean succeeded) {
+        executionLimiter.release(dataSource, latencyNanos, succeeded);
+        if (null != parallelismPermits) {
+            parallelismPermits.release();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.executor.pool;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor pool with fixed thread size and bounded queue.
+ * 
+ * @author zhangliang
+ */
+public final class ExecutorPool {
+    
+    @Getter
+    private final String name;
+    
+    private final ThreadPoolExecutor threadPoolExecutor;
+    
+    @Getter
+    private final ListeningExecutorService executorService;
+    
+    private final AtomicLong rejectedCount = new AtomicLong();
+    
+    public ExecutorPool(final String name, final int threadSize, final int queueSize, final RejectedPolicy rejectedPolicy) {
+        this.name = name;
+        threadPoolExecutor = new ThreadPoolExecutor(threadSize, threadSize, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(queueSize), 
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat(name + "-%d").build(), new CountingRejectedExecutionHandler(rejectedPolicy));
+        executorService = MoreExecutors.listeningDecorator(threadPoolExecutor);
+        MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Get metrics of executor pool.
+     * 
+     * @return metrics of executor pool
+     */
+    public ExecutorPoolMetrics getMetrics() {
+        return new ExecutorPoolMetrics(name, threadPoolExecutor.getActiveCount(), threadPoolExecutor.getPoolSize(), 
+                threadPoolExecutor.getQueue().size(), threadPoolExecutor.getQueue().remainingCapacity(), threadPoolExecutor.getCompletedTaskCount(), rejectedCount.get());
+    }
+    
+    /**
+     * Shutdown executor pool.
+     * 
+     * @param timeout max time to wait for termination
+     * @param unit time unit of timeout
+     * @return executor pool is terminated or not
+     */
+    public boolean shutdown(final long timeout, final TimeUnit unit) {
+        executorService.shutdownNow();
+        try {
+            executorService.awaitTermination(timeout, unit);
+        } catch (final InterruptedException ignored) {
+        }
+        return executorService.isTerminated();
+    }
+    
+    @RequiredArgsConstructor
+    private final class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+        
+        private final RejectedPolicy rejectedPolicy;
+        
+        @Override
+        public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+            rejectedCount.incrementAndGet();
+            if (RejectedPolicy.CALLER_RUNS == rejectedPolicy && !executor.isShutdown()) {
+                runnable.run();
+                return;
+            }
+            throw new RejectedExecutionException(String.format("Task is rejected by executor pool '%s', queue size is %d.", name, executor.getQueue().size()));
+        }
+    }
+}
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.sql.PreparedStatement;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -42,6 +43,9 @@ public final class BatchPreparedStatementUnit implements BaseStatementUnit {
     
     private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new HashMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, SQLExecutionUnit> jdbcAddBatchExecutionUnitsMap = new HashMap<>();
+    
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
@@ -51,6 +55,34 @@ public final class BatchPreparedStatementUnit implements BaseStatementUnit {
      * @param jdbcAddBatchTimes times of use JDBC API call addBatch
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
+        mapAddBatchCount(jdbcAddBatchTimes, sqlExecutionUnit);
+    }
+    
+    /**
+     * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
+     * 
+     * <p>
+     * Execution unit routed by each addBatch keeps its own parameter indexes,
+     * because units which only differ in parameter indexes share one batch statement.
+     * </p>
+     * 
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch
+     * @param routedExecutionUnit execution unit routed by this addBatch
+     */
+    public void mapAddBatchCount(final int jdbcAddBatchTimes, final SQLExecutionUnit routedExecutionUnit) {
         jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        jdbcAddBatchExecutionUnitsMap.put(jdbcAddBatchTimes, routedExecutionUnit);
+    }
+    
+    /**
+     * Get parameters of one addBatch for this statement unit.
+     * 
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch
+     * @param parameters parameters of logic SQL for this addBatch
+     * @return parameters for this statement unit
+     */
+    public List<Object> getParameters(final int jdbcAddBatchTimes, final List<Object> parameters) {
+        SQLExecutionUnit routedExecutionUnit = jdbcAddBatchExecutionUnitsMap.get(jdbcAddBatchTimes);
+        return (null == routedExecutionUnit ? sqlExecutionUnit : routedExecutionUnit).getParameters(parameters);
     }
 }
@@ -17,6 +17,9 @@
 
 package io.shardingjdbc.core.executor.type.prepared;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.shardingjdbc.core.constant.SQLType;
 import io.shardingjdbc.core.executor.BaseStatementUnit;
 import io.shardingjdbc.core.executor.ExecuteCallback;
@@ -51,13 +54,35 @@ public final class PreparedStatementExecutor {
      * @return result set list
      */
     public List<ResultSet> executeQuery() {
-        return executorEngine.executePreparedStatement(sqlType, preparedStatementUnits, parameters, new ExecuteCallback<ResultSet>() {
+        return executorEngine.executePreparedStatement(sqlType, preparedStatementUnits, parameters, createExecuteQueryCallback());
+    }
+    
+    /**
+     * Execute query asynchronously.
+     * 
+     * @return future of result set list
+     */
+    public ListenableFuture<List<ResultSet>> executeQueryAsync() {
+        return executorEngine.executePreparedStatementAsync(sqlType, preparedStatementUnits, parameters, createExecuteQueryCallback());
+    }
+    
+    /**
+     * Execute query and get each result set as soon as it is ready.
+     * 
+     * @return futures of result set, in the same order of prepared statement units
+     */
+    public List<ListenableFuture<ResultSet>> executeQueryStreaming() {
+        return executorEngine.executePreparedStatementStreaming(sqlType, preparedStatementUnits, parameters, createExecuteQueryCallback());
+    }
+    
+    private ExecuteCallback<ResultSet> createExecuteQueryCallback() {
+        return new ExecuteCallback<ResultSet>() {
             
             @Override
             public ResultSet execute(final BaseStatementUnit baseStatementUnit) throws Exception {
                 return ((PreparedStatement) baseStatementUnit.getStatement()).executeQuery();
             }
-        });
+        };
     }
     
     /**
@@ -66,14 +91,32 @@ public final class PreparedStatementExecutor {
      * @return effected records count
      */
     public int executeUpdate() {
-        List<Integer> results = executorEngine.executePreparedStatement(sqlType, preparedStatementUnits, parameters, new ExecuteCallback<Integer>() {
+        return accumulate(executorEngine.executePreparedStatement(sqlType, preparedStatementUnits, parameters, createExecuteUpdateCallback()));
+    }
+    
+    /**
+     * Execute update asynchronously.
+     * 
+     * @return future of effected records count
+     */
+    public ListenableFuture<Integer> executeUpdateAsync() {
+        return Futures.transform(executorEngine.executePreparedStatementAsync(sqlType, preparedStatementUnits, parameters, createExecuteUpdateCallback()), new Function<List<Integer>, Integer>() {
+            
+            @Override
+            public Integer apply(final List<Integer> results) {
+                return accumulate(results);
+            }
+        });
+    }
+    
+    private ExecuteCallback<Integer> createExecuteUpdateCallback() {
+        return new ExecuteCallback<Integer>() {
             
             @Override
             public Integer execute(final BaseStatementUnit baseStatementUnit) throws Exception {
                 return ((PreparedStatement) baseStatementUnit.getStatement()).executeUpdate();
             }
-        });
-        return accumulate(results);
+        };
     }
     
     private int accumulate(final List<Integer> results) {
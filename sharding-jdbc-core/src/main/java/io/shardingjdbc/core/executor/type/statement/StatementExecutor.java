@@ -17,6 +17,7 @@
 
 package io.shardingjdbc.core.executor.type.statement;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import io.shardingjdbc.core.constant.SQLType;
 import io.shardingjdbc.core.executor.BaseStatementUnit;
 import io.shardingjdbc.core.executor.ExecuteCallback;
@@ -51,13 +52,26 @@ public final class StatementExecutor {
      * @return result set list
      */
     public List<ResultSet> executeQuery() {
-        return executorEngine.executeStatement(sqlType, statementUnits, new ExecuteCallback<ResultSet>() {
+        return executorEngine.executeStatement(sqlType, statementUnits, createExecuteQueryCallback());
+    }
+    
+    /**
+     * Execute query and get each result set as soon as it is ready.
+     * 
+     * @return futures of result set, in the same order of statement units
+     */
+    public List<ListenableFuture<ResultSet>> executeQueryStreaming() {
+        return executorEngine.executeStatementStreaming(sqlType, statementUnits, createExecuteQueryCallback());
+    }
+    
+    private ExecuteCallback<ResultSet> createExecuteQueryCallback() {
+        return new ExecuteCallback<ResultSet>() {
             
             @Override
             public ResultSet execute(final BaseStatementUnit baseStatementUnit) throws Exception {
                 return baseStatementUnit.getStatement().executeQuery(baseStatementUnit.getSqlExecutionUnit().getSql());
             }
-        });
+        };
     }
     
     /**
@@ -17,6 +17,11 @@
 
 package io.shardingjdbc.core.jdbc.adapter;
 
+import com.google.common.base.Optional;
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.Multimap;
+import io.shardingjdbc.core.executor.ConnectionCallback;
+import io.shardingjdbc.core.executor.ExecutorEngine;
 import io.shardingjdbc.core.jdbc.unsupported.AbstractUnsupportedOperationConnection;
 import lombok.Getter;
 
@@ -27,7 +32,9 @@ import java.sql.SQLWarning;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Adapter for {@code Connection}.
@@ -39,6 +46,9 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     @Getter
     private final Map<String, Connection> cachedConnections = new HashMap<>();
     
+    @Getter
+    private final Map<String, List<Connection>> cachedParallelConnections = new HashMap<>();
+    
     private boolean autoCommit = true;
     
     private boolean readOnly = true;
@@ -56,49 +66,69 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     public final void setAutoCommit(final boolean autoCommit) throws SQLException {
         this.autoCommit = autoCommit;
         recordMethodInvocation(Connection.class, "setAutoCommit", new Class[] {boolean.class}, new Object[] {autoCommit});
-        for (Connection each : cachedConnections.values()) {
+        for (Connection each : getAllCachedConnections().values()) {
             each.setAutoCommit(autoCommit);
         }
     }
     
     @Override
     public final void commit() throws SQLException {
-        Collection<SQLException> exceptions = new LinkedList<>();
-        for (Connection each : cachedConnections.values()) {
-            try {
-                each.commit();
-            } catch (final SQLException ex) {
-                exceptions.add(ex);
+        throwSQLExceptionIfNecessary(executeForAllCachedConnections(new ConnectionCallback() {
+            
+            @Override
+            public void execute(final Connection connection) throws SQLException {
+                connection.commit();
             }
-        }
-        throwSQLExceptionIfNecessary(exceptions);
+        }));
     }
     
     @Override
     public final void rollback() throws SQLException {
-        Collection<SQLException> exceptions = new LinkedList<>();
-        for (Connection each : cachedConnections.values()) {
-            try {
-                each.rollback();
-            } catch (final SQLException ex) {
-                exceptions.add(ex);
+        throwSQLExceptionIfNecessary(executeForAllCachedConnections(new ConnectionCallback() {
+            
+            @Override
+            public void execute(final Connection connection) throws SQLException {
+                connection.rollback();
             }
-        }
-        throwSQLExceptionIfNecessary(exceptions);
+        }));
     }
     
     @Override
     public void close() throws SQLException {
         closed = true;
-        Collection<SQLException> exceptions = new LinkedList<>();
-        for (Connection each : cachedConnections.values()) {
+        throwSQLExceptionIfNecessary(executeForAllCachedConnections(new ConnectionCallback() {
+            
+            @Override
+            public void execute(final Connection connection) throws SQLException {
+                connection.close();
+            }
+        }));
+    }
+    
+    private Collection<SQLException> executeForAllCachedConnections(final ConnectionCallback connectionCallback) {
+        Multimap<String, Connection> connections = getAllCachedConnections();
+        Optional<ExecutorEngine> executorEngine = getParallelExecutorEngine();
+        if (executorEngine.isPresent() && connections.size() > 1) {
+            return executorEngine.get().executeConnections(connections, connectionCallback);
+        }
+        Collection<SQLException> result = new LinkedList<>();
+        for (Connection each : connections.values()) {
             try {
-                each.close();
+                connectionCallback.execute(each);
             } catch (final SQLException ex) {
-                exceptions.add(ex);
+                result.add(ex);
             }
         }
-        throwSQLExceptionIfNecessary(exceptions);
+        return result;
+    }
+    
+    /**
+     * Get executor engine for committing, rolling back and closing cached connections in parallel.
+     * 
+     * @return executor engine, absent if cached connections should be operated serially
+     */
+    protected Optional<ExecutorEngine> getParallelExecutorEngine() {
+        return Optional.absent();
     }
     
     @Override
@@ -115,7 +145,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     public final void setReadOnly(final boolean readOnly) throws SQLException {
         this.readOnly = readOnly;
         recordMethodInvocation(Connection.class, "setReadOnly", new Class[] {boolean.class}, new Object[] {readOnly});
-        for (Connection each : cachedConnections.values()) {
+        for (Connection each : getAllCachedConnections().values()) {
             each.setReadOnly(readOnly);
         }
     }
@@ -129,11 +159,22 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     public final void setTransactionIsolation(final int level) throws SQLException {
         transactionIsolation = level;
         recordMethodInvocation(Connection.class, "setTransactionIsolation", new Class[] {int.class}, new Object[] {level});
-        for (Connection each : cachedConnections.values()) {
+        for (Connection each : getAllCachedConnections().values()) {
             each.setTransactionIsolation(level);
         }
     }
     
+    private Multimap<String, Connection> getAllCachedConnections() {
+        Multimap<String, Connection> result = LinkedListMultimap.create();
+        for (Entry<String, Connection> entry : cachedConnections.entrySet()) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        for (Entry<String, List<Connection>> entry : cachedParallelConnections.entrySet()) {
+            result.putAll(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+    
     // ------- Consist with MySQL driver implementation -------
     
     @Override
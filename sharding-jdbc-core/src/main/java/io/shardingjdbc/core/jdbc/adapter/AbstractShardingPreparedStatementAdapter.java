@@ -36,8 +36,10 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -321,6 +323,21 @@ public abstract class AbstractShardingPreparedStatementAdapter extends AbstractU
         }
     }
     
+    protected void replaySetParameter(final PreparedStatement preparedStatement, final List<Integer> parameterIndexes) {
+        addParameters();
+        Map<Integer, Integer> routedParameterIndexes = new HashMap<>(parameterIndexes.size(), 1);
+        for (int each : parameterIndexes) {
+            routedParameterIndexes.put(each + 1, routedParameterIndexes.size() + 1);
+        }
+        for (SetParameterMethodInvocation each : setParameterMethodInvocations) {
+            Integer routedParameterIndex = routedParameterIndexes.get(each.getIndex());
+            if (null != routedParameterIndex) {
+                updateParameterValues(each, parameters.get(each.getIndex() - 1));
+                each.invoke(preparedStatement, routedParameterIndex);
+            }
+        }
+    }
+    
     private void addParameters() {
         for (int i = setParameterMethodInvocations.size(); i < parameters.size(); i++) {
             recordSetParameter("setObject", new Class[]{int.class, Object.class}, i + 1, parameters.get(i));
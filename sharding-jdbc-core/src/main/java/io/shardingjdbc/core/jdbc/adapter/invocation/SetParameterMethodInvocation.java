@@ -48,4 +48,16 @@ public final class SetParameterMethodInvocation extends JdbcMethodInvocation {
     public void changeValueArgument(final Object value) {
         getArguments()[1] = value;
     }
+    
+    /**
+     * Invoke set parameter method with another parameter index.
+     * 
+     * @param target target object
+     * @param parameterIndex parameter index for target
+     */
+    public void invoke(final Object target, final int parameterIndex) {
+        Object[] arguments = getArguments().clone();
+        arguments[0] = parameterIndex;
+        invoke(target, arguments);
+    }
 }
@@ -17,18 +17,20 @@
 
 package io.shardingjdbc.core.jdbc.core;
 
+import io.shardingjdbc.core.constant.ShardingProperties;
+import io.shardingjdbc.core.constant.ShardingPropertiesConstant;
 import io.shardingjdbc.core.rule.ShardingRule;
 import io.shardingjdbc.core.constant.DatabaseType;
 import io.shardingjdbc.core.executor.ExecutorEngine;
+import io.shardingjdbc.core.metrics.ShardingMetrics;
+import io.shardingjdbc.core.parsing.cache.ParsingResultCache;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Sharding runtime context.
  * 
  * @author gaohongtao
  */
-@RequiredArgsConstructor
 @Getter
 public final class ShardingContext {
     
@@ -39,4 +41,34 @@ public final class ShardingContext {
     private final ExecutorEngine executorEngine;
     
     private final boolean showSQL;
+    
+    private final ParsingResultCache parsingResultCache;
+    
+    private final int maxConnectionsSizePerQuery;
+    
+    private final boolean streamMergeFirstReady;
+    
+    private final ShardingMetrics shardingMetrics;
+    
+    private final boolean parallelConnectionFinish;
+    
+    private final int memoryMergeMaxRows;
+    
+    private final boolean groupByStreamMerge;
+    
+    public ShardingContext(final ShardingRule shardingRule, final DatabaseType databaseType, final ExecutorEngine executorEngine, 
+                           final ShardingProperties shardingProperties, final ShardingMetrics shardingMetrics) {
+        this.shardingRule = shardingRule;
+        this.databaseType = databaseType;
+        this.executorEngine = executorEngine;
+        this.shardingMetrics = shardingMetrics;
+        showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
+        int parsingResultCacheSize = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE);
+        parsingResultCache = new ParsingResultCache(parsingResultCacheSize);
+        maxConnectionsSizePerQuery = shardingProperties.getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        streamMergeFirstReady = shardingProperties.getValue(ShardingPropertiesConstant.STREAM_MERGE_FIRST_READY);
+        parallelConnectionFinish = shardingProperties.getValue(ShardingPropertiesConstant.CONNECTION_PARALLEL_FINISH);
+        memoryMergeMaxRows = shardingProperties.getValue(ShardingPropertiesConstant.MEMORY_MERGE_MAX_ROWS);
+        groupByStreamMerge = shardingProperties.getValue(ShardingPropertiesConstant.GROUP_BY_STREAM_MERGE);
+    }
 }
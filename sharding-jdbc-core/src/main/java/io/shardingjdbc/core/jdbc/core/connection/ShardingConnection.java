@@ -17,8 +17,10 @@
 
 package io.shardingjdbc.core.jdbc.core.connection;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import io.shardingjdbc.core.constant.SQLType;
+import io.shardingjdbc.core.executor.ExecutorEngine;
 import io.shardingjdbc.core.hint.HintManagerHolder;
 import io.shardingjdbc.core.jdbc.adapter.AbstractConnectionAdapter;
 import io.shardingjdbc.core.jdbc.core.ShardingContext;
@@ -26,6 +28,7 @@ import io.shardingjdbc.core.jdbc.core.datasource.MasterSlaveDataSource;
 import io.shardingjdbc.core.jdbc.core.datasource.NamedDataSource;
 import io.shardingjdbc.core.jdbc.core.statement.ShardingPreparedStatement;
 import io.shardingjdbc.core.jdbc.core.statement.ShardingStatement;
+import io.shardingjdbc.core.routing.SQLExecutionUnit;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -35,9 +38,12 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -113,6 +119,66 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
         return result;
     }
     
+    /**
+     * Get database connections for SQL execution units.
+     * 
+     * <p>
+     * SQL execution units routed to same data source share the cached connection by default.
+     * If auto commit is enabled, at most {@code maxConnectionsSizePerQuery} connections will be used for one data source,
+     * and SQL execution units are assigned to them in turn.
+     * </p>
+     *
+     * @param sqlType SQL type
+     * @param sqlExecutionUnits SQL execution units
+     * @return database connections in the same order of SQL execution units
+     * @throws SQLException SQL exception
+     */
+    public List<Connection> getConnections(final SQLType sqlType, final Collection<SQLExecutionUnit> sqlExecutionUnits) throws SQLException {
+        Map<String, Integer> unitsCounts = new HashMap<>();
+        for (SQLExecutionUnit each : sqlExecutionUnits) {
+            Integer unitsCount = unitsCounts.get(each.getDataSource());
+            unitsCounts.put(each.getDataSource(), null == unitsCount ? 1 : unitsCount + 1);
+        }
+        Map<String, List<Connection>> dataSourceConnections = new HashMap<>(unitsCounts.size(), 1);
+        Map<String, Integer> assignedCounts = new HashMap<>(unitsCounts.size(), 1);
+        List<Connection> result = new ArrayList<>(sqlExecutionUnits.size());
+        for (SQLExecutionUnit each : sqlExecutionUnits) {
+            String dataSourceName = each.getDataSource();
+            List<Connection> connections = dataSourceConnections.get(dataSourceName);
+            if (null == connections) {
+                connections = getConnections(dataSourceName, sqlType, unitsCounts.get(dataSourceName));
+                dataSourceConnections.put(dataSourceName, connections);
+            }
+            int assignedCount = assignedCounts.containsKey(dataSourceName) ? assignedCounts.get(dataSourceName) : 0;
+            result.add(connections.get(assignedCount % connections.size()));
+            assignedCounts.put(dataSourceName, assignedCount + 1);
+        }
+        return result;
+    }
+    
+    private List<Connection> getConnections(final String dataSourceName, final SQLType sqlType, final int unitsCount) throws SQLException {
+        Connection connection = getConnection(dataSourceName, sqlType);
+        int connectionsSize = Math.min(unitsCount, shardingContext.getMaxConnectionsSizePerQuery());
+        DataSource dataSource = shardingContext.getShardingRule().getDataSourceMap().get(dataSourceName);
+        if (connectionsSize <= 1 || !getAutoCommit() || dataSource instanceof MasterSlaveDataSource) {
+            return Collections.singletonList(connection);
+        }
+        List<Connection> parallelConnections = getCachedParallelConnections().get(dataSourceName);
+        if (null == parallelConnections) {
+            parallelConnections = new ArrayList<>(connectionsSize - 1);
+            getCachedParallelConnections().put(dataSourceName, parallelConnections);
+        }
+        while (parallelConnections.size() < connectionsSize - 1) {
+            Connection parallelConnection = dataSource.getConnection();
+            replayMethodsInvocation(parallelConnection);
+            parallelConnections.add(parallelConnection);
+        }
+        List<Connection> result = new ArrayList<>(connectionsSize);
+        result.add(connection);
+        result.addAll(parallelConnections.subList(0, connectionsSize - 1));
+        return result;
+    }
+    
     /**
      * Release connection.
      *
@@ -120,12 +186,20 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
      */
     public void release(final Connection connection) {
         getCachedConnections().values().remove(connection);
+        for (List<Connection> each : getCachedParallelConnections().values()) {
+            each.remove(connection);
+        }
         try {
             connection.close();
         } catch (final SQLException ignored) {
         }
     }
     
+    @Override
+    protected Optional<ExecutorEngine> getParallelExecutorEngine() {
+        return shardingContext.isParallelConnectionFinish() ? Optional.fromNullable(shardingContext.getExecutorEngine()) : Optional.<ExecutorEngine>absent();
+    }
+    
     @Override
     public DatabaseMetaData getMetaData() throws SQLException {
         return getConnection(shardingContext.getShardingRule().getDataSourceMap().keySet().iterator().next(), SQLType.DQL).getMetaData();
@@ -21,15 +21,20 @@ import io.shardingjdbc.core.api.ConfigMapContext;
 import io.shardingjdbc.core.constant.ShardingProperties;
 import io.shardingjdbc.core.constant.ShardingPropertiesConstant;
 import io.shardingjdbc.core.executor.ExecutorEngine;
+import io.shardingjdbc.core.executor.backend.ExecutorBackendFactory;
+import io.shardingjdbc.core.executor.backend.ExecutorServiceBackend;
+import io.shardingjdbc.core.executor.limit.ExecutionLimiter;
 import io.shardingjdbc.core.jdbc.adapter.AbstractDataSourceAdapter;
 import io.shardingjdbc.core.jdbc.core.ShardingContext;
 import io.shardingjdbc.core.jdbc.core.connection.ShardingConnection;
+import io.shardingjdbc.core.metrics.ShardingMetrics;
 import io.shardingjdbc.core.rule.ShardingRule;
 
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Database that support sharding.
@@ -38,6 +43,15 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class ShardingDataSource extends AbstractDataSourceAdapter implements AutoCloseable {
     
+    private static final ShardingPropertiesConstant[] EXECUTOR_PROPERTIES = {ShardingPropertiesConstant.EXECUTOR_BACKEND, ShardingPropertiesConstant.EXECUTOR_SIZE, 
+        ShardingPropertiesConstant.EXECUTOR_DATA_SOURCE_SIZE, ShardingPropertiesConstant.EXECUTOR_DATA_SOURCE_QUEUE_SIZE, ShardingPropertiesConstant.EXECUTOR_DATA_SOURCE_REJECTED_POLICY, 
+        ShardingPropertiesConstant.EXECUTOR_MAX_PARALLELISM_PER_QUERY, ShardingPropertiesConstant.EXECUTOR_MAX_IN_FLIGHT, 
+        ShardingPropertiesConstant.EXECUTOR_ACQUIRE_TIMEOUT_MILLISECONDS};
+    
+    private final ExecutorService executorService;
+    
+    private final ShardingMetrics shardingMetrics = new ShardingMetrics(false);
+    
     private ShardingProperties shardingProperties;
     
     private ExecutorEngine executorEngine;
@@ -49,15 +63,19 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
     }
     
     public ShardingDataSource(final ShardingRule shardingRule, final Map<String, Object> configMap, final Properties props) throws SQLException {
+        this(shardingRule, configMap, props, null);
+    }
+    
+    public ShardingDataSource(final ShardingRule shardingRule, final Map<String, Object> configMap, final Properties props, final ExecutorService executorService) throws SQLException {
         super(shardingRule.getDataSourceMap().values());
+        this.executorService = executorService;
         if (!configMap.isEmpty()) {
             ConfigMapContext.getInstance().getShardingConfig().putAll(configMap);
         }
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
-        int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        executorEngine = new ExecutorEngine(executorSize);
-        boolean showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
-        shardingContext = new ShardingContext(shardingRule, getDatabaseType(), executorEngine, showSQL);
+        configureMetrics(shardingProperties);
+        executorEngine = createExecutorEngine(shardingProperties);
+        shardingContext = new ShardingContext(shardingRule, getDatabaseType(), executorEngine, shardingProperties, shardingMetrics);
     }
     
     /**
@@ -69,15 +87,41 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
      */
     public void renew(final ShardingRule newShardingRule, final Properties newProps) throws SQLException {
         ShardingProperties newShardingProperties = new ShardingProperties(null == newProps ? new Properties() : newProps);
-        int originalExecutorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        int newExecutorSize = newShardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        if (originalExecutorSize != newExecutorSize) {
+        configureMetrics(newShardingProperties);
+        if (isExecutorChanged(newShardingProperties)) {
             executorEngine.close();
-            executorEngine = new ExecutorEngine(newExecutorSize);
+            executorEngine = createExecutorEngine(newShardingProperties);
         }
-        boolean newShowSQL = newShardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
         shardingProperties = newShardingProperties;
-        shardingContext = new ShardingContext(newShardingRule, getDatabaseType(), executorEngine, newShowSQL);
+        shardingContext = new ShardingContext(newShardingRule, getDatabaseType(), executorEngine, newShardingProperties, shardingMetrics);
+    }
+    
+    private void configureMetrics(final ShardingProperties shardingProperties) {
+        boolean metricsEnabled = shardingProperties.getValue(ShardingPropertiesConstant.METRICS_ENABLE);
+        long slowSQLThresholdMilliseconds = shardingProperties.getValue(ShardingPropertiesConstant.SLOW_SQL_THRESHOLD_MILLISECONDS);
+        int slowSQLSampleSize = shardingProperties.getValue(ShardingPropertiesConstant.SLOW_SQL_SAMPLE_SIZE);
+        shardingMetrics.setEnabled(metricsEnabled);
+        shardingMetrics.getSlowSQLSampler().configure(slowSQLThresholdMilliseconds, slowSQLSampleSize);
+        if (metricsEnabled || shardingMetrics.getSlowSQLSampler().isEnabled()) {
+            shardingMetrics.registerMBean();
+        }
+    }
+    
+    private ExecutorEngine createExecutorEngine(final ShardingProperties shardingProperties) {
+        int maxParallelismPerQuery = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_PARALLELISM_PER_QUERY);
+        int maxInFlight = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_IN_FLIGHT);
+        long acquireTimeoutMillis = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_ACQUIRE_TIMEOUT_MILLISECONDS);
+        return new ExecutorEngine(null == executorService ? ExecutorBackendFactory.newExecutorBackend(shardingProperties) : new ExecutorServiceBackend(executorService), 
+                shardingMetrics, new ExecutionLimiter(maxParallelismPerQuery, maxInFlight, acquireTimeoutMillis));
+    }
+    
+    private boolean isExecutorChanged(final ShardingProperties newShardingProperties) {
+        for (ShardingPropertiesConstant each : EXECUTOR_PROPERTIES) {
+            if (!shardingProperties.getValue(each).equals(newShardingProperties.getValue(each))) {
+                return true;
+            }
+        }
+        return false;
     }
     
     @Override
@@ -88,5 +132,6 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
     @Override
     public void close() {
         executorEngine.close();
+        shardingMetrics.unregisterMBean();
     }
 }
@@ -17,25 +17,39 @@
 
 package io.shardingjdbc.core.jdbc.core.statement;
 
+import io.shardingjdbc.core.api.AsyncPreparedStatement;
 import io.shardingjdbc.core.constant.SQLType;
+import io.shardingjdbc.core.exception.ShardingJdbcException;
 import io.shardingjdbc.core.executor.type.batch.BatchPreparedStatementExecutor;
 import io.shardingjdbc.core.executor.type.batch.BatchPreparedStatementUnit;
 import io.shardingjdbc.core.executor.type.prepared.PreparedStatementExecutor;
 import io.shardingjdbc.core.executor.type.prepared.PreparedStatementUnit;
 import io.shardingjdbc.core.jdbc.adapter.AbstractShardingPreparedStatementAdapter;
+import io.shardingjdbc.core.jdbc.core.ShardingContext;
 import io.shardingjdbc.core.jdbc.core.connection.ShardingConnection;
 import io.shardingjdbc.core.jdbc.core.resultset.GeneratedKeysResultSet;
 import io.shardingjdbc.core.jdbc.core.resultset.ShardingResultSet;
 import io.shardingjdbc.core.merger.MergeEngine;
+import io.shardingjdbc.core.merger.ResultSetMerger;
+import io.shardingjdbc.core.merger.iterator.CompletionStreamResultSetMerger;
+import io.shardingjdbc.core.metrics.MetricsStage;
+import io.shardingjdbc.core.metrics.ShardingMetrics;
+import io.shardingjdbc.core.metrics.SlowSQLSampler;
 import io.shardingjdbc.core.parsing.parser.context.GeneratedKey;
 import io.shardingjdbc.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingjdbc.core.routing.PreparedStatementRoutingEngine;
 import io.shardingjdbc.core.routing.SQLExecutionUnit;
 import io.shardingjdbc.core.routing.SQLRouteResult;
+import io.shardingjdbc.core.util.SQLUtil;
+import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.AccessLevel;
 import lombok.Getter;
 
@@ -47,8 +61,12 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 
 /**
@@ -58,7 +76,7 @@ import java.util.Objects;
  * @author caohao
  */
 @Getter
-public final class ShardingPreparedStatement extends AbstractShardingPreparedStatementAdapter {
+public final class ShardingPreparedStatement extends AbstractShardingPreparedStatementAdapter implements AsyncPreparedStatement {
     
     private final ShardingConnection connection;
     
@@ -70,6 +88,9 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private final PreparedStatementRoutingEngine routingEngine;
     
+    @Getter(AccessLevel.NONE)
+    private final String sql;
+    
     private final List<BatchPreparedStatementUnit> batchStatementUnits = new LinkedList<>();
     
     private final List<List<Object>> parameterSets = new LinkedList<>();
@@ -83,7 +104,10 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     private SQLRouteResult routeResult;
     
     @Getter(AccessLevel.NONE)
-    private ResultSet currentResultSet;
+    private volatile ResultSet currentResultSet;
+    
+    @Getter(AccessLevel.NONE)
+    private String sqlFingerprint;
     
     public ShardingPreparedStatement(final ShardingConnection connection, final String sql) {
         this(connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
@@ -106,59 +130,203 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.resultSetConcurrency = resultSetConcurrency;
         this.resultSetHoldability = resultSetHoldability;
         routingEngine = new PreparedStatementRoutingEngine(sql, connection.getShardingContext());
+        this.sql = sql;
     }
     
     @Override
     public ResultSet executeQuery() throws SQLException {
         ResultSet result;
+        long startTime = System.nanoTime();
+        ResultSetMerger mergedResult = null;
+        ListenableFuture<List<ResultSet>> streamingExecution = null;
         try {
             Collection<PreparedStatementUnit> preparedStatementUnits = route();
-            List<ResultSet> resultSets = new PreparedStatementExecutor(
-                    getConnection().getShardingContext().getExecutorEngine(), routeResult.getSqlStatement().getType(), preparedStatementUnits, getParameters()).executeQuery();
-            result = new ShardingResultSet(resultSets, new MergeEngine(resultSets, (SelectStatement) routeResult.getSqlStatement()).merge());
+            PreparedStatementExecutor preparedStatementExecutor = new PreparedStatementExecutor(
+                    getConnection().getShardingContext().getExecutorEngine(), routeResult.getSqlStatement().getType(), preparedStatementUnits, getParameters());
+            SelectStatement selectStatement = (SelectStatement) routeResult.getSqlStatement();
+            if (isStreamMergeFirstReady(selectStatement)) {
+                List<ListenableFuture<ResultSet>> resultSetFutures = preparedStatementExecutor.executeQueryStreaming();
+                streamingExecution = Futures.successfulAsList(resultSetFutures);
+                CompletionStreamResultSetMerger resultSetMerger = new CompletionStreamResultSetMerger(resultSetFutures, getStatements(preparedStatementUnits));
+                long mergeStartTime = System.nanoTime();
+                mergedResult = new MergeEngine(resultSetMerger.getResultSets(), selectStatement).merge(resultSetMerger);
+                recordStage(MetricsStage.MERGE, mergeStartTime);
+                result = new ShardingResultSet(resultSetMerger.getResultSets(), mergedResult);
+            } else {
+                List<ResultSet> resultSets = preparedStatementExecutor.executeQuery();
+                long mergeStartTime = System.nanoTime();
+                mergedResult = createMergeEngine(resultSets, selectStatement).merge();
+                recordStage(MetricsStage.MERGE, mergeStartTime);
+                result = new ShardingResultSet(resultSets, mergedResult);
+            }
         } finally {
             clearBatch();
+            if (null == streamingExecution) {
+                recordTotal(routeResult, startTime, mergedResult);
+            } else {
+                recordTotalOnComplete(streamingExecution, startTime, mergedResult);
+            }
         }
         currentResultSet = result;
         return result;
     }
     
+    private List<PreparedStatement> getStatements(final Collection<PreparedStatementUnit> preparedStatementUnits) {
+        List<PreparedStatement> result = new ArrayList<>(preparedStatementUnits.size());
+        for (PreparedStatementUnit each : preparedStatementUnits) {
+            result.add(each.getStatement());
+        }
+        return result;
+    }
+    
+    private MergeEngine createMergeEngine(final List<ResultSet> resultSets, final SelectStatement selectStatement) throws SQLException {
+        ShardingContext shardingContext = getConnection().getShardingContext();
+        return new MergeEngine(resultSets, selectStatement, shardingContext.getMemoryMergeMaxRows(), shardingContext.isGroupByStreamMerge());
+    }
+    
+    private boolean isStreamMergeFirstReady(final SelectStatement selectStatement) {
+        return getConnection().getShardingContext().isStreamMergeFirstReady() && routeResult.getExecutionUnits().size() > 1 && selectStatement.isMergedByIterator();
+    }
+    
     @Override
     public int executeUpdate() throws SQLException {
+        long startTime = System.nanoTime();
         try {
             Collection<PreparedStatementUnit> preparedStatementUnits = route();
             return new PreparedStatementExecutor(
                     getConnection().getShardingContext().getExecutorEngine(), routeResult.getSqlStatement().getType(), preparedStatementUnits, getParameters()).executeUpdate();
         } finally {
             clearBatch();
+            recordTotal(routeResult, startTime, null);
         }
     }
     
     @Override
     public boolean execute() throws SQLException {
+        long startTime = System.nanoTime();
         try {
             Collection<PreparedStatementUnit> preparedStatementUnits = route();
             return new PreparedStatementExecutor(
                     getConnection().getShardingContext().getExecutorEngine(), routeResult.getSqlStatement().getType(), preparedStatementUnits, getParameters()).execute();
+        } finally {
+            clearBatch();
+            recordTotal(routeResult, startTime, null);
+        }
+    }
+    
+    private void recordTotal(final SQLRouteResult sqlRouteResult, final long startTime, final ResultSetMerger resultSetMerger) {
+        recordStage(MetricsStage.TOTAL, startTime);
+        SlowSQLSampler slowSQLSampler = getConnection().getShardingContext().getShardingMetrics().getSlowSQLSampler();
+        if (null != sqlRouteResult && slowSQLSampler.isEnabled()) {
+            slowSQLSampler.sample(sql, sqlRouteResult.getRoutingResultType(), sqlRouteResult.getExecutionUnits(), resultSetMerger, startTime);
+        }
+    }
+    
+    private void recordTotalOnComplete(final ListenableFuture<?> execution, final long startTime, final ResultSetMerger resultSetMerger) {
+        final SQLRouteResult executedRouteResult = routeResult;
+        execution.addListener(new Runnable() {
+            
+            @Override
+            public void run() {
+                recordTotal(executedRouteResult, startTime, resultSetMerger);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+    
+    private void recordStage(final MetricsStage stage, final long startTime) {
+        ShardingMetrics shardingMetrics = getConnection().getShardingContext().getShardingMetrics();
+        if (!shardingMetrics.isEnabled()) {
+            return;
+        }
+        if (null == sqlFingerprint) {
+            sqlFingerprint = SQLUtil.getFingerprint(sql);
+        }
+        shardingMetrics.recordStage(stage, sqlFingerprint, startTime);
+    }
+    
+    @Override
+    public ListenableFuture<ResultSet> executeQueryAsync() throws SQLException {
+        final long startTime = System.nanoTime();
+        ListenableFuture<List<ResultSet>> resultSetsFuture;
+        final SelectStatement selectStatement;
+        try {
+            Collection<PreparedStatementUnit> preparedStatementUnits = route();
+            selectStatement = (SelectStatement) routeResult.getSqlStatement();
+            resultSetsFuture = new PreparedStatementExecutor(getConnection().getShardingContext().getExecutorEngine(), 
+                    selectStatement.getType(), preparedStatementUnits, new ArrayList<>(getParameters())).executeQueryAsync();
+        } catch (final SQLException | RuntimeException ex) {
+            recordTotal(routeResult, startTime, null);
+            throw ex;
         } finally {
             clearBatch();
         }
+        final SQLRouteResult executedRouteResult = routeResult;
+        ListenableFuture<ResultSet> result = Futures.transform(resultSetsFuture, new Function<List<ResultSet>, ResultSet>() {
+            
+            @Override
+            public ResultSet apply(final List<ResultSet> resultSets) {
+                long mergeStartTime = System.nanoTime();
+                ResultSetMerger mergedResult;
+                ResultSet result;
+                try {
+                    mergedResult = createMergeEngine(resultSets, selectStatement).merge();
+                    result = new ShardingResultSet(resultSets, mergedResult);
+                } catch (final SQLException ex) {
+                    throw new ShardingJdbcException(ex);
+                }
+                recordStage(MetricsStage.MERGE, mergeStartTime);
+                recordTotal(executedRouteResult, startTime, mergedResult);
+                currentResultSet = result;
+                return result;
+            }
+        });
+        Futures.addCallback(result, new FutureCallback<ResultSet>() {
+            
+            @Override
+            public void onSuccess(final ResultSet resultSet) {
+            }
+            
+            @Override
+            public void onFailure(final Throwable throwable) {
+                recordTotal(executedRouteResult, startTime, null);
+            }
+        });
+        return result;
+    }
+    
+    @Override
+    public ListenableFuture<Integer> executeUpdateAsync() throws SQLException {
+        long startTime = System.nanoTime();
+        ListenableFuture<Integer> result;
+        try {
+            Collection<PreparedStatementUnit> preparedStatementUnits = route();
+            result = new PreparedStatementExecutor(getConnection().getShardingContext().getExecutorEngine(), 
+                    routeResult.getSqlStatement().getType(), preparedStatementUnits, new ArrayList<>(getParameters())).executeUpdateAsync();
+        } catch (final SQLException | RuntimeException ex) {
+            recordTotal(routeResult, startTime, null);
+            throw ex;
+        } finally {
+            clearBatch();
+        }
+        recordTotalOnComplete(result, startTime, null);
+        return result;
     }
     
     private Collection<PreparedStatementUnit> route() throws SQLException {
         Collection<PreparedStatementUnit> result = new LinkedList<>();
         routeResult = routingEngine.route(getParameters());
+        SQLType sqlType = routeResult.getSqlStatement().getType();
+        Iterator<Connection> routedConnections = SQLType.DDL == sqlType ? null : getConnection().getConnections(sqlType, routeResult.getExecutionUnits()).iterator();
         for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
-            SQLType sqlType = routeResult.getSqlStatement().getType();
             Collection<PreparedStatement> preparedStatements;
             if (SQLType.DDL == sqlType) {
                 preparedStatements = generatePreparedStatementForDDL(each);
             } else {
-                preparedStatements = Collections.singletonList(generatePreparedStatement(each));
+                preparedStatements = Collections.singletonList(generatePreparedStatement(routedConnections.next(), each));
             }
             routedStatements.addAll(preparedStatements);
             for (PreparedStatement preparedStatement : preparedStatements) {
-                replaySetParameter(preparedStatement);
+                replaySetParameter(preparedStatement, each);
                 result.add(new PreparedStatementUnit(each, preparedStatement));
             }
         }
@@ -175,11 +343,22 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     }
     
     private PreparedStatement generatePreparedStatement(final SQLExecutionUnit sqlExecutionUnit) throws SQLException {
-        Connection connection = getConnection().getConnection(sqlExecutionUnit.getDataSource(), routeResult.getSqlStatement().getType());
+        return generatePreparedStatement(getConnection().getConnection(sqlExecutionUnit.getDataSource(), routeResult.getSqlStatement().getType()), sqlExecutionUnit);
+    }
+    
+    private PreparedStatement generatePreparedStatement(final Connection connection, final SQLExecutionUnit sqlExecutionUnit) throws SQLException {
         return returnGeneratedKeys ? connection.prepareStatement(sqlExecutionUnit.getSql(), Statement.RETURN_GENERATED_KEYS)
                 : connection.prepareStatement(sqlExecutionUnit.getSql(), resultSetType, resultSetConcurrency, resultSetHoldability);
     }
     
+    private void replaySetParameter(final PreparedStatement preparedStatement, final SQLExecutionUnit sqlExecutionUnit) {
+        if (sqlExecutionUnit.isPartOfParameters()) {
+            replaySetParameter(preparedStatement, sqlExecutionUnit.getParameterIndexes());
+        } else {
+            replaySetParameter(preparedStatement);
+        }
+    }
+    
     @Override
     public void clearBatch() throws SQLException {
         currentResultSet = null;
@@ -191,9 +370,9 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     @Override
     public void addBatch() throws SQLException {
         try {
-            for (BatchPreparedStatementUnit each : routeBatch()) {
-                each.getStatement().addBatch();
-                each.mapAddBatchCount(parameterSets.size());
+            for (Entry<BatchPreparedStatementUnit, SQLExecutionUnit> entry : routeBatch().entrySet()) {
+                entry.getKey().getStatement().addBatch();
+                entry.getKey().mapAddBatchCount(parameterSets.size(), entry.getValue());
             }
             parameterSets.add(getParameters());
         } finally {
@@ -202,13 +381,13 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
     }
     
-    private List<BatchPreparedStatementUnit> routeBatch() throws SQLException {
-        List<BatchPreparedStatementUnit> result = new ArrayList<>();
+    private Map<BatchPreparedStatementUnit, SQLExecutionUnit> routeBatch() throws SQLException {
+        Map<BatchPreparedStatementUnit, SQLExecutionUnit> result = new LinkedHashMap<>();
         routeResult = routingEngine.route(getParameters());
         for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
             BatchPreparedStatementUnit batchStatementUnit = getPreparedBatchStatement(each);
-            replaySetParameter(batchStatementUnit.getStatement());
-            result.add(batchStatementUnit);
+            replaySetParameter(batchStatementUnit.getStatement(), each);
+            result.put(batchStatementUnit, each);
         }
         return result;
     }
@@ -231,14 +410,29 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     @Override
     public int[] executeBatch() throws SQLException {
+        long startTime = System.nanoTime();
         try {
             return new BatchPreparedStatementExecutor(getConnection().getShardingContext().getExecutorEngine(), 
                     getConnection().getShardingContext().getDatabaseType(), routeResult.getSqlStatement().getType(), batchStatementUnits, parameterSets).executeBatch();
         } finally {
+            recordBatchTotal(startTime);
             clearBatch();
         }
     }
     
+    private void recordBatchTotal(final long startTime) {
+        recordStage(MetricsStage.TOTAL, startTime);
+        SlowSQLSampler slowSQLSampler = getConnection().getShardingContext().getShardingMetrics().getSlowSQLSampler();
+        if (null == routeResult || !slowSQLSampler.isEnabled()) {
+            return;
+        }
+        Collection<SQLExecutionUnit> executionUnits = new LinkedList<>();
+        for (BatchPreparedStatementUnit each : batchStatementUnits) {
+            executionUnits.add(each.getSqlExecutionUnit());
+        }
+        slowSQLSampler.sample(sql, routeResult.getRoutingResultType(), executionUnits, null, startTime);
+    }
+    
     @Override
     public ResultSet getGeneratedKeys() throws SQLException {
         Optional<GeneratedKey> generatedKey = getGeneratedKey();
@@ -271,7 +465,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         for (PreparedStatement each : routedStatements) {
             resultSets.add(each.getResultSet());
         }
-        currentResultSet = new ShardingResultSet(resultSets, new MergeEngine(resultSets, (SelectStatement) routeResult.getSqlStatement()).merge());
+        currentResultSet = new ShardingResultSet(resultSets, createMergeEngine(resultSets, (SelectStatement) routeResult.getSqlStatement()).merge());
         return currentResultSet;
     }
 }
@@ -21,17 +21,27 @@ import io.shardingjdbc.core.constant.SQLType;
 import io.shardingjdbc.core.executor.type.statement.StatementExecutor;
 import io.shardingjdbc.core.executor.type.statement.StatementUnit;
 import io.shardingjdbc.core.jdbc.adapter.AbstractStatementAdapter;
+import io.shardingjdbc.core.jdbc.core.ShardingContext;
 import io.shardingjdbc.core.jdbc.core.connection.ShardingConnection;
 import io.shardingjdbc.core.jdbc.core.resultset.GeneratedKeysResultSet;
 import io.shardingjdbc.core.jdbc.core.resultset.ShardingResultSet;
 import io.shardingjdbc.core.merger.MergeEngine;
+import io.shardingjdbc.core.merger.ResultSetMerger;
+import io.shardingjdbc.core.merger.iterator.CompletionStreamResultSetMerger;
+import io.shardingjdbc.core.metrics.MetricsStage;
+import io.shardingjdbc.core.metrics.ShardingMetrics;
+import io.shardingjdbc.core.metrics.SlowSQLSampler;
 import io.shardingjdbc.core.parsing.parser.context.GeneratedKey;
 import io.shardingjdbc.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingjdbc.core.routing.SQLExecutionUnit;
 import io.shardingjdbc.core.routing.SQLRouteResult;
 import io.shardingjdbc.core.routing.StatementRoutingEngine;
+import io.shardingjdbc.core.util.SQLUtil;
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.AccessLevel;
 import lombok.Getter;
 
@@ -42,6 +52,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -93,23 +104,56 @@ public class ShardingStatement extends AbstractStatementAdapter {
     @Override
     public ResultSet executeQuery(final String sql) throws SQLException {
         ResultSet result;
+        long startTime = System.nanoTime();
+        ResultSetMerger mergedResult = null;
+        ListenableFuture<List<ResultSet>> streamingExecution = null;
         try {
-            List<ResultSet> resultSets = generateExecutor(sql).executeQuery();
-            result = new ShardingResultSet(
-                    resultSets, new MergeEngine(resultSets, (SelectStatement) routeResult.getSqlStatement()).merge());
+            StatementExecutor statementExecutor = generateExecutor(sql);
+            SelectStatement selectStatement = (SelectStatement) routeResult.getSqlStatement();
+            if (isStreamMergeFirstReady(selectStatement)) {
+                List<ListenableFuture<ResultSet>> resultSetFutures = statementExecutor.executeQueryStreaming();
+                streamingExecution = Futures.successfulAsList(resultSetFutures);
+                CompletionStreamResultSetMerger resultSetMerger = new CompletionStreamResultSetMerger(resultSetFutures, new ArrayList<>(routedStatements));
+                long mergeStartTime = System.nanoTime();
+                mergedResult = new MergeEngine(resultSetMerger.getResultSets(), selectStatement).merge(resultSetMerger);
+                recordStage(MetricsStage.MERGE, sql, mergeStartTime);
+                result = new ShardingResultSet(resultSetMerger.getResultSets(), mergedResult);
+            } else {
+                List<ResultSet> resultSets = statementExecutor.executeQuery();
+                long mergeStartTime = System.nanoTime();
+                mergedResult = createMergeEngine(resultSets, selectStatement).merge();
+                recordStage(MetricsStage.MERGE, sql, mergeStartTime);
+                result = new ShardingResultSet(resultSets, mergedResult);
+            }
         } finally {
             currentResultSet = null;
+            if (null == streamingExecution) {
+                recordTotal(sql, startTime, mergedResult);
+            } else {
+                recordTotalOnComplete(streamingExecution, sql, startTime, mergedResult);
+            }
         }
         currentResultSet = result;
         return result;
     }
     
+    private MergeEngine createMergeEngine(final List<ResultSet> resultSets, final SelectStatement selectStatement) throws SQLException {
+        ShardingContext shardingContext = connection.getShardingContext();
+        return new MergeEngine(resultSets, selectStatement, shardingContext.getMemoryMergeMaxRows(), shardingContext.isGroupByStreamMerge());
+    }
+    
+    private boolean isStreamMergeFirstReady(final SelectStatement selectStatement) {
+        return connection.getShardingContext().isStreamMergeFirstReady() && routeResult.getExecutionUnits().size() > 1 && selectStatement.isMergedByIterator();
+    }
+    
     @Override
     public int executeUpdate(final String sql) throws SQLException {
+        long startTime = System.nanoTime();
         try {
             return generateExecutor(sql).executeUpdate();
         } finally {
             currentResultSet = null;
+            recordTotal(sql, startTime, null);
         }
     }
     
@@ -118,39 +162,47 @@ public class ShardingStatement extends AbstractStatementAdapter {
         if (RETURN_GENERATED_KEYS == autoGeneratedKeys) {
             returnGeneratedKeys = true;
         }
+        long startTime = System.nanoTime();
         try {
             return generateExecutor(sql).executeUpdate(autoGeneratedKeys);
         } finally {
             currentResultSet = null;
+            recordTotal(sql, startTime, null);
         }
     }
     
     @Override
     public int executeUpdate(final String sql, final int[] columnIndexes) throws SQLException {
         returnGeneratedKeys = true;
+        long startTime = System.nanoTime();
         try {
             return generateExecutor(sql).executeUpdate(columnIndexes);
         } finally {
             currentResultSet = null;
+            recordTotal(sql, startTime, null);
         }
     }
     
     @Override
     public int executeUpdate(final String sql, final String[] columnNames) throws SQLException {
         returnGeneratedKeys = true;
+        long startTime = System.nanoTime();
         try {
             return generateExecutor(sql).executeUpdate(columnNames);
         } finally {
             currentResultSet = null;
+            recordTotal(sql, startTime, null);
         }
     }
     
     @Override
     public boolean execute(final String sql) throws SQLException {
+        long startTime = System.nanoTime();
         try {
             return generateExecutor(sql).execute();
         } finally {
             currentResultSet = null;
+            recordTotal(sql, startTime, null);
         }
     }
     
@@ -159,30 +211,66 @@ public class ShardingStatement extends AbstractStatementAdapter {
         if (RETURN_GENERATED_KEYS == autoGeneratedKeys) {
             returnGeneratedKeys = true;
         }
+        long startTime = System.nanoTime();
         try {
             return generateExecutor(sql).execute(autoGeneratedKeys);
         } finally {
             currentResultSet = null;
+            recordTotal(sql, startTime, null);
         }
     }
     
     @Override
     public boolean execute(final String sql, final int[] columnIndexes) throws SQLException {
         returnGeneratedKeys = true;
+        long startTime = System.nanoTime();
         try {
             return generateExecutor(sql).execute(columnIndexes);
         } finally {
             currentResultSet = null;
+            recordTotal(sql, startTime, null);
         }
     }
     
     @Override
     public boolean execute(final String sql, final String[] columnNames) throws SQLException {
         returnGeneratedKeys = true;
+        long startTime = System.nanoTime();
         try {
             return generateExecutor(sql).execute(columnNames);
         } finally {
             currentResultSet = null;
+            recordTotal(sql, startTime, null);
+        }
+    }
+    
+    private void recordTotal(final String sql, final long startTime, final ResultSetMerger resultSetMerger) {
+        recordTotal(sql, routeResult, startTime, resultSetMerger);
+    }
+    
+    private void recordTotal(final String sql, final SQLRouteResult sqlRouteResult, final long startTime, final ResultSetMerger resultSetMerger) {
+        recordStage(MetricsStage.TOTAL, sql, startTime);
+        SlowSQLSampler slowSQLSampler = connection.getShardingContext().getShardingMetrics().getSlowSQLSampler();
+        if (null != sqlRouteResult && slowSQLSampler.isEnabled()) {
+            slowSQLSampler.sample(sql, sqlRouteResult.getRoutingResultType(), sqlRouteResult.getExecutionUnits(), resultSetMerger, startTime);
+        }
+    }
+    
+    private void recordTotalOnComplete(final ListenableFuture<?> execution, final String sql, final long startTime, final ResultSetMerger resultSetMerger) {
+        final SQLRouteResult executedRouteResult = routeResult;
+        execution.addListener(new Runnable() {
+            
+            @Override
+            public void run() {
+                recordTotal(sql, executedRouteResult, startTime, resultSetMerger);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+    
+    private void recordStage(final MetricsStage stage, final String sql, final long startTime) {
+        ShardingMetrics shardingMetrics = connection.getShardingContext().getShardingMetrics();
+        if (shardingMetrics.isEnabled()) {
+            shardingMetrics.recordStage(stage, SQLUtil.getFingerprint(sql), startTime);
         }
     }
     
@@ -190,13 +278,14 @@ public class ShardingStatement extends AbstractStatementAdapter {
         clearPrevious();
         routeResult = new StatementRoutingEngine(connection.getShardingContext()).route(sql);
         Collection<StatementUnit> statementUnits = new LinkedList<>();
+        SQLType sqlType = routeResult.getSqlStatement().getType();
+        Iterator<Connection> routedConnections = SQLType.DDL == sqlType ? null : connection.getConnections(sqlType, routeResult.getExecutionUnits()).iterator();
         for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
             Collection<Connection> connections;
-            SQLType sqlType = routeResult.getSqlStatement().getType();
             if (SQLType.DDL == sqlType) {
                 connections = connection.getAllConnections(each.getDataSource());
             } else {
-                connections = Collections.singletonList(connection.getConnection(each.getDataSource(), routeResult.getSqlStatement().getType()));
+                connections = Collections.singletonList(routedConnections.next());
             }
             for (Connection connection : connections) {
                 Statement statement = connection.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
@@ -247,7 +336,7 @@ public class ShardingStatement extends AbstractStatementAdapter {
         for (Statement each : routedStatements) {
             resultSets.add(each.getResultSet());
         }
-        currentResultSet = new ShardingResultSet(resultSets, new MergeEngine(resultSets, (SelectStatement) routeResult.getSqlStatement()).merge());
+        currentResultSet = new ShardingResultSet(resultSets, createMergeEngine(resultSets, (SelectStatement) routeResult.getSqlStatement()).merge());
         return currentResultSet;
     }
 }
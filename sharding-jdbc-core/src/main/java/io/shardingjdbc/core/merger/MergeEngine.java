@@ -17,11 +17,14 @@
 
 package io.shardingjdbc.core.merger;
 
+import com.google.common.base.Preconditions;
 import io.shardingjdbc.core.merger.groupby.GroupByMemoryResultSetMerger;
 import io.shardingjdbc.core.merger.groupby.GroupByStreamResultSetMerger;
+import io.shardingjdbc.core.merger.groupby.GroupByTopNResultSetMerger;
 import io.shardingjdbc.core.merger.iterator.IteratorStreamResultSetMerger;
 import io.shardingjdbc.core.merger.limit.LimitDecoratorResultSetMerger;
 import io.shardingjdbc.core.merger.orderby.OrderByStreamResultSetMerger;
+import io.shardingjdbc.core.parsing.parser.context.limit.Limit;
 import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingjdbc.core.util.SQLUtil;
 
@@ -43,11 +46,25 @@ public final class MergeEngine {
     
     private final SelectStatement selectStatement;
     
+    private final int memoryMergeMaxRows;
+    
+    private final boolean groupByStreamMerge;
+    
     private final Map<String, Integer> columnLabelIndexMap;
     
     public MergeEngine(final List<ResultSet> resultSets, final SelectStatement selectStatement) throws SQLException {
+        this(resultSets, selectStatement, 0);
+    }
+    
+    public MergeEngine(final List<ResultSet> resultSets, final SelectStatement selectStatement, final int memoryMergeMaxRows) throws SQLException {
+        this(resultSets, selectStatement, memoryMergeMaxRows, false);
+    }
+    
+    public MergeEngine(final List<ResultSet> resultSets, final SelectStatement selectStatement, final int memoryMergeMaxRows, final boolean groupByStreamMerge) throws SQLException {
         this.resultSets = resultSets;
         this.selectStatement = selectStatement;
+        this.memoryMergeMaxRows = memoryMergeMaxRows;
+        this.groupByStreamMerge = groupByStreamMerge;
         columnLabelIndexMap = getColumnLabelIndexMap(resultSets.get(0));
     }
     
@@ -71,13 +88,33 @@ public final class MergeEngine {
         return decorate(build());
     }
     
+    /**
+     * Merge result sets with specified merger.
+     * 
+     * <p>
+     * Only decorate merger of iterator, such as merger which merges result sets in order of completion.
+     * </p>
+     *
+     * @param iteratorResultSetMerger result set merger for iterator
+     * @return merged result set.
+     * @throws SQLException SQL exception
+     */
+    public ResultSetMerger merge(final ResultSetMerger iteratorResultSetMerger) throws SQLException {
+        Preconditions.checkState(selectStatement.isMergedByIterator(), "Result sets cannot be merged by iterator.");
+        selectStatement.setIndexForItems(columnLabelIndexMap);
+        return decorate(iteratorResultSetMerger);
+    }
+    
     private ResultSetMerger build() throws SQLException {
         if (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) {
             if (selectStatement.isSameGroupByAndOrderByItems()) {
                 return new GroupByStreamResultSetMerger(columnLabelIndexMap, resultSets, selectStatement);
-            } else {
-                return new GroupByMemoryResultSetMerger(columnLabelIndexMap, resultSets, selectStatement);
             }
+            if (groupByStreamMerge && selectStatement.isOrderByRewritableToGroupBy()) {
+                return new GroupByTopNResultSetMerger(columnLabelIndexMap, new GroupByStreamResultSetMerger(columnLabelIndexMap, resultSets, selectStatement), 
+                        selectStatement.getOrderByItems(), getTopSize(selectStatement.getLimit()), resultSets.get(0).getMetaData().getColumnCount());
+            }
+            return new GroupByMemoryResultSetMerger(columnLabelIndexMap, resultSets, selectStatement, memoryMergeMaxRows);
         }
         if (!selectStatement.getOrderByItems().isEmpty()) {
             return new OrderByStreamResultSetMerger(resultSets, selectStatement.getOrderByItems());
@@ -85,6 +122,11 @@ public final class MergeEngine {
         return new IteratorStreamResultSetMerger(resultSets);
     }
     
+    private int getTopSize(final Limit limit) {
+        long result = limit.isRowCountRewriteFlag() ? (long) limit.getOffsetValue() + limit.getRowCountValue() : limit.getRowCountValue();
+        return (int) Math.min(result, Integer.MAX_VALUE);
+    }
+    
     private ResultSetMerger decorate(final ResultSetMerger resultSetMerger) throws SQLException {
         ResultSetMerger result = resultSetMerger;
         if (null != selectStatement.getLimit()) {
@@ -105,4 +105,9 @@ public interface ResultSetMerger {
      * @throws SQLException SQL Exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Release resources held by merger, such as temp files of spilled rows.
+     */
+    void close();
 }
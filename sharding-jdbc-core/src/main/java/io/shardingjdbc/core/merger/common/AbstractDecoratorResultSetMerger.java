@@ -70,4 +70,9 @@ public abstract class AbstractDecoratorResultSetMerger implements ResultSetMerge
     public boolean wasNull() throws SQLException {
         return resultSetMerger.wasNull();
     }
+    
+    @Override
+    public void close() {
+        resultSetMerger.close();
+    }
 }
@@ -45,14 +45,34 @@ public abstract class AbstractMemoryResultSetMerger implements ResultSetMerger {
     @Setter
     private MemoryResultSetRow currentResultSetRow;
     
+    private MemoryResultSetBatch currentBatch;
+    
+    private int currentBatchRowIndex;
+    
     private boolean wasNull;
     
+    /**
+     * Set current row of memory result set batch.
+     * 
+     * @param batch memory result set batch
+     * @param rowIndex row index of batch
+     */
+    protected final void setCurrentBatchRow(final MemoryResultSetBatch batch, final int rowIndex) {
+        currentResultSetRow = null;
+        currentBatch = batch;
+        currentBatchRowIndex = rowIndex;
+    }
+    
+    private Object getCurrentCell(final int columnIndex) {
+        return null == currentResultSetRow ? currentBatch.getCell(currentBatchRowIndex, columnIndex) : currentResultSetRow.getCell(columnIndex);
+    }
+    
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
         if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
             throw new SQLFeatureNotSupportedException();
         }
-        Object result = currentResultSetRow.getCell(columnIndex);
+        Object result = getCurrentCell(columnIndex);
         wasNull = null == result;
         return result;
     }
@@ -62,7 +82,7 @@ public abstract class AbstractMemoryResultSetMerger implements ResultSetMerger {
         if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
             throw new SQLFeatureNotSupportedException();
         }
-        Object result =  currentResultSetRow.getCell(labelAndIndexMap.containsKey(columnLabel) ? labelAndIndexMap.get(columnLabel) : labelAndIndexMap.get(SQLUtil.getExactlyValue(columnLabel)));
+        Object result = getCurrentCell(labelAndIndexMap.containsKey(columnLabel) ? labelAndIndexMap.get(columnLabel) : labelAndIndexMap.get(SQLUtil.getExactlyValue(columnLabel)));
         wasNull = null == result;
         return result;
     }
@@ -70,7 +90,7 @@ public abstract class AbstractMemoryResultSetMerger implements ResultSetMerger {
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         // TODO 时间相关取值未实现calendar模式
-        Object result = currentResultSetRow.getCell(columnIndex);
+        Object result = getCurrentCell(columnIndex);
         wasNull = null == result;
         return result;
     }
@@ -78,7 +98,7 @@ public abstract class AbstractMemoryResultSetMerger implements ResultSetMerger {
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
         // TODO 时间相关取值未实现calendar模式
-        Object result = currentResultSetRow.getCell(labelAndIndexMap.get(columnLabel));
+        Object result = getCurrentCell(labelAndIndexMap.get(columnLabel));
         wasNull = null == result;
         return result;
     }
@@ -97,4 +117,8 @@ public abstract class AbstractMemoryResultSetMerger implements ResultSetMerger {
     public boolean wasNull() throws SQLException {
         return wasNull;
     }
+    
+    @Override
+    public void close() {
+    }
 }
@@ -219,4 +219,8 @@ public abstract class AbstractStreamResultSetMerger implements ResultSetMerger {
     public boolean wasNull() throws SQLException {
         return wasNull;
     }
+    
+    @Override
+    public void close() {
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.common;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Column vector of memory result set batch.
+ * 
+ * <p>
+ * Values of one column are stored in primitive array if all not null values are same integral, floating point or decimal type,
+ * in dictionary if all not null values are string, otherwise in object array.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+abstract class ColumnVector {
+    
+    /**
+     * Create empty column vector by types of values in one column.
+     * 
+     * @param rows memory result set rows
+     * @param columnIndex column index
+     * @return column vector, values should be loaded by {@code set} and {@code complete}
+     */
+    static ColumnVector create(final List<MemoryResultSetRow> rows, final int columnIndex) {
+        return newInstance(getValueClass(rows, columnIndex), rows, columnIndex);
+    }
+    
+    private static Class<?> getValueClass(final List<MemoryResultSetRow> rows, final int columnIndex) {
+        Class<?> result = null;
+        for (MemoryResultSetRow each : rows) {
+            Object value = each.getCell(columnIndex);
+            if (null == value) {
+                continue;
+            }
+            if (null == result) {
+                result = value.getClass();
+            } else if (result != value.getClass()) {
+                return Object.class;
+            }
+        }
+        return null == result ? Object.class : result;
+    }
+    
+    private static ColumnVector newInstance(final Class<?> valueClass, final List<MemoryResultSetRow> rows, final int columnIndex) {
+        int size = rows.size();
+        if (Long.class == valueClass || Integer.class == valueClass || Short.class == valueClass || Byte.class == valueClass) {
+            return new LongColumnVector(valueClass, size);
+        }
+        if (Double.class == valueClass || Float.class == valueClass) {
+            return new DoubleColumnVector(valueClass, size);
+        }
+        if (BigDecimal.class == valueClass && DecimalColumnVector.isCompactable(rows, columnIndex)) {
+            return new DecimalColumnVector(size);
+        }
+        if (String.class == valueClass) {
+            return new DictionaryColumnVector(size);
+        }
+        return new ObjectColumnVector(size);
+    }
+    
+    /**
+     * Set value.
+     * 
+     * @param rowIndex row index
+     * @param value value
+     */
+    abstract void set(int rowIndex, Object value);
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index
+     * @return value, type of value is same with the value set
+     */
+    abstract Object get(int rowIndex);
+    
+    /**
+     * Release resources only used for loading values.
+     */
+    void complete() {
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.common;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Column vector for decimal values whose unscaled value fits in long.
+ * 
+ * @author zhangliang
+ */
+final class DecimalColumnVector extends ColumnVector {
+    
+    private final long[] unscaledValues;
+    
+    private final int[] scales;
+    
+    private final BitSet nulls;
+    
+    DecimalColumnVector(final int size) {
+        unscaledValues = new long[size];
+        scales = new int[size];
+        nulls = new BitSet(size);
+    }
+    
+    static boolean isCompactable(final List<MemoryResultSetRow> rows, final int columnIndex) {
+        for (MemoryResultSetRow each : rows) {
+            Object value = each.getCell(columnIndex);
+            if (null != value && ((BigDecimal) value).unscaledValue().bitLength() >= Long.SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    void set(final int rowIndex, final Object value) {
+        if (null == value) {
+            nulls.set(rowIndex);
+            return;
+        }
+        BigInteger unscaledValue = ((BigDecimal) value).unscaledValue();
+        unscaledValues[rowIndex] = unscaledValue.longValue();
+        scales[rowIndex] = ((BigDecimal) value).scale();
+    }
+    
+    @Override
+    Object get(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : BigDecimal.valueOf(unscaledValues[rowIndex], scales[rowIndex]);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Column vector for string values, which are encoded by dictionary.
+ * 
+ * @author zhangliang
+ */
+final class DictionaryColumnVector extends ColumnVector {
+    
+    private static final int NULL_CODE = -1;
+    
+    private final int[] codes;
+    
+    private final ArrayList<String> dictionary = new ArrayList<>();
+    
+    private Map<String, Integer> dictionaryCodes = new HashMap<>();
+    
+    DictionaryColumnVector(final int size) {
+        codes = new int[size];
+    }
+    
+    @Override
+    void set(final int rowIndex, final Object value) {
+        if (null == value) {
+            codes[rowIndex] = NULL_CODE;
+            return;
+        }
+        Integer code = dictionaryCodes.get(value);
+        if (null == code) {
+            code = dictionary.size();
+            dictionary.add((String) value);
+            dictionaryCodes.put((String) value, code);
+        }
+        codes[rowIndex] = code;
+    }
+    
+    @Override
+    Object get(final int rowIndex) {
+        int code = codes[rowIndex];
+        return NULL_CODE == code ? null : dictionary.get(code);
+    }
+    
+    @Override
+    void complete() {
+        dictionaryCodes = null;
+        dictionary.trimToSize();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.common;
+
+import com.google.common.collect.Iterators;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * External sorter of memory result set rows.
+ * 
+ * <p>
+ * Rows are sorted in heap until the size of buffered rows reaches {@code maxRowsInMemory}, 
+ * then buffered rows are sorted and spilled to a temp file as one run.
+ * If any run is spilled, sorted rows are got by k-way merging all runs, only current row of each run is held in heap.
+ * At most 64 runs are opened at the same time, if more runs are spilled, they are merged to longer runs in several passes before.
+ * Temp files which are not read out are deleted by {@code close()}.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class ExternalRowSorter {
+    
+    private static final int MAX_MERGED_RUNS = 64;
+    
+    private final Comparator<MemoryResultSetRow> comparator;
+    
+    private final int maxRowsInMemory;
+    
+    private final int maxMergedRuns;
+    
+    private final List<MemoryResultSetRow> bufferedRows = new ArrayList<>();
+    
+    private final Queue<SpillRun> spillRuns = new LinkedList<>();
+    
+    private final Collection<SpillRun> readingRuns = new LinkedList<>();
+    
+    /**
+     * Constructs external row sorter.
+     * 
+     * @param comparator row comparator
+     * @param maxRowsInMemory max size of buffered rows, never spill if not greater than 0
+     */
+    public ExternalRowSorter(final Comparator<MemoryResultSetRow> comparator, final int maxRowsInMemory) {
+        this(comparator, maxRowsInMemory, MAX_MERGED_RUNS);
+    }
+    
+    ExternalRowSorter(final Comparator<MemoryResultSetRow> comparator, final int maxRowsInMemory, final int maxMergedRuns) {
+        this.comparator = comparator;
+        this.maxRowsInMemory = maxRowsInMemory;
+        this.maxMergedRuns = maxMergedRuns;
+    }
+    
+    /**
+     * Add row.
+     * 
+     * @param row memory result set row
+     */
+    public void add(final MemoryResultSetRow row) {
+        bufferedRows.add(row);
+        if (maxRowsInMemory > 0 && bufferedRows.size() >= maxRowsInMemory) {
+            spillBufferedRows();
+        }
+    }
+    
+    /**
+     * Sort rows and spill them to temp file as one run directly.
+     * 
+     * @param rows rows to be spilled
+     */
+    public void spill(final Collection<MemoryResultSetRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<MemoryResultSetRow> sortedRows = new ArrayList<>(rows);
+        Collections.sort(sortedRows, comparator);
+        spillRuns.add(SpillRun.write(sortedRows.iterator()));
+    }
+    
+    /**
+     * Judge whether any run is spilled.
+     * 
+     * @return any run is spilled or not
+     */
+    public boolean isSpilled() {
+        return !spillRuns.isEmpty();
+    }
+    
+    /**
+     * Get sorted rows.
+     * 
+     * <p>
+     * Temp files of spilled runs are deleted after all rows are read.
+     * </p>
+     * 
+     * @return iterator of sorted rows
+     */
+    public Iterator<MemoryResultSetRow> sort() {
+        if (spillRuns.isEmpty()) {
+            Collections.sort(bufferedRows, comparator);
+            return bufferedRows.iterator();
+        }
+        spillBufferedRows();
+        while (spillRuns.size() > maxMergedRuns) {
+            Iterator<MemoryResultSetRow> mergedRows = mergeRuns(maxMergedRuns);
+            spillRuns.add(SpillRun.write(mergedRows));
+            readingRuns.clear();
+        }
+        return mergeRuns(spillRuns.size());
+    }
+    
+    private Iterator<MemoryResultSetRow> mergeRuns(final int runSize) {
+        List<Iterator<MemoryResultSetRow>> runIterators = new ArrayList<>(runSize);
+        for (int i = 0; i < runSize; i++) {
+            SpillRun run = spillRuns.poll();
+            readingRuns.add(run);
+            runIterators.add(run.read());
+        }
+        return Iterators.mergeSorted(runIterators, comparator);
+    }
+    
+    /**
+     * Close all spilled runs and delete their temp files.
+     */
+    public void close() {
+        for (SpillRun each : readingRuns) {
+            each.close();
+        }
+        readingRuns.clear();
+        for (SpillRun each : spillRuns) {
+            each.close();
+        }
+        spillRuns.clear();
+    }
+    
+    private void spillBufferedRows() {
+        if (bufferedRows.isEmpty()) {
+            return;
+        }
+        Collections.sort(bufferedRows, comparator);
+        spillRuns.add(SpillRun.write(bufferedRows.iterator()));
+        bufferedRows.clear();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.common;
+
+import java.util.BitSet;
+
+/**
+ * Column vector for integral values.
+ * 
+ * @author zhangliang
+ */
+final class LongColumnVector extends ColumnVector {
+    
+    private final Class<?> valueClass;
+    
+    private final long[] values;
+    
+    private final BitSet nulls;
+    
+    LongColumnVector(final Class<?> valueClass, final int size) {
+        this.valueClass = valueClass;
+        values = new long[size];
+        nulls = new BitSet(size);
+    }
+    
+    @Override
+    void set(final int rowIndex, final Object value) {
+        if (null == value) {
+            nulls.set(rowIndex);
+        } else {
+            values[rowIndex] = ((Number) value).longValue();
+        }
+    }
+    
+    @Override
+    Object get(final int rowIndex) {
+        if (nulls.get(rowIndex)) {
+            return null;
+        }
+        long result = values[rowIndex];
+        if (Integer.class == valueClass) {
+            return (int) result;
+        }
+        if (Short.class == valueClass) {
+            return (short) result;
+        }
+        if (Byte.class == valueClass) {
+            return (byte) result;
+        }
+        return result;
+    }
+}
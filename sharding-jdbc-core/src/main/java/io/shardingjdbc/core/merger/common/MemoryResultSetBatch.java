@@ -0,0 +1,90 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.common;
+
+import com.google.common.base.Preconditions;
+
+import java.util.List;
+
+/**
+ * Batch of memory result set rows stored by columns.
+ * 
+ * <p>
+ * Values of integral, floating point and decimal columns are stored in primitive arrays with null bitmaps, 
+ * values of string columns are encoded by dictionary, 
+ * so heap of merged result which is held until result set closed is much smaller than boxed values of each row.
+ * </p>
+ * 
+ * <p>
+ * Rows are released from the list as soon as they are loaded into column vectors.
+ * Heap is not reduced while rows are materialized before the batch is built, 
+ * so peak heap of merging is still bounded by the size of all rows.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class MemoryResultSetBatch {
+    
+    private final int size;
+    
+    private final ColumnVector[] columnVectors;
+    
+    /**
+     * Constructor.
+     * 
+     * @param rows memory result set rows, each element is set to null after loaded
+     */
+    public MemoryResultSetBatch(final List<MemoryResultSetRow> rows) {
+        size = rows.size();
+        columnVectors = new ColumnVector[rows.isEmpty() ? 0 : rows.get(0).getData().length];
+        for (int i = 0; i < columnVectors.length; i++) {
+            columnVectors[i] = ColumnVector.create(rows, i + 1);
+        }
+        for (int i = 0; i < size; i++) {
+            MemoryResultSetRow row = rows.set(i, null);
+            for (int j = 0; j < columnVectors.length; j++) {
+                columnVectors[j].set(i, row.getCell(j + 1));
+            }
+        }
+        for (ColumnVector each : columnVectors) {
+            each.complete();
+        }
+    }
+    
+    /**
+     * Get size of rows.
+     * 
+     * @return size of rows
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Get data.
+     * 
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return data
+     */
+    public Object getCell(final int rowIndex, final int columnIndex) {
+        Preconditions.checkElementIndex(rowIndex, size);
+        Preconditions.checkArgument(columnIndex > 0 && columnIndex < columnVectors.length + 1);
+        return columnVectors[columnIndex - 1].get(rowIndex);
+    }
+}
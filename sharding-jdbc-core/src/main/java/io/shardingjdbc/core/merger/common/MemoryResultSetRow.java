@@ -17,6 +17,7 @@
 
 package io.shardingjdbc.core.merger.common;
 
+import io.shardingjdbc.core.merger.ResultSetMerger;
 import com.google.common.base.Preconditions;
 
 import java.sql.ResultSet;
@@ -35,6 +36,17 @@ public class MemoryResultSetRow {
         data = load(resultSet);
     }
     
+    public MemoryResultSetRow(final ResultSetMerger resultSetMerger, final int columnCount) throws SQLException {
+        data = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            data[i] = resultSetMerger.getValue(i + 1, Object.class);
+        }
+    }
+    
+    MemoryResultSetRow(final Object[] data) {
+        this.data = data;
+    }
+    
     private Object[] load(final ResultSet resultSet) throws SQLException {
         int columnCount = resultSet.getMetaData().getColumnCount();
         Object[] result = new Object[columnCount];
@@ -65,4 +77,8 @@ public class MemoryResultSetRow {
         Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
         data[columnIndex - 1] = value;
     }
+    
+    Object[] getData() {
+        return data;
+    }
 }
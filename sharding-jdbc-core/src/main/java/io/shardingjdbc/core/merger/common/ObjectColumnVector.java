@@ -0,0 +1,42 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.common;
+
+/**
+ * Column vector for values which can not be stored in primitive array or dictionary.
+ * 
+ * @author zhangliang
+ */
+final class ObjectColumnVector extends ColumnVector {
+    
+    private final Object[] values;
+    
+    ObjectColumnVector(final int size) {
+        values = new Object[size];
+    }
+    
+    @Override
+    void set(final int rowIndex, final Object value) {
+        values[rowIndex] = value;
+    }
+    
+    @Override
+    Object get(final int rowIndex) {
+        return values[rowIndex];
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.common;
+
+import io.shardingjdbc.core.exception.ShardingJdbcException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Binary codec of spilled memory result set row.
+ * 
+ * <p>
+ * Each cell is written as one type tag byte followed by its value, 
+ * values of common JDBC types are written in primitive form and others are written by Java serialization.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class SpillRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte BOOLEAN = 1;
+    
+    private static final byte BYTE = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte INTEGER = 4;
+    
+    private static final byte LONG = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte BIG_DECIMAL = 8;
+    
+    private static final byte BIG_INTEGER = 9;
+    
+    private static final byte STRING = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte SQL_DATE = 12;
+    
+    private static final byte SQL_TIME = 13;
+    
+    private static final byte SQL_TIMESTAMP = 14;
+    
+    private static final byte DATE = 15;
+    
+    private static final byte SERIALIZABLE = 16;
+    
+    /**
+     * Write row.
+     * 
+     * @param output data output
+     * @param row memory result set row
+     * @throws IOException IO exception
+     */
+    static void write(final DataOutputStream output, final MemoryResultSetRow row) throws IOException {
+        Object[] data = row.getData();
+        output.writeInt(data.length);
+        for (Object each : data) {
+            writeCell(output, each);
+        }
+    }
+    
+    /**
+     * Read row.
+     * 
+     * @param input data input
+     * @return memory result set row
+     * @throws IOException IO exception
+     */
+    static MemoryResultSetRow read(final DataInputStream input) throws IOException {
+        Object[] data = new Object[input.readInt()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = readCell(input);
+        }
+        return new MemoryResultSetRow(data);
+    }
+    
+    private static void writeCell(final DataOutputStream output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else if (java.sql.Date.class == value.getClass()) {
+            output.writeByte(SQL_DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (Time.class == value.getClass()) {
+            output.writeByte(SQL_TIME);
+            output.writeLong(((Date) value).getTime());
+        } else if (Date.class == value.getClass()) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (Timestamp.class == value.getClass()) {
+            output.writeByte(SQL_TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Serializable) {
+            output.writeByte(SERIALIZABLE);
+            writeBytes(output, serialize(value));
+        } else {
+            throw new ShardingJdbcException("Can not spill value of type: %s", value.getClass().getName());
+        }
+    }
+    
+    private static Object readCell(final DataInputStream input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return input.readBoolean();
+            case BYTE:
+                return input.readByte();
+            case SHORT:
+                return input.readShort();
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(input);
+            case SQL_DATE:
+                return new java.sql.Date(input.readLong());
+            case SQL_TIME:
+                return new Time(input.readLong());
+            case SQL_TIMESTAMP:
+                Timestamp result = new Timestamp(input.readLong());
+                result.setNanos(input.readInt());
+                return result;
+            case DATE:
+                return new Date(input.readLong());
+            case SERIALIZABLE:
+                return deserialize(readBytes(input));
+            default:
+                throw new ShardingJdbcException("Unknown spilled value type: %s", type);
+        }
+    }
+    
+    private static void writeBytes(final DataOutputStream output, final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    private static byte[] readBytes(final DataInputStream input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    private static Object deserialize(final byte[] value) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.common;
+
+import com.google.common.collect.AbstractIterator;
+import io.shardingjdbc.core.exception.ShardingJdbcException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Sorted run of memory result set rows spilled to temp file.
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class SpillRun {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final File file;
+    
+    private final int rowCount;
+    
+    private DataInputStream input;
+    
+    /**
+     * Write sorted rows to temp file.
+     * 
+     * @param sortedRows sorted rows
+     * @return spilled run
+     */
+    static SpillRun write(final Iterator<MemoryResultSetRow> sortedRows) {
+        File file = null;
+        int rowCount = 0;
+        try {
+            file = File.createTempFile("sharding-jdbc-merge-", ".spill");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+                while (sortedRows.hasNext()) {
+                    SpillRowCodec.write(output, sortedRows.next());
+                    rowCount++;
+                }
+            }
+        } catch (final IOException ex) {
+            if (null != file) {
+                file.delete();
+            }
+            throw new ShardingJdbcException("Can not spill rows to temp file", ex);
+        }
+        return new SpillRun(file, rowCount);
+    }
+    
+    /**
+     * Read rows in order of writing.
+     * 
+     * <p>
+     * Temp file is deleted after all rows are read.
+     * </p>
+     * 
+     * @return iterator of rows
+     */
+    Iterator<MemoryResultSetRow> read() {
+        try {
+            input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            file.delete();
+            throw new ShardingJdbcException("Can not read spilled rows from temp file", ex);
+        }
+        // Opened file can be unlinked on POSIX, which avoids leaking temp file if rows are not read out; otherwise it is deleted by close.
+        file.delete();
+        return new AbstractIterator<MemoryResultSetRow>() {
+            
+            private int readCount;
+            
+            @Override
+            protected MemoryResultSetRow computeNext() {
+                if (readCount++ < rowCount) {
+                    try {
+                        return SpillRowCodec.read(input);
+                    } catch (final IOException ex) {
+                        close();
+                        throw new ShardingJdbcException("Can not read spilled rows from temp file", ex);
+                    }
+                }
+                close();
+                return endOfData();
+            }
+        };
+    }
+    
+    /**
+     * Close opened temp file and delete it.
+     */
+    void close() {
+        if (null != input) {
+            try {
+                input.close();
+            } catch (final IOException ignored) {
+            }
+        }
+        file.delete();
+    }
+}
@@ -18,27 +18,44 @@
 package io.shardingjdbc.core.merger.groupby;
 
 import io.shardingjdbc.core.merger.common.AbstractMemoryResultSetMerger;
+import io.shardingjdbc.core.merger.common.ExternalRowSorter;
+import io.shardingjdbc.core.merger.common.MemoryResultSetBatch;
 import io.shardingjdbc.core.merger.common.MemoryResultSetRow;
+import io.shardingjdbc.core.merger.groupby.aggregation.AggregationColumnType;
 import io.shardingjdbc.core.merger.groupby.aggregation.AggregationUnit;
 import io.shardingjdbc.core.merger.groupby.aggregation.AggregationUnitFactory;
+import io.shardingjdbc.core.merger.groupby.aggregation.TypedAggregationUnit;
 import io.shardingjdbc.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
-import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 /**
  * Memory merger for group by.
+ * 
+ * <p>
+ * If {@code maxRowsInMemory} is greater than 0 and size of aggregating groups exceeds it, 
+ * partially aggregated groups are sorted by group by values and spilled to temp files.
+ * Spilled groups are aggregated again by k-way merging, then sorted by order by values externally.
+ * Otherwise sorted groups are held in {@code MemoryResultSetBatch} by columns, 
+ * which reduces heap held until merger is closed, but not peak heap of merging, because all groups are aggregated as rows before converted;
+ * peak heap is only bounded by {@code maxRowsInMemory}.
+ * Temp files are deleted if merging is failed or merger is closed.
+ * </p>
  *
  * @author zhangliang
  */
@@ -46,61 +63,109 @@ public final class GroupByMemoryResultSetMerger extends AbstractMemoryResultSetM
     
     private final SelectStatement selectStatement;
     
-    private final Iterator<MemoryResultSetRow> memoryResultSetRows;
+    private final int maxRowsInMemory;
+    
+    private final List<AggregationSelectItem> aggregationSelectItems;
+    
+    private final List<ExternalRowSorter> externalRowSorters = new LinkedList<>();
+    
+    private MemoryResultSetBatch memoryResultSetBatch;
+    
+    private int nextBatchRowIndex;
+    
+    private Iterator<MemoryResultSetRow> spilledResultSetRows;
     
     public GroupByMemoryResultSetMerger(
             final Map<String, Integer> labelAndIndexMap, final List<ResultSet> resultSets, final SelectStatement selectStatement) throws SQLException {
+        this(labelAndIndexMap, resultSets, selectStatement, 0);
+    }
+    
+    public GroupByMemoryResultSetMerger(
+            final Map<String, Integer> labelAndIndexMap, final List<ResultSet> resultSets, final SelectStatement selectStatement, final int maxRowsInMemory) throws SQLException {
         super(labelAndIndexMap);
         this.selectStatement = selectStatement;
-        memoryResultSetRows = init(resultSets);
+        this.maxRowsInMemory = maxRowsInMemory;
+        aggregationSelectItems = new ArrayList<>(selectStatement.getAggregationSelectItems());
+        try {
+            init(resultSets);
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
     }
     
-    private Iterator<MemoryResultSetRow> init(final List<ResultSet> resultSets) throws SQLException {
+    private void init(final List<ResultSet> resultSets) throws SQLException {
         Map<GroupByValue, MemoryResultSetRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        Map<GroupByValue, AggregationUnit[]> aggregationMap = new HashMap<>(1024);
+        ExternalRowSorter groupByValueSorter = new ExternalRowSorter(new GroupByRowComparator(selectStatement.getGroupByItems()), 0);
+        externalRowSorters.add(groupByValueSorter);
+        List<List<AggregationColumnType>> columnTypes = resultSets.isEmpty() ? Collections.<List<AggregationColumnType>>emptyList() : getColumnTypes(resultSets.get(0).getMetaData());
         for (ResultSet each : resultSets) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
+                AggregationUnit[] aggregationUnits = aggregationMap.get(groupByValue);
+                if (null == aggregationUnits) {
+                    aggregationUnits = createAggregationUnits(columnTypes);
+                    aggregationMap.put(groupByValue, aggregationUnits);
+                    dataMap.put(groupByValue, new MemoryResultSetRow(each));
+                }
+                aggregate(each, aggregationUnits);
+                if (maxRowsInMemory > 0 && dataMap.size() > maxRowsInMemory) {
+                    spill(dataMap, aggregationMap, groupByValueSorter);
+                }
+            }
+        }
+        if (groupByValueSorter.isSpilled()) {
+            spill(dataMap, aggregationMap, groupByValueSorter);
+            PeekingIterator<MemoryResultSetRow> spilledRows = Iterators.peekingIterator(aggregateSpilledRows(groupByValueSorter.sort(), columnTypes));
+            if (spilledRows.hasNext()) {
+                setCurrentResultSetRow(spilledRows.peek());
             }
+            spilledResultSetRows = spilledRows;
+            return;
         }
         setAggregationValueToMemoryRow(dataMap, aggregationMap);
-        List<MemoryResultSetRow> result = getMemoryResultSetRows(dataMap);
-        if (!result.isEmpty()) {
-            setCurrentResultSetRow(result.get(0));
+        List<MemoryResultSetRow> sortedRows = getMemoryResultSetRows(dataMap);
+        dataMap.clear();
+        aggregationMap.clear();
+        memoryResultSetBatch = new MemoryResultSetBatch(sortedRows);
+        if (memoryResultSetBatch.size() > 0) {
+            setCurrentBatchRow(memoryResultSetBatch, 0);
         }
-        return result.iterator();
     }
     
-    private void initForFirstGroupByValue(final ResultSet resultSet, final GroupByValue groupByValue, final Map<GroupByValue, MemoryResultSetRow> dataMap, 
-                                          final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryResultSetRow(resultSet));
+    private List<List<AggregationColumnType>> getColumnTypes(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        List<List<AggregationColumnType>> result = new ArrayList<>(aggregationSelectItems.size());
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            result.add(AggregationUnitFactory.getColumnTypes(each, resultSetMetaData));
         }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationSelectItem, AggregationUnit> map = Maps.toMap(selectStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
-                
-                @Override
-                public AggregationUnit apply(final AggregationSelectItem input) {
-                    return AggregationUnitFactory.create(input.getType());
-                }
-            });
-            aggregationMap.put(groupByValue, map);
+        return result;
+    }
+    
+    private AggregationUnit[] createAggregationUnits(final List<List<AggregationColumnType>> columnTypes) {
+        AggregationUnit[] result = new AggregationUnit[aggregationSelectItems.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationSelectItems.get(i), columnTypes.get(i));
         }
+        return result;
     }
     
-    private void aggregate(final ResultSet resultSet, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+    private void aggregate(final ResultSet resultSet, final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            if (aggregationUnits[i] instanceof TypedAggregationUnit) {
+                ((TypedAggregationUnit) aggregationUnits[i]).merge(resultSet);
+                continue;
+            }
+            AggregationSelectItem aggregationSelectItem = aggregationSelectItems.get(i);
             List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(resultSet, each));
+            if (aggregationSelectItem.getDerivedAggregationSelectItems().isEmpty()) {
+                values.add(getAggregationValue(resultSet, aggregationSelectItem));
             } else {
-                for (AggregationSelectItem derived : each.getDerivedAggregationSelectItems()) {
+                for (AggregationSelectItem derived : aggregationSelectItem.getDerivedAggregationSelectItems()) {
                     values.add(getAggregationValue(resultSet, derived));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnits[i].merge(values);
         }
     }
     
@@ -110,11 +175,15 @@ public final class GroupByMemoryResultSetMerger extends AbstractMemoryResultSetM
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryResultSetRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryResultSetRow> dataMap, final Map<GroupByValue, AggregationUnit[]> aggregationMap) {
         for (Entry<GroupByValue, MemoryResultSetRow> entry : dataMap.entrySet()) {
-            for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
-            }
+            setAggregationValueToMemoryRow(entry.getValue(), aggregationMap.get(entry.getKey()));
+        }
+    }
+    
+    private void setAggregationValueToMemoryRow(final MemoryResultSetRow memoryResultSetRow, final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            memoryResultSetRow.setCell(aggregationSelectItems.get(i).getIndex(), aggregationUnits[i].getResult());
         }
     }
     
@@ -124,12 +193,74 @@ public final class GroupByMemoryResultSetMerger extends AbstractMemoryResultSetM
         return result;
     }
     
+    private void spill(final Map<GroupByValue, MemoryResultSetRow> dataMap, final Map<GroupByValue, AggregationUnit[]> aggregationMap, final ExternalRowSorter groupByValueSorter) {
+        setAggregationValueToMemoryRow(dataMap, aggregationMap);
+        groupByValueSorter.spill(dataMap.values());
+        dataMap.clear();
+        aggregationMap.clear();
+    }
+    
+    private Iterator<MemoryResultSetRow> aggregateSpilledRows(final Iterator<MemoryResultSetRow> spilledRows, final List<List<AggregationColumnType>> columnTypes) {
+        Comparator<MemoryResultSetRow> groupByValueComparator = new GroupByRowComparator(selectStatement.getGroupByItems());
+        ExternalRowSorter result = new ExternalRowSorter(new GroupByRowComparator(selectStatement), maxRowsInMemory);
+        externalRowSorters.add(result);
+        MemoryResultSetRow currentRow = null;
+        AggregationUnit[] aggregationUnits = null;
+        while (spilledRows.hasNext()) {
+            MemoryResultSetRow row = spilledRows.next();
+            if (null == currentRow || 0 != groupByValueComparator.compare(currentRow, row)) {
+                if (null != currentRow) {
+                    setAggregationValueToMemoryRow(currentRow, aggregationUnits);
+                    result.add(currentRow);
+                }
+                currentRow = row;
+                aggregationUnits = createAggregationUnits(columnTypes);
+            }
+            aggregate(row, aggregationUnits);
+        }
+        if (null != currentRow) {
+            setAggregationValueToMemoryRow(currentRow, aggregationUnits);
+            result.add(currentRow);
+        }
+        return result.sort();
+    }
+    
+    private void aggregate(final MemoryResultSetRow partiallyAggregatedRow, final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            AggregationSelectItem aggregationSelectItem = aggregationSelectItems.get(i);
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (aggregationSelectItem.getDerivedAggregationSelectItems().isEmpty()) {
+                values.add((Comparable<?>) partiallyAggregatedRow.getCell(aggregationSelectItem.getIndex()));
+            } else {
+                for (AggregationSelectItem derived : aggregationSelectItem.getDerivedAggregationSelectItems()) {
+                    values.add((Comparable<?>) partiallyAggregatedRow.getCell(derived.getIndex()));
+                }
+            }
+            aggregationUnits[i].merge(values);
+        }
+    }
+    
     @Override
     public boolean next() throws SQLException {
-        if (memoryResultSetRows.hasNext()) {
-            setCurrentResultSetRow(memoryResultSetRows.next());
+        if (null != memoryResultSetBatch) {
+            if (nextBatchRowIndex < memoryResultSetBatch.size()) {
+                setCurrentBatchRow(memoryResultSetBatch, nextBatchRowIndex++);
+                return true;
+            }
+            return false;
+        }
+        if (spilledResultSetRows.hasNext()) {
+            setCurrentResultSetRow(spilledResultSetRows.next());
             return true;
         }
         return false;
     }
+    
+    @Override
+    public void close() {
+        for (ExternalRowSorter each : externalRowSorters) {
+            each.close();
+        }
+        externalRowSorters.clear();
+    }
 }
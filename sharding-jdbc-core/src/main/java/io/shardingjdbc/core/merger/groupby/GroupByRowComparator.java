@@ -35,17 +35,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class GroupByRowComparator implements Comparator<MemoryResultSetRow> {
     
-    private final SelectStatement selectStatement;
+    private final List<OrderItem> orderItems;
     
-    @Override
-    public int compare(final MemoryResultSetRow o1, final MemoryResultSetRow o2) {
-        if (!selectStatement.getOrderByItems().isEmpty()) {
-            return compare(o1, o2, selectStatement.getOrderByItems());
-        }
-        return compare(o1, o2, selectStatement.getGroupByItems());
+    public GroupByRowComparator(final SelectStatement selectStatement) {
+        this(selectStatement.getOrderByItems().isEmpty() ? selectStatement.getGroupByItems() : selectStatement.getOrderByItems());
     }
     
-    private int compare(final MemoryResultSetRow o1, final MemoryResultSetRow o2, final List<OrderItem> orderItems) {
+    @Override
+    public int compare(final MemoryResultSetRow o1, final MemoryResultSetRow o2) {
         for (OrderItem each : orderItems) {
             Object orderValue1 = o1.getCell(each.getIndex());
             Preconditions.checkState(null == orderValue1 || orderValue1 instanceof Comparable, "Order by value must implements Comparable");
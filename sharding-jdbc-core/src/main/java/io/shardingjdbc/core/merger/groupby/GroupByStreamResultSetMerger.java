@@ -52,7 +52,7 @@ public final class GroupByStreamResultSetMerger extends OrderByStreamResultSetMe
     
     public GroupByStreamResultSetMerger(
             final Map<String, Integer> labelAndIndexMap, final List<ResultSet> resultSets, final SelectStatement selectStatement) throws SQLException {
-        super(resultSets, selectStatement.getOrderByItems());
+        super(resultSets, selectStatement.getGroupByItems());
         this.labelAndIndexMap = labelAndIndexMap;
         this.selectStatement = selectStatement;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
@@ -74,6 +74,16 @@ public final class GroupByStreamResultSetMerger extends OrderByStreamResultSetMe
         return true;
     }
     
+    @Override
+    public boolean skip(final int count) throws SQLException {
+        for (int i = 0; i < count; i++) {
+            if (!next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
         Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap = Maps.toMap(selectStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
@@ -0,0 +1,84 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby;
+
+import io.shardingjdbc.core.merger.ResultSetMerger;
+import io.shardingjdbc.core.merger.common.AbstractMemoryResultSetMerger;
+import io.shardingjdbc.core.merger.common.MemoryResultSetRow;
+import io.shardingjdbc.core.parsing.parser.context.OrderItem;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Top N merger for aggregated groups.
+ * 
+ * <p>
+ * Groups aggregated by stream merger are sorted by order by items in a bounded heap, 
+ * only top N groups are held in heap.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class GroupByTopNResultSetMerger extends AbstractMemoryResultSetMerger {
+    
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+    
+    private final Iterator<MemoryResultSetRow> memoryResultSetRows;
+    
+    public GroupByTopNResultSetMerger(final Map<String, Integer> labelAndIndexMap, final ResultSetMerger groupByResultSetMerger, 
+                                      final List<OrderItem> orderByItems, final int topSize, final int columnCount) throws SQLException {
+        super(labelAndIndexMap);
+        memoryResultSetRows = init(groupByResultSetMerger, new GroupByRowComparator(orderByItems), topSize, columnCount);
+    }
+    
+    private Iterator<MemoryResultSetRow> init(
+            final ResultSetMerger groupByResultSetMerger, final Comparator<MemoryResultSetRow> comparator, final int topSize, final int columnCount) throws SQLException {
+        PriorityQueue<MemoryResultSetRow> heap = new PriorityQueue<>(Math.max(1, Math.min(topSize, MAX_INITIAL_CAPACITY)), Collections.reverseOrder(comparator));
+        while (topSize > 0 && groupByResultSetMerger.next()) {
+            MemoryResultSetRow row = new MemoryResultSetRow(groupByResultSetMerger, columnCount);
+            if (heap.size() < topSize) {
+                heap.offer(row);
+            } else if (comparator.compare(row, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(row);
+            }
+        }
+        List<MemoryResultSetRow> result = new ArrayList<>(heap);
+        Collections.sort(result, comparator);
+        if (!result.isEmpty()) {
+            setCurrentResultSetRow(result.get(0));
+        }
+        return result.iterator();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (memoryResultSetRows.hasNext()) {
+            setCurrentResultSetRow(memoryResultSetRows.next());
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby.aggregation;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Column type of aggregation value.
+ * 
+ * <p>
+ * Column type is resolved from result set meta data once for each merging, 
+ * and decides which typed aggregation unit can be used for the column.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public enum AggregationColumnType {
+    
+    INTEGRAL, FLOATING_POINT, DECIMAL, OTHER;
+    
+    /**
+     * Resolve column type from result set meta data.
+     * 
+     * @param columnIndex column index, start from 1
+     * @param resultSetMetaData result set meta data
+     * @return column type of aggregation value
+     * @throws SQLException SQL exception
+     */
+    public static AggregationColumnType valueOf(final int columnIndex, final ResultSetMetaData resultSetMetaData) throws SQLException {
+        switch (resultSetMetaData.getColumnType(columnIndex)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return INTEGRAL;
+            case Types.BIGINT:
+                return resultSetMetaData.isSigned(columnIndex) ? INTEGRAL : OTHER;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return FLOATING_POINT;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return DECIMAL;
+            default:
+                return OTHER;
+        }
+    }
+}
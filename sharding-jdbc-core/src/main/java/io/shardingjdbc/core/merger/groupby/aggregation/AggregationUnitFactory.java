@@ -17,10 +17,18 @@
 
 package io.shardingjdbc.core.merger.groupby.aggregation;
 
+import com.google.common.base.Optional;
 import io.shardingjdbc.core.constant.AggregationType;
+import io.shardingjdbc.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Aggregation unit factory.
  * 
@@ -50,4 +58,107 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    /**
+     * Create aggregation unit instance by column type of result set.
+     * 
+     * <p>
+     * Typed aggregation unit is created for integral, floating point and decimal columns, 
+     * other columns fall back to aggregation unit which merges {@code Comparable} values.
+     * </p>
+     * 
+     * @param aggregationSelectItem aggregation select item
+     * @param resultSetMetaData result set meta data
+     * @return aggregation unit instance
+     * @throws SQLException SQL exception
+     */
+    public static AggregationUnit create(final AggregationSelectItem aggregationSelectItem, final ResultSetMetaData resultSetMetaData) throws SQLException {
+        return create(aggregationSelectItem, getColumnTypes(aggregationSelectItem, resultSetMetaData));
+    }
+    
+    /**
+     * Get column types of aggregation values.
+     * 
+     * <p>
+     * Column types are in the order of derived aggregation select items if present, otherwise contain column type of aggregation select item only.
+     * Column types can be resolved once and reused to create aggregation units of all groups.
+     * </p>
+     * 
+     * @param aggregationSelectItem aggregation select item
+     * @param resultSetMetaData result set meta data
+     * @return column types of aggregation values
+     * @throws SQLException SQL exception
+     */
+    public static List<AggregationColumnType> getColumnTypes(final AggregationSelectItem aggregationSelectItem, final ResultSetMetaData resultSetMetaData) throws SQLException {
+        if (aggregationSelectItem.getDerivedAggregationSelectItems().isEmpty()) {
+            return Collections.singletonList(AggregationColumnType.valueOf(aggregationSelectItem.getIndex(), resultSetMetaData));
+        }
+        List<AggregationColumnType> result = new ArrayList<>(aggregationSelectItem.getDerivedAggregationSelectItems().size());
+        for (AggregationSelectItem each : aggregationSelectItem.getDerivedAggregationSelectItems()) {
+            result.add(AggregationColumnType.valueOf(each.getIndex(), resultSetMetaData));
+        }
+        return result;
+    }
+    
+    /**
+     * Create aggregation unit instance by resolved column types.
+     * 
+     * @param aggregationSelectItem aggregation select item
+     * @param columnTypes column types of aggregation values
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationSelectItem aggregationSelectItem, final List<AggregationColumnType> columnTypes) {
+        switch (aggregationSelectItem.getType()) {
+            case MAX:
+            case MIN:
+                Optional<TypedAggregationUnit> comparableUnit = createTypedComparableUnit(
+                        aggregationSelectItem.getIndex(), AggregationType.MIN == aggregationSelectItem.getType(), columnTypes.get(0));
+                return comparableUnit.isPresent() ? comparableUnit.get() : create(aggregationSelectItem.getType());
+            case SUM:
+            case COUNT:
+                Optional<TypedAggregationUnit> accumulationUnit = createTypedAccumulationUnit(aggregationSelectItem.getIndex(), columnTypes.get(0));
+                return accumulationUnit.isPresent() ? accumulationUnit.get() : create(aggregationSelectItem.getType());
+            case AVG:
+                Optional<TypedAggregationUnit> averageUnit = createTypedAverageUnit(aggregationSelectItem, columnTypes);
+                return averageUnit.isPresent() ? averageUnit.get() : create(aggregationSelectItem.getType());
+            default:
+                throw new UnsupportedOperationException(aggregationSelectItem.getType().name());
+        }
+    }
+    
+    private static Optional<TypedAggregationUnit> createTypedComparableUnit(final int columnIndex, final boolean asc, final AggregationColumnType columnType) {
+        switch (columnType) {
+            case INTEGRAL:
+                return Optional.<TypedAggregationUnit>of(new LongComparableAggregationUnit(columnIndex, asc));
+            case FLOATING_POINT:
+                return Optional.<TypedAggregationUnit>of(new DoubleComparableAggregationUnit(columnIndex, asc));
+            default:
+                return Optional.absent();
+        }
+    }
+    
+    private static Optional<TypedAggregationUnit> createTypedAccumulationUnit(final int columnIndex, final AggregationColumnType columnType) {
+        switch (columnType) {
+            case INTEGRAL:
+                return Optional.<TypedAggregationUnit>of(new LongAccumulationAggregationUnit(columnIndex));
+            case FLOATING_POINT:
+                return Optional.<TypedAggregationUnit>of(new DoubleAccumulationAggregationUnit(columnIndex));
+            case DECIMAL:
+                return Optional.<TypedAggregationUnit>of(new DecimalAccumulationAggregationUnit(columnIndex));
+            default:
+                return Optional.absent();
+        }
+    }
+    
+    private static Optional<TypedAggregationUnit> createTypedAverageUnit(final AggregationSelectItem aggregationSelectItem, final List<AggregationColumnType> columnTypes) {
+        if (2 != aggregationSelectItem.getDerivedAggregationSelectItems().size()) {
+            return Optional.absent();
+        }
+        Optional<TypedAggregationUnit> countUnit = createTypedAccumulationUnit(aggregationSelectItem.getDerivedAggregationSelectItems().get(0).getIndex(), columnTypes.get(0));
+        Optional<TypedAggregationUnit> sumUnit = createTypedAccumulationUnit(aggregationSelectItem.getDerivedAggregationSelectItems().get(1).getIndex(), columnTypes.get(1));
+        if (!countUnit.isPresent() || !sumUnit.isPresent()) {
+            return Optional.absent();
+        }
+        return Optional.<TypedAggregationUnit>of(new TypedAverageAggregationUnit(countUnit.get(), sumUnit.get()));
+    }
 }
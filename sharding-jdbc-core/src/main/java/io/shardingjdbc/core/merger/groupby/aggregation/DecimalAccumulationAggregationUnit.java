@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for decimal column.
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class DecimalAccumulationAggregationUnit implements TypedAggregationUnit {
+    
+    private final int columnIndex;
+    
+    private BigDecimal result;
+    
+    @Override
+    public void merge(final ResultSet resultSet) throws SQLException {
+        BigDecimal value = resultSet.getBigDecimal(columnIndex);
+        if (null != value) {
+            merge(value);
+        }
+    }
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        Comparable<?> value = values.get(0);
+        merge(value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString()));
+    }
+    
+    private void merge(final BigDecimal value) {
+        result = null == result ? value : result.add(value);
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return result;
+    }
+}
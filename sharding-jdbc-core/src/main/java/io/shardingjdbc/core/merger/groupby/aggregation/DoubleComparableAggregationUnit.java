@@ -0,0 +1,75 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Comparable aggregation unit for floating point column.
+ * 
+ * <p>
+ * Values are compared as double, original value is read only if it replaces current result.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class DoubleComparableAggregationUnit implements TypedAggregationUnit {
+    
+    private final int columnIndex;
+    
+    private final boolean asc;
+    
+    private double comparedValue;
+    
+    private Comparable<?> result;
+    
+    @Override
+    public void merge(final ResultSet resultSet) throws SQLException {
+        double value = resultSet.getDouble(columnIndex);
+        if (!resultSet.wasNull() && isReplaced(value)) {
+            comparedValue = value;
+            result = (Comparable<?>) resultSet.getObject(columnIndex);
+        }
+    }
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        double value = ((Number) values.get(0)).doubleValue();
+        if (isReplaced(value)) {
+            comparedValue = value;
+            result = values.get(0);
+        }
+    }
+    
+    private boolean isReplaced(final double value) {
+        return null == result || asc && value < comparedValue || !asc && value > comparedValue;
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return result;
+    }
+}
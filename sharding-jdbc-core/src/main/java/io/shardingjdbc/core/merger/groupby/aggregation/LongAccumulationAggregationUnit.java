@@ -0,0 +1,99 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for integral column.
+ * 
+ * <p>
+ * Accumulated by long, switched to {@code BigDecimal} if long overflows.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class LongAccumulationAggregationUnit implements TypedAggregationUnit {
+    
+    private final int columnIndex;
+    
+    private boolean merged;
+    
+    private long result;
+    
+    private BigDecimal overflowedResult;
+    
+    @Override
+    public void merge(final ResultSet resultSet) throws SQLException {
+        long value = resultSet.getLong(columnIndex);
+        if (!resultSet.wasNull()) {
+            merge(value);
+        }
+    }
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        Comparable<?> value = values.get(0);
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            merge(((Number) value).longValue());
+        } else {
+            merge(new BigDecimal(value.toString()));
+        }
+    }
+    
+    /**
+     * Merge aggregation value.
+     * 
+     * @param value aggregation value
+     */
+    public void merge(final long value) {
+        merged = true;
+        if (null != overflowedResult) {
+            overflowedResult = overflowedResult.add(BigDecimal.valueOf(value));
+            return;
+        }
+        long sum = result + value;
+        if (((result ^ sum) & (value ^ sum)) < 0) {
+            overflowedResult = BigDecimal.valueOf(result).add(BigDecimal.valueOf(value));
+            return;
+        }
+        result = sum;
+    }
+    
+    private void merge(final BigDecimal value) {
+        merged = true;
+        overflowedResult = (null == overflowedResult ? BigDecimal.valueOf(result) : overflowedResult).add(value);
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (!merged) {
+            return null;
+        }
+        return null == overflowedResult ? BigDecimal.valueOf(result) : overflowedResult;
+    }
+}
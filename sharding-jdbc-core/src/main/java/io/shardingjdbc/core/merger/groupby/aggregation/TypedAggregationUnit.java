@@ -0,0 +1,42 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby.aggregation;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Aggregation unit which reads aggregation value from result set by column type.
+ * 
+ * <p>
+ * Value of integral or floating point column is read and accumulated as primitive, 
+ * so neither boxing nor parsing from string is needed for each row.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public interface TypedAggregationUnit extends AggregationUnit {
+    
+    /**
+     * Merge aggregation value of current row.
+     * 
+     * @param resultSet result set
+     * @throws SQLException SQL exception
+     */
+    void merge(ResultSet resultSet) throws SQLException;
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Average aggregation unit which accumulates derived count and sum by typed aggregation units.
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class TypedAverageAggregationUnit implements TypedAggregationUnit {
+    
+    private final TypedAggregationUnit countUnit;
+    
+    private final TypedAggregationUnit sumUnit;
+    
+    @Override
+    public void merge(final ResultSet resultSet) throws SQLException {
+        countUnit.merge(resultSet);
+        sumUnit.merge(resultSet);
+    }
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0) || null == values.get(1)) {
+            return;
+        }
+        countUnit.merge(values.subList(0, 1));
+        sumUnit.merge(values.subList(1, 2));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        BigDecimal count = (BigDecimal) countUnit.getResult();
+        BigDecimal sum = (BigDecimal) sumUnit.getResult();
+        if (null == count || null == sum) {
+            return null;
+        }
+        if (0 == BigDecimal.ZERO.compareTo(count)) {
+            return count;
+        }
+        return sum.divide(count, 4, RoundingMode.HALF_UP);
+    }
+}
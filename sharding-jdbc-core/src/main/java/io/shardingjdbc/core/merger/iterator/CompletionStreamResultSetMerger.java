@@ -0,0 +1,185 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.merger.iterator;
+
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.shardingjdbc.core.merger.common.AbstractStreamResultSetMerger;
+import lombok.Getter;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Stream merger for iterator which merges result sets in order of completion.
+ * 
+ * <p>
+ * Rows of the first finished result set can be fetched without waiting for the other result sets.
+ * Once merger is closed, statements still executing are cancelled and result sets finished later are closed on arrival.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class CompletionStreamResultSetMerger extends AbstractStreamResultSetMerger {
+    
+    @Getter
+    private final List<ResultSet> resultSets = new CopyOnWriteArrayList<>();
+    
+    private final BlockingQueue<ListenableFuture<ResultSet>> completedResultSetFutures = new LinkedBlockingQueue<>();
+    
+    private final List<ListenableFuture<ResultSet>> resultSetFutures;
+    
+    private final List<? extends Statement> statements;
+    
+    private volatile boolean closed;
+    
+    private int remainingSize;
+    
+    public CompletionStreamResultSetMerger(final List<ListenableFuture<ResultSet>> resultSetFutures) throws SQLException {
+        this(resultSetFutures, Collections.<Statement>emptyList());
+    }
+    
+    public CompletionStreamResultSetMerger(final List<ListenableFuture<ResultSet>> resultSetFutures, final List<? extends Statement> statements) throws SQLException {
+        this.resultSetFutures = resultSetFutures;
+        this.statements = statements;
+        remainingSize = resultSetFutures.size();
+        for (final ListenableFuture<ResultSet> each : resultSetFutures) {
+            each.addListener(new Runnable() {
+                
+                @Override
+                public void run() {
+                    addCompletedResultSetFuture(each);
+                }
+            }, MoreExecutors.directExecutor());
+        }
+        Optional<ResultSet> firstResultSet;
+        try {
+            firstResultSet = nextCompletedResultSet();
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            for (ResultSet each : resultSets) {
+                closeQuietly(each);
+            }
+            throw ex;
+        }
+        if (!firstResultSet.isPresent()) {
+            throw new SQLException("Can not get any result set from data nodes.");
+        }
+        setCurrentResultSet(firstResultSet.get());
+    }
+    
+    private void addCompletedResultSetFuture(final ListenableFuture<ResultSet> resultSetFuture) {
+        try {
+            ResultSet resultSet = resultSetFuture.get();
+            if (null != resultSet) {
+                resultSets.add(resultSet);
+                if (closed) {
+                    closeQuietly(resultSet);
+                }
+            }
+        } catch (final InterruptedException | ExecutionException ignored) {
+        }
+        completedResultSetFutures.add(resultSetFuture);
+    }
+    
+    private Optional<ResultSet> nextCompletedResultSet() throws SQLException {
+        while (remainingSize > 0) {
+            ResultSet result = getResultSet(takeCompletedResultSetFuture());
+            remainingSize--;
+            if (null != result) {
+                return Optional.of(result);
+            }
+        }
+        return Optional.absent();
+    }
+    
+    private ListenableFuture<ResultSet> takeCompletedResultSetFuture() throws SQLException {
+        try {
+            return completedResultSetFutures.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    private ResultSet getResultSet(final ListenableFuture<ResultSet> resultSetFuture) throws SQLException {
+        try {
+            return resultSetFuture.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new SQLException(ex.getCause());
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (getCurrentResultSet().next()) {
+            return true;
+        }
+        Optional<ResultSet> resultSet = nextCompletedResultSet();
+        while (resultSet.isPresent()) {
+            setCurrentResultSet(resultSet.get());
+            if (resultSet.get().next()) {
+                return true;
+            }
+            resultSet = nextCompletedResultSet();
+        }
+        return false;
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        for (int i = 0; i < statements.size(); i++) {
+            if (!resultSetFutures.get(i).isDone()) {
+                cancelQuietly(statements.get(i));
+            }
+        }
+    }
+    
+    private void cancelQuietly(final Statement statement) {
+        try {
+            statement.cancel();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    private void closeQuietly(final ResultSet resultSet) {
+        try {
+            resultSet.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+}
@@ -19,6 +19,7 @@ package io.shardingjdbc.core.merger.limit;
 
 import io.shardingjdbc.core.merger.ResultSetMerger;
 import io.shardingjdbc.core.merger.common.AbstractDecoratorResultSetMerger;
+import io.shardingjdbc.core.merger.orderby.OrderByStreamResultSetMerger;
 import io.shardingjdbc.core.parsing.parser.context.limit.Limit;
 
 import java.sql.SQLException;
@@ -43,12 +44,15 @@ public final class LimitDecoratorResultSetMerger extends AbstractDecoratorResult
     }
     
     private boolean skipOffset() throws SQLException {
+        rowNumber = limit.isRowCountRewriteFlag() ? 0 : limit.getOffsetValue();
+        if (getResultSetMerger() instanceof OrderByStreamResultSetMerger) {
+            return !((OrderByStreamResultSetMerger) getResultSetMerger()).skip(limit.getOffsetValue());
+        }
         for (int i = 0; i < limit.getOffsetValue(); i++) {
             if (!getResultSetMerger().next()) {
                 return true;
             }
         }
-        rowNumber = limit.isRowCountRewriteFlag() ? 0 : limit.getOffsetValue();
         return false;
     }
     
@@ -79,4 +79,72 @@ public class OrderByStreamResultSetMerger extends AbstractStreamResultSetMerger
         setCurrentResultSet(orderByValuesQueue.peek().getResultSet());
         return true;
     }
+    
+    /**
+     * Skip rows, same as invoking {@code next()} for specified times.
+     * 
+     * <p>
+     * Skipped rows are merged in an array heap whose size is not greater than size of result sets, 
+     * the head value is replaced by its next row and sifted down only once, instead of being polled and offered again.
+     * </p>
+     *
+     * @param count count of rows to be skipped
+     * @return all rows are skipped or not
+     * @throws SQLException SQL Exception
+     */
+    public boolean skip(final int count) throws SQLException {
+        if (0 == count) {
+            return true;
+        }
+        if (orderByValuesQueue.isEmpty()) {
+            return false;
+        }
+        int remaining = count;
+        if (isFirstNext) {
+            isFirstNext = false;
+            remaining--;
+        }
+        OrderByValue[] heap = orderByValuesQueue.toArray(new OrderByValue[orderByValuesQueue.size()]);
+        int size = heap.length;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(heap, size, i);
+        }
+        while (remaining > 0) {
+            if (!heap[0].next()) {
+                heap[0] = heap[--size];
+                heap[size] = null;
+                if (0 == size) {
+                    break;
+                }
+            }
+            siftDown(heap, size, 0);
+            remaining--;
+        }
+        orderByValuesQueue.clear();
+        for (int i = 0; i < size; i++) {
+            orderByValuesQueue.offer(heap[i]);
+        }
+        if (!orderByValuesQueue.isEmpty()) {
+            setCurrentResultSet(orderByValuesQueue.peek().getResultSet());
+        }
+        return 0 == remaining;
+    }
+    
+    private void siftDown(final OrderByValue[] heap, final int size, final int index) {
+        OrderByValue value = heap[index];
+        int parent = index;
+        int child = 2 * parent + 1;
+        while (child < size) {
+            if (child + 1 < size && heap[child + 1].compareTo(heap[child]) < 0) {
+                child++;
+            }
+            if (value.compareTo(heap[child]) <= 0) {
+                break;
+            }
+            heap[parent] = heap[child];
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        heap[parent] = value;
+    }
 }
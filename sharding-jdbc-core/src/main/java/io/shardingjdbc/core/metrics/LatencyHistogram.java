@@ -0,0 +1,119 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram.
+ * 
+ * <p>
+ * Latencies are recorded in microseconds into log-linear buckets like HDR histogram, 
+ * each power of 2 is divided into 32 sub buckets, so the relative error of percentile is less than 1/32.
+ * Latencies longer than 2^36 microseconds are recorded as 2^36 microseconds.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+final class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 5;
+    
+    private static final int SUB_BUCKET_SIZE = 1 << SUB_BUCKET_BITS;
+    
+    private static final int MAX_VALUE_BITS = 36;
+    
+    private static final long MAX_VALUE = 1L << MAX_VALUE_BITS;
+    
+    private static final int BUCKET_SIZE = SUB_BUCKET_SIZE + (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_SIZE;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_SIZE);
+    
+    private final AtomicLong totalMicros = new AtomicLong();
+    
+    private final AtomicLong maxMicros = new AtomicLong();
+    
+    /**
+     * Record latency.
+     * 
+     * @param latencyNanos latency in nanoseconds
+     */
+    void record(final long latencyNanos) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 0L), MAX_VALUE);
+        counts.incrementAndGet(getBucketIndex(micros));
+        totalMicros.addAndGet(micros);
+        long currentMaxMicros = maxMicros.get();
+        while (micros > currentMaxMicros && !maxMicros.compareAndSet(currentMaxMicros, micros)) {
+            currentMaxMicros = maxMicros.get();
+        }
+    }
+    
+    /**
+     * Get latency snapshot.
+     * 
+     * @param key metrics key
+     * @return latency snapshot
+     */
+    LatencySnapshot getSnapshot(final MetricsKey key) {
+        long[] bucketCounts = new long[BUCKET_SIZE];
+        long count = 0L;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            bucketCounts[i] = counts.get(i);
+            count += bucketCounts[i];
+        }
+        long max = maxMicros.get();
+        return new LatencySnapshot(key.getStage(), key.getDataSource(), key.getActualTable(), key.getSqlFingerprint(), count, totalMicros.get(), max, 
+                getPercentile(bucketCounts, count, max, 0.5D), getPercentile(bucketCounts, count, max, 0.9D), getPercentile(bucketCounts, count, max, 0.99D), 
+                getPercentile(bucketCounts, count, max, 0.999D));
+    }
+    
+    private long getPercentile(final long[] bucketCounts, final long count, final long max, final double percentile) {
+        if (0L == count) {
+            return 0L;
+        }
+        long threshold = (long) Math.ceil(count * percentile);
+        long accumulatedCount = 0L;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            accumulatedCount += bucketCounts[i];
+            if (accumulatedCount >= threshold) {
+                return Math.min(getHighestValue(i), max);
+            }
+        }
+        return max;
+    }
+    
+    static int getBucketIndex(final long value) {
+        if (value < SUB_BUCKET_SIZE) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKET_SIZE + shift * SUB_BUCKET_SIZE + (int) (value >>> shift) - SUB_BUCKET_SIZE;
+    }
+    
+    static long getHighestValue(final int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_SIZE) {
+            return bucketIndex;
+        }
+        int shift = (bucketIndex - SUB_BUCKET_SIZE) / SUB_BUCKET_SIZE;
+        long subBucketIndex = (bucketIndex - SUB_BUCKET_SIZE) % SUB_BUCKET_SIZE + SUB_BUCKET_SIZE;
+        return ((subBucketIndex + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Snapshot of latency histogram.
+ * 
+ * <p>
+ * Latencies are in microseconds.
+ * Execute stage is keyed by data source and actual table, other stages are keyed by SQL fingerprint.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class LatencySnapshot {
+    
+    private final MetricsStage stage;
+    
+    private final String dataSource;
+    
+    private final String actualTable;
+    
+    private final String sqlFingerprint;
+    
+    private final long count;
+    
+    private final long totalMicros;
+    
+    private final long maxMicros;
+    
+    private final long p50Micros;
+    
+    private final long p90Micros;
+    
+    private final long p99Micros;
+    
+    private final long p999Micros;
+}
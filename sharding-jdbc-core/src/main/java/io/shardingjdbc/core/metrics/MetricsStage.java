@@ -0,0 +1,35 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.metrics;
+
+/**
+ * Stage of SQL execution for metrics.
+ * 
+ * <p>
+ * {@code TOTAL} is recorded when all statement units are finished:
+ * for asynchronous execution it is recorded by callback of the returned future,
+ * for query merged by first ready result set it is recorded after the slowest statement unit is executed, not when the first result set is returned.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public enum MetricsStage {
+    
+    PARSE, ROUTE, REWRITE, EXECUTE, MERGE, TOTAL
+}
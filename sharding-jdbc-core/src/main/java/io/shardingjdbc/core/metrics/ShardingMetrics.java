@@ -0,0 +1,162 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.metrics;
+
+import io.shardingjdbc.core.exception.ShardingJdbcException;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sharding metrics.
+ * 
+ * <p>
+ * Record latency histograms of parse, route, rewrite, merge and total stages by SQL fingerprint,
+ * and execute stage of each statement unit by data source and actual table.
+ * Recording is lock-free, nothing is recorded if disabled.
+ * Histograms of new keys are ignored if there are more than 4096 histograms.
+ * Slow SQL samples are recorded by {@code SlowSQLSampler} no matter latency histograms are enabled or not.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class ShardingMetrics implements ShardingMetricsMXBean {
+    
+    private static final String OBJECT_NAME_PREFIX = "io.shardingjdbc:type=ShardingMetrics,name=ShardingDataSource-";
+    
+    private static final int MAX_HISTOGRAM_SIZE = 4096;
+    
+    private static final AtomicInteger OBJECT_NAME_SEQUENCE = new AtomicInteger();
+    
+    private final ConcurrentMap<MetricsKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    
+    @Getter
+    private final SlowSQLSampler slowSQLSampler = new SlowSQLSampler();
+    
+    @Getter
+    @Setter
+    private volatile boolean enabled;
+    
+    private ObjectName objectName;
+    
+    public ShardingMetrics(final boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    /**
+     * Record latency of stage for SQL.
+     * 
+     * @param stage metrics stage
+     * @param sqlFingerprint fingerprint of logic SQL
+     * @param startNanoTime start time of stage in nanoseconds
+     */
+    public void recordStage(final MetricsStage stage, final String sqlFingerprint, final long startNanoTime) {
+        if (enabled) {
+            record(new MetricsKey(stage, null, null, sqlFingerprint), System.nanoTime() - startNanoTime);
+        }
+    }
+    
+    /**
+     * Record latency of statement unit execution.
+     * 
+     * @param dataSource data source name
+     * @param actualTable actual table name
+     * @param startNanoTime start time of execution in nanoseconds
+     */
+    public void recordExecution(final String dataSource, final String actualTable, final long startNanoTime) {
+        if (enabled) {
+            record(new MetricsKey(MetricsStage.EXECUTE, dataSource, actualTable, null), System.nanoTime() - startNanoTime);
+        }
+    }
+    
+    private void record(final MetricsKey key, final long latencyNanos) {
+        LatencyHistogram histogram = histograms.get(key);
+        if (null == histogram) {
+            if (histograms.size() >= MAX_HISTOGRAM_SIZE) {
+                return;
+            }
+            LatencyHistogram newHistogram = new LatencyHistogram();
+            histogram = histograms.putIfAbsent(key, newHistogram);
+            if (null == histogram) {
+                histogram = newHistogram;
+            }
+        }
+        histogram.record(latencyNanos);
+    }
+    
+    @Override
+    public List<LatencySnapshot> getLatencySnapshots() {
+        List<LatencySnapshot> result = new ArrayList<>(histograms.size());
+        for (Entry<MetricsKey, LatencyHistogram> entry : histograms.entrySet()) {
+            result.add(entry.getValue().getSnapshot(entry.getKey()));
+        }
+        return result;
+    }
+    
+    @Override
+    public List<SlowSQLSample> getSlowSQLSamples() {
+        return slowSQLSampler.getSamples();
+    }
+    
+    @Override
+    public void reset() {
+        histograms.clear();
+        slowSQLSampler.clear();
+    }
+    
+    /**
+     * Register to platform MBean server.
+     */
+    public synchronized void registerMBean() {
+        if (null != objectName) {
+            return;
+        }
+        try {
+            ObjectName result = new ObjectName(OBJECT_NAME_PREFIX + OBJECT_NAME_SEQUENCE.incrementAndGet());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, result);
+            objectName = result;
+        } catch (final JMException ex) {
+            throw new ShardingJdbcException(ex);
+        }
+    }
+    
+    /**
+     * Unregister from platform MBean server.
+     */
+    public synchronized void unregisterMBean() {
+        if (null == objectName) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            objectName = null;
+        } catch (final JMException ex) {
+            throw new ShardingJdbcException(ex);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.metrics;
+
+import java.util.List;
+
+/**
+ * JMX interface of sharding metrics.
+ * 
+ * @author zhangliang
+ */
+public interface ShardingMetricsMXBean {
+    
+    /**
+     * Get latency snapshots of all stages.
+     * 
+     * @return latency snapshots
+     */
+    List<LatencySnapshot> getLatencySnapshots();
+    
+    /**
+     * Get slow SQL samples from oldest to newest.
+     * 
+     * @return slow SQL samples
+     */
+    List<SlowSQLSample> getSlowSQLSamples();
+    
+    /**
+     * Reset all latency histograms and slow SQL samples.
+     */
+    void reset();
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.metrics;
+
+import io.shardingjdbc.core.merger.ResultSetMerger;
+import io.shardingjdbc.core.routing.SQLExecutionUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Slow SQL sampler.
+ * 
+ * <p>
+ * Only SQL slower than threshold is sampled, samples are kept in a bounded ring and the oldest sample is overwritten if ring is full.
+ * Sampling is lock-free, and the cost of SQL faster than threshold is only one comparison.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class SlowSQLSampler {
+    
+    private final AtomicLong sequence = new AtomicLong();
+    
+    private volatile long thresholdNanos;
+    
+    private volatile AtomicReferenceArray<SlowSQLSample> samples = new AtomicReferenceArray<>(1);
+    
+    /**
+     * Configure slow SQL sampler.
+     * 
+     * @param thresholdMilliseconds threshold of slow SQL in milliseconds, disable sampling if not positive
+     * @param sampleSize max size of samples
+     */
+    public synchronized void configure(final long thresholdMilliseconds, final int sampleSize) {
+        if (samples.length() != Math.max(sampleSize, 1)) {
+            samples = new AtomicReferenceArray<>(Math.max(sampleSize, 1));
+        }
+        thresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(thresholdMilliseconds, 0L));
+    }
+    
+    /**
+     * Adjust slow SQL sampler is enabled or not.
+     * 
+     * @return slow SQL sampler is enabled or not
+     */
+    public boolean isEnabled() {
+        return thresholdNanos > 0L;
+    }
+    
+    /**
+     * Sample SQL if it is slower than threshold.
+     * 
+     * @param logicSQL logic SQL
+     * @param routingResultType type of routing result
+     * @param executionUnits SQL execution units
+     * @param resultSetMerger result set merger, null if result sets are not merged
+     * @param startNanoTime start time of SQL in nanoseconds
+     */
+    public void sample(final String logicSQL, final String routingResultType, final Collection<SQLExecutionUnit> executionUnits, 
+                       final ResultSetMerger resultSetMerger, final long startNanoTime) {
+        long threshold = thresholdNanos;
+        long elapsedTime = System.nanoTime() - startNanoTime;
+        if (threshold <= 0L || elapsedTime < threshold) {
+            return;
+        }
+        List<ExecutionUnitSample> executionUnitSamples = new ArrayList<>(executionUnits.size());
+        for (SQLExecutionUnit each : executionUnits) {
+            executionUnitSamples.add(new ExecutionUnitSample(each.getDataSource(), each.getActualTable(), each.getSql(), TimeUnit.NANOSECONDS.toMicros(each.getExecutionNanoTime())));
+        }
+        SlowSQLSample sample = new SlowSQLSample(System.currentTimeMillis(), logicSQL, routingResultType, 
+                null == resultSetMerger ? null : resultSetMerger.getClass().getSimpleName(), TimeUnit.NANOSECONDS.toMicros(elapsedTime), executionUnitSamples);
+        AtomicReferenceArray<SlowSQLSample> currentSamples = samples;
+        currentSamples.set((int) (sequence.getAndIncrement() % currentSamples.length()), sample);
+    }
+    
+    /**
+     * Get samples from oldest to newest.
+     * 
+     * @return samples
+     */
+    public List<SlowSQLSample> getSamples() {
+        AtomicReferenceArray<SlowSQLSample> currentSamples = samples;
+        int size = currentSamples.length();
+        long nextSequence = sequence.get();
+        List<SlowSQLSample> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SlowSQLSample each = currentSamples.get((int) ((nextSequence + i) % size));
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+    
+    /**
+     * Clear samples.
+     */
+    public synchronized void clear() {
+        samples = new AtomicReferenceArray<>(samples.length());
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.parsing.cache;
+
+import io.shardingjdbc.core.constant.DatabaseType;
+import io.shardingjdbc.core.parsing.parser.sql.SQLStatement;
+import io.shardingjdbc.core.parsing.parser.sql.ddl.DDLStatement;
+import io.shardingjdbc.core.parsing.parser.sql.dml.DMLStatement;
+import io.shardingjdbc.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingjdbc.core.rewrite.SQLRewriteCache;
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Parsing result cache.
+ * 
+ * <p>
+ * Cache is bounded by maximum size and evicts least recently used SQL first.
+ * Cached SQL statements are never exposed, every read returns a copy which can be modified by routing and merging safely.
+ * SQL statement of unknown type is not cached, because it can not be copied.
+ * Each cached SQL also owns a rewrite cache, so statements of the same SQL share rewritten SQL builders.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class ParsingResultCache {
+    
+    private final Cache<CacheKey, CacheValue> cache;
+    
+    public ParsingResultCache(final int maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * Get copy of cached SQL statement.
+     * 
+     * @param databaseType database type
+     * @param sql SQL
+     * @return copy of cached SQL statement, return absent if not cached
+     */
+    public Optional<SQLStatement> getSQLStatement(final DatabaseType databaseType, final String sql) {
+        CacheValue result = cache.getIfPresent(new CacheKey(databaseType, sql));
+        return null == result ? Optional.<SQLStatement>absent() : copy(result.getSqlStatement());
+    }
+    
+    /**
+     * Get rewrite cache of cached SQL.
+     * 
+     * <p>Hit and miss count are not recorded by this lookup.</p>
+     * 
+     * @param databaseType database type
+     * @param sql SQL
+     * @return rewrite cache of cached SQL, return absent if SQL is not cached
+     */
+    public Optional<SQLRewriteCache> getSQLRewriteCache(final DatabaseType databaseType, final String sql) {
+        CacheValue result = cache.asMap().get(new CacheKey(databaseType, sql));
+        return null == result ? Optional.<SQLRewriteCache>absent() : Optional.of(result.getSqlRewriteCache());
+    }
+    
+    /**
+     * Put SQL statement into cache.
+     * 
+     * <p>The copy of SQL statement will be cached, so caller can still modify SQL statement after put.
+     * SQL statement of unknown type is ignored.</p>
+     * 
+     * @param databaseType database type
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     */
+    public void put(final DatabaseType databaseType, final String sql, final SQLStatement sqlStatement) {
+        Optional<SQLStatement> copiedSQLStatement = copy(sqlStatement);
+        if (copiedSQLStatement.isPresent()) {
+            cache.put(new CacheKey(databaseType, sql), new CacheValue(copiedSQLStatement.get()));
+        }
+    }
+    
+    private Optional<SQLStatement> copy(final SQLStatement sqlStatement) {
+        if (SelectStatement.class == sqlStatement.getClass()) {
+            return Optional.<SQLStatement>of(new SelectStatement((SelectStatement) sqlStatement));
+        }
+        if (InsertStatement.class == sqlStatement.getClass()) {
+            return Optional.<SQLStatement>of(new InsertStatement((InsertStatement) sqlStatement));
+        }
+        if (DMLStatement.class == sqlStatement.getClass()) {
+            return Optional.<SQLStatement>of(new DMLStatement((DMLStatement) sqlStatement));
+        }
+        if (DDLStatement.class == sqlStatement.getClass()) {
+            return Optional.<SQLStatement>of(new DDLStatement((DDLStatement) sqlStatement));
+        }
+        return Optional.absent();
+    }
+    
+    /**
+     * Get count of cache hit.
+     * 
+     * @return count of cache hit
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+    
+    /**
+     * Get count of cache miss.
+     *
+     * @return count of cache miss
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+    
+    /**
+     * Get count of cached SQL statements.
+     * 
+     * @return count of cached SQL statements
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final DatabaseType databaseType;
+        
+        private final String sql;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CacheValue {
+        
+        private final SQLStatement sqlStatement;
+        
+        private final SQLRewriteCache sqlRewriteCache = new SQLRewriteCache();
+    }
+}
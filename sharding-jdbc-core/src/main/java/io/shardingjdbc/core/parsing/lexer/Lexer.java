@@ -24,62 +24,64 @@ import io.shardingjdbc.core.parsing.lexer.token.Assist;
 import io.shardingjdbc.core.parsing.lexer.token.Token;
 import io.shardingjdbc.core.parsing.parser.exception.SQLParsingException;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Lexical analysis.
  * 
+ * <p>One tokenizer is used as cursor to walk through whole input.</p>
+ * 
  * @author zhangliang 
  */
-@RequiredArgsConstructor
 public class Lexer {
     
     @Getter
     private final String input;
     
-    private final Dictionary dictionary;
-    
-    private int offset;
+    private final Tokenizer tokenizer;
     
     @Getter
     private Token currentToken;
     
+    public Lexer(final String input, final Dictionary dictionary) {
+        this.input = input;
+        tokenizer = new Tokenizer(input, dictionary, 0);
+    }
+    
     /**
      * Analyse next token.
      */
     public final void nextToken() {
         skipIgnoredToken();
         if (isVariableBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanVariable();
+            currentToken = tokenizer.scanVariable();
         } else if (isNCharBegin()) {
-            currentToken = new Tokenizer(input, dictionary, ++offset).scanChars();
+            currentToken = tokenizer.scanNChars();
         } else if (isIdentifierBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanIdentifier();
+            currentToken = tokenizer.scanIdentifier();
         } else if (isHexDecimalBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanHexDecimal();
+            currentToken = tokenizer.scanHexDecimal();
         } else if (isNumberBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanNumber();
+            currentToken = tokenizer.scanNumber();
         } else if (isSymbolBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanSymbol();
+            currentToken = tokenizer.scanSymbol();
         } else if (isCharsBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanChars();
+            currentToken = tokenizer.scanChars();
         } else if (isEnd()) {
-            currentToken = new Token(Assist.END, "", offset);
+            currentToken = new Token(Assist.END, "", tokenizer.getOffset());
         } else {
             throw new SQLParsingException(this, Assist.ERROR);
         }
-        offset = currentToken.getEndPosition();
     }
     
     private void skipIgnoredToken() {
-        offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+        tokenizer.skipWhitespace();
         while (isHintBegin()) {
-            offset = new Tokenizer(input, dictionary, offset).skipHint();
-            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+            tokenizer.skipHint();
+            tokenizer.skipWhitespace();
         }
         while (isCommentBegin()) {
-            offset = new Tokenizer(input, dictionary, offset).skipComment();
-            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+            tokenizer.skipComment();
+            tokenizer.skipWhitespace();
         }
     }
     
@@ -131,10 +133,11 @@ public class Lexer {
     }
     
     private boolean isEnd() {
-        return offset >= input.length();
+        return tokenizer.getOffset() >= input.length();
     }
     
     protected final char getCurrentChar(final int offset) {
-        return this.offset + offset >= input.length() ? (char) CharType.EOI : input.charAt(this.offset + offset);
+        int position = tokenizer.getOffset() + offset;
+        return position >= input.length() ? (char) CharType.EOI : input.charAt(position);
     }
 }
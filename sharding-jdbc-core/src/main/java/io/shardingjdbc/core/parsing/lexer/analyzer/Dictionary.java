@@ -21,17 +21,23 @@ import io.shardingjdbc.core.parsing.lexer.token.DefaultKeyword;
 import io.shardingjdbc.core.parsing.lexer.token.Keyword;
 import io.shardingjdbc.core.parsing.lexer.token.TokenType;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Token dictionary.
+ * 
+ * <p>
+ * Keywords are stored in a case-insensitive char trie, 
+ * so the literals range of input can be matched without creating string.
+ * </p>
  *
  * @author zhangliang
  */
 public final class Dictionary {
     
-    private final Map<String, Keyword> tokens = new HashMap<>(1024);
+    private static final char MIN_KEYWORD_CHAR = '0';
+    
+    private static final char MAX_KEYWORD_CHAR = '_';
+    
+    private final KeywordNode root = new KeywordNode();
     
     public Dictionary(final Keyword... dialectKeywords) {
         fill(dialectKeywords);
@@ -39,23 +45,62 @@ public final class Dictionary {
     
     private void fill(final Keyword... dialectKeywords) {
         for (DefaultKeyword each : DefaultKeyword.values()) {
-            tokens.put(each.name(), each);
+            put(each.name(), each);
         }
         for (Keyword each : dialectKeywords) {
-            tokens.put(each.toString(), each);
+            put(each.toString(), each);
+        }
+    }
+    
+    private void put(final String literals, final Keyword keyword) {
+        KeywordNode node = root;
+        for (int i = 0; i < literals.length(); i++) {
+            int index = getChildIndex(literals.charAt(i));
+            if (-1 == index) {
+                throw new IllegalArgumentException(String.format("Illegal keyword '%s'.", literals));
+            }
+            if (null == node.children[index]) {
+                node.children[index] = new KeywordNode();
+            }
+            node = node.children[index];
         }
+        node.keyword = keyword;
     }
     
-    TokenType findTokenType(final String literals, final TokenType defaultTokenType) {
-        String key = null == literals ? null : literals.toUpperCase();
-        return tokens.containsKey(key) ? tokens.get(key) : defaultTokenType;
+    TokenType findTokenType(final String input, final int beginPosition, final int endPosition, final TokenType defaultTokenType) {
+        Keyword result = find(input, beginPosition, endPosition);
+        return null == result ? defaultTokenType : result;
     }
     
-    TokenType findTokenType(final String literals) {
-        String key = null == literals ? null : literals.toUpperCase();
-        if (tokens.containsKey(key)) {
-            return tokens.get(key);
+    TokenType findTokenType(final String input, final int beginPosition, final int endPosition) {
+        Keyword result = find(input, beginPosition, endPosition);
+        if (null == result) {
+            throw new IllegalArgumentException();
         }
-        throw new IllegalArgumentException();
+        return result;
+    }
+    
+    private Keyword find(final String input, final int beginPosition, final int endPosition) {
+        KeywordNode node = root;
+        for (int i = beginPosition; i < endPosition; i++) {
+            int index = getChildIndex(input.charAt(i));
+            if (-1 == index || null == node.children[index]) {
+                return null;
+            }
+            node = node.children[index];
+        }
+        return node.keyword;
+    }
+    
+    private int getChildIndex(final char ch) {
+        char upperCaseChar = ch >= 'a' && ch <= 'z' ? (char) (ch - 'a' + 'A') : ch;
+        return upperCaseChar < MIN_KEYWORD_CHAR || upperCaseChar > MAX_KEYWORD_CHAR ? -1 : upperCaseChar - MIN_KEYWORD_CHAR;
+    }
+    
+    private static final class KeywordNode {
+        
+        private final KeywordNode[] children = new KeywordNode[MAX_KEYWORD_CHAR - MIN_KEYWORD_CHAR + 1];
+        
+        private Keyword keyword;
     }
 }
@@ -22,14 +22,15 @@ import io.shardingjdbc.core.parsing.lexer.token.Literals;
 import io.shardingjdbc.core.parsing.lexer.token.Symbol;
 import io.shardingjdbc.core.parsing.lexer.token.Token;
 import io.shardingjdbc.core.parsing.lexer.token.TokenType;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 
 /**
  * Tokenizer.
+ * 
+ * <p>Tokenizer is a cursor of input, every skip or scan will move the offset to the end of skipped or scanned token.</p>
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class Tokenizer {
     
     private static final int MYSQL_SPECIAL_COMMENT_BEGIN_SYMBOL_LENGTH = 1;
@@ -46,7 +47,14 @@ public final class Tokenizer {
     
     private final Dictionary dictionary;
     
-    private final int offset;
+    @Getter
+    private int offset;
+    
+    public Tokenizer(final String input, final Dictionary dictionary, final int offset) {
+        this.input = input;
+        this.dictionary = dictionary;
+        this.offset = offset;
+    }
     
     /**
      * skip whitespace.
@@ -58,7 +66,7 @@ public final class Tokenizer {
         while (CharType.isWhitespace(charAt(offset + length))) {
             length++;
         }
-        return offset + length;
+        return moveTo(offset + length);
     }
     
     /**
@@ -88,7 +96,7 @@ public final class Tokenizer {
         while (!CharType.isEndOfInput(charAt(offset + length)) && '\n' != charAt(offset + length)) {
             length++;
         }
-        return offset + length + 1;
+        return moveTo(offset + length + 1);
     }
     
     private boolean isMultipleLineCommentBegin(final char ch, final char next) {
@@ -116,7 +124,7 @@ public final class Tokenizer {
             }
             length++;
         }
-        return offset + length + COMMENT_AND_HINT_END_SYMBOL_LENGTH;
+        return moveTo(offset + length + COMMENT_AND_HINT_END_SYMBOL_LENGTH);
     }
     
     private boolean isMultipleLineCommentEnd(final char ch, final char next) {
@@ -136,7 +144,7 @@ public final class Tokenizer {
         while (isVariableChar(charAt(offset + length))) {
             length++;
         }
-        return new Token(Literals.VARIABLE, input.substring(offset, offset + length), offset + length);
+        return createToken(Literals.VARIABLE, length);
     }
     
     private boolean isVariableChar(final char ch) {
@@ -151,17 +159,14 @@ public final class Tokenizer {
     public Token scanIdentifier() {
         if ('`' == charAt(offset)) {
             int length = getLengthUntilTerminatedChar('`');
-            return new Token(Literals.IDENTIFIER, input.substring(offset, offset + length), offset + length);
+            return createToken(Literals.IDENTIFIER, length);
         }
         int length = 0;
         while (isIdentifierChar(charAt(offset + length))) {
             length++;
         }
-        String literals = input.substring(offset, offset + length);
-        if (isAmbiguousIdentifier(literals)) {
-            return new Token(processAmbiguousIdentifier(offset + length, literals), literals, offset + length);
-        }
-        return new Token(dictionary.findTokenType(literals, Literals.IDENTIFIER), literals, offset + length);
+        TokenType tokenType = isAmbiguousIdentifier(length) ? processAmbiguousIdentifier(length) : dictionary.findTokenType(input, offset, offset + length, Literals.IDENTIFIER);
+        return createToken(tokenType, length);
     }
     
     private int getLengthUntilTerminatedChar(final char terminatedChar) {
@@ -186,21 +191,29 @@ public final class Tokenizer {
         return CharType.isAlphabet(ch) || CharType.isDigital(ch) || '_' == ch || '$' == ch || '#' == ch;
     }
     
-    private boolean isAmbiguousIdentifier(final String literals) {
-        return DefaultKeyword.ORDER.name().equalsIgnoreCase(literals) || DefaultKeyword.GROUP.name().equalsIgnoreCase(literals);
+    private boolean isAmbiguousIdentifier(final int length) {
+        return isKeyword(DefaultKeyword.ORDER, length) || isKeyword(DefaultKeyword.GROUP, length);
     }
     
-    private TokenType processAmbiguousIdentifier(final int offset, final String literals) {
-        int i = 0;
+    private boolean isKeyword(final DefaultKeyword keyword, final int length) {
+        return keyword.name().length() == length && input.regionMatches(true, offset, keyword.name(), 0, length);
+    }
+    
+    private TokenType processAmbiguousIdentifier(final int length) {
+        int i = length;
         while (CharType.isWhitespace(charAt(offset + i))) {
             i++;
         }
-        if (DefaultKeyword.BY.name().equalsIgnoreCase(String.valueOf(new char[] {charAt(offset + i), charAt(offset + i + 1)}))) {
-            return dictionary.findTokenType(literals);
+        if (isByKeyword(charAt(offset + i), charAt(offset + i + 1))) {
+            return dictionary.findTokenType(input, offset, offset + length);
         }
         return Literals.IDENTIFIER;
     }
     
+    private boolean isByKeyword(final char ch, final char next) {
+        return ('B' == ch || 'b' == ch) && ('Y' == next || 'y' == next);
+    }
+    
     /**
      * scan hex decimal.
      *
@@ -214,7 +227,7 @@ public final class Tokenizer {
         while (isHex(charAt(offset + length))) {
             length++;
         }
-        return new Token(Literals.HEX, input.substring(offset, offset + length), offset + length);
+        return createToken(Literals.HEX, length);
     }
     
     private boolean isHex(final char ch) {
@@ -250,7 +263,7 @@ public final class Tokenizer {
             isFloat = true;
             length++;
         }
-        return new Token(isFloat ? Literals.FLOAT : Literals.INT, input.substring(offset, offset + length), offset + length);
+        return createToken(isFloat ? Literals.FLOAT : Literals.INT, length);
     }
     
     private int getDigitalLength(final int offset) {
@@ -280,9 +293,21 @@ public final class Tokenizer {
         return scanChars(charAt(offset));
     }
     
+    /**
+     * scan national chars, which begin with {@code N}.
+     *
+     * @return chars token
+     */
+    public Token scanNChars() {
+        moveTo(offset + 1);
+        return scanChars();
+    }
+    
     private Token scanChars(final char terminatedChar) {
         int length = getLengthUntilTerminatedChar(terminatedChar);
-        return new Token(Literals.CHARS, input.substring(offset + 1, offset + length - 1), offset + length);
+        Token result = new Token(Literals.CHARS, input, offset + 1, offset + length - 1, offset + length);
+        moveTo(offset + length);
+        return result;
     }
     
     /**
@@ -295,12 +320,24 @@ public final class Tokenizer {
         while (CharType.isSymbol(charAt(offset + length))) {
             length++;
         }
-        String literals = input.substring(offset, offset + length);
         Symbol symbol;
-        while (null == (symbol = Symbol.literalsOf(literals))) {
-            literals = input.substring(offset, offset + --length);
+        while (null == (symbol = Symbol.literalsOf(input, offset, length))) {
+            length--;
         }
-        return new Token(symbol, literals, offset + length);
+        Token result = new Token(symbol, symbol.getLiterals(), offset + length);
+        moveTo(offset + length);
+        return result;
+    }
+    
+    private Token createToken(final TokenType tokenType, final int length) {
+        Token result = new Token(tokenType, input, offset, offset + length, offset + length);
+        moveTo(offset + length);
+        return result;
+    }
+    
+    private int moveTo(final int offset) {
+        this.offset = offset;
+        return offset;
     }
     
     private char charAt(final int index) {
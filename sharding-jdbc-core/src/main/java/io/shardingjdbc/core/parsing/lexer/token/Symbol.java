@@ -20,7 +20,9 @@ package io.shardingjdbc.core.parsing.lexer.token;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -73,8 +75,12 @@ public enum Symbol implements TokenType, Keyword {
     AT("@"),
     POUND("#");
     
+    private static final int ASCII_SIZE = 128;
+    
     private static Map<String, Symbol> symbols = new HashMap<>(128);
     
+    private static Symbol[][] symbolsByFirstChar = new Symbol[ASCII_SIZE][];
+    
     @Getter
     private static Symbol[] operators;
     
@@ -82,6 +88,7 @@ public enum Symbol implements TokenType, Keyword {
         for (Symbol each : Symbol.values()) {
             symbols.put(each.getLiterals(), each);
         }
+        fillSymbolsByFirstChar();
         operators = new Symbol
                 [] {PLUS, SUB, STAR, SLASH, EQ, GT, LT, CARET, PERCENT, LT_EQ, GT_EQ, LT_EQ_GT, LT_GT, BANG_EQ, BANG_GT, BANG_LT, AMP, BAR, DOUBLE_AMP, DOUBLE_BAR, DOUBLE_LT, DOUBLE_GT};
     }
@@ -97,4 +104,40 @@ public enum Symbol implements TokenType, Keyword {
     public static Symbol literalsOf(final String literals) {
         return symbols.get(literals);
     }
+    
+    /**
+     * Find symbol via literals range of input, do not create substring.
+     * 
+     * @param input input string
+     * @param beginPosition begin position of literals
+     * @param length length of literals
+     * @return symbol, return {@code null} if not found
+     */
+    public static Symbol literalsOf(final String input, final int beginPosition, final int length) {
+        char firstChar = input.charAt(beginPosition);
+        if (firstChar >= ASCII_SIZE || null == symbolsByFirstChar[firstChar]) {
+            return null;
+        }
+        for (Symbol each : symbolsByFirstChar[firstChar]) {
+            if (length == each.literals.length() && input.regionMatches(beginPosition, each.literals, 0, length)) {
+                return each;
+            }
+        }
+        return null;
+    }
+    
+    private static void fillSymbolsByFirstChar() {
+        List<List<Symbol>> buckets = new ArrayList<>(ASCII_SIZE);
+        for (int i = 0; i < ASCII_SIZE; i++) {
+            buckets.add(new ArrayList<Symbol>());
+        }
+        for (Symbol each : Symbol.values()) {
+            buckets.get(each.getLiterals().charAt(0)).add(each);
+        }
+        for (int i = 0; i < ASCII_SIZE; i++) {
+            if (!buckets.get(i).isEmpty()) {
+                symbolsByFirstChar[i] = buckets.get(i).toArray(new Symbol[buckets.get(i).size()]);
+            }
+        }
+    }
 }
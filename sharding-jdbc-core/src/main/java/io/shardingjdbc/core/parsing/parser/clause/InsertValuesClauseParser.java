@@ -51,9 +51,10 @@ public class InsertValuesClauseParser implements SQLClauseParser {
         valueKeywords.addAll(Arrays.asList(getSynonymousKeywordsForValues()));
         if (lexerEngine.skipIfEqual(valueKeywords.toArray(new Keyword[valueKeywords.size()]))) {
             insertStatement.setAfterValuesPosition(lexerEngine.getCurrentToken().getEndPosition() - lexerEngine.getCurrentToken().getLiterals().length());
+            int parametersBeginIndex = insertStatement.getParametersIndex();
             parseValues(insertStatement);
             if (lexerEngine.equalAny(Symbol.COMMA)) {
-                parseMultipleValues(insertStatement);
+                parseMultipleValues(insertStatement, parametersBeginIndex);
             }
         }
     }
@@ -93,19 +94,29 @@ public class InsertValuesClauseParser implements SQLClauseParser {
         return result;
     }
     
-    private void parseMultipleValues(final InsertStatement insertStatement) {
+    private void parseMultipleValues(final InsertStatement insertStatement, final int parametersBeginIndex) {
         insertStatement.getMultipleConditions().add(new Conditions(insertStatement.getConditions()));
         MultipleInsertValuesToken valuesToken = new MultipleInsertValuesToken(insertStatement.getAfterValuesPosition());
-        valuesToken.getValues().add(
-                lexerEngine.getInput().substring(insertStatement.getAfterValuesPosition(), lexerEngine.getCurrentToken().getEndPosition() - Symbol.COMMA.getLiterals().length()));
+        valuesToken.setParametersBeginIndex(parametersBeginIndex);
+        addValues(valuesToken, insertStatement.getAfterValuesPosition(), insertStatement.getParametersIndex() - parametersBeginIndex);
+        int lastBeginPosition = insertStatement.getAfterValuesPosition();
         while (lexerEngine.skipIfEqual(Symbol.COMMA)) {
-            int beginPosition = lexerEngine.getCurrentToken().getEndPosition() - lexerEngine.getCurrentToken().getLiterals().length();
+            lastBeginPosition = getCurrentTokenBeginPosition();
+            int beginParametersIndex = insertStatement.getParametersIndex();
             parseValues(insertStatement);
             insertStatement.getMultipleConditions().add(new Conditions(insertStatement.getConditions()));
-            int endPosition = lexerEngine.equalAny(Symbol.COMMA)
-                    ? lexerEngine.getCurrentToken().getEndPosition() - Symbol.COMMA.getLiterals().length() : lexerEngine.getCurrentToken().getEndPosition();
-            valuesToken.getValues().add(lexerEngine.getInput().substring(beginPosition, endPosition));
+            addValues(valuesToken, lastBeginPosition, insertStatement.getParametersIndex() - beginParametersIndex);
         }
+        valuesToken.setEndPosition(lastBeginPosition + valuesToken.getValues().get(valuesToken.getValues().size() - 1).length());
         insertStatement.getSqlTokens().add(valuesToken);
     }
+    
+    private void addValues(final MultipleInsertValuesToken valuesToken, final int beginPosition, final int parametersCount) {
+        valuesToken.getValues().add(lexerEngine.getInput().substring(beginPosition, getCurrentTokenBeginPosition()).trim());
+        valuesToken.getParametersCounts().add(parametersCount);
+    }
+    
+    private int getCurrentTokenBeginPosition() {
+        return lexerEngine.getCurrentToken().getEndPosition() - lexerEngine.getCurrentToken().getLiterals().length();
+    }
 }
@@ -41,6 +41,7 @@ public class OrderByClauseParser implements SQLClauseParser {
      * @param selectStatement select statement
      */
     public final void parse(final SelectStatement selectStatement) {
+        int beginPosition = getCurrentTokenBeginPosition();
         if (!lexerEngine.skipIfEqual(DefaultKeyword.ORDER)) {
             return;
         }
@@ -52,6 +53,12 @@ public class OrderByClauseParser implements SQLClauseParser {
         }
         while (lexerEngine.skipIfEqual(Symbol.COMMA));
         selectStatement.getOrderByItems().addAll(result);
+        selectStatement.setOrderByBeginPosition(beginPosition);
+        selectStatement.setOrderByLastPosition(getCurrentTokenBeginPosition());
+    }
+    
+    private int getCurrentTokenBeginPosition() {
+        return lexerEngine.getCurrentToken().getEndPosition() - lexerEngine.getCurrentToken().getLiterals().length();
     }
     
     private OrderItem parseSelectOrderByItem(final SelectStatement selectStatement) {
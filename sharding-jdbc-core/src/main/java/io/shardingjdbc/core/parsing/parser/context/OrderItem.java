@@ -72,6 +72,15 @@ public final class OrderItem {
         alias = Optional.absent();
     }
     
+    public OrderItem(final OrderItem orderItem) {
+        owner = orderItem.owner;
+        name = orderItem.name;
+        index = orderItem.index;
+        type = orderItem.type;
+        nullOrderType = orderItem.nullOrderType;
+        alias = orderItem.alias;
+    }
+    
     /**
      * Get column label.
      *
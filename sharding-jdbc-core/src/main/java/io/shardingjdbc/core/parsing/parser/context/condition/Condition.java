@@ -9,6 +9,8 @@ import io.shardingjdbc.core.parsing.parser.expression.SQLExpression;
 import io.shardingjdbc.core.parsing.parser.expression.SQLNumberExpression;
 import io.shardingjdbc.core.parsing.parser.expression.SQLPlaceholderExpression;
 import io.shardingjdbc.core.parsing.parser.expression.SQLTextExpression;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import lombok.AccessLevel;
@@ -92,17 +94,41 @@ public final class Condition {
         }
     }
     
+    /**
+     * Get the only value of equal condition.
+     * 
+     * <p>Do not create sharding value and values list, used for routing directly.</p>
+     *
+     * @param parameters parameters
+     * @return condition value, absent if value of condition is not sharding value
+     */
+    public Optional<Comparable<?>> getEqualValue(final List<Object> parameters) {
+        Preconditions.checkState(ShardingOperator.EQUAL == operator, "Only equal condition has only one value.");
+        if (positionValueMap.containsKey(0)) {
+            return Optional.<Comparable<?>>of(positionValueMap.get(0));
+        }
+        if (positionIndexMap.containsKey(0)) {
+            return Optional.<Comparable<?>>of(getComparableParameter(parameters, positionIndexMap.get(0)));
+        }
+        return Optional.absent();
+    }
+    
+    private Comparable<?> getComparableParameter(final List<Object> parameters, final int index) {
+        Object result = parameters.get(index);
+        if (!(result instanceof Comparable<?>)) {
+            throw new ShardingJdbcException("Parameter `%s` should extends Comparable for sharding value.", result);
+        }
+        return (Comparable<?>) result;
+    }
+    
     private List<Comparable<?>> getValues(final List<Object> parameters) {
         List<Comparable<?>> result = new LinkedList<>(positionValueMap.values());
         for (Entry<Integer, Integer> entry : positionIndexMap.entrySet()) {
-            Object parameter = parameters.get(entry.getValue());
-            if (!(parameter instanceof Comparable<?>)) {
-                throw new ShardingJdbcException("Parameter `%s` should extends Comparable for sharding value.", parameter);
-            }
+            Comparable<?> parameter = getComparableParameter(parameters, entry.getValue());
             if (entry.getKey() < result.size()) {
-                result.add(entry.getKey(), (Comparable<?>) parameter);
+                result.add(entry.getKey(), parameter);
             } else {
-                result.add((Comparable<?>) parameter);
+                result.add(parameter);
             }
         }
         return result;
@@ -44,6 +44,12 @@ public final class Limit {
     
     private LimitValue rowCount;
     
+    public Limit(final Limit limit) {
+        rowCountRewriteFlag = limit.rowCountRewriteFlag;
+        offset = null == limit.offset ? null : new LimitValue(limit.offset.getValue(), limit.offset.getIndex());
+        rowCount = null == limit.rowCount ? null : new LimitValue(limit.rowCount.getValue(), limit.rowCount.getIndex());
+    }
+    
     /**
      * Get offset value.
      * 
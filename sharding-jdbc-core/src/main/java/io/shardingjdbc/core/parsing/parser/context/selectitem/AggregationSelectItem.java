@@ -51,6 +51,16 @@ public final class AggregationSelectItem implements SelectItem {
     @Setter
     private int index = -1;
     
+    public AggregationSelectItem(final AggregationSelectItem aggregationSelectItem) {
+        type = aggregationSelectItem.type;
+        innerExpression = aggregationSelectItem.innerExpression;
+        alias = aggregationSelectItem.alias;
+        index = aggregationSelectItem.index;
+        for (AggregationSelectItem each : aggregationSelectItem.derivedAggregationSelectItems) {
+            derivedAggregationSelectItems.add(new AggregationSelectItem(each));
+        }
+    }
+    
     @Override
     public String getExpression() {
         return SQLUtil.getExactlyValue(type.name() + innerExpression);
@@ -19,6 +19,7 @@ package io.shardingjdbc.core.parsing.parser.context.table;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 import java.util.ArrayList;
@@ -31,11 +32,16 @@ import java.util.TreeSet;
  * 
  * @author zhangliang
  */
+@NoArgsConstructor
 @ToString
 public final class Tables {
     
     private final List<Table> tables = new ArrayList<>();
     
+    public Tables(final Tables tables) {
+        this.tables.addAll(tables.tables);
+    }
+    
     /**
      * 添加表解析对象.
      * 
@@ -20,9 +20,10 @@ package io.shardingjdbc.core.parsing.parser.sql;
 import io.shardingjdbc.core.constant.SQLType;
 import io.shardingjdbc.core.parsing.parser.context.condition.Conditions;
 import io.shardingjdbc.core.parsing.parser.context.table.Tables;
+import io.shardingjdbc.core.parsing.parser.token.ItemsToken;
+import io.shardingjdbc.core.parsing.parser.token.MultipleInsertValuesToken;
 import io.shardingjdbc.core.parsing.parser.token.SQLToken;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
@@ -34,7 +35,6 @@ import java.util.List;
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 @Getter
 @Setter
 @ToString
@@ -42,14 +42,42 @@ public abstract class AbstractSQLStatement implements SQLStatement {
     
     private final SQLType type;
     
-    private final Tables tables = new Tables();
+    private final Tables tables;
     
-    private final Conditions conditions = new Conditions();
+    private final Conditions conditions;
     
-    private final List<SQLToken> sqlTokens = new LinkedList<>();
+    private final List<SQLToken> sqlTokens;
     
     private int parametersIndex;
     
+    public AbstractSQLStatement(final SQLType type) {
+        this.type = type;
+        tables = new Tables();
+        conditions = new Conditions();
+        sqlTokens = new LinkedList<>();
+    }
+    
+    protected AbstractSQLStatement(final AbstractSQLStatement sqlStatement) {
+        type = sqlStatement.type;
+        tables = new Tables(sqlStatement.tables);
+        conditions = new Conditions(sqlStatement.conditions);
+        sqlTokens = new LinkedList<>();
+        for (SQLToken each : sqlStatement.sqlTokens) {
+            sqlTokens.add(copy(each));
+        }
+        parametersIndex = sqlStatement.parametersIndex;
+    }
+    
+    private static SQLToken copy(final SQLToken sqlToken) {
+        if (sqlToken instanceof ItemsToken) {
+            return new ItemsToken((ItemsToken) sqlToken);
+        }
+        if (sqlToken instanceof MultipleInsertValuesToken) {
+            return new MultipleInsertValuesToken((MultipleInsertValuesToken) sqlToken);
+        }
+        return sqlToken;
+    }
+    
     @Override
     public final SQLType getType() {
         return type;
@@ -36,4 +36,8 @@ public final class DDLStatement extends AbstractSQLStatement {
     public DDLStatement() {
         super(SQLType.DDL);
     }
+    
+    public DDLStatement(final DDLStatement ddlStatement) {
+        super(ddlStatement);
+    }
 }
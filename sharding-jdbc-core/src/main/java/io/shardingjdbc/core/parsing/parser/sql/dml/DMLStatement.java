@@ -36,4 +36,8 @@ public class DMLStatement extends AbstractSQLStatement {
     public DMLStatement() {
         super(SQLType.DML);
     }
+    
+    public DMLStatement(final DMLStatement dmlStatement) {
+        super(dmlStatement);
+    }
 }
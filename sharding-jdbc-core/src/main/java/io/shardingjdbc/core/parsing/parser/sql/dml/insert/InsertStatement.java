@@ -32,6 +32,7 @@ import io.shardingjdbc.core.parsing.parser.token.ItemsToken;
 import io.shardingjdbc.core.parsing.parser.token.SQLToken;
 import com.google.common.base.Optional;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
@@ -44,6 +45,7 @@ import java.util.List;
  *
  * @author zhangliang
  */
+@NoArgsConstructor
 @Getter
 @Setter
 @ToString
@@ -63,6 +65,19 @@ public final class InsertStatement extends DMLStatement {
     
     private GeneratedKey generatedKey;
     
+    public InsertStatement(final InsertStatement insertStatement) {
+        super(insertStatement);
+        columns.addAll(insertStatement.columns);
+        for (Conditions each : insertStatement.multipleConditions) {
+            multipleConditions.add(new Conditions(each));
+        }
+        columnsListLastPosition = insertStatement.columnsListLastPosition;
+        generateKeyColumnIndex = insertStatement.generateKeyColumnIndex;
+        afterValuesPosition = insertStatement.afterValuesPosition;
+        valuesListLastPosition = insertStatement.valuesListLastPosition;
+        generatedKey = insertStatement.generatedKey;
+    }
+    
     /**
      * Append generate key token.
      *
@@ -36,4 +36,8 @@ public class DQLStatement extends AbstractSQLStatement {
     public DQLStatement() {
         super(SQLType.DQL);
     }
+    
+    protected DQLStatement(final DQLStatement dqlStatement) {
+        super(dqlStatement);
+    }
 }
@@ -30,10 +30,12 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +46,7 @@ import java.util.Set;
  *
  * @author zhangliang
  */
+@NoArgsConstructor
 @Getter
 @Setter
 @ToString(callSuper = true)
@@ -55,6 +58,12 @@ public final class SelectStatement extends DQLStatement {
     
     private int groupByLastPosition;
     
+    private int orderByBeginPosition;
+    
+    private int orderByLastPosition;
+    
+    private boolean mergedFromSubQuery;
+    
     private final Set<SelectItem> items = new HashSet<>();
     
     private final List<OrderItem> groupByItems = new LinkedList<>();
@@ -67,6 +76,27 @@ public final class SelectStatement extends DQLStatement {
     @Setter(AccessLevel.NONE)
     private SelectStatement subQueryStatement;
     
+    public SelectStatement(final SelectStatement selectStatement) {
+        super(selectStatement);
+        containStar = selectStatement.containStar;
+        selectListLastPosition = selectStatement.selectListLastPosition;
+        groupByLastPosition = selectStatement.groupByLastPosition;
+        orderByBeginPosition = selectStatement.orderByBeginPosition;
+        orderByLastPosition = selectStatement.orderByLastPosition;
+        mergedFromSubQuery = selectStatement.mergedFromSubQuery;
+        for (SelectItem each : selectStatement.items) {
+            items.add(each instanceof AggregationSelectItem ? new AggregationSelectItem((AggregationSelectItem) each) : each);
+        }
+        for (OrderItem each : selectStatement.groupByItems) {
+            groupByItems.add(new OrderItem(each));
+        }
+        for (OrderItem each : selectStatement.orderByItems) {
+            orderByItems.add(new OrderItem(each));
+        }
+        limit = null == selectStatement.limit ? null : new Limit(selectStatement.limit);
+        subQueryStatement = null == selectStatement.subQueryStatement ? null : new SelectStatement(selectStatement.subQueryStatement);
+    }
+    
     /**
      * Get alias.
      * 
@@ -117,6 +147,38 @@ public final class SelectStatement extends DQLStatement {
         return !getGroupByItems().isEmpty() && getGroupByItems().equals(getOrderByItems());
     }
     
+    /**
+     * Adjust order by of actual SQL can be rewritten to group by items or not.
+     * 
+     * <p>
+     * Only for query with explicit order by which is different from group by and limit with row count.
+     * Order by clause which contains SQL token or belongs to merged sub query can not be rewritten.
+     * </p>
+     *
+     * @return order by of actual SQL can be rewritten to group by items or not
+     */
+    public boolean isOrderByRewritableToGroupBy() {
+        if (getGroupByItems().isEmpty() || getOrderByItems().isEmpty() || isSameGroupByAndOrderByItems() 
+                || orderByLastPosition <= orderByBeginPosition || containsSubQuery() || mergedFromSubQuery || null == limit || null == limit.getRowCount()) {
+            return false;
+        }
+        for (SQLToken each : getSqlTokens()) {
+            if (each.getBeginPosition() >= orderByBeginPosition && each.getBeginPosition() < orderByLastPosition) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Adjust result sets can be merged by iterator or not.
+     *
+     * @return result sets can be merged by iterator or not
+     */
+    public boolean isMergedByIterator() {
+        return getGroupByItems().isEmpty() && getAggregationSelectItems().isEmpty() && getOrderByItems().isEmpty();
+    }
+    
     /**
      * Set index for select items.
      * 
@@ -179,6 +241,7 @@ public final class SelectStatement extends DQLStatement {
         SelectStatement result = processLimitForSubQuery();
         processItems(result);
         processOrderByItems(result);
+        result.mergedFromSubQuery = true;
         return result;
     }
     
@@ -218,16 +281,12 @@ public final class SelectStatement extends DQLStatement {
     }
     
     private void resetLimitTokens(final SelectStatement selectStatement, final List<SQLToken> limitSQLTokens) {
-        int count = 0;
-        List<Integer> toBeRemovedIndexes = new LinkedList<>();
-        for (SQLToken each : selectStatement.getSqlTokens()) {
+        Iterator<SQLToken> sqlTokens = selectStatement.getSqlTokens().iterator();
+        while (sqlTokens.hasNext()) {
+            SQLToken each = sqlTokens.next();
             if (each instanceof RowCountToken || each instanceof OffsetToken) {
-                toBeRemovedIndexes.add(count);
+                sqlTokens.remove();
             }
-            count++;
-        }
-        for (int each : toBeRemovedIndexes) {
-            selectStatement.getSqlTokens().remove(each);
         }
         selectStatement.getSqlTokens().addAll(limitSQLTokens);
     }
@@ -37,4 +37,9 @@ public final class ItemsToken implements SQLToken {
     private final int beginPosition;
     
     private final List<String> items = new LinkedList<>();
+    
+    public ItemsToken(final ItemsToken itemsToken) {
+        beginPosition = itemsToken.beginPosition;
+        items.addAll(itemsToken.items);
+    }
 }
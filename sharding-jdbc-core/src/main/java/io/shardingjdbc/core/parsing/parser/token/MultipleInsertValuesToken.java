@@ -19,22 +19,42 @@ package io.shardingjdbc.core.parsing.parser.token;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Multiple insert values token.
+ * 
+ * <p>
+ * Values and parameters count are recorded for each row, placeholders of rows are continuous from parameters begin index.
+ * </p>
  *
  * @author zhangliang
  */
 @RequiredArgsConstructor
 @Getter
+@Setter
 @ToString
 public final class MultipleInsertValuesToken implements SQLToken {
     
     private final int beginPosition;
     
-    private final List<String> values = new LinkedList<>();
+    private final List<String> values = new ArrayList<>();
+    
+    private final List<Integer> parametersCounts = new ArrayList<>();
+    
+    private int endPosition;
+    
+    private int parametersBeginIndex;
+    
+    public MultipleInsertValuesToken(final MultipleInsertValuesToken multipleInsertValuesToken) {
+        beginPosition = multipleInsertValuesToken.beginPosition;
+        values.addAll(multipleInsertValuesToken.values);
+        parametersCounts.addAll(multipleInsertValuesToken.parametersCounts);
+        endPosition = multipleInsertValuesToken.endPosition;
+        parametersBeginIndex = multipleInsertValuesToken.parametersBeginIndex;
+    }
 }
@@ -20,7 +20,8 @@ package io.shardingjdbc.core.rewrite;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -33,15 +34,21 @@ import java.util.Map;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLBuilder {
     
+    private static final int TABLE_NAME_SUFFIX_CAPACITY = 4;
+    
     private final List<Object> segments;
     
     private StringBuilder currentSegment;
     
+    private int length;
+    
+    private boolean containsInsertValues;
+    
     /**
      * Constructs a empty SQL builder.
      */
     public SQLBuilder() {
-        segments = new LinkedList<>();
+        segments = new ArrayList<>();
         currentSegment = new StringBuilder();
         segments.add(currentSegment);
     }
@@ -53,6 +60,7 @@ public final class SQLBuilder {
      */
     public void appendLiterals(final String literals) {
         currentSegment.append(literals);
+        length += literals.length();
     }
     
     /**
@@ -62,10 +70,34 @@ public final class SQLBuilder {
      */
     public void appendTable(final String tableName) {
         segments.add(new TableToken(tableName));
+        length += tableName.length();
+        currentSegment = new StringBuilder();
+        segments.add(currentSegment);
+    }
+    
+    /**
+     * Append insert values token.
+     *
+     * @param originalLiterals original literals of all values
+     * @param values values of each row
+     */
+    public void appendInsertValues(final String originalLiterals, final List<String> values) {
+        segments.add(new InsertValuesToken(originalLiterals, values));
+        length += originalLiterals.length();
+        containsInsertValues = true;
         currentSegment = new StringBuilder();
         segments.add(currentSegment);
     }
     
+    /**
+     * Adjust contains insert values token or not.
+     *
+     * @return contains insert values token or not
+     */
+    public boolean containsInsertValues() {
+        return containsInsertValues;
+    }
+    
     /**
      * Convert to SQL string.
      *
@@ -73,17 +105,46 @@ public final class SQLBuilder {
      * @return SQL string
      */
     public String toSQL(final Map<String, String> tableTokens) {
-        StringBuilder result = new StringBuilder();
+        return toSQL(tableTokens, null);
+    }
+    
+    /**
+     * Convert to SQL string with part of insert values.
+     *
+     * @param tableTokens table tokens
+     * @param insertValuesIndexes indexes of insert values to be kept, keep all insert values if {@code null}
+     * @return SQL string
+     */
+    public String toSQL(final Map<String, String> tableTokens, final Collection<Integer> insertValuesIndexes) {
+        StringBuilder result = new StringBuilder(length + TABLE_NAME_SUFFIX_CAPACITY * (segments.size() / 2));
         for (Object each : segments) {
-            if (each instanceof TableToken && tableTokens.containsKey(((TableToken) each).tableName)) {
-                result.append(tableTokens.get(((TableToken) each).tableName));
+            if (each instanceof TableToken) {
+                String actualTableName = tableTokens.get(((TableToken) each).tableName);
+                result.append(null == actualTableName ? ((TableToken) each).tableName : actualTableName);
+            } else if (each instanceof InsertValuesToken) {
+                appendInsertValues(result, (InsertValuesToken) each, insertValuesIndexes);
             } else {
-                result.append(each);
+                result.append((CharSequence) each);
             }
         }
         return result.toString();
     }
     
+    private void appendInsertValues(final StringBuilder sql, final InsertValuesToken insertValuesToken, final Collection<Integer> insertValuesIndexes) {
+        if (null == insertValuesIndexes) {
+            sql.append(insertValuesToken.originalLiterals);
+            return;
+        }
+        boolean isFirst = true;
+        for (int each : insertValuesIndexes) {
+            if (!isFirst) {
+                sql.append(", ");
+            }
+            sql.append(insertValuesToken.values.get(each));
+            isFirst = false;
+        }
+    }
+    
     @RequiredArgsConstructor
     private class TableToken {
         
@@ -94,4 +155,17 @@ public final class SQLBuilder {
             return tableName;
         }
     }
+    
+    @RequiredArgsConstructor
+    private class InsertValuesToken {
+        
+        private final String originalLiterals;
+        
+        private final List<String> values;
+        
+        @Override
+        public String toString() {
+            return originalLiterals;
+        }
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.rewrite;
+
+import io.shardingjdbc.core.routing.type.TableUnit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Rewrite cache of one logic SQL.
+ * 
+ * <p>
+ * Holds SQL builders which do not depend on parameters and table tokens of table units.
+ * Rewrite cache is attached to parsing result cache entry of logic SQL and shared by rewrite engines of all statements, 
+ * so it is safe for concurrent access.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class SQLRewriteCache {
+    
+    private final ConcurrentMap<Boolean, SQLBuilder> sqlBuilders = new ConcurrentHashMap<>(2, 1);
+    
+    private final ConcurrentMap<TableUnit, Map<String, String>> tableTokens = new ConcurrentHashMap<>();
+    
+    SQLBuilder getSQLBuilder(final boolean isRewriteLimit) {
+        return sqlBuilders.get(isRewriteLimit);
+    }
+    
+    void putSQLBuilder(final boolean isRewriteLimit, final SQLBuilder sqlBuilder) {
+        sqlBuilders.putIfAbsent(isRewriteLimit, sqlBuilder);
+    }
+    
+    Map<String, String> getTableTokens(final TableUnit tableUnit) {
+        return tableTokens.get(tableUnit);
+    }
+    
+    void putTableTokens(final TableUnit tableUnit, final Map<String, String> tableTokens) {
+        this.tableTokens.putIfAbsent(tableUnit, tableTokens);
+    }
+}
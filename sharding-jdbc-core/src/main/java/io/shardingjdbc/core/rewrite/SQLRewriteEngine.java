@@ -27,6 +27,7 @@ import io.shardingjdbc.core.parsing.parser.context.limit.Limit;
 import io.shardingjdbc.core.parsing.parser.sql.SQLStatement;
 import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingjdbc.core.parsing.parser.token.ItemsToken;
+import io.shardingjdbc.core.parsing.parser.token.MultipleInsertValuesToken;
 import io.shardingjdbc.core.parsing.parser.token.OffsetToken;
 import io.shardingjdbc.core.parsing.parser.token.OrderByToken;
 import io.shardingjdbc.core.parsing.parser.token.RowCountToken;
@@ -37,6 +38,7 @@ import io.shardingjdbc.core.routing.type.complex.CartesianTableReference;
 import com.google.common.base.Optional;
 import io.shardingjdbc.core.util.SQLUtil;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -48,6 +50,11 @@ import java.util.Map;
  * SQL rewrite engine.
  * 
  * <p>Rewrite logic SQL to actual SQL, should rewrite table name and optimize something.</p>
+ * 
+ * <p>
+ * SQL builders which do not depend on parameters and table tokens of table units are kept in rewrite cache,
+ * rewrite engines of the same logic SQL can share one rewrite cache.
+ * </p>
  *
  * @author zhangliang
  */
@@ -59,10 +66,14 @@ public final class SQLRewriteEngine {
     
     private final DatabaseType databaseType;
     
-    private final List<SQLToken> sqlTokens = new LinkedList<>();
-    
     private final SQLStatement sqlStatement;
     
+    private final boolean groupByStreamMerge;
+    
+    private final SQLRewriteCache rewriteCache;
+    
+    private List<SQLToken> sortedSQLTokens;
+    
     /**
      * Constructs SQL rewrite engine.
      * 
@@ -72,11 +83,40 @@ public final class SQLRewriteEngine {
      * @param sqlStatement SQL statement
      */
     public SQLRewriteEngine(final ShardingRule shardingRule, final String originalSQL, final DatabaseType databaseType, final SQLStatement sqlStatement) {
+        this(shardingRule, originalSQL, databaseType, sqlStatement, false);
+    }
+    
+    /**
+     * Constructs SQL rewrite engine.
+     * 
+     * @param shardingRule databases and tables sharding rule
+     * @param originalSQL original SQL
+     * @param databaseType database type
+     * @param sqlStatement SQL statement
+     * @param groupByStreamMerge rewrite order by to group by items for merging group by in stream or not
+     */
+    public SQLRewriteEngine(final ShardingRule shardingRule, final String originalSQL, final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean groupByStreamMerge) {
+        this(shardingRule, originalSQL, databaseType, sqlStatement, groupByStreamMerge, new SQLRewriteCache());
+    }
+    
+    /**
+     * Constructs SQL rewrite engine.
+     * 
+     * @param shardingRule databases and tables sharding rule
+     * @param originalSQL original SQL
+     * @param databaseType database type
+     * @param sqlStatement SQL statement
+     * @param groupByStreamMerge rewrite order by to group by items for merging group by in stream or not
+     * @param rewriteCache rewrite cache of original SQL
+     */
+    public SQLRewriteEngine(final ShardingRule shardingRule, final String originalSQL, final DatabaseType databaseType, final SQLStatement sqlStatement, 
+                            final boolean groupByStreamMerge, final SQLRewriteCache rewriteCache) {
         this.shardingRule = shardingRule;
         this.originalSQL = originalSQL;
         this.databaseType = databaseType;
         this.sqlStatement = sqlStatement;
-        sqlTokens.addAll(sqlStatement.getSqlTokens());
+        this.groupByStreamMerge = groupByStreamMerge && sqlStatement instanceof SelectStatement && ((SelectStatement) sqlStatement).isOrderByRewritableToGroupBy();
+        this.rewriteCache = rewriteCache;
     }
     
     /**
@@ -86,13 +126,26 @@ public final class SQLRewriteEngine {
      * @return SQL builder
      */
     public SQLBuilder rewrite(final boolean isRewriteLimit) {
+        boolean isDependOnParameters = isDependOnParameters(isRewriteLimit);
+        SQLBuilder result = isDependOnParameters ? null : rewriteCache.getSQLBuilder(isRewriteLimit);
+        if (null != result) {
+            return result;
+        }
+        result = createSQLBuilder(isRewriteLimit);
+        if (!isDependOnParameters) {
+            rewriteCache.putSQLBuilder(isRewriteLimit, result);
+        }
+        return result;
+    }
+    
+    private SQLBuilder createSQLBuilder(final boolean isRewriteLimit) {
         SQLBuilder result = new SQLBuilder();
+        List<SQLToken> sqlTokens = getSQLTokens();
         if (sqlTokens.isEmpty()) {
             result.appendLiterals(originalSQL);
             return result;
         }
         int count = 0;
-        sortByBeginPosition();
         for (SQLToken each : sqlTokens) {
             if (0 == count) {
                 result.appendLiterals(originalSQL.substring(0, each.getBeginPosition()));
@@ -106,21 +159,39 @@ public final class SQLRewriteEngine {
             } else if (each instanceof OffsetToken) {
                 appendLimitOffsetToken(result, (OffsetToken) each, count, sqlTokens, isRewriteLimit);
             } else if (each instanceof OrderByToken) {
-                appendOrderByToken(result, count, sqlTokens);
+                appendOrderByToken(result, count, sqlTokens, isRewriteLimit);
+            } else if (each instanceof MultipleInsertValuesToken) {
+                appendMultipleInsertValuesToken(result, (MultipleInsertValuesToken) each, count, sqlTokens);
             }
             count++;
         }
         return result;
     }
     
-    private void sortByBeginPosition() {
-        Collections.sort(sqlTokens, new Comparator<SQLToken>() {
+    private boolean isDependOnParameters(final boolean isRewriteLimit) {
+        if (!isRewriteLimit || !(sqlStatement instanceof SelectStatement)) {
+            return false;
+        }
+        Limit limit = ((SelectStatement) sqlStatement).getLimit();
+        return null != limit && null != limit.getOffset() && -1 != limit.getOffset().getIndex();
+    }
+    
+    private List<SQLToken> getSQLTokens() {
+        if (null != sortedSQLTokens) {
+            return sortedSQLTokens;
+        }
+        sortedSQLTokens = new LinkedList<>(sqlStatement.getSqlTokens());
+        if (groupByStreamMerge) {
+            sortedSQLTokens.add(new OrderByToken(((SelectStatement) sqlStatement).getOrderByBeginPosition()));
+        }
+        Collections.sort(sortedSQLTokens, new Comparator<SQLToken>() {
             
             @Override
             public int compare(final SQLToken o1, final SQLToken o2) {
                 return o1.getBeginPosition() - o2.getBeginPosition();
             }
         });
+        return sortedSQLTokens;
     }
     
     private void appendTableToken(final SQLBuilder sqlBuilder, final TableToken tableToken, final int count, final List<SQLToken> sqlTokens) {
@@ -160,12 +231,27 @@ public final class SQLRewriteEngine {
         appendRest(sqlBuilder, count, sqlTokens, beginPosition);
     }
     
-    private void appendOrderByToken(final SQLBuilder sqlBuilder, final int count, final List<SQLToken> sqlTokens) {
+    private void appendOrderByToken(final SQLBuilder sqlBuilder, final int count, final List<SQLToken> sqlTokens, final boolean isRewrite) {
         SelectStatement selectStatement = (SelectStatement) sqlStatement;
+        if (groupByStreamMerge) {
+            if (isRewrite) {
+                appendOrderByLiterals(sqlBuilder, selectStatement.getGroupByItems());
+                appendRest(sqlBuilder, count, sqlTokens, selectStatement.getOrderByLastPosition());
+            } else {
+                appendRest(sqlBuilder, count, sqlTokens, selectStatement.getOrderByBeginPosition());
+            }
+            return;
+        }
+        appendOrderByLiterals(sqlBuilder, selectStatement.getOrderByItems());
+        int beginPosition = selectStatement.getGroupByLastPosition();
+        appendRest(sqlBuilder, count, sqlTokens, beginPosition);
+    }
+    
+    private void appendOrderByLiterals(final SQLBuilder sqlBuilder, final List<OrderItem> orderItems) {
         StringBuilder orderByLiterals = new StringBuilder();
         orderByLiterals.append(" ").append(DefaultKeyword.ORDER).append(" ").append(DefaultKeyword.BY).append(" ");
         int i = 0;
-        for (OrderItem each : selectStatement.getOrderByItems()) {
+        for (OrderItem each : orderItems) {
             String columnLabel = SQLUtil.getOriginalValue(each.getColumnLabel(), databaseType);
             if (0 == i) {
                 orderByLiterals.append(columnLabel).append(" ").append(each.getType().name());
@@ -176,8 +262,19 @@ public final class SQLRewriteEngine {
         }
         orderByLiterals.append(" ");
         sqlBuilder.appendLiterals(orderByLiterals.toString());
-        int beginPosition = ((SelectStatement) sqlStatement).getGroupByLastPosition();
-        appendRest(sqlBuilder, count, sqlTokens, beginPosition);
+    }
+    
+    private void appendMultipleInsertValuesToken(final SQLBuilder sqlBuilder, final MultipleInsertValuesToken multipleInsertValuesToken, final int count, final List<SQLToken> sqlTokens) {
+        if (isSplittable(multipleInsertValuesToken, count, sqlTokens)) {
+            sqlBuilder.appendInsertValues(originalSQL.substring(multipleInsertValuesToken.getBeginPosition(), multipleInsertValuesToken.getEndPosition()), multipleInsertValuesToken.getValues());
+            appendRest(sqlBuilder, count, sqlTokens, multipleInsertValuesToken.getEndPosition());
+        } else {
+            appendRest(sqlBuilder, count, sqlTokens, multipleInsertValuesToken.getBeginPosition());
+        }
+    }
+    
+    private boolean isSplittable(final MultipleInsertValuesToken multipleInsertValuesToken, final int count, final List<SQLToken> sqlTokens) {
+        return sqlTokens.size() - 1 == count || sqlTokens.get(count + 1).getBeginPosition() >= multipleInsertValuesToken.getEndPosition();
     }
     
     private void appendRest(final SQLBuilder sqlBuilder, final int count, final List<SQLToken> sqlTokens, final int beginPosition) {
@@ -196,6 +293,18 @@ public final class SQLRewriteEngine {
         return sqlBuilder.toSQL(getTableTokens(tableUnit));
     }
     
+    /**
+     * Generate SQL string with part of insert values.
+     *
+     * @param tableUnit route table unit
+     * @param sqlBuilder SQL builder
+     * @param insertValuesIndexes indexes of insert values which routed to table unit
+     * @return SQL string
+     */
+    public String generateSQL(final TableUnit tableUnit, final SQLBuilder sqlBuilder, final Collection<Integer> insertValuesIndexes) {
+        return sqlBuilder.toSQL(getTableTokens(tableUnit), insertValuesIndexes);
+    }
+    
     /**
      * Generate SQL string.
      *
@@ -208,6 +317,15 @@ public final class SQLRewriteEngine {
     }
     
     private Map<String, String> getTableTokens(final TableUnit tableUnit) {
+        Map<String, String> result = rewriteCache.getTableTokens(tableUnit);
+        if (null == result) {
+            result = createTableTokens(tableUnit);
+            rewriteCache.putTableTokens(tableUnit, result);
+        }
+        return result;
+    }
+    
+    private Map<String, String> createTableTokens(final TableUnit tableUnit) {
         Map<String, String> tableTokens = new HashMap<>();
         tableTokens.put(tableUnit.getLogicTableName(), tableUnit.getActualTableName());
         Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(tableUnit.getLogicTableName());
@@ -45,14 +45,14 @@ public final class PreparedStatementRoutingEngine {
     /**
      * SQL route.
      * 
-     * <p>First routing time will parse SQL, after second time will reuse first parsed result.</p>
+     * <p>First routing time will parse SQL or copy from parsing result cache, after second time will reuse first parsed result.</p>
      * 
      * @param parameters parameters of SQL placeholder
      * @return route result
      */
     public SQLRouteResult route(final List<Object> parameters) {
         if (null == sqlStatement) {
-            sqlStatement = sqlRouter.parse(logicSQL, parameters.size());
+            sqlStatement = sqlRouter.parse(logicSQL, parameters.size(), true);
         }
         return sqlRouter.route(logicSQL, parameters, sqlStatement);
     }
@@ -17,23 +17,93 @@
 
 package io.shardingjdbc.core.routing;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * SQL execution unit.
  * 
+ * <p>
+ * Execution unit may use part of parameters of logic SQL, 
+ * eg: multiple insert values which are routed to different table units.
+ * Actual table and execution time are only used for metrics, actual table is null if SQL is not rewritten.
+ * </p>
+ * 
  * @author gaohongtao
  */
 @RequiredArgsConstructor
 @Getter
-@EqualsAndHashCode
-@ToString
+@EqualsAndHashCode(exclude = {"parameterIndexes", "actualTable", "executionNanoTime"})
+@ToString(exclude = "executionNanoTime")
 public final class SQLExecutionUnit {
     
     private final String dataSource;
     
     private final String sql;
+    
+    private final List<Integer> parameterIndexes;
+    
+    private final String actualTable;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong executionNanoTime = new AtomicLong();
+    
+    public SQLExecutionUnit(final String dataSource, final String sql) {
+        this(dataSource, sql, null, null);
+    }
+    
+    public SQLExecutionUnit(final String dataSource, final String sql, final List<Integer> parameterIndexes) {
+        this(dataSource, sql, parameterIndexes, null);
+    }
+    
+    /**
+     * Add execution time.
+     * 
+     * @param nanoTime execution time in nanoseconds
+     */
+    public void addExecutionNanoTime(final long nanoTime) {
+        executionNanoTime.addAndGet(nanoTime);
+    }
+    
+    /**
+     * Get accumulated execution time.
+     * 
+     * @return accumulated execution time in nanoseconds
+     */
+    public long getExecutionNanoTime() {
+        return executionNanoTime.get();
+    }
+    
+    /**
+     * Adjust use part of parameters or not.
+     * 
+     * @return use part of parameters or not
+     */
+    public boolean isPartOfParameters() {
+        return null != parameterIndexes;
+    }
+    
+    /**
+     * Get parameters for this execution unit.
+     * 
+     * @param parameters parameters of logic SQL
+     * @return parameters for this execution unit
+     */
+    public List<Object> getParameters(final List<Object> parameters) {
+        if (!isPartOfParameters()) {
+            return parameters;
+        }
+        List<Object> result = new ArrayList<>(parameterIndexes.size());
+        for (int each : parameterIndexes) {
+            result.add(parameters.get(each));
+        }
+        return result;
+    }
 }
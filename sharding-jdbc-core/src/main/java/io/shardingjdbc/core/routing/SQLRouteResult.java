@@ -20,6 +20,7 @@ package io.shardingjdbc.core.routing;
 import io.shardingjdbc.core.parsing.parser.sql.SQLStatement;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -41,4 +42,7 @@ public final class SQLRouteResult {
     private final Set<SQLExecutionUnit> executionUnits = new LinkedHashSet<>();
     
     private final List<Number> generatedKeys = new LinkedList<>();
+    
+    @Setter
+    private String routingResultType;
 }
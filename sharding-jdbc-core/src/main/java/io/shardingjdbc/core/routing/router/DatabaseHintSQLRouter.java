@@ -48,7 +48,7 @@ public final class DatabaseHintSQLRouter implements SQLRouter {
     }
     
     @Override
-    public SQLStatement parse(final String logicSQL, final int parametersSize) {
+    public SQLStatement parse(final String logicSQL, final int parametersSize, final boolean useCache) {
         return new SQLJudgeEngine(logicSQL).judge();
     }
     
@@ -57,6 +57,7 @@ public final class DatabaseHintSQLRouter implements SQLRouter {
     public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
         SQLRouteResult result = new SQLRouteResult(sqlStatement);
         RoutingResult routingResult = new DatabaseHintRoutingEngine(shardingRule.getDataSourceMap(), (HintShardingStrategy) shardingRule.getDefaultDatabaseShardingStrategy()).route();
+        result.setRoutingResultType(routingResult.getClass().getSimpleName());
         for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
             result.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSourceName(), logicSQL));
         }
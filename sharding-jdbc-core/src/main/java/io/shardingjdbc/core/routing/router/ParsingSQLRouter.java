@@ -21,12 +21,19 @@ import io.shardingjdbc.core.routing.type.all.DatabaseAllRoutingEngine;
 import io.shardingjdbc.core.rule.ShardingRule;
 import io.shardingjdbc.core.constant.DatabaseType;
 import io.shardingjdbc.core.jdbc.core.ShardingContext;
+import io.shardingjdbc.core.metrics.MetricsStage;
+import io.shardingjdbc.core.metrics.ShardingMetrics;
 import io.shardingjdbc.core.parsing.SQLParsingEngine;
+import io.shardingjdbc.core.parsing.cache.ParsingResultCache;
 import io.shardingjdbc.core.parsing.parser.context.GeneratedKey;
+import io.shardingjdbc.core.parsing.parser.context.condition.Conditions;
 import io.shardingjdbc.core.parsing.parser.sql.SQLStatement;
 import io.shardingjdbc.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingjdbc.core.parsing.parser.token.MultipleInsertValuesToken;
+import io.shardingjdbc.core.parsing.parser.token.SQLToken;
 import io.shardingjdbc.core.rewrite.SQLBuilder;
+import io.shardingjdbc.core.rewrite.SQLRewriteCache;
 import io.shardingjdbc.core.rewrite.SQLRewriteEngine;
 import io.shardingjdbc.core.routing.SQLExecutionUnit;
 import io.shardingjdbc.core.routing.SQLRouteResult;
@@ -39,14 +46,26 @@ import io.shardingjdbc.core.routing.type.complex.CartesianTableReference;
 import io.shardingjdbc.core.routing.type.complex.ComplexRoutingEngine;
 import io.shardingjdbc.core.routing.type.simple.SimpleRoutingEngine;
 import io.shardingjdbc.core.util.SQLLogger;
+import io.shardingjdbc.core.util.SQLUtil;
+import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * SQL router with parse.
  * 
+ * <p>
+ * SQL statement parsed with cache shares rewrite cache of parsing result cache entry, 
+ * so rewritten SQL builders are reused by all statements of the same SQL.
+ * </p>
+ * 
  * @author zhangiang
  */
 public final class ParsingSQLRouter implements SQLRouter {
@@ -57,53 +76,143 @@ public final class ParsingSQLRouter implements SQLRouter {
     
     private final boolean showSQL;
     
+    private final ParsingResultCache parsingResultCache;
+    
+    private final ShardingMetrics shardingMetrics;
+    
+    private final boolean groupByStreamMerge;
+    
     private final List<Number> generatedKeys;
     
+    private SQLStatement cachedSQLStatement;
+    
+    private SQLRewriteCache sqlRewriteCache;
+    
+    private SQLStatement rewrittenSQLStatement;
+    
+    private SQLRewriteEngine rewriteEngine;
+    
+    private String fingerprintedSQL;
+    
+    private String sqlFingerprint;
+    
     public ParsingSQLRouter(final ShardingContext shardingContext) {
         shardingRule = shardingContext.getShardingRule();
         databaseType = shardingContext.getDatabaseType();
         showSQL = shardingContext.isShowSQL();
+        parsingResultCache = shardingContext.getParsingResultCache();
+        shardingMetrics = shardingContext.getShardingMetrics();
+        groupByStreamMerge = shardingContext.isGroupByStreamMerge();
         generatedKeys = new LinkedList<>();
     }
     
     @Override
-    public SQLStatement parse(final String logicSQL, final int parametersSize) {
-        SQLParsingEngine parsingEngine = new SQLParsingEngine(databaseType, logicSQL, shardingRule);
-        SQLStatement result = parsingEngine.parse();
+    public SQLStatement parse(final String logicSQL, final int parametersSize, final boolean useCache) {
+        long startTime = System.nanoTime();
+        SQLStatement result = useCache ? parseWithCache(logicSQL) : new SQLParsingEngine(databaseType, logicSQL, shardingRule).parse();
         if (result instanceof InsertStatement) {
             ((InsertStatement) result).appendGenerateKeyToken(shardingRule, parametersSize);
         }
+        if (useCache) {
+            cachedSQLStatement = result;
+            sqlRewriteCache = isRewriteCacheSharable(result) ? parsingResultCache.getSQLRewriteCache(databaseType, logicSQL).orNull() : null;
+        }
+        recordStage(MetricsStage.PARSE, logicSQL, startTime);
+        return result;
+    }
+    
+    private SQLStatement parseWithCache(final String logicSQL) {
+        Optional<SQLStatement> cachedSQLStatement = parsingResultCache.getSQLStatement(databaseType, logicSQL);
+        if (cachedSQLStatement.isPresent()) {
+            return cachedSQLStatement.get();
+        }
+        SQLStatement result = new SQLParsingEngine(databaseType, logicSQL, shardingRule).parse();
+        parsingResultCache.put(databaseType, logicSQL, result);
         return result;
     }
     
+    private boolean isRewriteCacheSharable(final SQLStatement sqlStatement) {
+        if (!(sqlStatement instanceof InsertStatement)) {
+            return true;
+        }
+        GeneratedKey generatedKey = ((InsertStatement) sqlStatement).getGeneratedKey();
+        return null == generatedKey || -1 != generatedKey.getIndex();
+    }
+    
     @Override
     public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
         SQLRouteResult result = new SQLRouteResult(sqlStatement);
         if (sqlStatement instanceof InsertStatement && null != ((InsertStatement) sqlStatement).getGeneratedKey()) {
             processGeneratedKey(parameters, (InsertStatement) sqlStatement, result);
         }
+        SQLRewriteEngine rewriteEngine = getRewriteEngine(logicSQL, sqlStatement);
+        if (isRoutingInsertValues(sqlStatement, rewriteEngine)) {
+            routeInsertValues(logicSQL, parameters, (InsertStatement) sqlStatement, rewriteEngine, result);
+        } else {
+            routeTableUnits(logicSQL, parameters, sqlStatement, rewriteEngine, result);
+        }
+        if (showSQL) {
+            SQLLogger.logSQL(logicSQL, sqlStatement, result.getExecutionUnits(), parameters);
+        }
+        return result;
+    }
+    
+    private void routeTableUnits(
+            final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement, final SQLRewriteEngine rewriteEngine, final SQLRouteResult sqlRouteResult) {
+        long routeStartTime = System.nanoTime();
         RoutingResult routingResult = route(parameters, sqlStatement);
-        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, sqlStatement);
         boolean isSingleRouting = routingResult.isSingleRouting();
         if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
             processLimit(parameters, (SelectStatement) sqlStatement, isSingleRouting);
         }
+        sqlRouteResult.setRoutingResultType(routingResult.getClass().getSimpleName());
+        recordStage(MetricsStage.ROUTE, logicSQL, routeStartTime);
+        long rewriteStartTime = System.nanoTime();
         SQLBuilder sqlBuilder = rewriteEngine.rewrite(!isSingleRouting);
         if (routingResult instanceof CartesianRoutingResult) {
             for (CartesianDataSource cartesianDataSource : ((CartesianRoutingResult) routingResult).getRoutingDataSources()) {
                 for (CartesianTableReference cartesianTableReference : cartesianDataSource.getRoutingTableReferences()) {
-                    result.getExecutionUnits().add(new SQLExecutionUnit(cartesianDataSource.getDataSource(), rewriteEngine.generateSQL(cartesianTableReference, sqlBuilder)));
+                    sqlRouteResult.getExecutionUnits().add(new SQLExecutionUnit(cartesianDataSource.getDataSource(), 
+                            rewriteEngine.generateSQL(cartesianTableReference, sqlBuilder), null, getActualTables(cartesianTableReference)));
                 }
             }
         } else {
             for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
-                result.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, sqlBuilder)));
+                sqlRouteResult.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, sqlBuilder), null, each.getActualTableName()));
             }
         }
-        if (showSQL) {
-            SQLLogger.logSQL(logicSQL, sqlStatement, result.getExecutionUnits(), parameters);
+        recordStage(MetricsStage.REWRITE, logicSQL, rewriteStartTime);
+    }
+    
+    private String getActualTables(final CartesianTableReference cartesianTableReference) {
+        Collection<String> result = new LinkedList<>();
+        for (TableUnit each : cartesianTableReference.getTableUnits()) {
+            result.add(each.getActualTableName());
         }
-        return result;
+        return Joiner.on(",").join(result);
+    }
+    
+    private SQLRewriteEngine getRewriteEngine(final String logicSQL, final SQLStatement sqlStatement) {
+        if (sqlStatement != rewrittenSQLStatement) {
+            SQLRewriteCache rewriteCache = sqlStatement == cachedSQLStatement && null != sqlRewriteCache ? sqlRewriteCache : new SQLRewriteCache();
+            rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, sqlStatement, groupByStreamMerge, rewriteCache);
+            rewrittenSQLStatement = sqlStatement;
+        }
+        return rewriteEngine;
+    }
+    
+    private void recordStage(final MetricsStage stage, final String logicSQL, final long startTime) {
+        if (shardingMetrics.isEnabled()) {
+            shardingMetrics.recordStage(stage, getSQLFingerprint(logicSQL), startTime);
+        }
+    }
+    
+    private String getSQLFingerprint(final String logicSQL) {
+        if (!logicSQL.equals(fingerprintedSQL)) {
+            sqlFingerprint = SQLUtil.getFingerprint(logicSQL);
+            fingerprintedSQL = logicSQL;
+        }
+        return sqlFingerprint;
     }
     
     private RoutingResult route(final List<Object> parameters, final SQLStatement sqlStatement) {
@@ -120,6 +229,77 @@ public final class ParsingSQLRouter implements SQLRouter {
         return routingEngine.route();
     }
     
+    private boolean isRoutingInsertValues(final SQLStatement sqlStatement, final SQLRewriteEngine rewriteEngine) {
+        if (!(sqlStatement instanceof InsertStatement) || ((InsertStatement) sqlStatement).getMultipleConditions().size() < 2) {
+            return false;
+        }
+        Collection<String> tableNames = sqlStatement.getTables().getTableNames();
+        return 1 == tableNames.size() && shardingRule.tryFindTableRule(tableNames.iterator().next()).isPresent() && rewriteEngine.rewrite(false).containsInsertValues();
+    }
+    
+    private void routeInsertValues(
+            final String logicSQL, final List<Object> parameters, final InsertStatement insertStatement, final SQLRewriteEngine rewriteEngine, final SQLRouteResult sqlRouteResult) {
+        long routeStartTime = System.nanoTime();
+        MultipleInsertValuesToken valuesToken = findMultipleInsertValuesToken(insertStatement).get();
+        Map<TableUnit, List<Integer>> insertValuesIndexesMap = new LinkedHashMap<>();
+        String logicTableName = insertStatement.getTables().getSingleTableName();
+        int index = 0;
+        for (Conditions each : insertStatement.getMultipleConditions()) {
+            for (TableUnit tableUnit : new SimpleRoutingEngine(shardingRule, parameters, logicTableName, each).route().getTableUnits().getTableUnits()) {
+                if (!insertValuesIndexesMap.containsKey(tableUnit)) {
+                    insertValuesIndexesMap.put(tableUnit, new ArrayList<Integer>());
+                }
+                insertValuesIndexesMap.get(tableUnit).add(index);
+            }
+            index++;
+        }
+        sqlRouteResult.setRoutingResultType(RoutingResult.class.getSimpleName());
+        recordStage(MetricsStage.ROUTE, logicSQL, routeStartTime);
+        long rewriteStartTime = System.nanoTime();
+        SQLBuilder sqlBuilder = rewriteEngine.rewrite(false);
+        for (Entry<TableUnit, List<Integer>> entry : insertValuesIndexesMap.entrySet()) {
+            if (1 == insertValuesIndexesMap.size()) {
+                sqlRouteResult.getExecutionUnits().add(
+                        new SQLExecutionUnit(entry.getKey().getDataSourceName(), rewriteEngine.generateSQL(entry.getKey(), sqlBuilder), null, entry.getKey().getActualTableName()));
+            } else {
+                sqlRouteResult.getExecutionUnits().add(new SQLExecutionUnit(entry.getKey().getDataSourceName(), rewriteEngine.generateSQL(entry.getKey(), sqlBuilder, entry.getValue()), 
+                        getParameterIndexes(valuesToken, entry.getValue(), parameters.size()), entry.getKey().getActualTableName()));
+            }
+        }
+        recordStage(MetricsStage.REWRITE, logicSQL, rewriteStartTime);
+    }
+    
+    private Optional<MultipleInsertValuesToken> findMultipleInsertValuesToken(final InsertStatement insertStatement) {
+        for (SQLToken each : insertStatement.getSqlTokens()) {
+            if (each instanceof MultipleInsertValuesToken) {
+                return Optional.of((MultipleInsertValuesToken) each);
+            }
+        }
+        return Optional.absent();
+    }
+    
+    private List<Integer> getParameterIndexes(final MultipleInsertValuesToken valuesToken, final List<Integer> insertValuesIndexes, final int parametersSize) {
+        List<Integer> result = new ArrayList<>(parametersSize);
+        for (int i = 0; i < valuesToken.getParametersBeginIndex(); i++) {
+            result.add(i);
+        }
+        List<Integer> parametersBeginIndexes = new ArrayList<>(valuesToken.getParametersCounts().size());
+        int parametersEndIndex = valuesToken.getParametersBeginIndex();
+        for (int each : valuesToken.getParametersCounts()) {
+            parametersBeginIndexes.add(parametersEndIndex);
+            parametersEndIndex += each;
+        }
+        for (int each : insertValuesIndexes) {
+            for (int i = 0; i < valuesToken.getParametersCounts().get(each); i++) {
+                result.add(parametersBeginIndexes.get(each) + i);
+            }
+        }
+        for (int i = parametersEndIndex; i < parametersSize; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+    
     private void processGeneratedKey(final List<Object> parameters, final InsertStatement insertStatement, final SQLRouteResult sqlRouteResult) {
         GeneratedKey generatedKey = insertStatement.getGeneratedKey();
         if (parameters.isEmpty()) {
@@ -34,9 +34,10 @@ public interface SQLRouter {
      * 
      * @param logicSQL logic SQL
      * @param parametersSize parameters size
+     * @param useCache use parsing result cache or not
      * @return parse result
      */
-    SQLStatement parse(String logicSQL, int parametersSize);
+    SQLStatement parse(String logicSQL, int parametersSize, boolean useCache);
     
     /**
      * Route SQL.
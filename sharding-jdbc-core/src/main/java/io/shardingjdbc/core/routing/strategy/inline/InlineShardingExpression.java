@@ -0,0 +1,367 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.routing.strategy.inline;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inline sharding expression which compiled to java evaluator.
+ * 
+ * <p>
+ * Only support common forms of inline expression, 
+ * such as {@code t_order_${order_id % 16}} or {@code ds_${(user_id + 1) % 4}}.
+ * Inside of {@code ${}}, integral literals, sharding column, parentheses and operators {@code + - * %} are supported.
+ * Evaluator is thread-safe, and calculates integral values with same precision of groovy.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class InlineShardingExpression {
+    
+    private final Segment[] segments;
+    
+    private InlineShardingExpression(final List<Segment> segments) {
+        this.segments = segments.toArray(new Segment[segments.size()]);
+    }
+    
+    /**
+     * Compile inline expression.
+     * 
+     * @param inlineExpression inline expression
+     * @param shardingColumn sharding column
+     * @return compiled inline sharding expression, absent if cannot compile
+     */
+    public static Optional<InlineShardingExpression> compile(final String inlineExpression, final String shardingColumn) {
+        List<Segment> result = new ArrayList<>();
+        int position = 0;
+        while (position < inlineExpression.length()) {
+            int beginPosition = inlineExpression.indexOf("${", position);
+            if (-1 == beginPosition) {
+                beginPosition = inlineExpression.length();
+            }
+            String literals = inlineExpression.substring(position, beginPosition);
+            if (!isPlainLiterals(literals)) {
+                return Optional.absent();
+            }
+            if (!literals.isEmpty()) {
+                result.add(new LiteralsSegment(literals));
+            }
+            if (beginPosition == inlineExpression.length()) {
+                break;
+            }
+            int endPosition = inlineExpression.indexOf('}', beginPosition);
+            if (-1 == endPosition) {
+                return Optional.absent();
+            }
+            Optional<Node> node = new NodeParser(inlineExpression.substring(beginPosition + 2, endPosition), shardingColumn).parse();
+            if (!node.isPresent()) {
+                return Optional.absent();
+            }
+            result.add(node.get() instanceof ColumnNode ? new ColumnSegment() : new CalculationSegment(node.get()));
+            position = endPosition + 1;
+        }
+        return Optional.of(new InlineShardingExpression(result));
+    }
+    
+    private static boolean isPlainLiterals(final String literals) {
+        for (int i = 0; i < literals.length(); i++) {
+            char each = literals.charAt(i);
+            if ('$' == each || '\\' == each || '"' == each || '{' == each || '}' == each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Evaluate inline expression.
+     * 
+     * @param value value of sharding column
+     * @return evaluated result, absent if type of value is unsupported
+     */
+    public Optional<String> evaluate(final Comparable<?> value) {
+        StringBuilder result = new StringBuilder();
+        for (Segment each : segments) {
+            if (!each.appendTo(result, value)) {
+                return Optional.absent();
+            }
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private static boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private interface Segment {
+        
+        boolean appendTo(StringBuilder builder, Comparable<?> value);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralsSegment implements Segment {
+        
+        private final String literals;
+        
+        @Override
+        public boolean appendTo(final StringBuilder builder, final Comparable<?> value) {
+            builder.append(literals);
+            return true;
+        }
+    }
+    
+    private static final class ColumnSegment implements Segment {
+        
+        @Override
+        public boolean appendTo(final StringBuilder builder, final Comparable<?> value) {
+            if (!(value instanceof String || isIntegral(value))) {
+                return false;
+            }
+            builder.append(value);
+            return true;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CalculationSegment implements Segment {
+        
+        private final Node node;
+        
+        @Override
+        public boolean appendTo(final StringBuilder builder, final Comparable<?> value) {
+            if (!isIntegral(value)) {
+                return false;
+            }
+            builder.append(node.evaluate(((Number) value).longValue(), value instanceof Long));
+            return true;
+        }
+    }
+    
+    private interface Node {
+        
+        boolean isLong(boolean isLongValue);
+        
+        long evaluate(long value, boolean isLongValue);
+    }
+    
+    private static final class ColumnNode implements Node {
+        
+        @Override
+        public boolean isLong(final boolean isLongValue) {
+            return isLongValue;
+        }
+        
+        @Override
+        public long evaluate(final long value, final boolean isLongValue) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NumberNode implements Node {
+        
+        private final long number;
+        
+        @Override
+        public boolean isLong(final boolean isLongValue) {
+            return number > Integer.MAX_VALUE;
+        }
+        
+        @Override
+        public long evaluate(final long value, final boolean isLongValue) {
+            return number;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegativeNode implements Node {
+        
+        private final Node node;
+        
+        @Override
+        public boolean isLong(final boolean isLongValue) {
+            return node.isLong(isLongValue);
+        }
+        
+        @Override
+        public long evaluate(final long value, final boolean isLongValue) {
+            long result = node.evaluate(value, isLongValue);
+            return isLong(isLongValue) ? -result : -(int) result;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements Node {
+        
+        private final char operator;
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        @Override
+        public boolean isLong(final boolean isLongValue) {
+            return left.isLong(isLongValue) || right.isLong(isLongValue);
+        }
+        
+        @Override
+        public long evaluate(final long value, final boolean isLongValue) {
+            long leftValue = left.evaluate(value, isLongValue);
+            long rightValue = right.evaluate(value, isLongValue);
+            return isLong(isLongValue) ? calculate(leftValue, rightValue) : calculate((int) leftValue, (int) rightValue);
+        }
+        
+        private long calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        
+        private int calculate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NodeParser {
+        
+        private final String expression;
+        
+        private final String shardingColumn;
+        
+        private int position;
+        
+        private Optional<Node> parse() {
+            Node result = parseExpression();
+            skipWhitespace();
+            return null == result || position < expression.length() ? Optional.<Node>absent() : Optional.of(result);
+        }
+        
+        private Node parseExpression() {
+            Node result = parseTerm();
+            while (null != result) {
+                char operator = currentChar();
+                if ('+' != operator && '-' != operator) {
+                    return result;
+                }
+                position++;
+                Node right = parseTerm();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private Node parseTerm() {
+            Node result = parseUnary();
+            while (null != result) {
+                char operator = currentChar();
+                if ('*' != operator && '%' != operator) {
+                    return result;
+                }
+                position++;
+                Node right = parseUnary();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private Node parseUnary() {
+            if ('-' == currentChar()) {
+                position++;
+                Node result = parseUnary();
+                return null == result ? null : new NegativeNode(result);
+            }
+            return parsePrimary();
+        }
+        
+        private Node parsePrimary() {
+            char current = currentChar();
+            if ('(' == current) {
+                position++;
+                Node result = parseExpression();
+                if (')' != currentChar()) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if (Character.isDigit(current)) {
+                return parseNumber();
+            }
+            if (Character.isJavaIdentifierStart(current)) {
+                return parseColumn();
+            }
+            return null;
+        }
+        
+        private Node parseNumber() {
+            int beginPosition = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (position < expression.length() && Character.isLetterOrDigit(expression.charAt(position)) || position - beginPosition > 1 && '0' == expression.charAt(beginPosition)) {
+                return null;
+            }
+            try {
+                return new NumberNode(Long.parseLong(expression.substring(beginPosition, position)));
+            } catch (final NumberFormatException ex) {
+                return null;
+            }
+        }
+        
+        private Node parseColumn() {
+            int beginPosition = position;
+            while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+                position++;
+            }
+            return shardingColumn.equals(expression.substring(beginPosition, position)) && !"it".equals(shardingColumn) ? new ColumnNode() : null;
+        }
+        
+        private char currentChar() {
+            skipWhitespace();
+            return position < expression.length() ? expression.charAt(position) : '\0';
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -20,12 +20,16 @@ package io.shardingjdbc.core.routing.strategy.inline;
 import io.shardingjdbc.core.api.algorithm.sharding.ListShardingValue;
 import io.shardingjdbc.core.api.algorithm.sharding.PreciseShardingValue;
 import io.shardingjdbc.core.api.algorithm.sharding.ShardingValue;
-import io.shardingjdbc.core.routing.strategy.ShardingStrategy;
+import io.shardingjdbc.core.routing.strategy.PreciseShardingStrategy;
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import groovy.lang.Closure;
 import groovy.lang.GroovyShell;
 import groovy.util.Expando;
+import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,19 +38,35 @@ import java.util.List;
 import java.util.TreeSet;
 
 /**
- * Standard sharding strategy.
+ * Inline sharding strategy.
+ * 
+ * <p>Common forms of inline expression are compiled to java evaluator, groovy closure is only used for other forms.</p>
  * 
  * @author zhangliang
  */
-public final class InlineShardingStrategy implements ShardingStrategy {
+public final class InlineShardingStrategy implements PreciseShardingStrategy {
     
+    @Getter
     private final String shardingColumn;
     
-    private final Closure<?> closure;
+    private final Optional<InlineShardingExpression> compiledExpression;
+    
+    private final Supplier<Closure<?>> closure;
     
     public InlineShardingStrategy(final String shardingColumn, final String inlineExpression) {
         this.shardingColumn = shardingColumn;
-        closure = (Closure) new GroovyShell().evaluate(Joiner.on("").join("{it -> \"", inlineExpression.trim(), "\"}"));
+        final String trimmedInlineExpression = inlineExpression.trim();
+        compiledExpression = InlineShardingExpression.compile(trimmedInlineExpression, shardingColumn);
+        closure = Suppliers.memoize(new Supplier<Closure<?>>() {
+            
+            @Override
+            public Closure<?> get() {
+                return (Closure) new GroovyShell().evaluate(Joiner.on("").join("{it -> \"", trimmedInlineExpression, "\"}"));
+            }
+        });
+        if (!compiledExpression.isPresent()) {
+            closure.get();
+        }
     }
     
     @Override
@@ -77,12 +97,23 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     }
     
     private String execute(final PreciseShardingValue shardingValue) {
-        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        if (compiledExpression.isPresent() && shardingColumn.equals(shardingValue.getColumnName())) {
+            Optional<String> result = compiledExpression.get().evaluate(shardingValue.getValue());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        Closure<?> result = closure.get().rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
         return result.call().toString();
     }
     
+    @Override
+    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<?> shardingValue) {
+        return execute(shardingValue);
+    }
+    
     @Override
     public Collection<String> getShardingColumns() {
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
@@ -23,8 +23,9 @@ import io.shardingjdbc.core.api.algorithm.sharding.ListShardingValue;
 import io.shardingjdbc.core.api.algorithm.sharding.PreciseShardingValue;
 import io.shardingjdbc.core.api.algorithm.sharding.RangeShardingValue;
 import io.shardingjdbc.core.api.algorithm.sharding.ShardingValue;
-import io.shardingjdbc.core.routing.strategy.ShardingStrategy;
+import io.shardingjdbc.core.routing.strategy.PreciseShardingStrategy;
 import com.google.common.base.Optional;
+import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -37,8 +38,9 @@ import java.util.TreeSet;
  * 
  * @author zhangliang
  */
-public final class StandardShardingStrategy implements ShardingStrategy {
+public final class StandardShardingStrategy implements PreciseShardingStrategy {
     
+    @Getter
     private final String shardingColumn;
     
     private final PreciseShardingAlgorithm preciseShardingAlgorithm;
@@ -91,6 +93,12 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         return result;
     }
     
+    @SuppressWarnings("unchecked")
+    @Override
+    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<?> shardingValue) {
+        return preciseShardingAlgorithm.doSharding(availableTargetNames, shardingValue);
+    }
+    
     @Override
     public Collection<String> getShardingColumns() {
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
@@ -17,34 +17,40 @@
 
 package io.shardingjdbc.core.routing.type.simple;
 
+import io.shardingjdbc.core.api.algorithm.sharding.PreciseShardingValue;
 import io.shardingjdbc.core.api.algorithm.sharding.ShardingValue;
+import io.shardingjdbc.core.constant.ShardingOperator;
 import io.shardingjdbc.core.hint.HintManagerHolder;
 import io.shardingjdbc.core.hint.ShardingKey;
 import io.shardingjdbc.core.parsing.parser.context.condition.Column;
 import io.shardingjdbc.core.parsing.parser.context.condition.Condition;
+import io.shardingjdbc.core.parsing.parser.context.condition.Conditions;
 import io.shardingjdbc.core.parsing.parser.sql.SQLStatement;
+import io.shardingjdbc.core.routing.strategy.PreciseShardingStrategy;
 import io.shardingjdbc.core.routing.strategy.ShardingStrategy;
+import io.shardingjdbc.core.routing.strategy.none.NoneShardingStrategy;
 import io.shardingjdbc.core.routing.type.RoutingEngine;
 import io.shardingjdbc.core.routing.type.RoutingResult;
 import io.shardingjdbc.core.routing.type.TableUnit;
-import io.shardingjdbc.core.rule.DataNode;
 import io.shardingjdbc.core.rule.ShardingRule;
 import io.shardingjdbc.core.rule.TableRule;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
  * Simple routing engine.
  * 
+ * <p>
+ * If database and table can be sharded by only one equal condition each,
+ * route to single table unit directly without creating sharding values and intermediate collections.
+ * </p>
+ * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class SimpleRoutingEngine implements RoutingEngine {
     
     private final ShardingRule shardingRule;
@@ -53,19 +59,72 @@ public final class SimpleRoutingEngine implements RoutingEngine {
     
     private final String logicTableName;
     
-    private final SQLStatement sqlStatement;
+    private final Conditions conditions;
+    
+    public SimpleRoutingEngine(final ShardingRule shardingRule, final List<Object> parameters, final String logicTableName, final SQLStatement sqlStatement) {
+        this(shardingRule, parameters, logicTableName, sqlStatement.getConditions());
+    }
+    
+    public SimpleRoutingEngine(final ShardingRule shardingRule, final List<Object> parameters, final String logicTableName, final Conditions conditions) {
+        this.shardingRule = shardingRule;
+        this.parameters = parameters;
+        this.logicTableName = logicTableName;
+        this.conditions = conditions;
+    }
     
     @Override
     public RoutingResult route() {
         TableRule tableRule = shardingRule.getTableRule(logicTableName);
+        if (!HintManagerHolder.isUseShardingHint()) {
+            Optional<TableUnit> tableUnit = routeDirectly(tableRule);
+            if (tableUnit.isPresent()) {
+                RoutingResult result = new RoutingResult();
+                result.getTableUnits().getTableUnits().add(tableUnit.get());
+                return result;
+            }
+        }
         List<ShardingValue> databaseShardingValues = getDatabaseShardingValues(tableRule);
         List<ShardingValue> tableShardingValues = getTableShardingValues(tableRule);
         Collection<String> routedDataSources = routeDataSources(tableRule, databaseShardingValues);
-        Collection<DataNode> routedDataNodes = new LinkedList<>();
+        RoutingResult result = new RoutingResult();
         for (String each : routedDataSources) {
-            routedDataNodes.addAll(routeTables(tableRule, each, tableShardingValues));
+            routeTables(tableRule, each, tableShardingValues, result);
         }
-        return generateRoutingResult(routedDataNodes);
+        return result;
+    }
+    
+    private Optional<TableUnit> routeDirectly(final TableRule tableRule) {
+        Optional<String> routedDataSource = routeDirectly(shardingRule.getDatabaseShardingStrategy(tableRule), tableRule.getActualDatasourceNames());
+        if (!routedDataSource.isPresent()) {
+            return Optional.absent();
+        }
+        Optional<String> routedTable = routeDirectly(shardingRule.getTableShardingStrategy(tableRule), tableRule.getActualTableNames(routedDataSource.get()));
+        if (!routedTable.isPresent()) {
+            return Optional.absent();
+        }
+        return Optional.of(new TableUnit(routedDataSource.get(), logicTableName, routedTable.get()));
+    }
+    
+    private Optional<String> routeDirectly(final ShardingStrategy strategy, final Collection<String> availableTargetNames) {
+        if (strategy instanceof NoneShardingStrategy) {
+            return 1 == availableTargetNames.size() ? Optional.of(availableTargetNames.iterator().next()) : Optional.<String>absent();
+        }
+        if (!(strategy instanceof PreciseShardingStrategy)) {
+            return Optional.absent();
+        }
+        Optional<Condition> condition = conditions.find(new Column(((PreciseShardingStrategy) strategy).getShardingColumn(), logicTableName));
+        if (!condition.isPresent() || ShardingOperator.EQUAL != condition.get().getOperator()) {
+            return Optional.absent();
+        }
+        Optional<Comparable<?>> value = condition.get().getEqualValue(parameters);
+        if (!value.isPresent()) {
+            return Optional.absent();
+        }
+        Column column = condition.get().getColumn();
+        PreciseShardingValue<Comparable<?>> shardingValue = new PreciseShardingValue<Comparable<?>>(column.getTableName(), column.getName(), value.get());
+        String result = ((PreciseShardingStrategy) strategy).doSharding(availableTargetNames, shardingValue);
+        Preconditions.checkState(null != result, "no route info");
+        return Optional.of(result);
     }
     
     private List<ShardingValue> getDatabaseShardingValues(final TableRule tableRule) {
@@ -103,7 +162,7 @@ public final class SimpleRoutingEngine implements RoutingEngine {
     private List<ShardingValue> getShardingValues(final Collection<String> shardingColumns) {
         List<ShardingValue> result = new ArrayList<>(shardingColumns.size());
         for (String each : shardingColumns) {
-            Optional<Condition> condition = sqlStatement.getConditions().find(new Column(each, logicTableName));
+            Optional<Condition> condition = conditions.find(new Column(each, logicTableName));
             if (condition.isPresent()) {
                 result.add(condition.get().getShardingValue(parameters));
             }
@@ -121,23 +180,13 @@ public final class SimpleRoutingEngine implements RoutingEngine {
         return result;
     }
     
-    private Collection<DataNode> routeTables(final TableRule tableRule, final String routedDataSource, final List<ShardingValue> tableShardingValues) {
+    private void routeTables(final TableRule tableRule, final String routedDataSource, final List<ShardingValue> tableShardingValues, final RoutingResult routingResult) {
         Collection<String> availableTargetTables = tableRule.getActualTableNames(routedDataSource);
         Collection<String> routedTables = tableShardingValues.isEmpty() ? availableTargetTables
                 : shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues);
         Preconditions.checkState(!routedTables.isEmpty(), "no table route info");
-        Collection<DataNode> result = new LinkedList<>();
         for (String each : routedTables) {
-            result.add(new DataNode(routedDataSource, each));
+            routingResult.getTableUnits().getTableUnits().add(new TableUnit(routedDataSource, logicTableName, each));
         }
-        return result;
-    }
-    
-    private RoutingResult generateRoutingResult(final Collection<DataNode> routedDataNodes) {
-        RoutingResult result = new RoutingResult();
-        for (DataNode each : routedDataNodes) {
-            result.getTableUnits().getTableUnits().add(new TableUnit(each.getDataSourceName(), logicTableName, each.getTableName()));
-        }
-        return result;
     }
 }
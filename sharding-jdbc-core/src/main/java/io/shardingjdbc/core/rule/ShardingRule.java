@@ -27,8 +27,9 @@ import io.shardingjdbc.core.routing.strategy.none.NoneShardingStrategy;
 import io.shardingjdbc.core.util.StringUtil;
 import com.google.common.base.Optional;
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import javax.sql.DataSource;
 import java.util.ArrayList;
@@ -37,14 +38,19 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeSet;
 
 /**
  * Databases and tables sharding rule configuration.
  * 
+ * <p>
+ * Table rules, binding table rules, sharding columns and generate key columns are indexed by lower case logic table name when rule created.
+ * </p>
+ * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
 @Getter
 public final class ShardingRule {
     
@@ -62,11 +68,27 @@ public final class ShardingRule {
     
     private final KeyGenerator defaultKeyGenerator;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> tableRuleIndex;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> bindingTableRuleIndex;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> shardingColumnsIndex;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> generateKeyColumnIndex;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> defaultShardingColumns;
+    
     public ShardingRule(final Map<String, DataSource> dataSourceMap, final String defaultDataSourceName, final Collection<TableRule> tableRules, final Collection<String> bindingTableGroups, 
                         final ShardingStrategy defaultDatabaseShardingStrategy, final ShardingStrategy defaultTableShardingStrategy, final KeyGenerator defaultKeyGenerator) {
         this.dataSourceMap = dataSourceMap;
         this.defaultDataSourceName = getDefaultDataSourceName(dataSourceMap, defaultDataSourceName);
         this.tableRules = tableRules;
+        tableRuleIndex = createTableRuleIndex(tableRules);
         for (String group : bindingTableGroups) {
             List<TableRule> tableRulesForBinding = new LinkedList<>();
             for (String logicTableNameForBindingTable : StringUtil.splitWithComma(group)) {
@@ -77,6 +99,12 @@ public final class ShardingRule {
         this.defaultDatabaseShardingStrategy = null == defaultDatabaseShardingStrategy ? new NoneShardingStrategy() : defaultDatabaseShardingStrategy;
         this.defaultTableShardingStrategy = null == defaultTableShardingStrategy ? new NoneShardingStrategy() : defaultTableShardingStrategy;
         this.defaultKeyGenerator = defaultKeyGenerator;
+        bindingTableRuleIndex = createBindingTableRuleIndex(bindingTableRules);
+        shardingColumnsIndex = createShardingColumnsIndex(tableRules);
+        generateKeyColumnIndex = createGenerateKeyColumnIndex(tableRules);
+        defaultShardingColumns = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        defaultShardingColumns.addAll(this.defaultDatabaseShardingStrategy.getShardingColumns());
+        defaultShardingColumns.addAll(this.defaultTableShardingStrategy.getShardingColumns());
     }
     
     private String getDefaultDataSourceName(final Map<String, DataSource> dataSourceMap, final String defaultDataSourceName) {
@@ -89,6 +117,58 @@ public final class ShardingRule {
         return defaultDataSourceName;
     }
     
+    private static Map<String, TableRule> createTableRuleIndex(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            String key = each.getLogicTable().toLowerCase(Locale.ENGLISH);
+            if (!result.containsKey(key)) {
+                result.put(key, each);
+            }
+        }
+        return ImmutableMap.copyOf(result);
+    }
+    
+    private static Map<String, BindingTableRule> createBindingTableRuleIndex(final Collection<BindingTableRule> bindingTableRules) {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (TableRule tableRule : each.getTableRules()) {
+                String key = tableRule.getLogicTable().toLowerCase(Locale.ENGLISH);
+                if (!result.containsKey(key)) {
+                    result.put(key, each);
+                }
+            }
+        }
+        return ImmutableMap.copyOf(result);
+    }
+    
+    private static Map<String, Collection<String>> createShardingColumnsIndex(final Collection<TableRule> tableRules) {
+        Map<String, Collection<String>> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            String key = each.getLogicTable().toLowerCase(Locale.ENGLISH);
+            if (!result.containsKey(key)) {
+                result.put(key, new TreeSet<>(String.CASE_INSENSITIVE_ORDER));
+            }
+            if (null != each.getDatabaseShardingStrategy()) {
+                result.get(key).addAll(each.getDatabaseShardingStrategy().getShardingColumns());
+            }
+            if (null != each.getTableShardingStrategy()) {
+                result.get(key).addAll(each.getTableShardingStrategy().getShardingColumns());
+            }
+        }
+        return ImmutableMap.copyOf(result);
+    }
+    
+    private static Map<String, String> createGenerateKeyColumnIndex(final Collection<TableRule> tableRules) {
+        Map<String, String> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            String key = each.getLogicTable().toLowerCase(Locale.ENGLISH);
+            if (!result.containsKey(key)) {
+                result.put(key, each.getGenerateKeyColumn());
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
     /**
      * Try to find table rule though logic table name.
      * 
@@ -96,12 +176,7 @@ public final class ShardingRule {
      * @return table rule
      */
     public Optional<TableRule> tryFindTableRule(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTableName ? Optional.<TableRule>absent() : Optional.fromNullable(tableRuleIndex.get(logicTableName.toLowerCase(Locale.ENGLISH)));
     }
     
     /**
@@ -221,12 +296,7 @@ public final class ShardingRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTable) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTable)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTable ? Optional.<BindingTableRule>absent() : Optional.fromNullable(bindingTableRuleIndex.get(logicTable.toLowerCase(Locale.ENGLISH)));
     }
     
     /**
@@ -236,21 +306,14 @@ public final class ShardingRule {
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final Column column) {
-        if (defaultDatabaseShardingStrategy.getShardingColumns().contains(column.getName()) || defaultTableShardingStrategy.getShardingColumns().contains(column.getName())) {
+        if (defaultShardingColumns.contains(column.getName())) {
             return true;
         }
-        for (TableRule each : tableRules) {
-            if (!each.getLogicTable().equalsIgnoreCase(column.getTableName())) {
-                continue;
-            }
-            if (null != each.getDatabaseShardingStrategy() && each.getDatabaseShardingStrategy().getShardingColumns().contains(column.getName())) {
-                return true;
-            }
-            if (null != each.getTableShardingStrategy() && each.getTableShardingStrategy().getShardingColumns().contains(column.getName())) {
-                return true;
-            }
+        if (null == column.getTableName()) {
+            return false;
         }
-        return false;
+        Collection<String> shardingColumns = shardingColumnsIndex.get(column.getTableName().toLowerCase(Locale.ENGLISH));
+        return null != shardingColumns && shardingColumns.contains(column.getName());
     }
     
     /**
@@ -260,12 +323,7 @@ public final class ShardingRule {
      * @return generated key's column name
      */
     public Optional<String> getGenerateKeyColumn(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
-                return Optional.fromNullable(each.getGenerateKeyColumn());
-            }
-        }
-        return Optional.absent();
+        return null == logicTableName ? Optional.<String>absent() : Optional.fromNullable(generateKeyColumnIndex.get(logicTableName.toLowerCase(Locale.ENGLISH)));
     }
     
     /**
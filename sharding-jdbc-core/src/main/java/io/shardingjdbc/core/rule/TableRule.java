@@ -18,31 +18,52 @@
 package io.shardingjdbc.core.rule;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import io.shardingjdbc.core.keygen.KeyGenerator;
 import io.shardingjdbc.core.routing.strategy.ShardingStrategy;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 
 import javax.sql.DataSource;
 import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Table rule configuration.
  * 
+ * <p>
+ * Actual data source names, actual table names of each data source and index of data nodes are calculated when rule created.
+ * </p>
+ * 
  * @author zhangliang
  */
 @Getter
-@ToString
+@ToString(exclude = {"actualDatasourceNames", "actualTableNamesIndex", "dataNodeIndex"})
 public final class TableRule {
     
     private final String logicTable;
     
     private final List<DataNode> actualDataNodes;
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> actualDatasourceNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> actualTableNamesIndex;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<DataNode, Integer> dataNodeIndex;
+    
     private final ShardingStrategy databaseShardingStrategy;
     
     private final ShardingStrategy tableShardingStrategy;
@@ -54,7 +75,10 @@ public final class TableRule {
     public TableRule(final String logicTable, final List<String> actualDataNodes, final Map<String, DataSource> dataSourceMap,
                      final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy, final String generateKeyColumn, final KeyGenerator keyGenerator) {
         this.logicTable = logicTable;
-        this.actualDataNodes = null == actualDataNodes || actualDataNodes.isEmpty() ? generateDataNodes(logicTable, dataSourceMap) : generateDataNodes(actualDataNodes, dataSourceMap);
+        this.actualDataNodes = ImmutableList.copyOf(null == actualDataNodes || actualDataNodes.isEmpty() ? generateDataNodes(logicTable, dataSourceMap) : generateDataNodes(actualDataNodes, dataSourceMap));
+        actualTableNamesIndex = createActualTableNamesIndex(this.actualDataNodes);
+        actualDatasourceNames = ImmutableSet.copyOf(actualTableNamesIndex.keySet());
+        dataNodeIndex = createDataNodeIndex(this.actualDataNodes);
         this.databaseShardingStrategy = databaseShardingStrategy;
         this.tableShardingStrategy = tableShardingStrategy;
         this.generateKeyColumn = generateKeyColumn;
@@ -81,43 +105,64 @@ public final class TableRule {
         return result;
     }
     
+    private Map<String, Collection<String>> createActualTableNamesIndex(final List<DataNode> actualDataNodes) {
+        Map<String, ImmutableSet.Builder<String>> builders = new LinkedHashMap<>();
+        for (DataNode each : actualDataNodes) {
+            if (!builders.containsKey(each.getDataSourceName())) {
+                builders.put(each.getDataSourceName(), ImmutableSet.<String>builder());
+            }
+            builders.get(each.getDataSourceName()).add(each.getTableName());
+        }
+        ImmutableMap.Builder<String, Collection<String>> result = ImmutableMap.builder();
+        for (Entry<String, ImmutableSet.Builder<String>> entry : builders.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().build());
+        }
+        return result.build();
+    }
+    
+    private Map<DataNode, Integer> createDataNodeIndex(final List<DataNode> actualDataNodes) {
+        Map<DataNode, Integer> result = new HashMap<>(actualDataNodes.size(), 1);
+        int index = 0;
+        for (DataNode each : actualDataNodes) {
+            DataNode key = new DataNode(each.getDataSourceName().toLowerCase(Locale.ENGLISH), each.getTableName().toLowerCase(Locale.ENGLISH));
+            if (!result.containsKey(key)) {
+                result.put(key, index);
+            }
+            index++;
+        }
+        return ImmutableMap.copyOf(result);
+    }
+    
     /**
      * Get actual data source names.
+     * 
+     * <p>
+     * The result is unmodifiable and shared by all routings.
+     * </p>
      *
      * @return actual data source names
      */
     public Collection<String> getActualDatasourceNames() {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            result.add(each.getDataSourceName());
-        }
-        return result;
+        return actualDatasourceNames;
     }
     
     /**
      * Get actual table names via target data source name.
+     * 
+     * <p>
+     * The result is unmodifiable and shared by all routings.
+     * </p>
      *
      * @param targetDataSource target data source name
      * @return names of actual tables
      */
     public Collection<String> getActualTableNames(final String targetDataSource) {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            if (targetDataSource.equals(each.getDataSourceName())) {
-                result.add(each.getTableName());
-            }
-        }
-        return result;
+        Collection<String> result = actualTableNamesIndex.get(targetDataSource);
+        return null == result ? Collections.<String>emptySet() : result;
     }
     
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
-        int result = 0;
-        for (DataNode each : actualDataNodes) {
-            if (each.getDataSourceName().equalsIgnoreCase(dataSourceName) && each.getTableName().equalsIgnoreCase(actualTableName)) {
-                return result;
-            }
-            result++;
-        }
-        return -1;
+        Integer result = dataNodeIndex.get(new DataNode(dataSourceName.toLowerCase(Locale.ENGLISH), actualTableName.toLowerCase(Locale.ENGLISH)));
+        return null == result ? -1 : result;
     }
 }
@@ -21,6 +21,8 @@ import com.google.common.eventbus.EventBus;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Event bus for singleton instance.
  * 
@@ -29,7 +31,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class EventBusInstance {
     
-    private static final EventBus INSTANCE = new EventBus();
+    private static final SubscriberCountingEventBus INSTANCE = new SubscriberCountingEventBus();
     
     /**
      * Get event bus instance.
@@ -39,4 +41,30 @@ public final class EventBusInstance {
     public static EventBus getInstance() {
         return INSTANCE;
     }
+    
+    /**
+     * Adjust any subscriber is registered or not.
+     * 
+     * @return any subscriber is registered or not
+     */
+    public static boolean hasSubscriber() {
+        return INSTANCE.subscriberCount.get() > 0;
+    }
+    
+    private static final class SubscriberCountingEventBus extends EventBus {
+        
+        private final AtomicInteger subscriberCount = new AtomicInteger();
+        
+        @Override
+        public void register(final Object object) {
+            super.register(object);
+            subscriberCount.incrementAndGet();
+        }
+        
+        @Override
+        public void unregister(final Object object) {
+            super.unregister(object);
+            subscriberCount.decrementAndGet();
+        }
+    }
 }
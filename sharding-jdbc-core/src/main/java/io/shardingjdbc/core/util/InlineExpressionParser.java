@@ -18,6 +18,7 @@
 package io.shardingjdbc.core.util;
 
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
 import groovy.lang.GString;
@@ -27,12 +28,18 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 /**
  * Inline expression parser.
  * 
+ * <p>
+ * Segments only contain literals, {@code ${a..b}}, {@code ${a..<b}}, {@code ${[x, y]}} and simple literal placeholders are expanded natively,
+ * other segments are evaluated by groovy.
+ * </p>
+ * 
  * @author gaohongtao
  * @author zhangliang
  */
@@ -52,25 +59,33 @@ public final class InlineExpressionParser {
         if (null == inlineExpression) {
             return Collections.emptyList();
         }
-        return flatten(evaluate(split()));
-    }
-    
-    private List<Object> evaluate(final List<String> inlineExpressions) {
-        List<Object> result = new ArrayList<>(inlineExpressions.size());
-        GroovyShell shell = new GroovyShell();
-        for (String each : inlineExpressions) {
-            StringBuilder expression = new StringBuilder(each);
-            if (!each.startsWith("\"")) {
-                expression.insert(0, "\"");
+        List<String> result = new ArrayList<>();
+        GroovyShell shell = null;
+        for (String each : split()) {
+            Optional<List<String>> expandedSegments = new NativeExpander(each).expand();
+            if (expandedSegments.isPresent()) {
+                result.addAll(expandedSegments.get());
+                continue;
             }
-            if (!each.endsWith("\"")) {
-                expression.append("\"");
+            if (null == shell) {
+                shell = new GroovyShell();
             }
-            result.add(shell.evaluate(expression.toString()));
+            result.addAll(flatten(evaluate(shell, each)));
         }
         return result;
     }
     
+    private Object evaluate(final GroovyShell shell, final String inlineExpression) {
+        StringBuilder expression = new StringBuilder(inlineExpression);
+        if (!inlineExpression.startsWith("\"")) {
+            expression.insert(0, "\"");
+        }
+        if (!inlineExpression.endsWith("\"")) {
+            expression.append("\"");
+        }
+        return shell.evaluate(expression.toString());
+    }
+    
     private List<String> split() {
         List<String> result = new ArrayList<>();
         StringBuilder segment = new StringBuilder();
@@ -109,16 +124,8 @@ public final class InlineExpressionParser {
         return result;
     }
     
-    private List<String> flatten(final List<Object> segments) {
-        List<String> result = new ArrayList<>();
-        for (Object each : segments) {
-            if (each instanceof GString) {
-                result.addAll(assemblyCartesianSegments((GString) each));
-            } else {
-                result.add(each.toString());
-            }
-        }
-        return result;
+    private List<String> flatten(final Object segment) {
+        return segment instanceof GString ? assemblyCartesianSegments((GString) segment) : Collections.singletonList(segment.toString());
     }
     
     private List<String> assemblyCartesianSegments(final GString segment) {
@@ -162,4 +169,219 @@ public final class InlineExpressionParser {
         }
         return result.toString();
     }
+    
+    private static final class NativeExpander {
+        
+        private final String segment;
+        
+        private final List<String> literals = new ArrayList<>();
+        
+        private final List<Set<String>> values = new ArrayList<>();
+        
+        private int position;
+        
+        private NativeExpander(final String segment) {
+            this.segment = segment;
+        }
+        
+        private Optional<List<String>> expand() {
+            while (position < segment.length()) {
+                int placeholderBeginPosition = segment.indexOf("${", position);
+                int literalsEndPosition = -1 == placeholderBeginPosition ? segment.length() : placeholderBeginPosition;
+                if (!isPlainLiterals(segment.substring(position, literalsEndPosition))) {
+                    return Optional.absent();
+                }
+                literals.add(segment.substring(position, literalsEndPosition));
+                if (-1 == placeholderBeginPosition) {
+                    break;
+                }
+                int placeholderEndPosition = segment.indexOf('}', placeholderBeginPosition);
+                if (-1 == placeholderEndPosition) {
+                    return Optional.absent();
+                }
+                Optional<Set<String>> placeholderValues = new PlaceholderParser(segment.substring(placeholderBeginPosition + 2, placeholderEndPosition)).parse();
+                if (!placeholderValues.isPresent()) {
+                    return Optional.absent();
+                }
+                values.add(placeholderValues.get());
+                position = placeholderEndPosition + 1;
+            }
+            if (literals.size() == values.size()) {
+                literals.add("");
+            }
+            return Optional.of(assemblyCartesianSegments());
+        }
+        
+        private boolean isPlainLiterals(final String literals) {
+            for (int i = 0; i < literals.length(); i++) {
+                char each = literals.charAt(i);
+                if ('$' == each || '\\' == each || '"' == each) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private List<String> assemblyCartesianSegments() {
+            if (values.isEmpty()) {
+                return Collections.singletonList(literals.get(0));
+            }
+            Set<List<String>> cartesianValues = Sets.cartesianProduct(values);
+            List<String> result = new ArrayList<>(cartesianValues.size());
+            for (List<String> each : cartesianValues) {
+                StringBuilder expandedSegment = new StringBuilder();
+                for (int i = 0; i < each.size(); i++) {
+                    expandedSegment.append(literals.get(i)).append(each.get(i));
+                }
+                result.add(expandedSegment.append(literals.get(each.size())).toString());
+            }
+            return result;
+        }
+    }
+    
+    private static final class PlaceholderParser {
+        
+        private static final String RANGE_SYMBOL = "..";
+        
+        private final String placeholder;
+        
+        private int position;
+        
+        private PlaceholderParser(final String placeholder) {
+            this.placeholder = placeholder;
+        }
+        
+        private Optional<Set<String>> parse() {
+            skipWhitespace();
+            Optional<Set<String>> result = '[' == currentChar() ? parseList() : parseRangeOrLiteral();
+            skipWhitespace();
+            return position == placeholder.length() ? result : Optional.<Set<String>>absent();
+        }
+        
+        private Optional<Set<String>> parseList() {
+            Set<String> result = new LinkedHashSet<>();
+            position++;
+            skipWhitespace();
+            if (']' == currentChar()) {
+                position++;
+                return Optional.of(result);
+            }
+            while (true) {
+                Optional<String> literal = parseLiteral();
+                if (!literal.isPresent()) {
+                    return Optional.absent();
+                }
+                result.add(literal.get());
+                skipWhitespace();
+                char current = currentChar();
+                position++;
+                if (']' == current) {
+                    return Optional.of(result);
+                }
+                if (',' != current) {
+                    return Optional.absent();
+                }
+                skipWhitespace();
+            }
+        }
+        
+        private Optional<Set<String>> parseRangeOrLiteral() {
+            boolean isNumber = isNumberBegin();
+            Optional<String> literal = parseLiteral();
+            skipWhitespace();
+            if (!literal.isPresent() || !placeholder.startsWith(RANGE_SYMBOL, position)) {
+                return literal.isPresent() ? Optional.<Set<String>>of(Sets.newHashSet(literal.get())) : Optional.<Set<String>>absent();
+            }
+            position += RANGE_SYMBOL.length();
+            boolean isExclusive = '<' == currentChar();
+            if (isExclusive) {
+                position++;
+            }
+            skipWhitespace();
+            Optional<String> to = isNumberBegin() ? parseNumber() : Optional.<String>absent();
+            if (!isNumber || !to.isPresent() || !isInteger(literal.get()) || !isInteger(to.get())) {
+                return Optional.absent();
+            }
+            return Optional.of(getRangeValues(Integer.parseInt(literal.get()), Integer.parseInt(to.get()), isExclusive));
+        }
+        
+        private Set<String> getRangeValues(final int from, final int to, final boolean isExclusive) {
+            Set<String> result = new LinkedHashSet<>();
+            int step = from <= to ? 1 : -1;
+            long end = isExclusive ? to : (long) to + step;
+            for (long i = from; i != end; i += step) {
+                result.add(String.valueOf(i));
+            }
+            return result;
+        }
+        
+        private boolean isInteger(final String literal) {
+            try {
+                Integer.parseInt(literal);
+                return true;
+            } catch (final NumberFormatException ex) {
+                return false;
+            }
+        }
+        
+        private Optional<String> parseLiteral() {
+            char current = currentChar();
+            if ('\'' == current || '"' == current) {
+                return parseString(current);
+            }
+            if (isNumberBegin()) {
+                return parseNumber();
+            }
+            return Optional.absent();
+        }
+        
+        private boolean isNumberBegin() {
+            return '-' == currentChar() || Character.isDigit(currentChar());
+        }
+        
+        private Optional<String> parseString(final char quote) {
+            int beginPosition = ++position;
+            while (position < placeholder.length() && quote != placeholder.charAt(position)) {
+                char each = placeholder.charAt(position);
+                if ('\\' == each || '$' == each) {
+                    return Optional.absent();
+                }
+                position++;
+            }
+            if (position == placeholder.length()) {
+                return Optional.absent();
+            }
+            return Optional.of(placeholder.substring(beginPosition, position++));
+        }
+        
+        private Optional<String> parseNumber() {
+            int beginPosition = position;
+            if ('-' == currentChar()) {
+                position++;
+            }
+            int digitsBeginPosition = position;
+            while (position < placeholder.length() && Character.isDigit(placeholder.charAt(position))) {
+                position++;
+            }
+            int digitsLength = position - digitsBeginPosition;
+            if (0 == digitsLength || digitsLength > 1 && '0' == placeholder.charAt(digitsBeginPosition) || position < placeholder.length() && Character.isLetter(placeholder.charAt(position))) {
+                return Optional.absent();
+            }
+            try {
+                return Optional.of(String.valueOf(Long.parseLong(placeholder.substring(beginPosition, position))));
+            } catch (final NumberFormatException ex) {
+                return Optional.absent();
+            }
+        }
+        
+        private char currentChar() {
+            return position < placeholder.length() ? placeholder.charAt(position) : '\0';
+        }
+        
+        private void skipWhitespace() {
+            while (position < placeholder.length() && Character.isWhitespace(placeholder.charAt(position))) {
+                position++;
+            }
+        }
+    }
 }
@@ -24,6 +24,8 @@ import io.shardingjdbc.core.parsing.lexer.token.DefaultKeyword;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 
+import java.util.regex.Pattern;
+
 /**
  * SQL utility class.
  * 
@@ -32,6 +34,10 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class SQLUtil {
     
+    private static final Pattern PLACEHOLDER_LIST_PATTERN = Pattern.compile("\\( ?\\?( ?, ?\\?)+ ?\\)");
+    
+    private static final Pattern PLACEHOLDER_ROWS_PATTERN = Pattern.compile("\\(\\?\\)( ?, ?\\(\\?\\))+");
+    
     /**
      * Get exactly value for SQL expression.
      * 
@@ -44,6 +50,82 @@ public class SQLUtil {
         return null == value ? null : CharMatcher.anyOf("[]`'\"").removeFrom(value);
     }
     
+    /**
+     * Get fingerprint of SQL.
+     * 
+     * <p>
+     * Replace literals with placeholder, merge placeholder list and white spaces,
+     * SQL with different literals or sizes of IN list share one fingerprint.
+     * </p>
+     * 
+     * @param sql SQL
+     * @return fingerprint of SQL
+     */
+    public static String getFingerprint(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        int position = 0;
+        while (position < sql.length()) {
+            char each = sql.charAt(position);
+            if ('\'' == each) {
+                position = skipChars(sql, position);
+                result.append('?');
+            } else if (Character.isWhitespace(each)) {
+                position = skipWhitespaces(sql, position);
+                if (0 != result.length() && position < sql.length()) {
+                    result.append(' ');
+                }
+            } else if (Character.isDigit(each) && !isIdentifierPart(result)) {
+                position = skipNumber(sql, position);
+                result.append('?');
+            } else {
+                result.append(each);
+                position++;
+            }
+        }
+        return PLACEHOLDER_ROWS_PATTERN.matcher(PLACEHOLDER_LIST_PATTERN.matcher(result).replaceAll("(?)")).replaceAll("(?)");
+    }
+    
+    private static int skipChars(final String sql, final int beginPosition) {
+        int result = beginPosition + 1;
+        while (result < sql.length()) {
+            char each = sql.charAt(result);
+            if ('\\' == each) {
+                result += 2;
+            } else if ('\'' == each && result + 1 < sql.length() && '\'' == sql.charAt(result + 1)) {
+                result += 2;
+            } else if ('\'' == each) {
+                return result + 1;
+            } else {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private static int skipWhitespaces(final String sql, final int beginPosition) {
+        int result = beginPosition;
+        while (result < sql.length() && Character.isWhitespace(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipNumber(final String sql, final int beginPosition) {
+        int result = beginPosition;
+        while (result < sql.length() && (Character.isLetterOrDigit(sql.charAt(result)) || '.' == sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isIdentifierPart(final StringBuilder fingerprint) {
+        if (0 == fingerprint.length()) {
+            return false;
+        }
+        char lastChar = fingerprint.charAt(fingerprint.length() - 1);
+        return Character.isLetterOrDigit(lastChar) || '_' == lastChar || '$' == lastChar;
+    }
+    
     /**
      * Get original value for SQL expression.
      * 
@@ -24,6 +24,7 @@ import io.shardingjdbc.core.hint.AllHintTests;
 import io.shardingjdbc.core.jdbc.AllJDBCTests;
 import io.shardingjdbc.core.keygen.AllKeygenTests;
 import io.shardingjdbc.core.merger.AllMergerTests;
+import io.shardingjdbc.core.metrics.AllMetricsTests;
 import io.shardingjdbc.core.parsing.AllParsingTests;
 import io.shardingjdbc.core.rewrite.AllRewriteTests;
 import io.shardingjdbc.core.routing.AllRoutingTests;
@@ -44,6 +45,7 @@ import org.junit.runners.Suite.SuiteClasses;
         AllRoutingTests.class, 
         AllMergerTests.class, 
         AllExecutorTests.class, 
+        AllMetricsTests.class, 
         AllJDBCTests.class, 
         AllHintTests.class, 
         AllKeygenTests.class, 
@@ -53,6 +53,12 @@ public final class ShardingStrategyTest {
                 is((Collection<String>) Sets.newHashSet("1", "2", "3")));
     }
     
+    @Test
+    public void assertDoShardingForPreciseValue() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy("column", new TestPreciseShardingAlgorithm());
+        assertThat(strategy.doSharding(targets, new PreciseShardingValue<>("logicTable", "column", "1")), is("1"));
+    }
+    
     @Test
     public void assertDoShardingForMultipleKeys() {
         ComplexShardingStrategy strategy = new ComplexShardingStrategy(Collections.singletonList("column"), new TestComplexKeysShardingAlgorithm());
@@ -17,6 +17,13 @@
 
 package io.shardingjdbc.core.executor;
 
+import io.shardingjdbc.core.executor.backend.ExecutorBackendFactoryTest;
+import io.shardingjdbc.core.executor.event.AsyncExecutionEventListenerTest;
+import io.shardingjdbc.core.executor.event.ExecutionEventDispatcherTest;
+import io.shardingjdbc.core.executor.event.ExecutionEventRingBufferTest;
+import io.shardingjdbc.core.executor.limit.AdaptiveConcurrencyLimiterTest;
+import io.shardingjdbc.core.executor.limit.ExecutionLimiterTest;
+import io.shardingjdbc.core.executor.pool.ExecutorPoolTest;
 import io.shardingjdbc.core.executor.threadlocal.ExecutorExceptionHandlerTest;
 import io.shardingjdbc.core.executor.type.PreparedStatementExecutorTest;
 import io.shardingjdbc.core.executor.type.BatchPreparedStatementExecutorTest;
@@ -29,7 +36,14 @@ import org.junit.runners.Suite;
         ExecutorExceptionHandlerTest.class, 
         StatementExecutorTest.class, 
         PreparedStatementExecutorTest.class,
-        BatchPreparedStatementExecutorTest.class
+        BatchPreparedStatementExecutorTest.class, 
+        ExecutorPoolTest.class, 
+        ExecutorBackendFactoryTest.class, 
+        ExecutionEventRingBufferTest.class, 
+        ExecutionEventDispatcherTest.class, 
+        AsyncExecutionEventListenerTest.class, 
+        AdaptiveConcurrencyLimiterTest.class, 
+        ExecutionLimiterTest.class
     })
 public class AllExecutorTests {
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.executor.backend;
+
+import io.shardingjdbc.core.constant.ShardingProperties;
+import io.shardingjdbc.core.constant.ShardingPropertiesConstant;
+import io.shardingjdbc.core.exception.ShardingJdbcException;
+import org.junit.Test;
+
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExecutorBackendFactoryTest {
+    
+    @Test
+    public void assertNewDefaultExecutorBackend() {
+        ExecutorBackend actual = ExecutorBackendFactory.newExecutorBackend(new ShardingProperties(new Properties()));
+        assertThat(actual, instanceOf(ThreadPoolExecutorBackend.class));
+        assertThat(actual.getMetrics().size(), is(1));
+        actual.close();
+    }
+    
+    @Test
+    public void assertNewThreadPoolExecutorBackendWithDataSourceExecutorPool() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.EXECUTOR_DATA_SOURCE_SIZE.getKey(), "2");
+        ExecutorBackend actual = ExecutorBackendFactory.newExecutorBackend(new ShardingProperties(props));
+        assertThat(actual.getExecutorService("ds_0"), is(actual.getExecutorService("ds_0")));
+        assertThat(actual.getMetrics().size(), is(2));
+        actual.close();
+    }
+    
+    @Test
+    public void assertNewVirtualThreadExecutorBackend() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.EXECUTOR_BACKEND.getKey(), "virtual_thread");
+        ExecutorBackend actual = ExecutorBackendFactory.newExecutorBackend(new ShardingProperties(props));
+        if (VirtualThreadExecutorBackend.isAvailable()) {
+            assertThat(actual, instanceOf(VirtualThreadExecutorBackend.class));
+        } else {
+            assertThat(actual, instanceOf(ThreadPoolExecutorBackend.class));
+        }
+        actual.close();
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertNewExecutorBackendWithInvalidType() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.EXECUTOR_BACKEND.getKey(), "invalid");
+        ExecutorBackendFactory.newExecutorBackend(new ShardingProperties(props));
+    }
+    
+    @Test
+    public void assertExecutorServiceBackendNotShutdownSuppliedExecutorService() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        ExecutorBackend actual = new ExecutorServiceBackend(executorService);
+        assertThat(actual.getMetrics().size(), is(1));
+        actual.close();
+        assertFalse(executorService.isShutdown());
+        executorService.shutdown();
+        assertTrue(executorService.isShutdown());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.executor.event;
+
+import io.shardingjdbc.core.constant.SQLType;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AsyncExecutionEventListenerTest {
+    
+    private final List<AbstractExecutionEvent> actualEvents = new CopyOnWriteArrayList<>();
+    
+    private final CountDownLatch received = new CountDownLatch(1);
+    
+    private final ExecutionEventListener listener = new ExecutionEventListener() {
+        
+        @Override
+        public void listen(final List<? extends AbstractExecutionEvent> events) {
+            actualEvents.addAll(events);
+            received.countDown();
+        }
+    };
+    
+    @Test
+    public void assertDispatchAfterIdle() throws InterruptedException {
+        AsyncExecutionEventListener asyncListener = new AsyncExecutionEventListener(listener, 16);
+        try {
+            Thread.sleep(50L);
+            asyncListener.listen(Collections.singletonList(createFinishedEvent()));
+            assertTrue(received.await(5L, TimeUnit.SECONDS));
+        } finally {
+            asyncListener.close();
+        }
+    }
+    
+    @Test
+    public void assertCloseAfterRemainingEventsDispatched() {
+        AsyncExecutionEventListener asyncListener = new AsyncExecutionEventListener(listener, 16);
+        for (int i = 0; i < 10; i++) {
+            asyncListener.listen(Collections.singletonList(createFinishedEvent()));
+        }
+        asyncListener.close();
+        assertThat(actualEvents.size(), is(10));
+        assertThat(asyncListener.getDroppedCount(), is(0L));
+    }
+    
+    @Test
+    public void assertListenAfterClosed() {
+        AsyncExecutionEventListener asyncListener = new AsyncExecutionEventListener(listener, 16);
+        asyncListener.close();
+        asyncListener.listen(Collections.singletonList(createFinishedEvent()));
+        assertTrue(actualEvents.isEmpty());
+        assertThat(asyncListener.getDroppedCount(), is(1L));
+    }
+    
+    private AbstractExecutionEvent createFinishedEvent() {
+        OverallExecutionEvent result = new OverallExecutionEvent(SQLType.DQL, 1);
+        result.setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
+        return result;
+    }
+}
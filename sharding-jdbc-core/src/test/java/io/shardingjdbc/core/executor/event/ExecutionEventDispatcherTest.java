@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.executor.event;
+
+import io.shardingjdbc.core.constant.SQLType;
+import io.shardingjdbc.core.util.EventBusInstance;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExecutionEventDispatcherTest {
+    
+    private final List<List<AbstractExecutionEvent>> actualBatches = new CopyOnWriteArrayList<>();
+    
+    private final ExecutionEventListener listener = new ExecutionEventListener() {
+        
+        @Override
+        public void listen(final List<? extends AbstractExecutionEvent> events) {
+            actualBatches.add(new ArrayList<>(events));
+        }
+    };
+    
+    @After
+    public void tearDown() {
+        ExecutionEventDispatcher.getInstance().unregister(listener);
+    }
+    
+    @Test
+    public void assertHasListener() {
+        ExecutionEventDispatcher.getInstance().register(listener);
+        assertTrue(ExecutionEventDispatcher.getInstance().hasListener());
+        ExecutionEventDispatcher.getInstance().unregister(listener);
+        assertThat(ExecutionEventDispatcher.getInstance().hasListener(), is(EventBusInstance.hasSubscriber()));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertRegisterTwice() {
+        ExecutionEventDispatcher.getInstance().register(listener);
+        ExecutionEventDispatcher.getInstance().registerAsync(listener, 16);
+    }
+    
+    @Test
+    public void assertPostInBatch() {
+        ExecutionEventDispatcher.getInstance().register(listener);
+        List<AbstractExecutionEvent> events = Arrays.<AbstractExecutionEvent>asList(
+                new DQLExecutionEvent("ds_0", "SELECT 1", Collections.emptyList()), new DQLExecutionEvent("ds_0", "SELECT 1", Collections.emptyList()));
+        ExecutionEventDispatcher.getInstance().post(events);
+        assertThat(actualBatches.size(), is(1));
+        assertThat(actualBatches.get(0), is(events));
+    }
+    
+    @Test
+    public void assertPostAsyncForFinishedEventsOnly() {
+        ExecutionEventDispatcher.getInstance().registerAsync(listener, 16);
+        OverallExecutionEvent beforeEvent = new OverallExecutionEvent(SQLType.DQL, 1);
+        OverallExecutionEvent finishedEvent = new OverallExecutionEvent(SQLType.DQL, 1);
+        finishedEvent.setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
+        ExecutionEventDispatcher.getInstance().post(beforeEvent);
+        ExecutionEventDispatcher.getInstance().post(finishedEvent);
+        ExecutionEventDispatcher.getInstance().unregister(listener);
+        List<AbstractExecutionEvent> actualEvents = new ArrayList<>();
+        for (List<AbstractExecutionEvent> each : actualBatches) {
+            actualEvents.addAll(each);
+        }
+        assertThat(actualEvents, is(Collections.<AbstractExecutionEvent>singletonList(finishedEvent)));
+        assertThat(ExecutionEventDispatcher.getInstance().getDroppedEventCount(), is(0L));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.executor.event;
+
+import io.shardingjdbc.core.constant.SQLType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExecutionEventRingBufferTest {
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewWithInvalidBufferSize() {
+        new ExecutionEventRingBuffer(3);
+    }
+    
+    @Test
+    public void assertOfferAndDrain() {
+        ExecutionEventRingBuffer ringBuffer = new ExecutionEventRingBuffer(2);
+        AbstractExecutionEvent event1 = new OverallExecutionEvent(SQLType.DQL, 1);
+        AbstractExecutionEvent event2 = new OverallExecutionEvent(SQLType.DQL, 1);
+        AbstractExecutionEvent event3 = new OverallExecutionEvent(SQLType.DQL, 1);
+        assertTrue(ringBuffer.offer(event1));
+        assertTrue(ringBuffer.offer(event2));
+        assertFalse(ringBuffer.offer(event3));
+        List<AbstractExecutionEvent> actual = new ArrayList<>();
+        assertThat(ringBuffer.drainTo(actual, 1), is(1));
+        assertTrue(ringBuffer.offer(event3));
+        assertThat(ringBuffer.drainTo(actual, 16), is(2));
+        assertThat(actual, is(Arrays.asList(event1, event2, event3)));
+        assertThat(ringBuffer.drainTo(actual, 16), is(0));
+    }
+}
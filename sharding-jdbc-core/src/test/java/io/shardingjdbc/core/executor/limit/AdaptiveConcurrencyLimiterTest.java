@@ -0,0 +1,142 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.executor.limit;
+
+import io.shardingjdbc.core.exception.ShardingJdbcException;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class AdaptiveConcurrencyLimiterTest {
+    
+    @Test
+    public void assertInitialLimit() {
+        assertThat(new AdaptiveConcurrencyLimiter(10).getLimit(), is(10));
+    }
+    
+    @Test
+    public void assertDecreaseLimitWhenFailed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+        limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+        limiter.release(100L, false);
+        assertThat(limiter.getLimit(), is(9));
+    }
+    
+    @Test
+    public void assertDecreaseLimitWhenLatencyIsRising() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+            limiter.release(100L, true);
+        }
+        assertThat(limiter.getLimit(), is(10));
+        limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+        limiter.release(1000L, true);
+        assertThat(limiter.getLimit(), is(10));
+        limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+        limiter.release(1000L, true);
+        assertThat(limiter.getLimit(), is(9));
+    }
+    
+    @Test
+    public void assertNotDecreaseLimitForMixedLatencies() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+        for (int i = 0; i < 9; i++) {
+            limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+        }
+        for (int i = 0; i < 10000; i++) {
+            limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+            limiter.release(0 == i % 4 ? 100000L : 100L, true);
+            assertThat(limiter.getLimit(), is(10));
+        }
+    }
+    
+    @Test
+    public void assertIncreaseLimitWhenLatencyIsStable() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+        limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+        limiter.release(100L, false);
+        assertThat(limiter.getLimit(), is(9));
+        for (int i = 0; i < 6; i++) {
+            limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+        }
+        limiter.release(100L, true);
+        assertThat(limiter.getLimit(), is(10));
+        limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+        limiter.release(100L, true);
+        assertThat(limiter.getLimit(), is(10));
+    }
+    
+    @Test
+    public void assertAcquireWaitUntilReleased() throws InterruptedException {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1);
+        limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+        final CountDownLatch acquired = new CountDownLatch(1);
+        Thread thread = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+                acquired.countDown();
+            }
+        });
+        thread.start();
+        assertFalse(acquired.await(100L, TimeUnit.MILLISECONDS));
+        limiter.release(100L, true);
+        assertTrue(acquired.await(5L, TimeUnit.SECONDS));
+        assertThat(limiter.getLimit(), is(1));
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertAcquireTimeout() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1);
+        limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+        limiter.acquire("ds_0", TimeUnit.MILLISECONDS.toNanos(10L));
+    }
+    
+    @Test
+    public void assertAcquireInterrupted() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1);
+        limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+        Thread.currentThread().interrupt();
+        try {
+            limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+            fail();
+        } catch (final ShardingJdbcException ex) {
+            assertTrue(ex.getCause() instanceof InterruptedException);
+            assertTrue(Thread.interrupted());
+        }
+    }
+    
+    @Test
+    public void assertCancel() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1);
+        limiter.acquire("ds_0", TimeUnit.SECONDS.toNanos(5L));
+        limiter.cancel();
+        limiter.acquire("ds_0", TimeUnit.MILLISECONDS.toNanos(10L));
+        assertThat(limiter.getLimit(), is(1));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.executor.limit;
+
+import com.google.common.base.Optional;
+import io.shardingjdbc.core.exception.ShardingJdbcException;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class ExecutionLimiterTest {
+    
+    @Test
+    public void assertNewQueryLimiterWhenDisabled() {
+        ExecutionLimiter executionLimiter = new ExecutionLimiter(0, 0, 5000L);
+        assertFalse(executionLimiter.newQueryLimiter().isPresent());
+        assertFalse(executionLimiter.getDataSourceLimit("ds_0").isPresent());
+    }
+    
+    @Test
+    public void assertGetDataSourceLimit() {
+        ExecutionLimiter executionLimiter = new ExecutionLimiter(0, 8, 5000L);
+        QueryLimiter queryLimiter = executionLimiter.newQueryLimiter().get();
+        queryLimiter.acquire("ds_0");
+        queryLimiter.release("ds_0", 100L, false);
+        assertThat(executionLimiter.getDataSourceLimit("ds_0"), is(Optional.of(7)));
+        assertThat(executionLimiter.getDataSourceLimit("ds_1"), is(Optional.of(8)));
+    }
+    
+    @Test
+    public void assertAcquireWhenParallelismPerQueryIsReached() throws InterruptedException {
+        ExecutionLimiter executionLimiter = new ExecutionLimiter(1, 0, 5000L);
+        final QueryLimiter queryLimiter = executionLimiter.newQueryLimiter().get();
+        queryLimiter.acquire("ds_0");
+        executionLimiter.newQueryLimiter().get().acquire("ds_1");
+        final CountDownLatch acquired = new CountDownLatch(1);
+        new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                queryLimiter.acquire("ds_1");
+                acquired.countDown();
+            }
+        }).start();
+        assertFalse(acquired.await(100L, TimeUnit.MILLISECONDS));
+        queryLimiter.release("ds_0", 100L, true);
+        assertTrue(acquired.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertAcquireWhenInFlightIsReached() throws InterruptedException {
+        ExecutionLimiter executionLimiter = new ExecutionLimiter(0, 1, 5000L);
+        QueryLimiter queryLimiter = executionLimiter.newQueryLimiter().get();
+        queryLimiter.acquire("ds_0");
+        final QueryLimiter anotherQueryLimiter = executionLimiter.newQueryLimiter().get();
+        final CountDownLatch acquired = new CountDownLatch(1);
+        new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                anotherQueryLimiter.acquire("ds_1");
+                acquired.countDown();
+            }
+        }).start();
+        assertFalse(acquired.await(100L, TimeUnit.MILLISECONDS));
+        queryLimiter.release("ds_0", 100L, true);
+        assertTrue(acquired.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertAcquireTimeout() {
+        ExecutionLimiter executionLimiter = new ExecutionLimiter(1, 1, 10L);
+        QueryLimiter queryLimiter = executionLimiter.newQueryLimiter().get();
+        queryLimiter.acquire("ds_0");
+        QueryLimiter anotherQueryLimiter = executionLimiter.newQueryLimiter().get();
+        try {
+            anotherQueryLimiter.acquire("ds_1");
+            fail();
+        } catch (final ShardingJdbcException ignored) {
+        }
+        queryLimiter.release("ds_0", 100L, true);
+        anotherQueryLimiter.acquire("ds_1");
+        assertThat(executionLimiter.getDataSourceLimit("ds_1"), is(Optional.of(1)));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.executor.pool;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExecutorPoolTest {
+    
+    private final CountDownLatch startedLatch = new CountDownLatch(1);
+    
+    private final CountDownLatch releaseLatch = new CountDownLatch(1);
+    
+    private ExecutorPool executorPool;
+    
+    @After
+    public void tearDown() {
+        releaseLatch.countDown();
+        assertTrue(executorPool.shutdown(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertRejectWithAbortPolicy() throws InterruptedException {
+        executorPool = new ExecutorPool("test_ds", 1, 1, RejectedPolicy.ABORT);
+        fillExecutorPool();
+        try {
+            executorPool.getExecutorService().submit(new ThreadNameCallable());
+        } catch (final RejectedExecutionException ignored) {
+        }
+        ExecutorPoolMetrics actual = executorPool.getMetrics();
+        assertThat(actual.getName(), is("test_ds"));
+        assertThat(actual.getActiveCount(), is(1));
+        assertThat(actual.getPoolSize(), is(1));
+        assertThat(actual.getQueueSize(), is(1));
+        assertThat(actual.getRemainingQueueCapacity(), is(0));
+        assertThat(actual.getRejectedCount(), is(1L));
+    }
+    
+    @Test
+    public void assertRejectWithCallerRunsPolicy() throws InterruptedException, ExecutionException {
+        executorPool = new ExecutorPool("test_ds", 1, 1, RejectedPolicy.CALLER_RUNS);
+        fillExecutorPool();
+        assertThat(executorPool.getExecutorService().submit(new ThreadNameCallable()).get(), is(Thread.currentThread().getName()));
+        assertThat(executorPool.getMetrics().getRejectedCount(), is(1L));
+    }
+    
+    private void fillExecutorPool() throws InterruptedException {
+        executorPool.getExecutorService().submit(new Runnable() {
+            
+            @Override
+            public void run() {
+                startedLatch.countDown();
+                try {
+                    releaseLatch.await();
+                } catch (final InterruptedException ignored) {
+                }
+            }
+        });
+        startedLatch.await();
+        executorPool.getExecutorService().submit(new ThreadNameCallable());
+    }
+    
+    private static final class ThreadNameCallable implements Callable<String> {
+        
+        @Override
+        public String call() {
+            return Thread.currentThread().getName();
+        }
+    }
+}
@@ -147,6 +147,25 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(getEventCaller(), times(4)).verifyException(exp);
     }
     
+    @Test
+    public void assertExecuteBatchWithPartOfParameters() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.executeBatch()).thenReturn(new int[] {1, 1});
+        when(preparedStatement.getConnection()).thenReturn(mock(Connection.class));
+        SQLBuilder sqlBuilder = new SQLBuilder();
+        sqlBuilder.appendLiterals(SQL);
+        String sql = sqlBuilder.toSQL(Collections.<String, String>emptyMap());
+        BatchPreparedStatementUnit batchPreparedStatementUnit = new BatchPreparedStatementUnit(new SQLExecutionUnit("ds_0", sql, Arrays.asList(0, 1)), preparedStatement);
+        batchPreparedStatementUnit.mapAddBatchCount(0, new SQLExecutionUnit("ds_0", sql, Arrays.asList(0, 1)));
+        batchPreparedStatementUnit.mapAddBatchCount(1, new SQLExecutionUnit("ds_0", sql, Arrays.asList(2, 3)));
+        BatchPreparedStatementExecutor actual = new BatchPreparedStatementExecutor(getExecutorEngine(), DatabaseType.MySQL, SQLType.DML, 
+                Collections.singletonList(batchPreparedStatementUnit), Arrays.asList(Arrays.<Object>asList(1, "a", 2, "b"), Arrays.<Object>asList(3, "c", 4, "d")));
+        assertThat(actual.executeBatch(), is(new int[] {1, 1}));
+        verify(getEventCaller(), times(2)).verifyParameters(Arrays.<Object>asList(1, "a"));
+        verify(getEventCaller(), times(2)).verifyParameters(Arrays.<Object>asList(4, "d"));
+        verify(getEventCaller(), times(0)).verifyParameters(Arrays.<Object>asList(3, "c"));
+    }
+    
     private Collection<BatchPreparedStatementUnit> createPreparedStatementUnits(final String sql, final PreparedStatement preparedStatement, final String dataSource, final int addBatchTimes) {
         Collection<BatchPreparedStatementUnit> result = new LinkedList<>();
         SQLBuilder sqlBuilder = new SQLBuilder();
@@ -17,15 +17,22 @@
 
 package io.shardingjdbc.core.executor.type;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import io.shardingjdbc.core.constant.SQLType;
 import io.shardingjdbc.core.exception.ShardingJdbcException;
+import io.shardingjdbc.core.executor.ExecutorEngine;
+import io.shardingjdbc.core.executor.backend.ThreadPoolExecutorBackend;
 import io.shardingjdbc.core.executor.event.EventExecutionType;
+import io.shardingjdbc.core.executor.limit.ExecutionLimiter;
 import io.shardingjdbc.core.executor.threadlocal.ExecutorExceptionHandler;
 import io.shardingjdbc.core.executor.type.statement.StatementExecutor;
 import io.shardingjdbc.core.executor.type.statement.StatementUnit;
+import io.shardingjdbc.core.metrics.ShardingMetrics;
 import io.shardingjdbc.core.rewrite.SQLBuilder;
 import io.shardingjdbc.core.routing.SQLExecutionUnit;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -36,6 +43,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsCollectionContaining.hasItem;
@@ -107,6 +115,99 @@ public final class StatementExecutorTest extends AbstractBaseExecutorTest {
         verify(getEventCaller(), times(0)).verifyException(null);
     }
     
+    @Test
+    public void assertExecuteQueryForMultipleStatementsWithExecutionLimit() throws SQLException {
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        ResultSet resultSet1 = mock(ResultSet.class);
+        ResultSet resultSet2 = mock(ResultSet.class);
+        when(statement1.executeQuery(DQL_SQL)).thenReturn(resultSet1);
+        when(statement1.getConnection()).thenReturn(mock(Connection.class));
+        when(statement2.executeQuery(DQL_SQL)).thenReturn(resultSet2);
+        when(statement2.getConnection()).thenReturn(mock(Connection.class));
+        ExecutorEngine executorEngine = new ExecutorEngine(new ThreadPoolExecutorBackend(1, null), new ShardingMetrics(false), new ExecutionLimiter(1, 1, 5000L));
+        try {
+            StatementExecutor actual = new StatementExecutor(executorEngine, SQLType.DQL, createStatementUnits(DQL_SQL, statement1, "ds_0", statement2, "ds_1"));
+            assertThat(actual.executeQuery(), is(Arrays.asList(resultSet1, resultSet2)));
+            assertThat(actual.executeQuery(), is(Arrays.asList(resultSet1, resultSet2)));
+        } finally {
+            executorEngine.close();
+        }
+        verify(statement1, times(2)).executeQuery(DQL_SQL);
+        verify(statement2, times(2)).executeQuery(DQL_SQL);
+    }
+    
+    @Test
+    public void assertExecuteQueryForMultipleStatementsWithSameConnection() throws SQLException {
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        ResultSet resultSet1 = mock(ResultSet.class);
+        ResultSet resultSet2 = mock(ResultSet.class);
+        Connection connection = mock(Connection.class);
+        when(statement1.executeQuery(DQL_SQL)).thenReturn(resultSet1);
+        when(statement1.getConnection()).thenReturn(connection);
+        when(statement2.executeQuery(DQL_SQL)).thenReturn(resultSet2);
+        when(statement2.getConnection()).thenReturn(connection);
+        StatementExecutor actual = new StatementExecutor(getExecutorEngine(), SQLType.DQL, createStatementUnits(DQL_SQL, statement1, "ds_0", statement2, "ds_0"));
+        assertThat(actual.executeQuery(), is(Arrays.asList(resultSet1, resultSet2)));
+        verify(statement1).executeQuery(DQL_SQL);
+        verify(statement1).getConnection();
+        verify(statement2).executeQuery(DQL_SQL);
+        verify(statement2).getConnection();
+        verify(getEventCaller(), times(4)).verifyDataSource("ds_0");
+        verify(getEventCaller(), times(2)).verifyEventExecutionType(EventExecutionType.BEFORE_EXECUTE);
+        verify(getEventCaller(), times(2)).verifyEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
+    }
+    
+    @Test
+    public void assertExecuteQueryStreamingForMultipleStatements() throws Exception {
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        ResultSet resultSet1 = mock(ResultSet.class);
+        ResultSet resultSet2 = mock(ResultSet.class);
+        when(statement1.executeQuery(DQL_SQL)).thenReturn(resultSet1);
+        when(statement1.getConnection()).thenReturn(mock(Connection.class));
+        when(statement2.executeQuery(DQL_SQL)).thenReturn(resultSet2);
+        when(statement2.getConnection()).thenReturn(mock(Connection.class));
+        StatementExecutor actual = new StatementExecutor(getExecutorEngine(), SQLType.DQL, createStatementUnits(DQL_SQL, statement1, "ds_0", statement2, "ds_1"));
+        List<ListenableFuture<ResultSet>> actualFutures = actual.executeQueryStreaming();
+        assertThat(actualFutures.size(), is(2));
+        assertThat(actualFutures.get(0).get(), is(resultSet1));
+        assertThat(actualFutures.get(1).get(), is(resultSet2));
+        verify(statement1).executeQuery(DQL_SQL);
+        verify(statement2).executeQuery(DQL_SQL);
+    }
+    
+    @Test
+    public void assertExecuteQueryStreamingForStatementsOfSameConnection() throws Exception {
+        Connection connection = mock(Connection.class);
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        final ResultSet resultSet1 = mock(ResultSet.class);
+        final ResultSet resultSet2 = mock(ResultSet.class);
+        final CountDownLatch secondStarted = new CountDownLatch(1);
+        final CountDownLatch secondReleased = new CountDownLatch(1);
+        when(statement1.executeQuery(DQL_SQL)).thenReturn(resultSet1);
+        when(statement1.getConnection()).thenReturn(connection);
+        when(statement2.executeQuery(DQL_SQL)).thenAnswer(new Answer<ResultSet>() {
+            
+            @Override
+            public ResultSet answer(final InvocationOnMock invocation) throws InterruptedException {
+                secondStarted.countDown();
+                secondReleased.await();
+                return resultSet2;
+            }
+        });
+        when(statement2.getConnection()).thenReturn(connection);
+        StatementExecutor actual = new StatementExecutor(getExecutorEngine(), SQLType.DQL, createStatementUnits(DQL_SQL, statement1, "ds_0", statement2, "ds_0"));
+        List<ListenableFuture<ResultSet>> actualFutures = actual.executeQueryStreaming();
+        secondStarted.await();
+        assertFalse(actualFutures.get(0).isDone());
+        secondReleased.countDown();
+        assertThat(actualFutures.get(0).get(), is(resultSet1));
+        assertThat(actualFutures.get(1).get(), is(resultSet2));
+    }
+    
     @Test
     public void assertExecuteQueryForSingleStatementFailure() throws SQLException {
         Statement statement = mock(Statement.class);
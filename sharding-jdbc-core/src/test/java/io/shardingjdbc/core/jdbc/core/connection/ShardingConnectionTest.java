@@ -20,9 +20,14 @@ package io.shardingjdbc.core.jdbc.core.connection;
 import io.shardingjdbc.core.api.config.ShardingRuleConfiguration;
 import io.shardingjdbc.core.api.config.TableRuleConfiguration;
 import io.shardingjdbc.core.constant.SQLType;
+import io.shardingjdbc.core.constant.ShardingProperties;
+import io.shardingjdbc.core.constant.ShardingPropertiesConstant;
+import io.shardingjdbc.core.executor.ExecutorEngine;
 import io.shardingjdbc.core.fixture.TestDataSource;
 import io.shardingjdbc.core.jdbc.core.ShardingContext;
 import io.shardingjdbc.core.jdbc.core.datasource.MasterSlaveDataSource;
+import io.shardingjdbc.core.metrics.ShardingMetrics;
+import io.shardingjdbc.core.routing.SQLExecutionUnit;
 import io.shardingjdbc.core.rule.MasterSlaveRule;
 import org.junit.After;
 import org.junit.Before;
@@ -32,12 +37,21 @@ import org.junit.Test;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.verify;
 
 public final class ShardingConnectionTest {
     
@@ -65,7 +79,7 @@ public final class ShardingConnectionTest {
         shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
         Map<String, DataSource> dataSourceMap = new HashMap<>(1, 1);
         dataSourceMap.put(DS_NAME, masterSlaveDataSource);
-        ShardingContext shardingContext = new ShardingContext(shardingRuleConfig.build(dataSourceMap), null, null, false);
+        ShardingContext shardingContext = new ShardingContext(shardingRuleConfig.build(dataSourceMap), null, null, new ShardingProperties(new Properties()), new ShardingMetrics(false));
         connection = new ShardingConnection(shardingContext);
     }
     
@@ -114,4 +128,72 @@ public final class ShardingConnectionTest {
         connection.release(conn);
         assertNotSame(conn, connection.getConnection(DS_NAME, SQLType.DML));
     }
+    
+    @Test
+    public void assertGetConnectionsForMasterSlaveDataSource() throws Exception {
+        List<Connection> actual = connection.getConnections(SQLType.DQL, Arrays.asList(new SQLExecutionUnit(DS_NAME, "SELECT 1"), new SQLExecutionUnit(DS_NAME, "SELECT 2")));
+        assertThat(actual.size(), is(2));
+        assertSame(actual.get(0), actual.get(1));
+    }
+    
+    @Test
+    public void assertGetConnectionsWithMaxConnectionsSizePerQuery() throws Exception {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("test");
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        Map<String, DataSource> dataSourceMap = new HashMap<>(1, 1);
+        dataSourceMap.put("test_ds", new TestDataSource("test_ds"));
+        ShardingProperties shardingProperties = createShardingProperties(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY, "2");
+        ShardingConnection actualConnection = new ShardingConnection(new ShardingContext(shardingRuleConfig.build(dataSourceMap), null, null, shardingProperties, new ShardingMetrics(false)));
+        List<Connection> actual = actualConnection.getConnections(SQLType.DQL, Arrays.asList(
+                new SQLExecutionUnit("test_ds", "SELECT 1"), new SQLExecutionUnit("test_ds", "SELECT 2"), new SQLExecutionUnit("test_ds", "SELECT 3")));
+        assertThat(actual.size(), is(3));
+        assertSame(actual.get(0), actualConnection.getConnection("test_ds", SQLType.DQL));
+        assertNotSame(actual.get(0), actual.get(1));
+        assertSame(actual.get(0), actual.get(2));
+        actualConnection.setAutoCommit(false);
+        List<Connection> actualInTransaction = actualConnection.getConnections(SQLType.DQL, Arrays.asList(new SQLExecutionUnit("test_ds", "SELECT 1"), new SQLExecutionUnit("test_ds", "SELECT 2")));
+        assertSame(actualInTransaction.get(0), actualInTransaction.get(1));
+        actualConnection.close();
+        verify(actual.get(1)).close();
+    }
+    
+    @Test
+    public void assertCommitAndCloseInParallel() throws Exception {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("test");
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        Map<String, DataSource> dataSourceMap = new HashMap<>(2, 1);
+        dataSourceMap.put("test_ds_0", new TestDataSource("test_ds_0"));
+        TestDataSource failedDataSource = new TestDataSource("test_ds_1");
+        failedDataSource.setThrowExceptionWhenClosing(true);
+        dataSourceMap.put("test_ds_1", failedDataSource);
+        ShardingProperties shardingProperties = createShardingProperties(ShardingPropertiesConstant.CONNECTION_PARALLEL_FINISH, "true");
+        try (ExecutorEngine executorEngine = new ExecutorEngine(2)) {
+            ShardingConnection actualConnection = new ShardingConnection(
+                    new ShardingContext(shardingRuleConfig.build(dataSourceMap), null, executorEngine, shardingProperties, new ShardingMetrics(false)));
+            Connection connection0 = actualConnection.getConnection("test_ds_0", SQLType.DML);
+            Connection connection1 = actualConnection.getConnection("test_ds_1", SQLType.DML);
+            actualConnection.commit();
+            verify(connection0).commit();
+            verify(connection1).commit();
+            try {
+                actualConnection.close();
+                fail("Expected SQLException");
+            } catch (final SQLException ex) {
+                assertNotNull(ex.getNextException());
+            }
+            assertTrue(actualConnection.isClosed());
+            verify(connection0).close();
+            verify(connection1).close();
+        }
+    }
+    
+    private ShardingProperties createShardingProperties(final ShardingPropertiesConstant shardingPropertiesConstant, final String value) {
+        Properties props = new Properties();
+        props.setProperty(shardingPropertiesConstant.getKey(), value);
+        return new ShardingProperties(props);
+    }
 }
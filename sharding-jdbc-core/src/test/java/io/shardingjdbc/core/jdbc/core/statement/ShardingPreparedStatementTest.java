@@ -17,6 +17,7 @@
 
 package io.shardingjdbc.core.jdbc.core.statement;
 
+import io.shardingjdbc.core.api.AsyncPreparedStatement;
 import io.shardingjdbc.core.common.base.AbstractShardingJDBCDatabaseAndTableTest;
 import io.shardingjdbc.core.integrate.sql.DatabaseTestSQL;
 import io.shardingjdbc.core.constant.DatabaseType;
@@ -34,6 +35,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 import static io.shardingjdbc.core.common.util.SQLPlaceholderUtil.replacePreparedStatement;
 import static org.hamcrest.CoreMatchers.hasItem;
@@ -113,6 +115,36 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
         }
     }
     
+    @Test
+    public void assertExecuteQueryAsyncWithParameter() throws SQLException, InterruptedException, ExecutionException {
+        try (
+                Connection connection = getShardingDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(DatabaseTestSQL.SELECT_COUNT_AS_ORDERS_COUNT_SQL)) {
+            AsyncPreparedStatement asyncPreparedStatement = preparedStatement.unwrap(AsyncPreparedStatement.class);
+            preparedStatement.setString(1, "init");
+            ResultSet resultSet = asyncPreparedStatement.executeQueryAsync().get();
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getLong(1), is(4L));
+            preparedStatement.setString(1, "null");
+            resultSet = asyncPreparedStatement.executeQueryAsync().get();
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getLong(1), is(0L));
+        }
+    }
+    
+    @Test
+    public void assertExecuteUpdateAsyncWithParameter() throws SQLException, InterruptedException, ExecutionException {
+        try (
+                Connection connection = getShardingDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(replacePreparedStatement(DatabaseTestSQL.DELETE_WITHOUT_SHARDING_VALUE_SQL))) {
+            AsyncPreparedStatement asyncPreparedStatement = preparedStatement.unwrap(AsyncPreparedStatement.class);
+            preparedStatement.setString(1, "init");
+            assertThat(asyncPreparedStatement.executeUpdateAsync().get(), is(4));
+            preparedStatement.setString(1, "init");
+            assertThat(asyncPreparedStatement.executeUpdateAsync().get(), is(0));
+        }
+    }
+    
     @Test
     public void assertExecuteWithParameter() throws SQLException {
         try (
@@ -18,14 +18,18 @@
 package io.shardingjdbc.core.merger;
 
 import io.shardingjdbc.core.merger.common.DecoratorResultSetMergerTest;
+import io.shardingjdbc.core.merger.common.ExternalRowSorterTest;
 import io.shardingjdbc.core.merger.common.MemoryResultSetMergerTest;
+import io.shardingjdbc.core.merger.common.MemoryResultSetBatchTest;
 import io.shardingjdbc.core.merger.common.MemoryResultSetRowTest;
 import io.shardingjdbc.core.merger.common.StreamResultSetMergerTest;
 import io.shardingjdbc.core.merger.groupby.GroupByMemoryResultSetMergerTest;
+import io.shardingjdbc.core.merger.groupby.GroupByTopNResultSetMergerTest;
 import io.shardingjdbc.core.merger.groupby.GroupByRowComparatorTest;
 import io.shardingjdbc.core.merger.groupby.GroupByStreamResultSetMergerTest;
 import io.shardingjdbc.core.merger.groupby.GroupByValueTest;
 import io.shardingjdbc.core.merger.groupby.aggregation.AllAggregationTests;
+import io.shardingjdbc.core.merger.iterator.CompletionStreamResultSetMergerTest;
 import io.shardingjdbc.core.merger.iterator.IteratorStreamResultSetMergerTest;
 import io.shardingjdbc.core.merger.limit.LimitDecoratorResultSetMergerTest;
 import io.shardingjdbc.core.merger.orderby.OrderByStreamResultSetMergerTest;
@@ -41,13 +45,17 @@ import org.junit.runners.Suite;
         MemoryResultSetMergerTest.class, 
         DecoratorResultSetMergerTest.class, 
         MemoryResultSetRowTest.class, 
+        MemoryResultSetBatchTest.class, 
+        ExternalRowSorterTest.class, 
         IteratorStreamResultSetMergerTest.class, 
+        CompletionStreamResultSetMergerTest.class, 
         OrderByValueTest.class, 
         OrderByStreamResultSetMergerTest.class, 
         GroupByValueTest.class, 
         GroupByRowComparatorTest.class, 
         GroupByStreamResultSetMergerTest.class, 
         GroupByMemoryResultSetMergerTest.class, 
+        GroupByTopNResultSetMergerTest.class, 
         AllAggregationTests.class, 
         LimitDecoratorResultSetMergerTest.class, 
         ResultSetUtilTest.class
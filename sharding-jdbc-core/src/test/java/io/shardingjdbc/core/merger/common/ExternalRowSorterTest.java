@@ -0,0 +1,135 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.common;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExternalRowSorterTest {
+    
+    private final Comparator<MemoryResultSetRow> comparator = new Comparator<MemoryResultSetRow>() {
+        
+        @Override
+        public int compare(final MemoryResultSetRow o1, final MemoryResultSetRow o2) {
+            return ((Integer) o1.getCell(1)).compareTo((Integer) o2.getCell(1));
+        }
+    };
+    
+    @Test
+    public void assertSortInMemory() {
+        ExternalRowSorter sorter = new ExternalRowSorter(comparator, 0);
+        for (int each : new int[] {3, 1, 2}) {
+            sorter.add(new MemoryResultSetRow(new Object[] {each}));
+        }
+        assertFalse(sorter.isSpilled());
+        assertThat(getFirstCells(sorter.sort()), is(Arrays.asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertSortWithSpilledRuns() {
+        ExternalRowSorter sorter = new ExternalRowSorter(comparator, 2);
+        for (int each : new int[] {5, 3, 9, 1, 7, 2, 8}) {
+            sorter.add(new MemoryResultSetRow(new Object[] {each}));
+        }
+        sorter.spill(Arrays.asList(new MemoryResultSetRow(new Object[] {6}), new MemoryResultSetRow(new Object[] {4})));
+        assertTrue(sorter.isSpilled());
+        assertThat(getFirstCells(sorter.sort()), is(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9)));
+    }
+    
+    @Test
+    public void assertSortWithSeveralMergePasses() {
+        ExternalRowSorter sorter = new ExternalRowSorter(comparator, 1, 2);
+        for (int each : new int[] {5, 3, 9, 1, 7, 2, 8, 6, 4}) {
+            sorter.add(new MemoryResultSetRow(new Object[] {each}));
+        }
+        assertThat(getFirstCells(sorter.sort()), is(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9)));
+        assertThat(getSpillFileSize(), is(0));
+    }
+    
+    @Test
+    public void assertCloseWithoutReading() {
+        ExternalRowSorter sorter = new ExternalRowSorter(comparator, 1, 2);
+        for (int each : new int[] {3, 1, 2}) {
+            sorter.add(new MemoryResultSetRow(new Object[] {each}));
+        }
+        assertThat(getSpillFileSize(), is(3));
+        Iterator<MemoryResultSetRow> actual = sorter.sort();
+        assertThat((Integer) actual.next().getCell(1), is(1));
+        sorter.close();
+        assertThat(getSpillFileSize(), is(0));
+    }
+    
+    @Test
+    public void assertSpillValuesOfAllTypes() {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] data = new Object[] {1, null, true, (byte) 2, (short) 3, 4L, 5.5F, 6.6D, new BigDecimal("7.70"), new BigInteger("8"), "中文", new byte[] {9}, 
+            new java.sql.Date(10L), new Time(11L), timestamp, new Date(12L), Arrays.asList(13, 14)};
+        ExternalRowSorter sorter = new ExternalRowSorter(comparator, 1);
+        sorter.add(new MemoryResultSetRow(data));
+        Iterator<MemoryResultSetRow> actual = sorter.sort();
+        assertTrue(actual.hasNext());
+        Object[] actualData = actual.next().getData();
+        assertThat(actualData.length, is(data.length));
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] instanceof byte[]) {
+                assertArrayEquals((byte[]) data[i], (byte[]) actualData[i]);
+            } else {
+                assertThat(actualData[i], is(data[i]));
+            }
+        }
+        assertThat(actualData[12].getClass().getName(), is(java.sql.Date.class.getName()));
+        assertFalse(actual.hasNext());
+    }
+    
+    private int getSpillFileSize() {
+        File[] files = new File(System.getProperty("java.io.tmpdir")).listFiles();
+        int result = 0;
+        for (File each : null == files ? new File[0] : files) {
+            if (each.getName().startsWith("sharding-jdbc-merge-")) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private List<Integer> getFirstCells(final Iterator<MemoryResultSetRow> rows) {
+        List<Integer> result = new ArrayList<>();
+        while (rows.hasNext()) {
+            result.add((Integer) rows.next().getCell(1));
+        }
+        return result;
+    }
+}
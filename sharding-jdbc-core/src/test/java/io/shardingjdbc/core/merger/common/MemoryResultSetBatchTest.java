@@ -0,0 +1,94 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.common;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class MemoryResultSetBatchTest {
+    
+    private final BigDecimal hugeDecimal = new BigDecimal("123456789012345678901234567890.12");
+    
+    private final MemoryResultSetBatch memoryResultSetBatch = new MemoryResultSetBatch(Arrays.asList(
+            new MemoryResultSetRow(new Object[] {1, 10L, (short) 1, 1.5F, 2.5D, new BigDecimal("1.50"), "a", hugeDecimal, 1, new Date(0L)}),
+            new MemoryResultSetRow(new Object[] {null, null, null, null, null, null, null, null, 2L, null}),
+            new MemoryResultSetRow(new Object[] {3, 30L, (short) 3, 3.5F, 4.5D, new BigDecimal("3"), "a", BigDecimal.ONE, null, null})));
+    
+    @Test
+    public void assertSize() {
+        assertThat(memoryResultSetBatch.size(), is(3));
+        assertThat(new MemoryResultSetBatch(Collections.<MemoryResultSetRow>emptyList()).size(), is(0));
+    }
+    
+    @Test
+    public void assertReleaseRowsAfterLoaded() {
+        List<MemoryResultSetRow> rows = Arrays.asList(new MemoryResultSetRow(new Object[] {1, "a"}), new MemoryResultSetRow(new Object[] {2, "b"}));
+        MemoryResultSetBatch actual = new MemoryResultSetBatch(rows);
+        assertThat(rows.get(0), nullValue());
+        assertThat(rows.get(1), nullValue());
+        assertThat(actual.getCell(1, 2), is((Object) "b"));
+    }
+    
+    @Test
+    public void assertGetCellWithValueType() {
+        assertThat(memoryResultSetBatch.getCell(0, 1), is((Object) 1));
+        assertThat(memoryResultSetBatch.getCell(0, 2), is((Object) 10L));
+        assertThat(memoryResultSetBatch.getCell(0, 3), is((Object) (short) 1));
+        assertThat(memoryResultSetBatch.getCell(0, 4), is((Object) 1.5F));
+        assertThat(memoryResultSetBatch.getCell(0, 5), is((Object) 2.5D));
+        assertThat(memoryResultSetBatch.getCell(0, 6), is((Object) new BigDecimal("1.50")));
+        assertThat(memoryResultSetBatch.getCell(0, 7), is((Object) "a"));
+        assertThat(memoryResultSetBatch.getCell(0, 8), is((Object) hugeDecimal));
+        assertThat(memoryResultSetBatch.getCell(0, 10), is((Object) new Date(0L)));
+        assertThat(memoryResultSetBatch.getCell(2, 7), is((Object) "a"));
+        assertThat(memoryResultSetBatch.getCell(2, 8), is((Object) BigDecimal.ONE));
+    }
+    
+    @Test
+    public void assertGetCellWithMixedValueType() {
+        assertThat(memoryResultSetBatch.getCell(0, 9), is((Object) 1));
+        assertThat(memoryResultSetBatch.getCell(1, 9), is((Object) 2L));
+        assertThat(memoryResultSetBatch.getCell(2, 9), nullValue());
+    }
+    
+    @Test
+    public void assertGetCellWithNull() {
+        for (int i = 1; i <= 8; i++) {
+            assertThat(memoryResultSetBatch.getCell(1, i), nullValue());
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGetCellWithInvalidColumnIndex() {
+        memoryResultSetBatch.getCell(0, 11);
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void assertGetCellWithInvalidRowIndex() {
+        memoryResultSetBatch.getCell(3, 1);
+    }
+}
@@ -28,18 +28,29 @@ import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
+import java.io.File;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class GroupByMemoryResultSetMergerTest {
@@ -120,4 +131,160 @@ public final class GroupByMemoryResultSetMergerTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertResolveColumnTypesOnce() throws SQLException {
+        mergeEngine = new MergeEngine(resultSets, selectStatement);
+        when(resultSets.get(0).next()).thenReturn(true, true, true, false);
+        when(resultSets.get(0).getObject(1)).thenReturn(10, 20, 30);
+        when(resultSets.get(0).getObject(2)).thenReturn(0);
+        when(resultSets.get(0).getObject(3)).thenReturn(1, 2, 3);
+        when(resultSets.get(0).getObject(4)).thenReturn(1, 2, 3);
+        when(resultSets.get(0).getObject(5)).thenReturn(10, 20, 30);
+        mergeEngine.merge();
+        verify(resultSets.get(0).getMetaData(), times(1)).getColumnType(1);
+    }
+    
+    @Test
+    public void assertNextWithSpilledRows() throws SQLException {
+        resultSets = Lists.newArrayList(mockResultSet(new Object[] {20, 10, 2, 2, 20}), mockResultSet(new Object[] {10, 10, 3, 1, 10}), 
+                mockResultSet(new Object[] {20, 10, 2, 2, 20}, new Object[] {30, 10, 3, 3, 30}));
+        mergeEngine = new MergeEngine(resultSets, selectStatement, 1);
+        ResultSetMerger actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithTypedColumns() throws SQLException {
+        resultSets = Lists.newArrayList(mockTypedResultSet(new Object[] {20, 10, 2, 2, 20}), mockTypedResultSet(new Object[] {10, 10, 3, 1, 10}), 
+                mockTypedResultSet(new Object[] {20, 10, 2, 2, 20}, new Object[] {30, 10, 3, 3, 30}));
+        mergeEngine = new MergeEngine(resultSets, selectStatement);
+        ResultSetMerger actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat((BigDecimal) actual.getValue(2, Object.class), is(new BigDecimal("10.0000")));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal("40.0")));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat((BigDecimal) actual.getValue(2, Object.class), is(new BigDecimal("10.0000")));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal("40.0")));
+        assertFalse(actual.next());
+        for (ResultSet each : resultSets) {
+            verify(each, atLeastOnce()).getBigDecimal(1);
+            verify(each, atLeastOnce()).getLong(4);
+            verify(each, atLeastOnce()).getDouble(5);
+        }
+    }
+    
+    @Test
+    public void assertDeleteSpilledRowsWhenFailed() throws SQLException {
+        ResultSet failedResultSet = mockResultSet();
+        when(failedResultSet.next()).thenThrow(new SQLException("test"));
+        resultSets = Lists.newArrayList(mockResultSet(new Object[] {20, 10, 2, 2, 20}, new Object[] {10, 10, 3, 1, 10}, new Object[] {30, 10, 4, 3, 30}), failedResultSet);
+        mergeEngine = new MergeEngine(resultSets, selectStatement, 1);
+        try {
+            mergeEngine.merge();
+            fail("SQLException should be thrown");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("test"));
+        }
+        assertThat(getSpillFileSize(), is(0));
+    }
+    
+    @Test
+    public void assertDeleteSpilledRowsWhenClosed() throws SQLException {
+        resultSets = Lists.newArrayList(mockResultSet(new Object[] {20, 10, 2, 2, 20}, new Object[] {10, 10, 3, 1, 10}, new Object[] {30, 10, 4, 3, 30}));
+        mergeEngine = new MergeEngine(resultSets, selectStatement, 1);
+        ResultSetMerger actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        actual.close();
+        assertThat(getSpillFileSize(), is(0));
+    }
+    
+    private int getSpillFileSize() {
+        File[] files = new File(System.getProperty("java.io.tmpdir")).listFiles();
+        int result = 0;
+        for (File each : null == files ? new File[0] : files) {
+            if (each.getName().startsWith("sharding-jdbc-merge-")) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private ResultSet mockResultSet(final Object[]... rows) throws SQLException {
+        ResultSet result = mockResultSet();
+        final AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return rowIndex.incrementAndGet() < rows.length;
+            }
+        });
+        when(result.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[rowIndex.get()][(Integer) invocation.getArguments()[0] - 1];
+            }
+        });
+        return result;
+    }
+    
+    private ResultSet mockTypedResultSet(final Object[]... rows) throws SQLException {
+        ResultSet result = mockResultSet(rows);
+        ResultSetMetaData resultSetMetaData = result.getMetaData();
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.DECIMAL);
+        when(resultSetMetaData.getColumnType(3)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.getColumnType(4)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.getColumnType(5)).thenReturn(Types.DOUBLE);
+        final AtomicBoolean wasNull = new AtomicBoolean();
+        Answer<Number> numberAnswer = new Answer<Number>() {
+            
+            @Override
+            public Number answer(final InvocationOnMock invocation) throws SQLException {
+                Number value = (Number) ((ResultSet) invocation.getMock()).getObject((Integer) invocation.getArguments()[0]);
+                wasNull.set(null == value);
+                if (null == value) {
+                    return "getBigDecimal".equals(invocation.getMethod().getName()) ? null : 0;
+                }
+                switch (invocation.getMethod().getName()) {
+                    case "getLong":
+                        return value.longValue();
+                    case "getDouble":
+                        return value.doubleValue();
+                    default:
+                        return new BigDecimal(value.toString());
+                }
+            }
+        };
+        when(result.getLong(anyInt())).thenAnswer(numberAnswer);
+        when(result.getDouble(anyInt())).thenAnswer(numberAnswer);
+        when(result.getBigDecimal(anyInt())).thenAnswer(numberAnswer);
+        when(result.wasNull()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return wasNull.get();
+            }
+        });
+        return result;
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby;
+
+import io.shardingjdbc.core.constant.AggregationType;
+import io.shardingjdbc.core.constant.OrderType;
+import io.shardingjdbc.core.merger.MergeEngine;
+import io.shardingjdbc.core.merger.ResultSetMerger;
+import io.shardingjdbc.core.merger.limit.LimitDecoratorResultSetMerger;
+import io.shardingjdbc.core.parsing.parser.context.OrderItem;
+import io.shardingjdbc.core.parsing.parser.context.limit.Limit;
+import io.shardingjdbc.core.parsing.parser.context.limit.LimitValue;
+import io.shardingjdbc.core.parsing.parser.context.selectitem.AggregationSelectItem;
+import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
+import com.google.common.base.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupByTopNResultSetMergerTest {
+    
+    private SelectStatement selectStatement;
+    
+    @Before
+    public void setUp() {
+        selectStatement = new SelectStatement();
+        AggregationSelectItem aggregationSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(*)", Optional.<String>absent());
+        selectStatement.getItems().add(aggregationSelectItem);
+        selectStatement.getGroupByItems().add(new OrderItem(2, OrderType.ASC, OrderType.ASC));
+        selectStatement.getOrderByItems().add(new OrderItem(1, OrderType.DESC, OrderType.ASC));
+        selectStatement.setOrderByBeginPosition(1);
+        selectStatement.setOrderByLastPosition(2);
+    }
+    
+    @Test
+    public void assertBuildGroupByTopNResultSetMerger() throws SQLException {
+        setLimit(0, 10);
+        ResultSetMerger actual = new MergeEngine(Arrays.asList(mockResultSet(), mockResultSet()), selectStatement, 0, true).merge();
+        assertThat(actual, instanceOf(LimitDecoratorResultSetMerger.class));
+        assertThat(((LimitDecoratorResultSetMerger) actual).getResultSetMerger(), instanceOf(GroupByTopNResultSetMerger.class));
+    }
+    
+    @Test
+    public void assertBuildGroupByMemoryResultSetMergerIfDisabled() throws SQLException {
+        setLimit(0, 10);
+        ResultSetMerger actual = new MergeEngine(Arrays.asList(mockResultSet(), mockResultSet()), selectStatement, 0, false).merge();
+        assertThat(((LimitDecoratorResultSetMerger) actual).getResultSetMerger(), instanceOf(GroupByMemoryResultSetMerger.class));
+    }
+    
+    @Test
+    public void assertNextForAllResultSetsEmpty() throws SQLException {
+        setLimit(0, 10);
+        ResultSetMerger actual = new MergeEngine(Arrays.asList(mockResultSet(), mockResultSet()), selectStatement, 0, true).merge();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithTopN() throws SQLException {
+        setLimit(1, 2);
+        List<ResultSet> resultSets = Arrays.asList(
+                mockResultSet(new Object[] {10, 1}, new Object[] {5, 2}, new Object[] {1, 4}), mockResultSet(new Object[] {1, 1}, new Object[] {20, 3}, new Object[] {30, 4}));
+        ResultSetMerger actual = new MergeEngine(resultSets, selectStatement, 0, true).merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(20)));
+        assertThat((Integer) actual.getValue(2, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(11)));
+        assertThat((Integer) actual.getValue(2, Object.class), is(1));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithZeroRowCount() throws SQLException {
+        setLimit(0, 0);
+        ResultSetMerger actual = new MergeEngine(Arrays.asList(mockResultSet(new Object[] {10, 1}), mockResultSet(new Object[] {1, 1})), selectStatement, 0, true).merge();
+        assertFalse(actual.next());
+    }
+    
+    private void setLimit(final int offset, final int rowCount) {
+        selectStatement.setLimit(new Limit(true));
+        selectStatement.getLimit().setOffset(new LimitValue(offset, -1));
+        selectStatement.getLimit().setRowCount(new LimitValue(rowCount, -1));
+    }
+    
+    private ResultSet mockResultSet(final Object[]... rows) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("id");
+        final AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return rowIndex.incrementAndGet() < rows.length;
+            }
+        });
+        when(result.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[rowIndex.get()][(Integer) invocation.getArguments()[0] - 1];
+            }
+        });
+        return result;
+    }
+}
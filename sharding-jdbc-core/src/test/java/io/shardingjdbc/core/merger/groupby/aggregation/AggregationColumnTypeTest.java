@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class AggregationColumnTypeTest {
+    
+    @Test
+    public void assertValueOf() throws SQLException {
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.isSigned(2)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(3)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.getColumnType(4)).thenReturn(Types.DOUBLE);
+        when(resultSetMetaData.getColumnType(5)).thenReturn(Types.NUMERIC);
+        when(resultSetMetaData.getColumnType(6)).thenReturn(Types.VARCHAR);
+        assertThat(AggregationColumnType.valueOf(1, resultSetMetaData), is(AggregationColumnType.INTEGRAL));
+        assertThat(AggregationColumnType.valueOf(2, resultSetMetaData), is(AggregationColumnType.INTEGRAL));
+        assertThat(AggregationColumnType.valueOf(3, resultSetMetaData), is(AggregationColumnType.OTHER));
+        assertThat(AggregationColumnType.valueOf(4, resultSetMetaData), is(AggregationColumnType.FLOATING_POINT));
+        assertThat(AggregationColumnType.valueOf(5, resultSetMetaData), is(AggregationColumnType.DECIMAL));
+        assertThat(AggregationColumnType.valueOf(6, resultSetMetaData), is(AggregationColumnType.OTHER));
+    }
+}
@@ -17,11 +17,19 @@
 
 package io.shardingjdbc.core.merger.groupby.aggregation;
 
+import com.google.common.base.Optional;
 import io.shardingjdbc.core.constant.AggregationType;
+import io.shardingjdbc.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import org.junit.Test;
 
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class AggregationUnitFactoryTest {
     
@@ -41,4 +49,57 @@ public final class AggregationUnitFactoryTest {
     public void assertCreateAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG), instanceOf(AverageAggregationUnit.class));
     }
+    
+    @Test
+    public void assertCreateTypedComparableAggregationUnit() throws SQLException {
+        ResultSetMetaData resultSetMetaData = mockResultSetMetaData(Types.INTEGER, Types.DOUBLE, Types.VARCHAR);
+        assertThat(AggregationUnitFactory.create(createAggregationSelectItem(AggregationType.MIN, 1), resultSetMetaData), instanceOf(LongComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(createAggregationSelectItem(AggregationType.MAX, 2), resultSetMetaData), instanceOf(DoubleComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(createAggregationSelectItem(AggregationType.MAX, 3), resultSetMetaData), instanceOf(ComparableAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateTypedAccumulationAggregationUnit() throws SQLException {
+        ResultSetMetaData resultSetMetaData = mockResultSetMetaData(Types.BIGINT, Types.FLOAT, Types.DECIMAL, Types.VARCHAR);
+        assertThat(AggregationUnitFactory.create(createAggregationSelectItem(AggregationType.COUNT, 1), resultSetMetaData), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(createAggregationSelectItem(AggregationType.SUM, 2), resultSetMetaData), instanceOf(DoubleAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(createAggregationSelectItem(AggregationType.SUM, 3), resultSetMetaData), instanceOf(DecimalAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(createAggregationSelectItem(AggregationType.SUM, 4), resultSetMetaData), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateAccumulationAggregationUnitForUnsignedBigint() throws SQLException {
+        ResultSetMetaData resultSetMetaData = mockResultSetMetaData(Types.BIGINT);
+        when(resultSetMetaData.isSigned(1)).thenReturn(false);
+        assertThat(AggregationUnitFactory.create(createAggregationSelectItem(AggregationType.SUM, 1), resultSetMetaData), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateTypedAverageAggregationUnit() throws SQLException {
+        ResultSetMetaData resultSetMetaData = mockResultSetMetaData(Types.INTEGER, Types.BIGINT, Types.DECIMAL, Types.VARCHAR);
+        assertThat(AggregationUnitFactory.create(createAverageSelectItem(2, 3), resultSetMetaData), instanceOf(TypedAverageAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(createAverageSelectItem(2, 4), resultSetMetaData), instanceOf(AverageAggregationUnit.class));
+    }
+    
+    private ResultSetMetaData mockResultSetMetaData(final int... columnTypes) throws SQLException {
+        ResultSetMetaData result = mock(ResultSetMetaData.class);
+        for (int i = 0; i < columnTypes.length; i++) {
+            when(result.getColumnType(i + 1)).thenReturn(columnTypes[i]);
+            when(result.isSigned(i + 1)).thenReturn(true);
+        }
+        return result;
+    }
+    
+    private AggregationSelectItem createAggregationSelectItem(final AggregationType type, final int index) {
+        AggregationSelectItem result = new AggregationSelectItem(type, "(col)", Optional.<String>absent());
+        result.setIndex(index);
+        return result;
+    }
+    
+    private AggregationSelectItem createAverageSelectItem(final int countIndex, final int sumIndex) {
+        AggregationSelectItem result = createAggregationSelectItem(AggregationType.AVG, 1);
+        result.getDerivedAggregationSelectItems().add(createAggregationSelectItem(AggregationType.COUNT, countIndex));
+        result.getDerivedAggregationSelectItems().add(createAggregationSelectItem(AggregationType.SUM, sumIndex));
+        return result;
+    }
 }
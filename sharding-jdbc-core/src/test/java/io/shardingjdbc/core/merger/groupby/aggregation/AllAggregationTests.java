@@ -22,10 +22,17 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+        AggregationColumnTypeTest.class, 
         AggregationUnitFactoryTest.class, 
         ComparableAggregationUnitTest.class, 
         AccumulationAggregationUnitTest.class, 
-        AverageAggregationUnitTest.class
+        AverageAggregationUnitTest.class, 
+        LongAccumulationAggregationUnitTest.class, 
+        LongComparableAggregationUnitTest.class, 
+        DoubleAccumulationAggregationUnitTest.class, 
+        DoubleComparableAggregationUnitTest.class, 
+        DecimalAccumulationAggregationUnitTest.class, 
+        TypedAverageAggregationUnitTest.class
     })
 public class AllAggregationTests {
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DecimalAccumulationAggregationUnitTest {
+    
+    @Test
+    public void assertAccumulationAggregationWithoutValue() {
+        assertThat(new DecimalAccumulationAggregationUnit(1).getResult(), nullValue());
+    }
+    
+    @Test
+    public void assertAccumulationAggregationFromResultSet() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("1.10"), null, new BigDecimal("10.05"));
+        DecimalAccumulationAggregationUnit decimalAccumulationAggregationUnit = new DecimalAccumulationAggregationUnit(1);
+        decimalAccumulationAggregationUnit.merge(resultSet);
+        decimalAccumulationAggregationUnit.merge(resultSet);
+        decimalAccumulationAggregationUnit.merge(resultSet);
+        assertThat(decimalAccumulationAggregationUnit.getResult(), is((Comparable) new BigDecimal("11.15")));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationFromValues() {
+        DecimalAccumulationAggregationUnit decimalAccumulationAggregationUnit = new DecimalAccumulationAggregationUnit(1);
+        decimalAccumulationAggregationUnit.merge((List<Comparable<?>>) null);
+        decimalAccumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(null));
+        decimalAccumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(new BigDecimal("1.10")));
+        decimalAccumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(10));
+        assertThat(decimalAccumulationAggregationUnit.getResult(), is((Comparable) new BigDecimal("11.10")));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DoubleAccumulationAggregationUnitTest {
+    
+    @Test
+    public void assertAccumulationAggregationWithoutValue() {
+        assertThat(new DoubleAccumulationAggregationUnit(1).getResult(), nullValue());
+    }
+    
+    @Test
+    public void assertAccumulationAggregationFromResultSet() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getDouble(1)).thenReturn(1.5D, 0D, 10.25D);
+        when(resultSet.wasNull()).thenReturn(false, true, false);
+        DoubleAccumulationAggregationUnit doubleAccumulationAggregationUnit = new DoubleAccumulationAggregationUnit(1);
+        doubleAccumulationAggregationUnit.merge(resultSet);
+        doubleAccumulationAggregationUnit.merge(resultSet);
+        doubleAccumulationAggregationUnit.merge(resultSet);
+        assertThat(doubleAccumulationAggregationUnit.getResult(), is((Comparable) new BigDecimal("11.75")));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationFromValues() {
+        DoubleAccumulationAggregationUnit doubleAccumulationAggregationUnit = new DoubleAccumulationAggregationUnit(1);
+        doubleAccumulationAggregationUnit.merge((List<Comparable<?>>) null);
+        doubleAccumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(null));
+        doubleAccumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(1.5D));
+        doubleAccumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList("10.25"));
+        assertThat(doubleAccumulationAggregationUnit.getResult(), is((Comparable) new BigDecimal("11.75")));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class LongAccumulationAggregationUnitTest {
+    
+    @Test
+    public void assertAccumulationAggregationWithoutValue() {
+        assertThat(new LongAccumulationAggregationUnit(1).getResult(), nullValue());
+    }
+    
+    @Test
+    public void assertAccumulationAggregationFromResultSet() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(1L, 0L, 10L);
+        when(resultSet.wasNull()).thenReturn(false, true, false);
+        LongAccumulationAggregationUnit longAccumulationAggregationUnit = new LongAccumulationAggregationUnit(1);
+        longAccumulationAggregationUnit.merge(resultSet);
+        longAccumulationAggregationUnit.merge(resultSet);
+        longAccumulationAggregationUnit.merge(resultSet);
+        assertThat(longAccumulationAggregationUnit.getResult(), is((Comparable) new BigDecimal("11")));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationFromValues() {
+        LongAccumulationAggregationUnit longAccumulationAggregationUnit = new LongAccumulationAggregationUnit(1);
+        longAccumulationAggregationUnit.merge((List<Comparable<?>>) null);
+        longAccumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(null));
+        longAccumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(1));
+        longAccumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(new BigDecimal("10")));
+        assertThat(longAccumulationAggregationUnit.getResult(), is((Comparable) new BigDecimal("11")));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithOverflow() {
+        LongAccumulationAggregationUnit longAccumulationAggregationUnit = new LongAccumulationAggregationUnit(1);
+        longAccumulationAggregationUnit.merge(Long.MAX_VALUE);
+        longAccumulationAggregationUnit.merge(Long.MAX_VALUE);
+        longAccumulationAggregationUnit.merge(2L);
+        assertThat(longAccumulationAggregationUnit.getResult(), is((Comparable) BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2L)).add(BigDecimal.valueOf(2L))));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class LongComparableAggregationUnitTest {
+    
+    @Test
+    public void assertComparableAggregationWithoutValue() {
+        assertThat(new LongComparableAggregationUnit(1, true).getResult(), nullValue());
+    }
+    
+    @Test
+    public void assertComparableAggregationForAscFromResultSet() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(5L, 0L, 7L, 3L);
+        when(resultSet.wasNull()).thenReturn(false, true, false, false);
+        when(resultSet.getObject(1)).thenReturn(5, 3);
+        LongComparableAggregationUnit longComparableAggregationUnit = new LongComparableAggregationUnit(1, true);
+        for (int i = 0; i < 4; i++) {
+            longComparableAggregationUnit.merge(resultSet);
+        }
+        assertThat(longComparableAggregationUnit.getResult(), is((Comparable) 3));
+        verify(resultSet, times(2)).getObject(1);
+    }
+    
+    @Test
+    public void assertComparableAggregationForDescFromValues() {
+        LongComparableAggregationUnit longComparableAggregationUnit = new LongComparableAggregationUnit(1, false);
+        longComparableAggregationUnit.merge((List<Comparable<?>>) null);
+        longComparableAggregationUnit.merge(Collections.<Comparable<?>>singletonList(null));
+        longComparableAggregationUnit.merge(Collections.<Comparable<?>>singletonList(5L));
+        longComparableAggregationUnit.merge(Collections.<Comparable<?>>singletonList(7L));
+        longComparableAggregationUnit.merge(Collections.<Comparable<?>>singletonList(3L));
+        assertThat(longComparableAggregationUnit.getResult(), is((Comparable) 7L));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.merger.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class TypedAverageAggregationUnitTest {
+    
+    @Test
+    public void assertAverageAggregationWithoutValue() {
+        TypedAverageAggregationUnit typedAverageAggregationUnit = new TypedAverageAggregationUnit(new LongAccumulationAggregationUnit(1), new DoubleAccumulationAggregationUnit(2));
+        typedAverageAggregationUnit.merge((List<Comparable<?>>) null);
+        typedAverageAggregationUnit.merge(Arrays.<Comparable<?>>asList(null, null));
+        assertThat(typedAverageAggregationUnit.getResult(), nullValue());
+    }
+    
+    @Test
+    public void assertAverageAggregationWithZeroCount() {
+        TypedAverageAggregationUnit typedAverageAggregationUnit = new TypedAverageAggregationUnit(new LongAccumulationAggregationUnit(1), new LongAccumulationAggregationUnit(2));
+        typedAverageAggregationUnit.merge(Arrays.<Comparable<?>>asList(0, 0));
+        assertThat(((BigDecimal) typedAverageAggregationUnit.getResult()).intValue(), is(0));
+    }
+    
+    @Test
+    public void assertAverageAggregation() {
+        TypedAverageAggregationUnit typedAverageAggregationUnit = new TypedAverageAggregationUnit(new LongAccumulationAggregationUnit(1), new DecimalAccumulationAggregationUnit(2));
+        typedAverageAggregationUnit.merge(Arrays.<Comparable<?>>asList(2, new BigDecimal("10")));
+        typedAverageAggregationUnit.merge(Arrays.<Comparable<?>>asList(1, new BigDecimal("5.5")));
+        assertThat(typedAverageAggregationUnit.getResult(), is((Comparable) new BigDecimal("5.1667")));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.merger.iterator;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import io.shardingjdbc.core.merger.MergeEngine;
+import io.shardingjdbc.core.merger.ResultSetMerger;
+import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class CompletionStreamResultSetMergerTest {
+    
+    private List<ResultSet> resultSets;
+    
+    @Before
+    public void setUp() throws SQLException {
+        resultSets = new ArrayList<>(3);
+        for (int i = 0; i < 3; i++) {
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.getMetaData()).thenReturn(mock(ResultSetMetaData.class));
+            resultSets.add(resultSet);
+        }
+    }
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        ResultSetMerger actual = merge(new CompletionStreamResultSetMerger(immediateFutures(resultSets)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForResultSetsAllNotEmpty() throws SQLException {
+        for (ResultSet each : resultSets) {
+            when(each.next()).thenReturn(true, false);
+        }
+        ResultSetMerger actual = merge(new CompletionStreamResultSetMerger(immediateFutures(resultSets)));
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextInOrderOfCompletion() throws SQLException {
+        when(resultSets.get(0).next()).thenReturn(true, false);
+        when(resultSets.get(0).getObject(1)).thenReturn((Object) "first");
+        when(resultSets.get(2).next()).thenReturn(true, false);
+        when(resultSets.get(2).getObject(1)).thenReturn((Object) "last");
+        SettableFuture<ResultSet> firstFuture = SettableFuture.create();
+        SettableFuture<ResultSet> lastFuture = SettableFuture.create();
+        lastFuture.set(resultSets.get(2));
+        CompletionStreamResultSetMerger resultSetMerger = new CompletionStreamResultSetMerger(
+                Arrays.<ListenableFuture<ResultSet>>asList(firstFuture, Futures.<ResultSet>immediateFuture(null), lastFuture));
+        assertThat(resultSetMerger.getResultSets(), is(Collections.singletonList(resultSets.get(2))));
+        ResultSetMerger actual = merge(resultSetMerger);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) "last"));
+        firstFuture.set(resultSets.get(0));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) "first"));
+        assertFalse(actual.next());
+        assertThat(resultSetMerger.getResultSets(), is(Arrays.asList(resultSets.get(2), resultSets.get(0))));
+    }
+    
+    @Test
+    public void assertCloseWithLateResultSet() throws SQLException {
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        SettableFuture<ResultSet> lateFuture = SettableFuture.create();
+        CompletionStreamResultSetMerger resultSetMerger = new CompletionStreamResultSetMerger(
+                Arrays.<ListenableFuture<ResultSet>>asList(Futures.immediateFuture(resultSets.get(0)), lateFuture), Arrays.asList(statement1, statement2));
+        merge(resultSetMerger).close();
+        verify(statement1, never()).cancel();
+        verify(statement2).cancel();
+        lateFuture.set(resultSets.get(1));
+        verify(resultSets.get(0), never()).close();
+        verify(resultSets.get(1)).close();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithException() throws SQLException {
+        ResultSetMerger actual = merge(new CompletionStreamResultSetMerger(Arrays.<ListenableFuture<ResultSet>>asList(
+                Futures.immediateFuture(resultSets.get(0)), Futures.<ResultSet>immediateFailedFuture(new SQLException("test")))));
+        actual.next();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNewWithoutResultSet() throws SQLException {
+        new CompletionStreamResultSetMerger(Collections.singletonList(Futures.<ResultSet>immediateFuture(null)));
+    }
+    
+    private List<ListenableFuture<ResultSet>> immediateFutures(final List<ResultSet> resultSets) {
+        List<ListenableFuture<ResultSet>> result = new ArrayList<>(resultSets.size());
+        for (ResultSet each : resultSets) {
+            result.add(Futures.immediateFuture(each));
+        }
+        return result;
+    }
+    
+    private ResultSetMerger merge(final CompletionStreamResultSetMerger resultSetMerger) throws SQLException {
+        return new MergeEngine(resultSetMerger.getResultSets(), new SelectStatement()).merge(resultSetMerger);
+    }
+}
@@ -17,8 +17,10 @@
 
 package io.shardingjdbc.core.merger.limit;
 
+import io.shardingjdbc.core.constant.OrderType;
 import io.shardingjdbc.core.merger.MergeEngine;
 import io.shardingjdbc.core.merger.ResultSetMerger;
+import io.shardingjdbc.core.parsing.parser.context.OrderItem;
 import io.shardingjdbc.core.parsing.parser.context.limit.Limit;
 import io.shardingjdbc.core.parsing.parser.context.limit.LimitValue;
 import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
@@ -116,4 +118,38 @@ public final class LimitDecoratorResultSetMergerTest {
         assertTrue(actual.next());
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithOrderBy() throws SQLException {
+        Limit limit = new Limit(true);
+        limit.setOffset(new LimitValue(5, -1));
+        limit.setRowCount(new LimitValue(2, -1));
+        selectStatement.setLimit(limit);
+        selectStatement.getOrderByItems().add(new OrderItem(1, OrderType.ASC, OrderType.ASC));
+        for (ResultSet each : resultSets) {
+            when(each.next()).thenReturn(true, true, false);
+            when(each.getObject(1)).thenReturn(1, 2);
+        }
+        mergeEngine = new MergeEngine(resultSets, selectStatement);
+        ResultSetMerger actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithOrderByForSkipAll() throws SQLException {
+        Limit limit = new Limit(true);
+        limit.setOffset(new LimitValue(8, -1));
+        limit.setRowCount(new LimitValue(2, -1));
+        selectStatement.setLimit(limit);
+        selectStatement.getOrderByItems().add(new OrderItem(1, OrderType.ASC, OrderType.ASC));
+        for (ResultSet each : resultSets) {
+            when(each.next()).thenReturn(true, true, false);
+            when(each.getObject(1)).thenReturn(1, 2);
+        }
+        mergeEngine = new MergeEngine(resultSets, selectStatement);
+        ResultSetMerger actual = mergeEngine.merge();
+        assertFalse(actual.next());
+    }
 }
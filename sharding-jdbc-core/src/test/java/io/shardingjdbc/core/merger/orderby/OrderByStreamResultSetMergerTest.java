@@ -25,16 +25,20 @@ import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
 import com.google.common.collect.Lists;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -104,4 +108,50 @@ public final class OrderByStreamResultSetMergerTest {
         assertThat(actual.getValue(1, Object.class).toString(), is("4"));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertSkip() throws SQLException {
+        resultSets = Lists.newArrayList(mockResultSet("2", "5"), mockResultSet("1", "3", "6", "8"), mockResultSet(), mockResultSet("4", "7"));
+        OrderByStreamResultSetMerger actual = new OrderByStreamResultSetMerger(resultSets, selectStatement.getOrderByItems());
+        assertTrue(actual.skip(5));
+        assertThat(actual.getValue(1, Object.class).toString(), is("5"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("6"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("7"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("8"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertSkipWithoutRows() throws SQLException {
+        resultSets = Lists.newArrayList(mockResultSet("2", "5"), mockResultSet("1", "3"), mockResultSet());
+        OrderByStreamResultSetMerger actual = new OrderByStreamResultSetMerger(resultSets, selectStatement.getOrderByItems());
+        assertTrue(actual.skip(0));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("1"));
+        assertFalse(actual.skip(4));
+        assertFalse(actual.next());
+    }
+    
+    private ResultSet mockResultSet(final Object... values) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        final AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return rowIndex.incrementAndGet() < values.length;
+            }
+        });
+        when(result.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return values[rowIndex.get()];
+            }
+        });
+        return result;
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LatencyHistogramTest {
+    
+    @Test
+    public void assertGetBucketIndex() {
+        assertThat(LatencyHistogram.getBucketIndex(31L), is(31));
+        assertThat(LatencyHistogram.getBucketIndex(32L), is(32));
+        assertThat(LatencyHistogram.getBucketIndex(64L), is(64));
+        assertThat(LatencyHistogram.getBucketIndex(65L), is(64));
+        assertThat(LatencyHistogram.getBucketIndex(66L), is(65));
+    }
+    
+    @Test
+    public void assertGetHighestValue() {
+        assertThat(LatencyHistogram.getHighestValue(31), is(31L));
+        assertThat(LatencyHistogram.getHighestValue(32), is(32L));
+        assertThat(LatencyHistogram.getHighestValue(64), is(65L));
+    }
+    
+    @Test
+    public void assertGetSnapshot() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 100; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(10L));
+        }
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(1000L));
+        LatencySnapshot actual = histogram.getSnapshot(new MetricsKey(MetricsStage.TOTAL, null, null, "SELECT ?"));
+        assertThat(actual.getStage(), is(MetricsStage.TOTAL));
+        assertThat(actual.getSqlFingerprint(), is("SELECT ?"));
+        assertThat(actual.getCount(), is(101L));
+        assertThat(actual.getTotalMicros(), is(2000L));
+        assertThat(actual.getMaxMicros(), is(1000L));
+        assertThat(actual.getP50Micros(), is(10L));
+        assertThat(actual.getP99Micros(), is(10L));
+        assertThat(actual.getP999Micros(), is(1000L));
+    }
+    
+    @Test
+    public void assertGetSnapshotWithoutRecord() {
+        LatencySnapshot actual = new LatencyHistogram().getSnapshot(new MetricsKey(MetricsStage.PARSE, null, null, "SELECT ?"));
+        assertThat(actual.getCount(), is(0L));
+        assertThat(actual.getP50Micros(), is(0L));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.metrics;
+
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingMetricsTest {
+    
+    @Test
+    public void assertRecordWhenDisabled() {
+        ShardingMetrics shardingMetrics = new ShardingMetrics(false);
+        shardingMetrics.recordStage(MetricsStage.PARSE, "SELECT ?", System.nanoTime());
+        shardingMetrics.recordExecution("ds_0", "t_order_0", System.nanoTime());
+        assertTrue(shardingMetrics.getLatencySnapshots().isEmpty());
+    }
+    
+    @Test
+    public void assertRecordStage() {
+        ShardingMetrics shardingMetrics = new ShardingMetrics(true);
+        shardingMetrics.recordStage(MetricsStage.PARSE, "SELECT ?", System.nanoTime());
+        shardingMetrics.recordStage(MetricsStage.PARSE, "SELECT ?", System.nanoTime());
+        List<LatencySnapshot> actual = shardingMetrics.getLatencySnapshots();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getStage(), is(MetricsStage.PARSE));
+        assertThat(actual.get(0).getSqlFingerprint(), is("SELECT ?"));
+        assertThat(actual.get(0).getDataSource(), nullValue());
+        assertThat(actual.get(0).getCount(), is(2L));
+    }
+    
+    @Test
+    public void assertRecordExecution() {
+        ShardingMetrics shardingMetrics = new ShardingMetrics(true);
+        shardingMetrics.recordExecution("ds_0", "t_order_0", System.nanoTime());
+        shardingMetrics.recordExecution("ds_0", "t_order_1", System.nanoTime());
+        List<LatencySnapshot> actual = shardingMetrics.getLatencySnapshots();
+        assertThat(actual.size(), is(2));
+        for (LatencySnapshot each : actual) {
+            assertThat(each.getStage(), is(MetricsStage.EXECUTE));
+            assertThat(each.getDataSource(), is("ds_0"));
+            assertThat(each.getSqlFingerprint(), nullValue());
+            assertThat(each.getCount(), is(1L));
+        }
+    }
+    
+    @Test
+    public void assertReset() {
+        ShardingMetrics shardingMetrics = new ShardingMetrics(true);
+        shardingMetrics.recordStage(MetricsStage.TOTAL, "SELECT ?", System.nanoTime());
+        shardingMetrics.reset();
+        assertTrue(shardingMetrics.getLatencySnapshots().isEmpty());
+    }
+    
+    @Test
+    public void assertRegisterAndUnregisterMBean() throws Exception {
+        ObjectName query = new ObjectName("io.shardingjdbc:type=ShardingMetrics,*");
+        int expected = ManagementFactory.getPlatformMBeanServer().queryNames(query, null).size();
+        ShardingMetrics shardingMetrics = new ShardingMetrics(true);
+        shardingMetrics.registerMBean();
+        shardingMetrics.registerMBean();
+        assertThat(ManagementFactory.getPlatformMBeanServer().queryNames(query, null).size(), is(expected + 1));
+        shardingMetrics.unregisterMBean();
+        shardingMetrics.unregisterMBean();
+        assertThat(ManagementFactory.getPlatformMBeanServer().queryNames(query, null).size(), is(expected));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.metrics;
+
+import io.shardingjdbc.core.merger.ResultSetMerger;
+import io.shardingjdbc.core.routing.SQLExecutionUnit;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SlowSQLSamplerTest {
+    
+    private final long slowStartTime = System.nanoTime() - TimeUnit.SECONDS.toNanos(1L);
+    
+    @Test
+    public void assertSampleWhenDisabled() {
+        SlowSQLSampler slowSQLSampler = new SlowSQLSampler();
+        assertFalse(slowSQLSampler.isEnabled());
+        slowSQLSampler.sample("SELECT 1", "RoutingResult", Collections.<SQLExecutionUnit>emptyList(), null, slowStartTime);
+        assertTrue(slowSQLSampler.getSamples().isEmpty());
+    }
+    
+    @Test
+    public void assertSampleFasterThanThreshold() {
+        SlowSQLSampler slowSQLSampler = new SlowSQLSampler();
+        slowSQLSampler.configure(10000L, 8);
+        assertTrue(slowSQLSampler.isEnabled());
+        slowSQLSampler.sample("SELECT 1", "RoutingResult", Collections.<SQLExecutionUnit>emptyList(), null, slowStartTime);
+        assertTrue(slowSQLSampler.getSamples().isEmpty());
+    }
+    
+    @Test
+    public void assertSampleSlowerThanThreshold() {
+        SlowSQLSampler slowSQLSampler = new SlowSQLSampler();
+        slowSQLSampler.configure(100L, 8);
+        SQLExecutionUnit sqlExecutionUnit = new SQLExecutionUnit("ds_0", "SELECT * FROM t_order_0", null, "t_order_0");
+        sqlExecutionUnit.addExecutionNanoTime(TimeUnit.MILLISECONDS.toNanos(2L));
+        sqlExecutionUnit.addExecutionNanoTime(TimeUnit.MILLISECONDS.toNanos(3L));
+        ResultSetMerger resultSetMerger = mock(ResultSetMerger.class);
+        slowSQLSampler.sample("SELECT * FROM t_order", "CartesianRoutingResult", Collections.singletonList(sqlExecutionUnit), resultSetMerger, slowStartTime);
+        List<SlowSQLSample> actual = slowSQLSampler.getSamples();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getLogicSQL(), is("SELECT * FROM t_order"));
+        assertThat(actual.get(0).getRoutingResultType(), is("CartesianRoutingResult"));
+        assertThat(actual.get(0).getMergerType(), is(resultSetMerger.getClass().getSimpleName()));
+        assertTrue(actual.get(0).getElapsedMicros() >= TimeUnit.SECONDS.toMicros(1L));
+        assertThat(actual.get(0).getExecutionUnits().size(), is(1));
+        assertThat(actual.get(0).getExecutionUnits().get(0).getDataSource(), is("ds_0"));
+        assertThat(actual.get(0).getExecutionUnits().get(0).getActualTable(), is("t_order_0"));
+        assertThat(actual.get(0).getExecutionUnits().get(0).getSql(), is("SELECT * FROM t_order_0"));
+        assertThat(actual.get(0).getExecutionUnits().get(0).getElapsedMicros(), is(5000L));
+    }
+    
+    @Test
+    public void assertSampleWithoutMerger() {
+        SlowSQLSampler slowSQLSampler = new SlowSQLSampler();
+        slowSQLSampler.configure(100L, 8);
+        slowSQLSampler.sample("DELETE FROM t_order", "RoutingResult", Collections.<SQLExecutionUnit>emptyList(), null, slowStartTime);
+        assertThat(slowSQLSampler.getSamples().get(0).getMergerType(), nullValue());
+    }
+    
+    @Test
+    public void assertGetSamplesWhenRingIsFull() {
+        SlowSQLSampler slowSQLSampler = new SlowSQLSampler();
+        slowSQLSampler.configure(100L, 2);
+        for (int i = 0; i < 3; i++) {
+            slowSQLSampler.sample("SELECT " + i, "RoutingResult", Collections.<SQLExecutionUnit>emptyList(), null, slowStartTime);
+        }
+        List<SlowSQLSample> actual = slowSQLSampler.getSamples();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getLogicSQL(), is("SELECT 1"));
+        assertThat(actual.get(1).getLogicSQL(), is("SELECT 2"));
+    }
+    
+    @Test
+    public void assertClear() {
+        SlowSQLSampler slowSQLSampler = new SlowSQLSampler();
+        slowSQLSampler.configure(100L, 2);
+        slowSQLSampler.sample("SELECT 1", "RoutingResult", Collections.<SQLExecutionUnit>emptyList(), null, slowStartTime);
+        slowSQLSampler.clear();
+        assertTrue(slowSQLSampler.getSamples().isEmpty());
+    }
+}
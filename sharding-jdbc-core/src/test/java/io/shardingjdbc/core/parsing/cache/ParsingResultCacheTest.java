@@ -0,0 +1,165 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingjdbc.core.parsing.cache;
+
+import io.shardingjdbc.core.constant.DatabaseType;
+import io.shardingjdbc.core.constant.OrderType;
+import io.shardingjdbc.core.parsing.parser.context.OrderItem;
+import io.shardingjdbc.core.parsing.parser.context.limit.Limit;
+import io.shardingjdbc.core.parsing.parser.context.limit.LimitValue;
+import io.shardingjdbc.core.parsing.parser.sql.SQLStatement;
+import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingjdbc.core.parsing.parser.token.ItemsToken;
+import io.shardingjdbc.core.parsing.parser.token.RowCountToken;
+import io.shardingjdbc.core.rewrite.SQLRewriteCache;
+import com.google.common.base.Optional;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ParsingResultCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order ORDER BY order_id LIMIT ?, ?";
+    
+    @Test
+    public void assertGetSQLStatementWhenAbsent() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(10);
+        assertFalse(parsingResultCache.getSQLStatement(DatabaseType.MySQL, SQL).isPresent());
+        assertThat(parsingResultCache.getHitCount(), is(0L));
+        assertThat(parsingResultCache.getMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetSQLStatementWhenPresent() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(10);
+        SelectStatement selectStatement = createSelectStatement();
+        parsingResultCache.put(DatabaseType.MySQL, SQL, selectStatement);
+        Optional<SQLStatement> actual = parsingResultCache.getSQLStatement(DatabaseType.MySQL, SQL);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), not(sameInstance((SQLStatement) selectStatement)));
+        assertThat(((SelectStatement) actual.get()).getOrderByItems().get(0), is(selectStatement.getOrderByItems().get(0)));
+        assertThat(((SelectStatement) actual.get()).getLimit().getRowCount().getIndex(), is(1));
+        assertThat(parsingResultCache.getHitCount(), is(1L));
+        assertThat(parsingResultCache.getMissCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetSQLRewriteCache() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(10);
+        assertFalse(parsingResultCache.getSQLRewriteCache(DatabaseType.MySQL, SQL).isPresent());
+        parsingResultCache.put(DatabaseType.MySQL, SQL, createSelectStatement());
+        SQLRewriteCache actual = parsingResultCache.getSQLRewriteCache(DatabaseType.MySQL, SQL).get();
+        assertThat(parsingResultCache.getSQLRewriteCache(DatabaseType.MySQL, SQL).get(), sameInstance(actual));
+        assertThat(parsingResultCache.getHitCount(), is(0L));
+        assertThat(parsingResultCache.getMissCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetSQLStatementWithDifferentDatabaseType() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(10);
+        parsingResultCache.put(DatabaseType.MySQL, SQL, createSelectStatement());
+        assertFalse(parsingResultCache.getSQLStatement(DatabaseType.PostgreSQL, SQL).isPresent());
+    }
+    
+    @Test
+    public void assertModifyCopiedSQLStatement() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(10);
+        SelectStatement selectStatement = createSelectStatement();
+        parsingResultCache.put(DatabaseType.MySQL, SQL, selectStatement);
+        selectStatement.getOrderByItems().get(0).setIndex(1);
+        SelectStatement firstCopy = (SelectStatement) parsingResultCache.getSQLStatement(DatabaseType.MySQL, SQL).get();
+        firstCopy.getLimit().getOffset().setValue(10);
+        firstCopy.setLimit(null);
+        SelectStatement secondCopy = (SelectStatement) parsingResultCache.getSQLStatement(DatabaseType.MySQL, SQL).get();
+        assertNotNull(secondCopy.getLimit());
+        assertThat(secondCopy.getLimit().getOffsetValue(), is(0));
+        assertThat(secondCopy.getOrderByItems().get(0).getIndex(), is(-1));
+    }
+    
+    @Test
+    public void assertModifyCopiedSQLTokens() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(10);
+        SelectStatement selectStatement = createSelectStatement();
+        ItemsToken itemsToken = new ItemsToken(8);
+        itemsToken.getItems().add("order_id AS ORDER_BY_DERIVED_0");
+        selectStatement.getSqlTokens().add(itemsToken);
+        parsingResultCache.put(DatabaseType.MySQL, SQL, selectStatement);
+        SelectStatement firstCopy = (SelectStatement) parsingResultCache.getSQLStatement(DatabaseType.MySQL, SQL).get();
+        ((ItemsToken) firstCopy.getSqlTokens().get(0)).getItems().clear();
+        SelectStatement secondCopy = (SelectStatement) parsingResultCache.getSQLStatement(DatabaseType.MySQL, SQL).get();
+        assertThat(((ItemsToken) secondCopy.getSqlTokens().get(0)).getItems().size(), is(1));
+    }
+    
+    @Test
+    public void assertMergeCopiedSubQueryStatement() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(10);
+        SelectStatement subQueryStatement = new SelectStatement();
+        subQueryStatement.getSqlTokens().add(new RowCountToken(40, 5));
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getSqlTokens().add(new RowCountToken(60, 10));
+        selectStatement.setSubQueryStatement(subQueryStatement);
+        parsingResultCache.put(DatabaseType.MySQL, SQL, selectStatement);
+        SelectStatement firstMerged = ((SelectStatement) parsingResultCache.getSQLStatement(DatabaseType.MySQL, SQL).get()).mergeSubQueryStatement();
+        assertThat(firstMerged.getSqlTokens().size(), is(2));
+        SelectStatement secondMerged = ((SelectStatement) parsingResultCache.getSQLStatement(DatabaseType.MySQL, SQL).get()).mergeSubQueryStatement();
+        assertThat(secondMerged.getSqlTokens().size(), is(2));
+        assertThat(subQueryStatement.getSqlTokens().size(), is(1));
+    }
+    
+    @Test
+    public void assertPutUnknownSQLStatement() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(10);
+        parsingResultCache.put(DatabaseType.MySQL, SQL, mock(SQLStatement.class));
+        assertFalse(parsingResultCache.getSQLStatement(DatabaseType.MySQL, SQL).isPresent());
+        assertThat(parsingResultCache.size(), is(0L));
+    }
+    
+    @Test
+    public void assertEvictWhenFull() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(1);
+        parsingResultCache.put(DatabaseType.MySQL, SQL, createSelectStatement());
+        parsingResultCache.put(DatabaseType.MySQL, "SELECT * FROM t_order_item", new SelectStatement());
+        assertThat(parsingResultCache.size(), is(1L));
+        assertFalse(parsingResultCache.getSQLStatement(DatabaseType.MySQL, SQL).isPresent());
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(10);
+        parsingResultCache.put(DatabaseType.MySQL, SQL, createSelectStatement());
+        parsingResultCache.clear();
+        assertThat(parsingResultCache.size(), is(0L));
+    }
+    
+    private SelectStatement createSelectStatement() {
+        SelectStatement result = new SelectStatement();
+        result.getOrderByItems().add(new OrderItem("order_id", OrderType.ASC, OrderType.ASC, Optional.<String>absent()));
+        Limit limit = new Limit(true);
+        limit.setOffset(new LimitValue(0, 0));
+        limit.setRowCount(new LimitValue(0, 1));
+        result.setLimit(limit);
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.parsing.lexer.analyzer;
+
+import io.shardingjdbc.core.parsing.lexer.dialect.mysql.MySQLKeyword;
+import io.shardingjdbc.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingjdbc.core.parsing.lexer.token.Literals;
+import io.shardingjdbc.core.parsing.lexer.token.TokenType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class DictionaryTest {
+    
+    private final Dictionary dictionary = new Dictionary(MySQLKeyword.values());
+    
+    @Test
+    public void assertFindTokenTypeWithCaseInsensitive() {
+        String input = "select Select SELECT sElEcT";
+        assertThat(dictionary.findTokenType(input, 0, 6, Literals.IDENTIFIER), is((TokenType) DefaultKeyword.SELECT));
+        assertThat(dictionary.findTokenType(input, 7, 13, Literals.IDENTIFIER), is((TokenType) DefaultKeyword.SELECT));
+        assertThat(dictionary.findTokenType(input, 14, 20, Literals.IDENTIFIER), is((TokenType) DefaultKeyword.SELECT));
+        assertThat(dictionary.findTokenType(input, 21, 27, Literals.IDENTIFIER), is((TokenType) DefaultKeyword.SELECT));
+    }
+    
+    @Test
+    public void assertFindTokenTypeWithDialectKeyword() {
+        String input = "limit";
+        assertThat(dictionary.findTokenType(input, 0, input.length(), Literals.IDENTIFIER), is((TokenType) MySQLKeyword.LIMIT));
+    }
+    
+    @Test
+    public void assertFindTokenTypeWithPrefixOfKeyword() {
+        String input = "SELEC SELECTED";
+        assertThat(dictionary.findTokenType(input, 0, 5, Literals.IDENTIFIER), is((TokenType) Literals.IDENTIFIER));
+        assertThat(dictionary.findTokenType(input, 6, 14, Literals.IDENTIFIER), is((TokenType) Literals.IDENTIFIER));
+    }
+    
+    @Test
+    public void assertFindTokenTypeWithNotKeywordChar() {
+        String input = "t_order$0 user#id";
+        assertThat(dictionary.findTokenType(input, 0, 9, Literals.IDENTIFIER), is((TokenType) Literals.IDENTIFIER));
+        assertThat(dictionary.findTokenType(input, 10, 17, Literals.IDENTIFIER), is((TokenType) Literals.IDENTIFIER));
+    }
+    
+    @Test
+    public void assertFindTokenTypeInRangeOfInput() {
+        String input = "t_order.from";
+        assertThat(dictionary.findTokenType(input, 8, 12), is((TokenType) DefaultKeyword.FROM));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertFindTokenTypeFailure() {
+        dictionary.findTokenType("t_order", 0, 7);
+    }
+}
@@ -4,7 +4,9 @@ import io.shardingjdbc.core.api.algorithm.sharding.ShardingValue;
 import io.shardingjdbc.core.api.algorithm.sharding.ListShardingValue;
 import io.shardingjdbc.core.api.algorithm.sharding.RangeShardingValue;
 import io.shardingjdbc.core.parsing.parser.expression.SQLExpression;
+import io.shardingjdbc.core.parsing.parser.expression.SQLIgnoreExpression;
 import io.shardingjdbc.core.parsing.parser.expression.SQLNumberExpression;
+import io.shardingjdbc.core.parsing.parser.expression.SQLPlaceholderExpression;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -12,6 +14,7 @@ import java.util.Collections;
 import java.util.Iterator;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 public final class ConditionTest {
@@ -31,4 +34,19 @@ public final class ConditionTest {
         assertThat((Integer) ((RangeShardingValue) shardingValue).getValueRange().lowerEndpoint(), is(1));
         assertThat((Integer) ((RangeShardingValue) shardingValue).getValueRange().upperEndpoint(), is(2));
     }
+    
+    @Test
+    public void assertGetEqualValue() {
+        Condition condition = new Condition(new Column("test", "test"), new SQLNumberExpression(1));
+        assertThat((Integer) condition.getEqualValue(Collections.emptyList()).get(), is(1));
+        condition = new Condition(new Column("test", "test"), new SQLPlaceholderExpression(1));
+        assertThat((Integer) condition.getEqualValue(Arrays.<Object>asList(0, 2)).get(), is(2));
+        condition = new Condition(new Column("test", "test"), new SQLIgnoreExpression("now()"));
+        assertFalse(condition.getEqualValue(Collections.emptyList()).isPresent());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetEqualValueForInCondition() {
+        new Condition(new Column("test", "test"), Arrays.<SQLExpression>asList(new SQLNumberExpression(1), new SQLNumberExpression(2))).getEqualValue(Collections.emptyList());
+    }
 }
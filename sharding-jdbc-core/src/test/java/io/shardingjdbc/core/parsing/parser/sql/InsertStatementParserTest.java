@@ -31,18 +31,22 @@ import io.shardingjdbc.core.parsing.parser.context.condition.Column;
 import io.shardingjdbc.core.parsing.parser.context.condition.Condition;
 import io.shardingjdbc.core.parsing.parser.exception.SQLParsingUnsupportedException;
 import io.shardingjdbc.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingjdbc.core.parsing.parser.token.MultipleInsertValuesToken;
+import io.shardingjdbc.core.parsing.parser.token.SQLToken;
 import org.junit.Test;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -141,10 +145,38 @@ public final class InsertStatementParserTest extends AbstractStatementParserTest
     }
     
     @Test
-    // TODO assert
     public void parseMultipleInsertForMySQL() throws SQLException {
         ShardingRule shardingRule = createShardingRule();
-        new SQLParsingEngine(DatabaseType.MySQL, "INSERT INTO TABLE_XXX (`field1`, `field2`) VALUES (1, 'value_char'), (2, 'value_char')", shardingRule).parse();
+        InsertStatement insertStatement = (InsertStatement) new SQLParsingEngine(
+                DatabaseType.MySQL, "INSERT INTO TABLE_XXX (`field1`, `field2`) VALUES (1, 'value_char'), (2, 'value_char')", shardingRule).parse();
+        assertThat(insertStatement.getMultipleConditions().size(), is(2));
+        MultipleInsertValuesToken valuesToken = null;
+        for (SQLToken each : insertStatement.getSqlTokens()) {
+            if (each instanceof MultipleInsertValuesToken) {
+                valuesToken = (MultipleInsertValuesToken) each;
+            }
+        }
+        assertNotNull(valuesToken);
+        assertThat(valuesToken.getBeginPosition(), is(50));
+        assertThat(valuesToken.getEndPosition(), is(86));
+        assertThat(valuesToken.getValues(), is(Arrays.asList("(1, 'value_char')", "(2, 'value_char')")));
+        assertThat(valuesToken.getParametersCounts(), is(Arrays.asList(0, 0)));
+    }
+    
+    @Test
+    public void parseMultipleInsertWithParameterForMySQL() throws SQLException {
+        ShardingRule shardingRule = createShardingRule();
+        InsertStatement insertStatement = (InsertStatement) new SQLParsingEngine(DatabaseType.MySQL, "INSERT INTO TABLE_XXX (field1, field2) VALUES (?, ?), (?, 'value_char') ", shardingRule).parse();
+        MultipleInsertValuesToken valuesToken = null;
+        for (SQLToken each : insertStatement.getSqlTokens()) {
+            if (each instanceof MultipleInsertValuesToken) {
+                valuesToken = (MultipleInsertValuesToken) each;
+            }
+        }
+        assertNotNull(valuesToken);
+        assertThat(valuesToken.getValues(), is(Arrays.asList("(?, ?)", "(?, 'value_char')")));
+        assertThat(valuesToken.getParametersBeginIndex(), is(0));
+        assertThat(valuesToken.getParametersCounts(), is(Arrays.asList(2, 1)));
     }
     
     @Test(expected = SQLParsingUnsupportedException.class)
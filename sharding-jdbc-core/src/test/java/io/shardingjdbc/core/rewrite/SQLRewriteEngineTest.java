@@ -25,8 +25,10 @@ import io.shardingjdbc.core.parsing.parser.context.OrderItem;
 import io.shardingjdbc.core.parsing.parser.context.limit.Limit;
 import io.shardingjdbc.core.parsing.parser.context.limit.LimitValue;
 import io.shardingjdbc.core.parsing.parser.context.table.Table;
+import io.shardingjdbc.core.parsing.SQLParsingEngine;
 import io.shardingjdbc.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingjdbc.core.parsing.parser.token.ItemsToken;
+import io.shardingjdbc.core.parsing.parser.token.MultipleInsertValuesToken;
 import io.shardingjdbc.core.parsing.parser.token.OffsetToken;
 import io.shardingjdbc.core.parsing.parser.token.OrderByToken;
 import io.shardingjdbc.core.parsing.parser.token.RowCountToken;
@@ -44,7 +46,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class SQLRewriteEngineTest {
     
@@ -243,6 +249,47 @@ public final class SQLRewriteEngineTest {
         assertThat(rewriteEngine.rewrite(true).toSQL(tableTokens), is("SELECT x.id, x.name FROM table_1 x GROUP BY x.id, x.name DESC ORDER BY id ASC,name DESC "));
     }
     
+    @Test
+    public void assertRewriteForGroupByStreamMerge() {
+        selectStatement.setGroupByLastPosition(58);
+        selectStatement.setOrderByBeginPosition(58);
+        selectStatement.setOrderByLastPosition(74);
+        selectStatement.getGroupByItems().add(new OrderItem("x", "id", OrderType.ASC, OrderType.ASC, Optional.<String>absent()));
+        selectStatement.getOrderByItems().add(new OrderItem("s", OrderType.DESC, OrderType.ASC, Optional.of("s")));
+        selectStatement.setLimit(new Limit(true));
+        selectStatement.getLimit().setOffset(new LimitValue(2, -1));
+        selectStatement.getLimit().setRowCount(new LimitValue(3, -1));
+        selectStatement.getSqlTokens().add(new TableToken(34, "table_x"));
+        selectStatement.getSqlTokens().add(new OffsetToken(80, 2));
+        selectStatement.getSqlTokens().add(new RowCountToken(83, 3));
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(
+                shardingRule, "SELECT x.id, SUM(x.num) AS s FROM table_x x GROUP BY x.id ORDER BY s DESC LIMIT 2, 3", DatabaseType.MySQL, selectStatement, true);
+        assertThat(rewriteEngine.rewrite(true).toSQL(tableTokens), is("SELECT x.id, SUM(x.num) AS s FROM table_1 x GROUP BY x.id  ORDER BY id ASC LIMIT 0, 2147483647"));
+        assertThat(rewriteEngine.rewrite(false).toSQL(tableTokens), is("SELECT x.id, SUM(x.num) AS s FROM table_1 x GROUP BY x.id ORDER BY s DESC LIMIT 2, 3"));
+    }
+    
+    @Test
+    public void assertRewriteForGroupByStreamMergeWithSubQuery() {
+        String sql = "SELECT * FROM (SELECT x.id, SUM(x.num) AS s FROM table_x x GROUP BY x.id ORDER BY s DESC LIMIT 2, 3) t";
+        SelectStatement actualSelectStatement = (SelectStatement) new SQLParsingEngine(DatabaseType.MySQL, sql, shardingRule).parse();
+        assertFalse(actualSelectStatement.isOrderByRewritableToGroupBy());
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sql, DatabaseType.MySQL, actualSelectStatement, true);
+        assertThat(rewriteEngine.rewrite(true).toSQL(tableTokens), is("SELECT * FROM (SELECT x.id, SUM(x.num) AS s FROM table_1 x GROUP BY x.id ORDER BY s DESC LIMIT 0, 2147483647) t"));
+    }
+    
+    @Test
+    public void assertRewriteForGroupByStreamMergeWithoutLimit() {
+        selectStatement.setGroupByLastPosition(58);
+        selectStatement.setOrderByBeginPosition(58);
+        selectStatement.setOrderByLastPosition(73);
+        selectStatement.getGroupByItems().add(new OrderItem("x", "id", OrderType.ASC, OrderType.ASC, Optional.<String>absent()));
+        selectStatement.getOrderByItems().add(new OrderItem("s", OrderType.DESC, OrderType.ASC, Optional.of("s")));
+        selectStatement.getSqlTokens().add(new TableToken(34, "table_x"));
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(
+                shardingRule, "SELECT x.id, SUM(x.num) AS s FROM table_x x GROUP BY x.id ORDER BY s DESC", DatabaseType.MySQL, selectStatement, true);
+        assertThat(rewriteEngine.rewrite(true).toSQL(tableTokens), is("SELECT x.id, SUM(x.num) AS s FROM table_1 x GROUP BY x.id ORDER BY s DESC"));
+    }
+    
     @Test
     public void assertGenerateSQL() {
         selectStatement.getSqlTokens().add(new TableToken(7, "table_x"));
@@ -266,4 +313,69 @@ public final class SQLRewriteEngineTest {
         CartesianTableReference cartesianTableReference = new CartesianTableReference(Collections.singletonList(new TableUnit("db0", "table_x", "table_x")));
         assertThat(sqlRewriteEngine.generateSQL(cartesianTableReference, sqlBuilder), is("SELECT table_x.id, x.name FROM table_x x WHERE table_x.id=? AND x.name=?"));
     }
+    
+    @Test
+    public void assertRewriteWithCachedSQLBuilder() {
+        selectStatement.getSqlTokens().add(new TableToken(17, "table_x"));
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "SELECT x.id FROM table_x x WHERE x.id=?", DatabaseType.MySQL, selectStatement);
+        SQLBuilder sqlBuilder = rewriteEngine.rewrite(true);
+        assertSame(rewriteEngine.rewrite(true), sqlBuilder);
+        assertNotSame(rewriteEngine.rewrite(false), sqlBuilder);
+        assertThat(rewriteEngine.generateSQL(new TableUnit("db0", "table_x", "table_1"), sqlBuilder), is("SELECT x.id FROM table_1 x WHERE x.id=?"));
+        assertThat(rewriteEngine.generateSQL(new TableUnit("db0", "table_x", "table_2"), sqlBuilder), is("SELECT x.id FROM table_2 x WHERE x.id=?"));
+    }
+    
+    @Test
+    public void assertRewriteWithSharedRewriteCache() {
+        selectStatement.getSqlTokens().add(new TableToken(17, "table_x"));
+        SQLRewriteCache rewriteCache = new SQLRewriteCache();
+        SQLBuilder sqlBuilder = new SQLRewriteEngine(shardingRule, "SELECT x.id FROM table_x x WHERE x.id=?", DatabaseType.MySQL, selectStatement, false, rewriteCache).rewrite(true);
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(
+                shardingRule, "SELECT x.id FROM table_x x WHERE x.id=?", DatabaseType.MySQL, new SelectStatement(selectStatement), false, rewriteCache);
+        assertSame(rewriteEngine.rewrite(true), sqlBuilder);
+        assertThat(rewriteEngine.generateSQL(new TableUnit("db0", "table_x", "table_1"), sqlBuilder), is("SELECT x.id FROM table_1 x WHERE x.id=?"));
+    }
+    
+    @Test
+    public void assertRewriteWithoutCachedSQLBuilderForParameterizedLimitOffset() {
+        selectStatement.setLimit(new Limit(true));
+        selectStatement.getLimit().setOffset(new LimitValue(2, 0));
+        selectStatement.getLimit().setRowCount(new LimitValue(2, -1));
+        selectStatement.getSqlTokens().add(new TableToken(17, "table_x"));
+        selectStatement.getSqlTokens().add(new RowCountToken(36, 2));
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "SELECT x.id FROM table_x x LIMIT ?, 2", DatabaseType.MySQL, selectStatement);
+        assertThat(rewriteEngine.rewrite(true).toSQL(tableTokens), is("SELECT x.id FROM table_1 x LIMIT ?, 4"));
+        selectStatement.getLimit().getOffset().setValue(4);
+        assertThat(rewriteEngine.rewrite(true).toSQL(tableTokens), is("SELECT x.id FROM table_1 x LIMIT ?, 6"));
+    }
+    
+    @Test
+    public void assertGenerateSQLForMultipleInsertValues() {
+        selectStatement.getSqlTokens().add(new TableToken(12, "table_x"));
+        MultipleInsertValuesToken valuesToken = new MultipleInsertValuesToken(38);
+        valuesToken.getValues().addAll(Arrays.asList("(1, 'a')", "(2, 'b')", "(3, 'c')"));
+        valuesToken.setEndPosition(66);
+        selectStatement.getSqlTokens().add(valuesToken);
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "INSERT INTO table_x (id, name) VALUES (1, 'a'), (2, 'b'), (3, 'c')", DatabaseType.MySQL, selectStatement);
+        SQLBuilder sqlBuilder = rewriteEngine.rewrite(false);
+        assertTrue(sqlBuilder.containsInsertValues());
+        TableUnit tableUnit = new TableUnit("db0", "table_x", "table_1");
+        assertThat(rewriteEngine.generateSQL(tableUnit, sqlBuilder), is("INSERT INTO table_1 (id, name) VALUES (1, 'a'), (2, 'b'), (3, 'c')"));
+        assertThat(rewriteEngine.generateSQL(tableUnit, sqlBuilder, Arrays.asList(0, 2)), is("INSERT INTO table_1 (id, name) VALUES (1, 'a'), (3, 'c')"));
+    }
+    
+    @Test
+    public void assertRewriteForMultipleInsertValuesWithGeneratedKey() {
+        selectStatement.getSqlTokens().add(new TableToken(12, "table_x"));
+        MultipleInsertValuesToken valuesToken = new MultipleInsertValuesToken(38);
+        valuesToken.getValues().addAll(Arrays.asList("(1, 'a')", "(2, 'b')"));
+        valuesToken.setEndPosition(56);
+        ItemsToken itemsToken = new ItemsToken(55);
+        itemsToken.getItems().add("3");
+        selectStatement.getSqlTokens().addAll(Arrays.asList(valuesToken, itemsToken));
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "INSERT INTO table_x (id, name) VALUES (1, 'a'), (2, 'b')", DatabaseType.MySQL, selectStatement);
+        SQLBuilder sqlBuilder = rewriteEngine.rewrite(false);
+        assertFalse(sqlBuilder.containsInsertValues());
+        assertThat(sqlBuilder.toSQL(tableTokens), is("INSERT INTO table_1 (id, name) VALUES (1, 'a'), (2, 'b', 3)"));
+    }
 }
@@ -17,10 +17,15 @@
 
 package io.shardingjdbc.core.routing;
 
+import io.shardingjdbc.core.routing.strategy.inline.InlineShardingExpressionTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses(DatabaseTest.class)
+@Suite.SuiteClasses({
+        DatabaseTest.class, 
+        InsertValuesRoutingTest.class, 
+        InlineShardingExpressionTest.class
+    })
 public class AllRoutingTests {
 }
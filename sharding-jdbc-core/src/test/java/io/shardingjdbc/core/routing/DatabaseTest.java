@@ -22,7 +22,9 @@ import io.shardingjdbc.core.api.config.ShardingRuleConfiguration;
 import io.shardingjdbc.core.api.config.strategy.HintShardingStrategyConfiguration;
 import io.shardingjdbc.core.rule.ShardingRule;
 import io.shardingjdbc.core.constant.DatabaseType;
+import io.shardingjdbc.core.constant.ShardingProperties;
 import io.shardingjdbc.core.jdbc.core.ShardingContext;
+import io.shardingjdbc.core.metrics.ShardingMetrics;
 import io.shardingjdbc.core.fixture.OrderDatabaseHintShardingAlgorithm;
 import com.google.common.base.Function;
 import com.google.common.collect.Collections2;
@@ -35,6 +37,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.hasItems;
@@ -69,7 +72,7 @@ public class DatabaseTest {
     }
     
     private void assertTarget(final String originSql, final String targetDataSource) {
-        ShardingContext shardingContext = new ShardingContext(shardingRule, DatabaseType.MySQL, null, false);
+        ShardingContext shardingContext = new ShardingContext(shardingRule, DatabaseType.MySQL, null, new ShardingProperties(new Properties()), new ShardingMetrics(false));
         SQLRouteResult actual = new StatementRoutingEngine(shardingContext).route(originSql);
         assertThat(actual.getExecutionUnits().size(), is(1));
         Set<String> actualDataSources = new HashSet<>(Collections2.transform(actual.getExecutionUnits(), new Function<SQLExecutionUnit, String>() {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.routing;
+
+import io.shardingjdbc.core.api.config.ShardingRuleConfiguration;
+import io.shardingjdbc.core.api.config.TableRuleConfiguration;
+import io.shardingjdbc.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingjdbc.core.constant.DatabaseType;
+import io.shardingjdbc.core.constant.ShardingProperties;
+import io.shardingjdbc.core.jdbc.core.ShardingContext;
+import io.shardingjdbc.core.metrics.ShardingMetrics;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class InsertValuesRoutingTest {
+    
+    private static final String INSERT_SQL = "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?), (?, ?, ?), (?, ?, ?) ON DUPLICATE KEY UPDATE status = ?";
+    
+    private ShardingContext shardingContext;
+    
+    @Before
+    public void setUp() throws SQLException {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        Map<String, DataSource> dataSourceMap = new HashMap<>(2, 1);
+        dataSourceMap.put("ds_0", null);
+        dataSourceMap.put("ds_1", null);
+        shardingContext = new ShardingContext(shardingRuleConfig.build(dataSourceMap), DatabaseType.MySQL, null, new ShardingProperties(new Properties()), new ShardingMetrics(false));
+    }
+    
+    @Test
+    public void assertRouteInsertValuesToDifferentTableUnits() {
+        List<Object> parameters = new ArrayList<Object>(Arrays.asList(1, 10, "a", 2, 11, "b", 3, 10, "c", "d"));
+        List<SQLExecutionUnit> actual = new ArrayList<>(new PreparedStatementRoutingEngine(INSERT_SQL, shardingContext).route(parameters).getExecutionUnits());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getDataSource(), is("ds_0"));
+        assertThat(actual.get(0).getSql(), is("INSERT INTO t_order_1 (order_id, user_id, status) VALUES (?, ?, ?), (?, ?, ?) ON DUPLICATE KEY UPDATE status = ?"));
+        assertThat(actual.get(0).getParameters(parameters), is(Arrays.<Object>asList(1, 10, "a", 3, 10, "c", "d")));
+        assertThat(actual.get(1).getDataSource(), is("ds_1"));
+        assertThat(actual.get(1).getSql(), is("INSERT INTO t_order_0 (order_id, user_id, status) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE status = ?"));
+        assertThat(actual.get(1).getParameters(parameters), is(Arrays.<Object>asList(2, 11, "b", "d")));
+    }
+    
+    @Test
+    public void assertRouteInsertValuesToSameTableUnit() {
+        List<Object> parameters = new ArrayList<Object>(Arrays.asList(1, 10, "a", 3, 12, "b", 5, 14, "c", "d"));
+        List<SQLExecutionUnit> actual = new ArrayList<>(new PreparedStatementRoutingEngine(INSERT_SQL, shardingContext).route(parameters).getExecutionUnits());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getDataSource(), is("ds_0"));
+        assertThat(actual.get(0).getSql(), is(INSERT_SQL.replace("t_order", "t_order_1")));
+        assertFalse(actual.get(0).isPartOfParameters());
+    }
+    
+    @Test
+    public void assertRouteInsertValuesWithoutParameters() {
+        String sql = "INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'a'), (2, 11, 'b')";
+        List<SQLExecutionUnit> actual = new ArrayList<>(new StatementRoutingEngine(shardingContext).route(sql).getExecutionUnits());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getSql(), is("INSERT INTO t_order_1 (order_id, user_id, status) VALUES (1, 10, 'a')"));
+        assertThat(actual.get(1).getSql(), is("INSERT INTO t_order_0 (order_id, user_id, status) VALUES (2, 11, 'b')"));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingjdbc.core.routing.strategy.inline;
+
+import groovy.lang.Closure;
+import groovy.lang.GroovyShell;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class InlineShardingExpressionTest {
+    
+    @Test
+    public void assertEvaluateSameAsGroovy() {
+        String[] inlineExpressions = {"t_order_${order_id}", "t_order_${order_id % 16}", "ds_${(order_id + 1) % 4}_${order_id * 2 - 3}", "t_order_${-order_id % 3}", "${order_id % 2147483648}"};
+        Comparable<?>[] values = {0, 7, -9, 1024L, 3000000000L, (short) 17, (byte) 3, Integer.MAX_VALUE};
+        for (String each : inlineExpressions) {
+            for (Comparable<?> value : values) {
+                assertThat(InlineShardingExpression.compile(each, "order_id").get().evaluate(value).get(), is(evaluateWithGroovy(each, value)));
+            }
+        }
+    }
+    
+    @Test
+    public void assertEvaluateForStringValue() {
+        assertThat(InlineShardingExpression.compile("t_order_${order_id}", "order_id").get().evaluate("x").get(), is("t_order_x"));
+        assertFalse(InlineShardingExpression.compile("t_order_${order_id % 2}", "order_id").get().evaluate("x").isPresent());
+    }
+    
+    @Test
+    public void assertCompileFailure() {
+        assertFalse(InlineShardingExpression.compile("t_order_${order_id / 2}", "order_id").isPresent());
+        assertFalse(InlineShardingExpression.compile("t_order_${order_id.intdiv(2)}", "order_id").isPresent());
+        assertFalse(InlineShardingExpression.compile("t_order_${user_id % 2}", "order_id").isPresent());
+        assertFalse(InlineShardingExpression.compile("t_order_$order_id", "order_id").isPresent());
+        assertFalse(InlineShardingExpression.compile("t_order_${order_id % 010}", "order_id").isPresent());
+        assertFalse(InlineShardingExpression.compile("t_order_${order_id % 2L}", "order_id").isPresent());
+        assertFalse(InlineShardingExpression.compile("t_order_${(order_id % 2}", "order_id").isPresent());
+        assertFalse(InlineShardingExpression.compile("t_order_${it}", "it").isPresent());
+    }
+    
+    private String evaluateWithGroovy(final String inlineExpression, final Comparable<?> value) {
+        Closure<?> closure = ((Closure) new GroovyShell().evaluate("{it -> \"" + inlineExpression + "\"}")).rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty("order_id", value);
+        return closure.call().toString();
+    }
+}
@@ -33,6 +33,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -107,6 +108,25 @@ public final class ShardingRuleTest {
         assertFalse(actual.tryFindTableRule("null").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleIgnoreCase() throws SQLException {
+        ShardingRule actual = createShardingRule();
+        assertThat(actual.tryFindTableRule("LOGICTABLE").get().getLogicTable(), is("logicTable"));
+        assertFalse(actual.tryFindTableRule(null).isPresent());
+    }
+    
+    @Test
+    public void assertFindTableRuleIgnoreCaseWithTurkishLocale() throws SQLException {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            ShardingRule actual = createShardingRule();
+            assertThat(actual.tryFindTableRule("LOGICTABLE").get().getLogicTable(), is("logicTable"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+    
     @Test
     public void assertGetDatabaseShardingStrategyFromTableRule() throws SQLException {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -191,6 +211,12 @@ public final class ShardingRuleTest {
         assertThat(actual.findBindingTableRule("logicTable").get().getTableRules().size(), is(2));
     }
     
+    @Test
+    public void assertGetBindingTableRuleIgnoreCase() throws SQLException {
+        ShardingRule actual = createShardingRule();
+        assertThat(actual.findBindingTableRule("SUBLOGICTABLE").get(), is(actual.findBindingTableRule("logicTable").get()));
+    }
+    
     @Test
     public void assertFilterAllBindingTablesWhenLogicTablesIsEmpty() throws SQLException {
         assertThat(createShardingRule().filterAllBindingTables(Collections.<String>emptyList()), is((Collection<String>) Collections.<String>emptyList()));
@@ -264,6 +290,15 @@ public final class ShardingRuleTest {
         assertFalse(shardingRuleConfig.build(createDataSourceMap()).isShardingColumn(new Column("column", "otherTable")));
     }
     
+    @Test
+    public void assertIsShardingColumnIgnoreCase() throws SQLException {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfigWithAllStrategies());
+        ShardingRule actual = shardingRuleConfig.build(createDataSourceMap());
+        assertTrue(actual.isShardingColumn(new Column("COLUMN", "LOGICTABLE")));
+        assertFalse(actual.isShardingColumn(new Column("column", null)));
+    }
+    
     private ShardingRule createShardingRule() throws SQLException {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
         TableRuleConfiguration tableRuleConfig = createTableRuleConfig();
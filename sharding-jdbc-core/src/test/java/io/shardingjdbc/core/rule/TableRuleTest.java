@@ -27,6 +27,7 @@ import javax.sql.DataSource;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -123,6 +124,23 @@ public final class TableRuleTest {
         assertThat(actual.getActualTableNames("ds1"), is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("table_0", "table_1", "table_2"))));
     }
     
+    @Test
+    public void assertGetActualTableNamesForNotFound() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("logicTable");
+        tableRuleConfig.setActualDataNodes("ds${0..1}.table_${0..2}");
+        TableRule actual = tableRuleConfig.build(createDataSourceMap());
+        assertTrue(actual.getActualTableNames("ds2").isEmpty());
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertGetActualTableNamesIsUnmodifiable() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("logicTable");
+        tableRuleConfig.setActualDataNodes("ds${0..1}.table_${0..2}");
+        tableRuleConfig.build(createDataSourceMap()).getActualTableNames("ds0").add("table_3");
+    }
+    
     @Test
     public void assertFindActualTableIndex() {
         TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
@@ -130,6 +148,22 @@ public final class TableRuleTest {
         tableRuleConfig.setActualDataNodes("ds${0..1}.table_${0..2}");
         TableRule actual = tableRuleConfig.build(createDataSourceMap());
         assertThat(actual.findActualTableIndex("ds1", "table_1"), is(4));
+        assertThat(actual.findActualTableIndex("DS1", "TABLE_2"), is(5));
+    }
+    
+    @Test
+    public void assertFindActualTableIndexWithTurkishLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+            tableRuleConfig.setLogicTable("t_order_item");
+            tableRuleConfig.setActualDataNodes("ds${0..1}.t_order_item_${0..2}");
+            TableRule actual = tableRuleConfig.build(createDataSourceMap());
+            assertThat(actual.findActualTableIndex("DS1", "T_ORDER_ITEM_2"), is(5));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
     }
     
     @Test
@@ -21,6 +21,7 @@ import org.junit.Test;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class EventBusInstanceTest {
     
@@ -28,4 +29,14 @@ public final class EventBusInstanceTest {
     public void assertGetInstance() {
         assertThat(EventBusInstance.getInstance(), is(EventBusInstance.getInstance()));
     }
+    
+    @Test
+    public void assertHasSubscriber() {
+        boolean expected = EventBusInstance.hasSubscriber();
+        Object subscriber = new Object();
+        EventBusInstance.getInstance().register(subscriber);
+        assertTrue(EventBusInstance.hasSubscriber());
+        EventBusInstance.getInstance().unregister(subscriber);
+        assertThat(EventBusInstance.hasSubscriber(), is(expected));
+    }
 }
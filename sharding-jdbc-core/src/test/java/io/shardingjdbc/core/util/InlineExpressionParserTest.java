@@ -2,6 +2,7 @@ package io.shardingjdbc.core.util;
 
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.core.Is.is;
@@ -58,4 +59,22 @@ public final class InlineExpressionParserTest {
         assertThat(expected.size(), is(4));
         assertThat(expected, hasItems("t_new3_order_1", "t_new3_order_2", "t_old_order_1", "t_old_order_2"));
     }
+    
+    @Test
+    public void assertEvaluateForExclusiveAndDescendingRange() {
+        List<String> expected = new InlineExpressionParser("t_order_${0..<2},t_order_item_${ 2 .. 1 }").evaluate();
+        assertThat(expected, is(Arrays.asList("t_order_0", "t_order_1", "t_order_item_2", "t_order_item_1")));
+    }
+    
+    @Test
+    public void assertEvaluateForCartesianOrder() {
+        List<String> expected = new InlineExpressionParser("ds_${0..1}.t_order_${[\"a\", 'b']}").evaluate();
+        assertThat(expected, is(Arrays.asList("ds_0.t_order_a", "ds_0.t_order_b", "ds_1.t_order_a", "ds_1.t_order_b")));
+    }
+    
+    @Test
+    public void assertEvaluateForNativeAndGroovySegments() {
+        List<String> expected = new InlineExpressionParser("t_order_${0..1},t_order_item_${(0..1).collect{it * 2}}").evaluate();
+        assertThat(expected, is(Arrays.asList("t_order_0", "t_order_1", "t_order_item_0", "t_order_item_2")));
+    }
 }
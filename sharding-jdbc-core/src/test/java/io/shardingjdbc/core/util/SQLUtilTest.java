@@ -31,4 +31,20 @@ public class SQLUtilTest {
         assertThat(SQLUtil.getExactlyValue("\"xxx\""), is("xxx"));
         assertThat(SQLUtil.getExactlyValue("'xxx'"), is("xxx"));
     }
+    
+    @Test
+    public void assertGetFingerprintForLiterals() {
+        assertThat(SQLUtil.getFingerprint("SELECT * FROM t_order_0 WHERE order_id = 10 AND name='a''b\\'c'"), is("SELECT * FROM t_order_0 WHERE order_id = ? AND name=?"));
+    }
+    
+    @Test
+    public void assertGetFingerprintForWhitespacesAndInList() {
+        assertThat(SQLUtil.getFingerprint(" select *  from\n t where id in (1, 2,3) and x = ?"), is("select * from t where id in (?) and x = ?"));
+        assertThat(SQLUtil.getFingerprint("UPDATE t SET a = ? WHERE id IN ( ?, ? )"), is("UPDATE t SET a = ? WHERE id IN (?)"));
+    }
+    
+    @Test
+    public void assertGetFingerprintForMultipleValues() {
+        assertThat(SQLUtil.getFingerprint("INSERT INTO t (a, b) VALUES (1, 'x'), (2, 'y') "), is("INSERT INTO t (a, b) VALUES (?)"));
+    }
 }